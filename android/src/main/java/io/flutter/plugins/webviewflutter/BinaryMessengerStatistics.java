@@ -0,0 +1,230 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the traffic of each channel of an {@link InstrumentedBinaryMessenger}.
+ *
+ * <p>Nothing is recorded until recording is enabled with {@link #setEnabled}, so an instrumented
+ * messenger only costs a volatile read per message while it is disabled. Recording may happen on
+ * any thread.
+ */
+public class BinaryMessengerStatistics {
+  /**
+   * Upper bounds of the buckets of {@link ChannelStatistics#messageSizeHistogram}, excluding the
+   * last bucket which has no upper bound.
+   */
+  public static final long[] SIZE_HISTOGRAM_BOUNDS_BYTES = {64, 256, 1024, 4096, 16384, 65536};
+
+  /**
+   * Upper bounds of the buckets of {@link ChannelStatistics#handlerTimeHistogram} and {@link
+   * ChannelStatistics#replyLatencyHistogram}, excluding the last bucket which has no upper bound.
+   */
+  public static final long[] DURATION_HISTOGRAM_BOUNDS_MICROS = {
+    100, 500, 1000, 4000, 16000, 64000
+  };
+
+  /** The traffic of a single channel since recording was enabled or reset. */
+  public static final class ChannelStatistics {
+    /** The name of the channel. */
+    public final String channel;
+    /** The number of messages sent or received on the channel. */
+    public final long messageCount;
+    /** The total encoded size of the messages sent or received on the channel. */
+    public final long messageBytes;
+    /**
+     * The number of messages by encoded size, bucketed by {@link #SIZE_HISTOGRAM_BOUNDS_BYTES}.
+     */
+    public final long[] messageSizeHistogram;
+    /**
+     * The number of received messages by how long their handler ran on the thread that received
+     * them, bucketed by {@link #DURATION_HISTOGRAM_BOUNDS_MICROS}.
+     */
+    public final long[] handlerTimeHistogram;
+    /**
+     * The number of sent messages by how long it took until Dart replied, bucketed by {@link
+     * #DURATION_HISTOGRAM_BOUNDS_MICROS}.
+     */
+    public final long[] replyLatencyHistogram;
+
+    ChannelStatistics(
+        String channel,
+        long messageCount,
+        long messageBytes,
+        long[] messageSizeHistogram,
+        long[] handlerTimeHistogram,
+        long[] replyLatencyHistogram) {
+      this.channel = channel;
+      this.messageCount = messageCount;
+      this.messageBytes = messageBytes;
+      this.messageSizeHistogram = messageSizeHistogram;
+      this.handlerTimeHistogram = handlerTimeHistogram;
+      this.replyLatencyHistogram = replyLatencyHistogram;
+    }
+  }
+
+  private static class Counters {
+    long messageCount;
+    long messageBytes;
+    final long[] messageSizeHistogram = new long[SIZE_HISTOGRAM_BOUNDS_BYTES.length + 1];
+    final long[] handlerTimeHistogram = new long[DURATION_HISTOGRAM_BOUNDS_MICROS.length + 1];
+    final long[] replyLatencyHistogram = new long[DURATION_HISTOGRAM_BOUNDS_MICROS.length + 1];
+  }
+
+  private volatile boolean enabled = false;
+  // Guarded by itself.
+  private final Map<String, Counters> channels = new HashMap<>();
+
+  /**
+   * Sets whether traffic is recorded.
+   *
+   * <p>Disabling recording keeps the traffic that has already been recorded.
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /** Whether traffic is recorded. */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Records a message that was sent or received.
+   *
+   * @param channel the channel of the message
+   * @param sizeBytes the encoded size of the message
+   */
+  public void recordMessage(String channel, long sizeBytes) {
+    synchronized (channels) {
+      final Counters counters = getCounters(channel);
+      counters.messageCount++;
+      counters.messageBytes += sizeBytes;
+      counters.messageSizeHistogram[getBucket(sizeBytes, SIZE_HISTOGRAM_BOUNDS_BYTES)]++;
+    }
+  }
+
+  /**
+   * Records how long the handler of a received message ran.
+   *
+   * @param channel the channel of the message
+   * @param durationNanos how long the handler ran
+   */
+  public void recordHandlerTime(String channel, long durationNanos) {
+    final long durationMicros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    synchronized (channels) {
+      getCounters(channel)
+          .handlerTimeHistogram[getBucket(durationMicros, DURATION_HISTOGRAM_BOUNDS_MICROS)]++;
+    }
+  }
+
+  /**
+   * Records how long it took until a sent message was replied to.
+   *
+   * @param channel the channel of the message
+   * @param latencyNanos the time between sending the message and receiving the reply
+   */
+  public void recordReplyLatency(String channel, long latencyNanos) {
+    final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+    synchronized (channels) {
+      getCounters(channel)
+          .replyLatencyHistogram[getBucket(latencyMicros, DURATION_HISTOGRAM_BOUNDS_MICROS)]++;
+    }
+  }
+
+  /**
+   * Retrieve the traffic of each channel that has had a message since recording was enabled or
+   * reset.
+   *
+   * @return the statistics, ordered by channel name
+   */
+  public List<ChannelStatistics> getStatistics() {
+    final List<ChannelStatistics> statistics = new ArrayList<>();
+    synchronized (channels) {
+      for (Map.Entry<String, Counters> entry : channels.entrySet()) {
+        final Counters counters = entry.getValue();
+        statistics.add(
+            new ChannelStatistics(
+                entry.getKey(),
+                counters.messageCount,
+                counters.messageBytes,
+                counters.messageSizeHistogram.clone(),
+                counters.handlerTimeHistogram.clone(),
+                counters.replyLatencyHistogram.clone()));
+      }
+    }
+    Collections.sort(statistics, (first, second) -> first.channel.compareTo(second.channel));
+    return statistics;
+  }
+
+  /** Removes the traffic that has been recorded. */
+  public void reset() {
+    synchronized (channels) {
+      channels.clear();
+    }
+  }
+
+  /**
+   * Formats the traffic of each channel as a line of text.
+   *
+   * <p>Histograms are formatted as their bucket counts separated by slashes.
+   *
+   * @return the lines, ordered by channel name
+   */
+  public List<String> format() {
+    final List<String> lines = new ArrayList<>();
+    for (ChannelStatistics statistics : getStatistics()) {
+      lines.add(
+          String.format(
+              Locale.US,
+              "%s: messages=%d bytes=%d sizes=%s handlerTimes=%s replyLatencies=%s",
+              statistics.channel,
+              statistics.messageCount,
+              statistics.messageBytes,
+              formatHistogram(statistics.messageSizeHistogram),
+              formatHistogram(statistics.handlerTimeHistogram),
+              formatHistogram(statistics.replyLatencyHistogram)));
+    }
+    return lines;
+  }
+
+  private Counters getCounters(String channel) {
+    Counters counters = channels.get(channel);
+    if (counters == null) {
+      counters = new Counters();
+      channels.put(channel, counters);
+    }
+    return counters;
+  }
+
+  // A value falls into the first bucket whose bound is greater than it, or into the last bucket if
+  // there is none.
+  private static int getBucket(long value, long[] bounds) {
+    int bucket = 0;
+    while (bucket < bounds.length && value >= bounds[bucket]) {
+      bucket++;
+    }
+    return bucket;
+  }
+
+  private static String formatHistogram(long[] histogram) {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < histogram.length; i++) {
+      if (i > 0) {
+        builder.append('/');
+      }
+      builder.append(histogram[i]);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.util.Log;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.ChannelStatisticsData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.ChannelStatisticsHostApi;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Host api implementation for {@link BinaryMessengerStatistics}.
+ *
+ * <p>Reports the traffic of each channel of the plugin to Dart or to logcat.
+ */
+public class ChannelStatisticsHostApiImpl implements ChannelStatisticsHostApi {
+  private static final String TAG = "ChannelStatistics";
+
+  private final BinaryMessengerStatistics statistics;
+
+  /**
+   * Creates a host API that reports the traffic recorded by a {@link BinaryMessengerStatistics}.
+   *
+   * @param statistics records the traffic of the channels of the plugin
+   */
+  public ChannelStatisticsHostApiImpl(BinaryMessengerStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void setEnabled(Boolean enabled) {
+    statistics.setEnabled(enabled);
+  }
+
+  @Override
+  public List<ChannelStatisticsData> getStatistics() {
+    final List<ChannelStatisticsData> data = new ArrayList<>();
+    for (BinaryMessengerStatistics.ChannelStatistics channelStatistics :
+        statistics.getStatistics()) {
+      data.add(
+          new ChannelStatisticsData.Builder()
+              .setChannel(channelStatistics.channel)
+              .setMessageCount(channelStatistics.messageCount)
+              .setMessageBytes(channelStatistics.messageBytes)
+              .setMessageSizeHistogram(toList(channelStatistics.messageSizeHistogram))
+              .setHandlerTimeHistogram(toList(channelStatistics.handlerTimeHistogram))
+              .setReplyLatencyHistogram(toList(channelStatistics.replyLatencyHistogram))
+              .build());
+    }
+    return data;
+  }
+
+  @Override
+  public void reset() {
+    statistics.reset();
+  }
+
+  @Override
+  public void dumpToLog() {
+    for (String line : statistics.format()) {
+      Log.i(TAG, line);
+    }
+  }
+
+  private static List<Long> toList(long[] histogram) {
+    final List<Long> list = new ArrayList<>(histogram.length);
+    for (long count : histogram) {
+      list.add(count);
+    }
+    return list;
+  }
+}
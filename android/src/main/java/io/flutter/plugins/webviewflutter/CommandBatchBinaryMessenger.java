@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link BinaryMessenger} whose message handlers can also handle messages that Dart sent as part of
+ * a batch.
+ *
+ * <p>Handlers are set on the wrapped messenger as usual and are also kept, so {@link
+ * CommandBatchHostApiImpl} can pass them the messages of a batch in order.
+ *
+ * <p>Only handlers that reply before they return can be used in a batch, since the replies of a
+ * batch are sent together. Handlers of generated host APIs do, except for the handlers of {@code
+ * async} methods such as {@code WebViewHostApi.evaluateJavascript}. Dart sends the messages of
+ * those methods on their own, and a batched message whose handler doesn't reply before it returns
+ * fails with an error reply. Its late reply is dropped.
+ *
+ * <p>Handlers set with a {@link TaskQueue} are not kept because a batch is handled on the platform
+ * thread. Handlers must be set on the platform thread.
+ */
+public class CommandBatchBinaryMessenger implements BinaryMessenger {
+  private final BinaryMessenger binaryMessenger;
+  private final Map<String, BinaryMessageHandler> handlers = new HashMap<>();
+
+  /**
+   * Creates a {@link BinaryMessenger} that keeps the handlers set on {@code binaryMessenger}.
+   *
+   * @param binaryMessenger sends and receives the messages that aren't batched
+   */
+  public CommandBatchBinaryMessenger(BinaryMessenger binaryMessenger) {
+    this.binaryMessenger = binaryMessenger;
+  }
+
+  @Override
+  public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+    binaryMessenger.send(channel, message);
+  }
+
+  @Override
+  public void send(
+      @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+    binaryMessenger.send(channel, message, callback);
+  }
+
+  @Override
+  public TaskQueue makeBackgroundTaskQueue() {
+    return binaryMessenger.makeBackgroundTaskQueue();
+  }
+
+  @Override
+  public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+    if (handler != null) {
+      handlers.put(channel, handler);
+    } else {
+      handlers.remove(channel);
+    }
+    binaryMessenger.setMessageHandler(channel, handler);
+  }
+
+  @Override
+  public void setMessageHandler(
+      @NonNull String channel,
+      @Nullable BinaryMessageHandler handler,
+      @Nullable TaskQueue taskQueue) {
+    handlers.remove(channel);
+    binaryMessenger.setMessageHandler(channel, handler, taskQueue);
+  }
+
+  /**
+   * Passes a message of a batch to the handler of its channel.
+   *
+   * @param channel the channel the message was sent on
+   * @param message the encoded message, or null if the message is empty
+   * @return the encoded reply, an encoded error if the handler didn't reply before it returned, or
+   *     null if the channel has no handler
+   */
+  @Nullable
+  byte[] handleBatchedMessage(String channel, @Nullable byte[] message) {
+    final BinaryMessageHandler handler = handlers.get(channel);
+    if (handler == null) {
+      return null;
+    }
+
+    final boolean[] handled = new boolean[1];
+    final boolean[] replied = new boolean[1];
+    final byte[][] reply = new byte[1][];
+    // Messages from Dart start at the position of the buffer.
+    handler.onMessage(
+        message != null ? ByteBuffer.wrap(message) : null,
+        encodedReply -> {
+          if (!handled[0]) {
+            replied[0] = true;
+            reply[0] = toBytes(encodedReply);
+          }
+        });
+    handled[0] = true;
+    return replied[0] ? reply[0] : encodeAsyncReplyError(channel);
+  }
+
+  // Matches the replies of generated host APIs, so the call fails with a PlatformException in Dart.
+  private static byte[] encodeAsyncReplyError(String channel) {
+    final Map<String, Object> error = new HashMap<>();
+    error.put("code", "IllegalStateException");
+    error.put(
+        "message",
+        "The handler of " + channel + " doesn't reply synchronously and can't be batched.");
+    error.put("details", null);
+    final Map<String, Object> wrapped = new HashMap<>();
+    wrapped.put("error", error);
+    return toBytes(StandardMessageCodec.INSTANCE.encodeMessage(wrapped));
+  }
+
+  @Nullable
+  private static byte[] toBytes(@Nullable ByteBuffer reply) {
+    if (reply == null) {
+      return null;
+    }
+    // Encoded messages end at the position of the buffer.
+    final byte[] bytes = new byte[reply.position()];
+    final ByteBuffer source = reply.duplicate();
+    source.flip();
+    source.get(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CommandBatchHostApi;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Host api implementation that handles the messages of several host API calls sent as one message.
+ *
+ * <p>Dart batches calls that are made together, like those that create and set up a WebView, so
+ * they cost a single platform message instead of one each.
+ */
+public class CommandBatchHostApiImpl implements CommandBatchHostApi {
+  private final CommandBatchBinaryMessenger binaryMessenger;
+
+  /**
+   * Creates a host API that handles batches with the handlers of a {@link
+   * CommandBatchBinaryMessenger}.
+   *
+   * @param binaryMessenger keeps the handlers of the host APIs that can be called in a batch
+   */
+  public CommandBatchHostApiImpl(CommandBatchBinaryMessenger binaryMessenger) {
+    this.binaryMessenger = binaryMessenger;
+  }
+
+  /**
+   * Handles each message of a batch in order.
+   *
+   * <p>A batch is a list of alternating channel names and encoded messages. The reply to each
+   * message is returned at its index, or null if its channel has no handler that can be batched.
+   */
+  @Override
+  public List<byte[]> executeBatch(List<Object> batch) {
+    final List<byte[]> replies = new ArrayList<>(batch.size() / 2);
+    for (int i = 0; i < batch.size(); i += 2) {
+      replies.add(
+          binaryMessenger.handleBatchedMessage((String) batch.get(i), (byte[]) batch.get(i + 1)));
+    }
+    return replies;
+  }
+}
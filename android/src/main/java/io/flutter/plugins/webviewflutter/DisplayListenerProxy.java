@@ -10,6 +10,7 @@ import android.annotation.TargetApi;
 import android.hardware.display.DisplayManager;
 import android.os.Build;
 import android.util.Log;
+import androidx.annotation.Nullable;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 
@@ -38,20 +39,41 @@ import java.util.ArrayList;
  * reflection to fetch all registered listeners before and after initializing a webview. In the
  * first initialization of a webview within the process the difference between the lists is the
  * webview's display listener.
+ *
+ * <p>Since the webview registers its listener only once per process, listeners are only fetched
+ * around the first initialization of a webview. Later initializations return right away. All
+ * methods must be called on the main thread.
  */
 @TargetApi(Build.VERSION_CODES.KITKAT)
 class DisplayListenerProxy {
   private static final String TAG = "DisplayListenerProxy";
 
-  private ArrayList<DisplayListener> listenersBeforeWebView;
+  // Whether a webview of this process has been initialized since its display listener can no
+  // longer be told apart from other listeners after that.
+  private static boolean webViewInitialized = Build.VERSION.SDK_INT >= Build.VERSION_CODES.P;
+
+  // Fetched once per process since looking up and opening fields is expensive.
+  @Nullable private static Field displayManagerGlobalField;
+  @Nullable private static Field displayListenersField;
+  @Nullable private static Field listenerField;
+
+  @Nullable private ArrayList<DisplayListener> listenersBeforeWebView;
 
   /** Should be called prior to the webview's initialization. */
   void onPreWebViewInitialization(DisplayManager displayManager) {
+    if (webViewInitialized) {
+      return;
+    }
     listenersBeforeWebView = yoinkDisplayListeners(displayManager);
   }
 
   /** Should be called after the webview's initialization. */
   void onPostWebViewInitialization(final DisplayManager displayManager) {
+    if (webViewInitialized || listenersBeforeWebView == null) {
+      return;
+    }
+    webViewInitialized = true;
+
     final ArrayList<DisplayListener> webViewListeners = yoinkDisplayListeners(displayManager);
     // We recorded the list of listeners prior to initializing webview, any new listeners we see
     // after initializing the webview are listeners added by the webview.
@@ -118,16 +140,19 @@ class DisplayListenerProxy {
       return new ArrayList<>();
     }
     try {
-      Field displayManagerGlobalField = DisplayManager.class.getDeclaredField("mGlobal");
-      displayManagerGlobalField.setAccessible(true);
+      if (displayManagerGlobalField == null) {
+        displayManagerGlobalField = DisplayManager.class.getDeclaredField("mGlobal");
+        displayManagerGlobalField.setAccessible(true);
+      }
       Object displayManagerGlobal = displayManagerGlobalField.get(displayManager);
-      Field displayListenersField =
-          displayManagerGlobal.getClass().getDeclaredField("mDisplayListeners");
-      displayListenersField.setAccessible(true);
+      if (displayListenersField == null) {
+        displayListenersField =
+            displayManagerGlobal.getClass().getDeclaredField("mDisplayListeners");
+        displayListenersField.setAccessible(true);
+      }
       ArrayList<Object> delegates =
           (ArrayList<Object>) displayListenersField.get(displayManagerGlobal);
 
-      Field listenerField = null;
       ArrayList<DisplayManager.DisplayListener> listeners = new ArrayList<>();
       for (Object delegate : delegates) {
         if (listenerField == null) {
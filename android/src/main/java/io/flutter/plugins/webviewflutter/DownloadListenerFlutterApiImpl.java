@@ -5,16 +5,20 @@
 package io.flutter.plugins.webviewflutter;
 
 import android.webkit.DownloadListener;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerFlutterApi;
 
 /**
  * Flutter Api implementation for {@link DownloadListener}.
  *
- * <p>Passes arguments of callbacks methods from a {@link DownloadListener} to Dart.
+ * <p>Passes arguments of callbacks methods from a {@link DownloadListener} to Dart. Each method
+ * sends through a {@link PreboundChannel} instead of creating a channel per message.
  */
 public class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
   private final InstanceManager instanceManager;
+  private final PreboundChannel<Reply<Void>> disposeChannel;
+  private final PreboundChannel<Reply<Void>> onDownloadStartChannel;
 
   /**
    * Creates a Flutter api that sends messages to Dart.
@@ -26,6 +30,20 @@ public class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
     this.instanceManager = instanceManager;
+    disposeChannel =
+        new PreboundChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.DownloadListenerFlutterApi.dispose",
+            getCodec(),
+            1,
+            DownloadListenerFlutterApiImpl::toChannelReply);
+    onDownloadStartChannel =
+        new PreboundChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadStart",
+            getCodec(),
+            6,
+            DownloadListenerFlutterApiImpl::toChannelReply);
   }
 
   /** Passes arguments from {@link DownloadListener#onDownloadStart} to Dart. */
@@ -61,4 +79,32 @@ public class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
       callback.reply(null);
     }
   }
+
+  @Override
+  public void dispose(Long instanceIdArg, Reply<Void> callback) {
+    disposeChannel.send(instanceIdArg, callback);
+  }
+
+  @Override
+  public void onDownloadStart(
+      Long instanceIdArg,
+      String urlArg,
+      String userAgentArg,
+      String contentDispositionArg,
+      String mimetypeArg,
+      Long contentLengthArg,
+      Reply<Void> callback) {
+    onDownloadStartChannel.send(
+        instanceIdArg,
+        urlArg,
+        userAgentArg,
+        contentDispositionArg,
+        mimetypeArg,
+        contentLengthArg,
+        callback);
+  }
+
+  private static BasicMessageChannel.Reply<Object> toChannelReply(Reply<Void> callback) {
+    return channelReply -> callback.reply(null);
+  }
 }
@@ -15,6 +15,9 @@ import java.util.List;
  * Host api implementation for {@link WebView}.
  *
  * <p>Handles creating {@link WebView}s that intercommunicate with a paired Dart object.
+ *
+ * <p>Methods may be called on a background thread. {@link android.content.res.AssetManager} is
+ * thread-safe and looking up the path of an asset doesn't touch any state.
  */
 public class FlutterAssetManagerHostApiImpl implements FlutterAssetManagerHostApi {
   final FlutterAssetManager flutterAssetManager;
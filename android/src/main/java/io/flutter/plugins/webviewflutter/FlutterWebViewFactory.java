@@ -19,7 +19,7 @@ class FlutterWebViewFactory extends PlatformViewFactory {
 
   @Override
   public PlatformView create(Context context, int id, Object args) {
-    final PlatformView view = (PlatformView) instanceManager.getInstance((Integer) args);
+    final PlatformView view = (PlatformView) instanceManager.getInstance(((Number) args).longValue());
     if (view == null) {
       throw new IllegalStateException("Unable to find WebView instance: " + args);
     }
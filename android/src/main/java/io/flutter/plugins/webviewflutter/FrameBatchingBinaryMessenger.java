@@ -0,0 +1,269 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link BinaryMessenger} that sends the messages of a frame to Dart as a single message.
+ *
+ * <p>Only messages on channels added with {@link #addBatchedChannel} are batched, which should be
+ * callbacks of events that return nothing. They are queued in the order they are sent and delivered
+ * on the next {@link Choreographer} frame, or after {@link #FLUSH_TIMEOUT_MILLIS} if no frame is
+ * drawn, e.g. while the app is in the background. The Dart side pushes each message of a batch to
+ * the handler of its channel in order, as if it had been sent on its own, and replies with the
+ * replies of the handlers.
+ *
+ * <p>Messages on other channels, such as the disposal of instances, are sent right away after the
+ * queued messages. Dart may depend on them before its next call to the host returns, e.g. a
+ * JavaScript channel that is removed and added again must be disposed in between.
+ *
+ * <p>A message on a channel added with {@link #addCollapsibleChannel} replaces a queued message on
+ * the same channel whose first argument is the same instance id. The replaced message is removed
+ * from its place in the queue and the new one is queued last, so it is never delivered before a
+ * message that was sent earlier. The reply of the replaced message is the reply of the new one.
+ *
+ * <p>Message handlers are set on the wrapped messenger. Messages must be sent on the thread of the
+ * platform thread handler; messages sent on other threads are queued after being posted to it.
+ */
+public class FrameBatchingBinaryMessenger implements BinaryMessenger {
+  /** Channel of the batched messages. Must match the channel in android_webview_api_impls.dart. */
+  static final String BATCH_CHANNEL = "plugins.flutter.io/webview/frame_batch";
+
+  /** How long messages may wait for a frame before they are sent anyway. */
+  static final long FLUSH_TIMEOUT_MILLIS = 100;
+
+  private final BinaryMessenger binaryMessenger;
+  private final BasicMessageChannel<Object> batchChannel;
+  private final Choreographer choreographer;
+  private final Handler platformThreadHandler;
+  private final Set<String> batchedChannels = new HashSet<>();
+  private final Set<String> collapsibleChannels = new HashSet<>();
+
+  // Only accessed on the platform thread.
+  private final List<QueuedMessage> queue = new ArrayList<>();
+  private boolean flushScheduled;
+
+  private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> flush();
+  private final Runnable flushRunnable = this::flush;
+
+  private static class QueuedMessage {
+    final String channel;
+    final byte[] message;
+    // The reply of the message and of the messages it replaced.
+    final List<BinaryReply> replies = new ArrayList<>(1);
+
+    QueuedMessage(String channel, byte[] message, @Nullable BinaryReply reply) {
+      this.channel = channel;
+      this.message = message;
+      if (reply != null) {
+        replies.add(reply);
+      }
+    }
+  }
+
+  /**
+   * Creates a {@link BinaryMessenger} that batches the messages sent on {@code binaryMessenger}.
+   *
+   * @param binaryMessenger sends the batched messages to Dart
+   * @param choreographer schedules sending the messages of a frame
+   * @param platformThreadHandler handler of the thread that messages are queued on
+   */
+  public FrameBatchingBinaryMessenger(
+      BinaryMessenger binaryMessenger, Choreographer choreographer, Handler platformThreadHandler) {
+    this.binaryMessenger = binaryMessenger;
+    this.batchChannel =
+        new BasicMessageChannel<>(binaryMessenger, BATCH_CHANNEL, StandardMessageCodec.INSTANCE);
+    this.choreographer = choreographer;
+    this.platformThreadHandler = platformThreadHandler;
+  }
+
+  /**
+   * Makes the messages on {@code channel} wait for the next frame.
+   *
+   * <p>Only the callbacks of events that return nothing should be batched.
+   */
+  public void addBatchedChannel(String channel) {
+    batchedChannels.add(channel);
+  }
+
+  /**
+   * Makes a message on {@code channel} replace any queued message on {@code channel} for the same
+   * instance. The channel is batched as if added with {@link #addBatchedChannel}.
+   *
+   * <p>The instance is the first argument of the message, which must be an instance id.
+   */
+  public void addCollapsibleChannel(String channel) {
+    batchedChannels.add(channel);
+    collapsibleChannels.add(channel);
+  }
+
+  @Override
+  public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+    send(channel, message, null);
+  }
+
+  /**
+   * Queues a message on a batched channel, or sends it after the queued messages otherwise.
+   *
+   * <p>{@code callback} receives the reply of the handler of the channel in Dart, or the reply to
+   * the message that replaced it.
+   */
+  @Override
+  public void send(
+      @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+    final boolean onPlatformThread = Looper.myLooper() == platformThreadHandler.getLooper();
+    if (!batchedChannels.contains(channel)) {
+      if (onPlatformThread) {
+        flush();
+        binaryMessenger.send(channel, message, callback);
+      } else {
+        final byte[] bytes = toBytes(message);
+        platformThreadHandler.post(
+            () -> {
+              flush();
+              binaryMessenger.send(channel, toDirectBuffer(bytes), callback);
+            });
+      }
+      return;
+    }
+
+    // The message is copied because the codec may reuse its buffer as soon as this returns.
+    final QueuedMessage queuedMessage = new QueuedMessage(channel, toBytes(message), callback);
+    if (onPlatformThread) {
+      enqueue(queuedMessage);
+    } else {
+      platformThreadHandler.post(() -> enqueue(queuedMessage));
+    }
+  }
+
+  @Override
+  public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+    binaryMessenger.setMessageHandler(channel, handler);
+  }
+
+  /** Sends the queued messages to Dart now instead of on the next frame. */
+  public void flush() {
+    if (flushScheduled) {
+      choreographer.removeFrameCallback(frameCallback);
+      platformThreadHandler.removeCallbacks(flushRunnable);
+      flushScheduled = false;
+    }
+    if (queue.isEmpty()) {
+      return;
+    }
+
+    final List<Object> batch = new ArrayList<>(queue.size() * 2);
+    final List<QueuedMessage> messages = new ArrayList<>(queue);
+    for (QueuedMessage queuedMessage : messages) {
+      batch.add(queuedMessage.channel);
+      batch.add(queuedMessage.message);
+    }
+    queue.clear();
+
+    batchChannel.send(
+        batch,
+        batchReply -> {
+          // The replies of the handlers in the order of the messages. Null if Dart couldn't be
+          // reached.
+          final List<?> messageReplies = (List<?>) batchReply;
+          for (int i = 0; i < messages.size(); i++) {
+            final byte[] messageReply =
+                messageReplies != null ? (byte[]) messageReplies.get(i) : null;
+            for (BinaryReply reply : messages.get(i).replies) {
+              reply.reply(messageReply != null ? toDirectBuffer(messageReply) : null);
+            }
+          }
+        });
+  }
+
+  /** Drops the queued messages without sending them. */
+  public void release() {
+    if (flushScheduled) {
+      choreographer.removeFrameCallback(frameCallback);
+      platformThreadHandler.removeCallbacks(flushRunnable);
+      flushScheduled = false;
+    }
+    queue.clear();
+  }
+
+  private void enqueue(QueuedMessage queuedMessage) {
+    if (collapsibleChannels.contains(queuedMessage.channel)) {
+      removeSuperseded(queuedMessage);
+    }
+    queue.add(queuedMessage);
+    if (!flushScheduled) {
+      flushScheduled = true;
+      choreographer.postFrameCallback(frameCallback);
+      platformThreadHandler.postDelayed(flushRunnable, FLUSH_TIMEOUT_MILLIS);
+    }
+  }
+
+  private void removeSuperseded(QueuedMessage queuedMessage) {
+    final long instanceId = readFirstInstanceId(queuedMessage.message);
+    if (instanceId < 0) {
+      return;
+    }
+    for (int i = queue.size() - 1; i >= 0; i--) {
+      final QueuedMessage queued = queue.get(i);
+      if (queued.channel.equals(queuedMessage.channel)
+          && readFirstInstanceId(queued.message) == instanceId) {
+        queue.remove(i);
+        queuedMessage.replies.addAll(0, queued.replies);
+        return;
+      }
+    }
+  }
+
+  private static byte[] toBytes(@Nullable ByteBuffer message) {
+    if (message == null) {
+      return new byte[0];
+    }
+    // Encoded messages end at the position of the buffer.
+    final byte[] bytes = new byte[message.position()];
+    final ByteBuffer source = message.duplicate();
+    source.flip();
+    source.get(bytes);
+    return bytes;
+  }
+
+  // Messages are passed to the engine in direct buffers that end at their position.
+  private static ByteBuffer toDirectBuffer(byte[] bytes) {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes);
+    return buffer;
+  }
+
+  // Reads the first element of a list encoded by StandardMessageCodec if it is an int or a long,
+  // which is how the arguments of a FlutterApi method start. Returns -1 otherwise.
+  private static long readFirstInstanceId(byte[] message) {
+    final ByteBuffer buffer = ByteBuffer.wrap(message).order(ByteOrder.LITTLE_ENDIAN);
+    // A list type followed by a size that fits in a byte.
+    if (message.length < 3 || buffer.get() != 12 || (buffer.get() & 0xff) >= 254) {
+      return -1;
+    }
+    switch (buffer.get()) {
+      case 3:
+        return buffer.remaining() >= 4 ? buffer.getInt() : -1;
+      case 4:
+        return buffer.remaining() >= 8 ? buffer.getLong() : -1;
+      default:
+        return -1;
+    }
+  }
+}
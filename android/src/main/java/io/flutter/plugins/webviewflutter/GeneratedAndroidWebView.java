@@ -265,48 +265,1796 @@ public class GeneratedAndroidWebView {
     }
   }
 
-  public interface Result<T> {
-    void success(T result);
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class InstanceTypeStatisticsData {
+    private @NonNull Long typeTag;
 
-    void error(Throwable error);
+    public @NonNull Long getTypeTag() {
+      return typeTag;
+    }
+
+    public void setTypeTag(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"typeTag\" is null.");
+      }
+      this.typeTag = setterArg;
+    }
+
+    private @NonNull Long liveCount;
+
+    public @NonNull Long getLiveCount() {
+      return liveCount;
+    }
+
+    public void setLiveCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"liveCount\" is null.");
+      }
+      this.liveCount = setterArg;
+    }
+
+    private @NonNull Long highWaterMark;
+
+    public @NonNull Long getHighWaterMark() {
+      return highWaterMark;
+    }
+
+    public void setHighWaterMark(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"highWaterMark\" is null.");
+      }
+      this.highWaterMark = setterArg;
+    }
+
+    private @NonNull List<Long> ageHistogram;
+
+    public @NonNull List<Long> getAgeHistogram() {
+      return ageHistogram;
+    }
+
+    public void setAgeHistogram(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"ageHistogram\" is null.");
+      }
+      this.ageHistogram = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private InstanceTypeStatisticsData() {}
+
+    public static final class Builder {
+      private @Nullable Long typeTag;
+
+      public @NonNull Builder setTypeTag(@NonNull Long setterArg) {
+        this.typeTag = setterArg;
+        return this;
+      }
+
+      private @Nullable Long liveCount;
+
+      public @NonNull Builder setLiveCount(@NonNull Long setterArg) {
+        this.liveCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long highWaterMark;
+
+      public @NonNull Builder setHighWaterMark(@NonNull Long setterArg) {
+        this.highWaterMark = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> ageHistogram;
+
+      public @NonNull Builder setAgeHistogram(@NonNull List<Long> setterArg) {
+        this.ageHistogram = setterArg;
+        return this;
+      }
+
+      public @NonNull InstanceTypeStatisticsData build() {
+        InstanceTypeStatisticsData pigeonReturn = new InstanceTypeStatisticsData();
+        pigeonReturn.setTypeTag(typeTag);
+        pigeonReturn.setLiveCount(liveCount);
+        pigeonReturn.setHighWaterMark(highWaterMark);
+        pigeonReturn.setAgeHistogram(ageHistogram);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("typeTag", typeTag);
+      toMapResult.put("liveCount", liveCount);
+      toMapResult.put("highWaterMark", highWaterMark);
+      toMapResult.put("ageHistogram", ageHistogram);
+      return toMapResult;
+    }
+
+    static @NonNull InstanceTypeStatisticsData fromMap(@NonNull Map<String, Object> map) {
+      InstanceTypeStatisticsData pigeonResult = new InstanceTypeStatisticsData();
+      Object typeTag = map.get("typeTag");
+      pigeonResult.setTypeTag(
+          (typeTag == null)
+              ? null
+              : ((typeTag instanceof Integer) ? (Integer) typeTag : (Long) typeTag));
+      Object liveCount = map.get("liveCount");
+      pigeonResult.setLiveCount(
+          (liveCount == null)
+              ? null
+              : ((liveCount instanceof Integer) ? (Integer) liveCount : (Long) liveCount));
+      Object highWaterMark = map.get("highWaterMark");
+      pigeonResult.setHighWaterMark(
+          (highWaterMark == null)
+              ? null
+              : ((highWaterMark instanceof Integer)
+                  ? (Integer) highWaterMark
+                  : (Long) highWaterMark));
+      Object ageHistogram = map.get("ageHistogram");
+      pigeonResult.setAgeHistogram((List<Long>) ageHistogram);
+      return pigeonResult;
+    }
   }
 
-  private static class CookieManagerHostApiCodec extends StandardMessageCodec {
-    public static final CookieManagerHostApiCodec INSTANCE = new CookieManagerHostApiCodec();
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class LeakedInstanceData {
+    private @NonNull Long instanceId;
 
-    private CookieManagerHostApiCodec() {}
+    public @NonNull Long getInstanceId() {
+      return instanceId;
+    }
+
+    public void setInstanceId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"instanceId\" is null.");
+      }
+      this.instanceId = setterArg;
+    }
+
+    private @NonNull Long ownerInstanceId;
+
+    public @NonNull Long getOwnerInstanceId() {
+      return ownerInstanceId;
+    }
+
+    public void setOwnerInstanceId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"ownerInstanceId\" is null.");
+      }
+      this.ownerInstanceId = setterArg;
+    }
+
+    private @NonNull Long ageMillis;
+
+    public @NonNull Long getAgeMillis() {
+      return ageMillis;
+    }
+
+    public void setAgeMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"ageMillis\" is null.");
+      }
+      this.ageMillis = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private LeakedInstanceData() {}
+
+    public static final class Builder {
+      private @Nullable Long instanceId;
+
+      public @NonNull Builder setInstanceId(@NonNull Long setterArg) {
+        this.instanceId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long ownerInstanceId;
+
+      public @NonNull Builder setOwnerInstanceId(@NonNull Long setterArg) {
+        this.ownerInstanceId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long ageMillis;
+
+      public @NonNull Builder setAgeMillis(@NonNull Long setterArg) {
+        this.ageMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull LeakedInstanceData build() {
+        LeakedInstanceData pigeonReturn = new LeakedInstanceData();
+        pigeonReturn.setInstanceId(instanceId);
+        pigeonReturn.setOwnerInstanceId(ownerInstanceId);
+        pigeonReturn.setAgeMillis(ageMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("instanceId", instanceId);
+      toMapResult.put("ownerInstanceId", ownerInstanceId);
+      toMapResult.put("ageMillis", ageMillis);
+      return toMapResult;
+    }
+
+    static @NonNull LeakedInstanceData fromMap(@NonNull Map<String, Object> map) {
+      LeakedInstanceData pigeonResult = new LeakedInstanceData();
+      Object instanceId = map.get("instanceId");
+      pigeonResult.setInstanceId(
+          (instanceId == null)
+              ? null
+              : ((instanceId instanceof Integer) ? (Integer) instanceId : (Long) instanceId));
+      Object ownerInstanceId = map.get("ownerInstanceId");
+      pigeonResult.setOwnerInstanceId(
+          (ownerInstanceId == null)
+              ? null
+              : ((ownerInstanceId instanceof Integer)
+                  ? (Integer) ownerInstanceId
+                  : (Long) ownerInstanceId));
+      Object ageMillis = map.get("ageMillis");
+      pigeonResult.setAgeMillis(
+          (ageMillis == null)
+              ? null
+              : ((ageMillis instanceof Integer) ? (Integer) ageMillis : (Long) ageMillis));
+      return pigeonResult;
+    }
   }
 
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface CookieManagerHostApi {
-    void clearCookies(Result<Boolean> result);
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class InstanceCreationData {
+    private @NonNull Long instanceId;
 
-    void setCookie(@NonNull String url, @NonNull String value);
+    public @NonNull Long getInstanceId() {
+      return instanceId;
+    }
+
+    public void setInstanceId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"instanceId\" is null.");
+      }
+      this.instanceId = setterArg;
+    }
+
+    private @Nullable Long referencedInstanceId;
+
+    public @Nullable Long getReferencedInstanceId() {
+      return referencedInstanceId;
+    }
+
+    public void setReferencedInstanceId(@Nullable Long setterArg) {
+      this.referencedInstanceId = setterArg;
+    }
+
+    private @Nullable Boolean flag;
+
+    public @Nullable Boolean getFlag() {
+      return flag;
+    }
+
+    public void setFlag(@Nullable Boolean setterArg) {
+      this.flag = setterArg;
+    }
+
+    private @Nullable Boolean secondaryFlag;
+
+    public @Nullable Boolean getSecondaryFlag() {
+      return secondaryFlag;
+    }
+
+    public void setSecondaryFlag(@Nullable Boolean setterArg) {
+      this.secondaryFlag = setterArg;
+    }
+
+    private @Nullable String name;
+
+    public @Nullable String getName() {
+      return name;
+    }
+
+    public void setName(@Nullable String setterArg) {
+      this.name = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private InstanceCreationData() {}
+
+    public static final class Builder {
+      private @Nullable Long instanceId;
+
+      public @NonNull Builder setInstanceId(@NonNull Long setterArg) {
+        this.instanceId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long referencedInstanceId;
+
+      public @NonNull Builder setReferencedInstanceId(@Nullable Long setterArg) {
+        this.referencedInstanceId = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean flag;
+
+      public @NonNull Builder setFlag(@Nullable Boolean setterArg) {
+        this.flag = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean secondaryFlag;
+
+      public @NonNull Builder setSecondaryFlag(@Nullable Boolean setterArg) {
+        this.secondaryFlag = setterArg;
+        return this;
+      }
+
+      private @Nullable String name;
+
+      public @NonNull Builder setName(@Nullable String setterArg) {
+        this.name = setterArg;
+        return this;
+      }
+
+      public @NonNull InstanceCreationData build() {
+        InstanceCreationData pigeonReturn = new InstanceCreationData();
+        pigeonReturn.setInstanceId(instanceId);
+        pigeonReturn.setReferencedInstanceId(referencedInstanceId);
+        pigeonReturn.setFlag(flag);
+        pigeonReturn.setSecondaryFlag(secondaryFlag);
+        pigeonReturn.setName(name);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("instanceId", instanceId);
+      toMapResult.put("referencedInstanceId", referencedInstanceId);
+      toMapResult.put("flag", flag);
+      toMapResult.put("secondaryFlag", secondaryFlag);
+      toMapResult.put("name", name);
+      return toMapResult;
+    }
+
+    static @NonNull InstanceCreationData fromMap(@NonNull Map<String, Object> map) {
+      InstanceCreationData pigeonResult = new InstanceCreationData();
+      Object instanceId = map.get("instanceId");
+      pigeonResult.setInstanceId(
+          (instanceId == null)
+              ? null
+              : ((instanceId instanceof Integer) ? (Integer) instanceId : (Long) instanceId));
+      Object referencedInstanceId = map.get("referencedInstanceId");
+      pigeonResult.setReferencedInstanceId(
+          (referencedInstanceId == null)
+              ? null
+              : ((referencedInstanceId instanceof Integer)
+                  ? (Integer) referencedInstanceId
+                  : (Long) referencedInstanceId));
+      Object flag = map.get("flag");
+      pigeonResult.setFlag((Boolean) flag);
+      Object secondaryFlag = map.get("secondaryFlag");
+      pigeonResult.setSecondaryFlag((Boolean) secondaryFlag);
+      Object name = map.get("name");
+      pigeonResult.setName((String) name);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class ChannelStatisticsData {
+    private @NonNull String channel;
+
+    public @NonNull String getChannel() {
+      return channel;
+    }
+
+    public void setChannel(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"channel\" is null.");
+      }
+      this.channel = setterArg;
+    }
+
+    private @NonNull Long messageCount;
+
+    public @NonNull Long getMessageCount() {
+      return messageCount;
+    }
+
+    public void setMessageCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"messageCount\" is null.");
+      }
+      this.messageCount = setterArg;
+    }
+
+    private @NonNull Long messageBytes;
+
+    public @NonNull Long getMessageBytes() {
+      return messageBytes;
+    }
+
+    public void setMessageBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"messageBytes\" is null.");
+      }
+      this.messageBytes = setterArg;
+    }
+
+    private @NonNull List<Long> messageSizeHistogram;
+
+    public @NonNull List<Long> getMessageSizeHistogram() {
+      return messageSizeHistogram;
+    }
+
+    public void setMessageSizeHistogram(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"messageSizeHistogram\" is null.");
+      }
+      this.messageSizeHistogram = setterArg;
+    }
+
+    private @NonNull List<Long> handlerTimeHistogram;
+
+    public @NonNull List<Long> getHandlerTimeHistogram() {
+      return handlerTimeHistogram;
+    }
+
+    public void setHandlerTimeHistogram(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"handlerTimeHistogram\" is null.");
+      }
+      this.handlerTimeHistogram = setterArg;
+    }
+
+    private @NonNull List<Long> replyLatencyHistogram;
+
+    public @NonNull List<Long> getReplyLatencyHistogram() {
+      return replyLatencyHistogram;
+    }
+
+    public void setReplyLatencyHistogram(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"replyLatencyHistogram\" is null.");
+      }
+      this.replyLatencyHistogram = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private ChannelStatisticsData() {}
+
+    public static final class Builder {
+      private @Nullable String channel;
+
+      public @NonNull Builder setChannel(@NonNull String setterArg) {
+        this.channel = setterArg;
+        return this;
+      }
+
+      private @Nullable Long messageCount;
+
+      public @NonNull Builder setMessageCount(@NonNull Long setterArg) {
+        this.messageCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long messageBytes;
+
+      public @NonNull Builder setMessageBytes(@NonNull Long setterArg) {
+        this.messageBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> messageSizeHistogram;
+
+      public @NonNull Builder setMessageSizeHistogram(@NonNull List<Long> setterArg) {
+        this.messageSizeHistogram = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> handlerTimeHistogram;
+
+      public @NonNull Builder setHandlerTimeHistogram(@NonNull List<Long> setterArg) {
+        this.handlerTimeHistogram = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> replyLatencyHistogram;
+
+      public @NonNull Builder setReplyLatencyHistogram(@NonNull List<Long> setterArg) {
+        this.replyLatencyHistogram = setterArg;
+        return this;
+      }
+
+      public @NonNull ChannelStatisticsData build() {
+        ChannelStatisticsData pigeonReturn = new ChannelStatisticsData();
+        pigeonReturn.setChannel(channel);
+        pigeonReturn.setMessageCount(messageCount);
+        pigeonReturn.setMessageBytes(messageBytes);
+        pigeonReturn.setMessageSizeHistogram(messageSizeHistogram);
+        pigeonReturn.setHandlerTimeHistogram(handlerTimeHistogram);
+        pigeonReturn.setReplyLatencyHistogram(replyLatencyHistogram);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("channel", channel);
+      toMapResult.put("messageCount", messageCount);
+      toMapResult.put("messageBytes", messageBytes);
+      toMapResult.put("messageSizeHistogram", messageSizeHistogram);
+      toMapResult.put("handlerTimeHistogram", handlerTimeHistogram);
+      toMapResult.put("replyLatencyHistogram", replyLatencyHistogram);
+      return toMapResult;
+    }
+
+    static @NonNull ChannelStatisticsData fromMap(@NonNull Map<String, Object> map) {
+      ChannelStatisticsData pigeonResult = new ChannelStatisticsData();
+      Object channel = map.get("channel");
+      pigeonResult.setChannel((String) channel);
+      Object messageCount = map.get("messageCount");
+      pigeonResult.setMessageCount(
+          (messageCount == null)
+              ? null
+              : ((messageCount instanceof Integer) ? (Integer) messageCount : (Long) messageCount));
+      Object messageBytes = map.get("messageBytes");
+      pigeonResult.setMessageBytes(
+          (messageBytes == null)
+              ? null
+              : ((messageBytes instanceof Integer) ? (Integer) messageBytes : (Long) messageBytes));
+      Object messageSizeHistogram = map.get("messageSizeHistogram");
+      pigeonResult.setMessageSizeHistogram((List<Long>) messageSizeHistogram);
+      Object handlerTimeHistogram = map.get("handlerTimeHistogram");
+      pigeonResult.setHandlerTimeHistogram((List<Long>) handlerTimeHistogram);
+      Object replyLatencyHistogram = map.get("replyLatencyHistogram");
+      pigeonResult.setReplyLatencyHistogram((List<Long>) replyLatencyHistogram);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class WebSettingsData {
+    private @Nullable Boolean domStorageEnabled;
+
+    public @Nullable Boolean getDomStorageEnabled() {
+      return domStorageEnabled;
+    }
+
+    public void setDomStorageEnabled(@Nullable Boolean setterArg) {
+      this.domStorageEnabled = setterArg;
+    }
+
+    private @Nullable Boolean javaScriptCanOpenWindowsAutomatically;
+
+    public @Nullable Boolean getJavaScriptCanOpenWindowsAutomatically() {
+      return javaScriptCanOpenWindowsAutomatically;
+    }
+
+    public void setJavaScriptCanOpenWindowsAutomatically(@Nullable Boolean setterArg) {
+      this.javaScriptCanOpenWindowsAutomatically = setterArg;
+    }
+
+    private @Nullable Boolean supportMultipleWindows;
+
+    public @Nullable Boolean getSupportMultipleWindows() {
+      return supportMultipleWindows;
+    }
+
+    public void setSupportMultipleWindows(@Nullable Boolean setterArg) {
+      this.supportMultipleWindows = setterArg;
+    }
+
+    private @Nullable Boolean javaScriptEnabled;
+
+    public @Nullable Boolean getJavaScriptEnabled() {
+      return javaScriptEnabled;
+    }
+
+    public void setJavaScriptEnabled(@Nullable Boolean setterArg) {
+      this.javaScriptEnabled = setterArg;
+    }
+
+    private @Nullable String userAgentString;
+
+    public @Nullable String getUserAgentString() {
+      return userAgentString;
+    }
+
+    public void setUserAgentString(@Nullable String setterArg) {
+      this.userAgentString = setterArg;
+    }
+
+    private @Nullable Boolean mediaPlaybackRequiresUserGesture;
+
+    public @Nullable Boolean getMediaPlaybackRequiresUserGesture() {
+      return mediaPlaybackRequiresUserGesture;
+    }
+
+    public void setMediaPlaybackRequiresUserGesture(@Nullable Boolean setterArg) {
+      this.mediaPlaybackRequiresUserGesture = setterArg;
+    }
+
+    private @Nullable Boolean supportZoom;
+
+    public @Nullable Boolean getSupportZoom() {
+      return supportZoom;
+    }
+
+    public void setSupportZoom(@Nullable Boolean setterArg) {
+      this.supportZoom = setterArg;
+    }
+
+    private @Nullable Boolean loadWithOverviewMode;
+
+    public @Nullable Boolean getLoadWithOverviewMode() {
+      return loadWithOverviewMode;
+    }
+
+    public void setLoadWithOverviewMode(@Nullable Boolean setterArg) {
+      this.loadWithOverviewMode = setterArg;
+    }
+
+    private @Nullable Boolean useWideViewPort;
+
+    public @Nullable Boolean getUseWideViewPort() {
+      return useWideViewPort;
+    }
+
+    public void setUseWideViewPort(@Nullable Boolean setterArg) {
+      this.useWideViewPort = setterArg;
+    }
+
+    private @Nullable Boolean displayZoomControls;
+
+    public @Nullable Boolean getDisplayZoomControls() {
+      return displayZoomControls;
+    }
+
+    public void setDisplayZoomControls(@Nullable Boolean setterArg) {
+      this.displayZoomControls = setterArg;
+    }
+
+    private @Nullable Boolean builtInZoomControls;
+
+    public @Nullable Boolean getBuiltInZoomControls() {
+      return builtInZoomControls;
+    }
+
+    public void setBuiltInZoomControls(@Nullable Boolean setterArg) {
+      this.builtInZoomControls = setterArg;
+    }
+
+    private @Nullable Boolean allowFileAccess;
+
+    public @Nullable Boolean getAllowFileAccess() {
+      return allowFileAccess;
+    }
+
+    public void setAllowFileAccess(@Nullable Boolean setterArg) {
+      this.allowFileAccess = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private WebSettingsData() {}
+
+    public static final class Builder {
+      private @Nullable Boolean domStorageEnabled;
+
+      public @NonNull Builder setDomStorageEnabled(@Nullable Boolean setterArg) {
+        this.domStorageEnabled = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean javaScriptCanOpenWindowsAutomatically;
+
+      public @NonNull Builder setJavaScriptCanOpenWindowsAutomatically(
+          @Nullable Boolean setterArg) {
+        this.javaScriptCanOpenWindowsAutomatically = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean supportMultipleWindows;
+
+      public @NonNull Builder setSupportMultipleWindows(@Nullable Boolean setterArg) {
+        this.supportMultipleWindows = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean javaScriptEnabled;
+
+      public @NonNull Builder setJavaScriptEnabled(@Nullable Boolean setterArg) {
+        this.javaScriptEnabled = setterArg;
+        return this;
+      }
+
+      private @Nullable String userAgentString;
+
+      public @NonNull Builder setUserAgentString(@Nullable String setterArg) {
+        this.userAgentString = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean mediaPlaybackRequiresUserGesture;
+
+      public @NonNull Builder setMediaPlaybackRequiresUserGesture(@Nullable Boolean setterArg) {
+        this.mediaPlaybackRequiresUserGesture = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean supportZoom;
+
+      public @NonNull Builder setSupportZoom(@Nullable Boolean setterArg) {
+        this.supportZoom = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean loadWithOverviewMode;
+
+      public @NonNull Builder setLoadWithOverviewMode(@Nullable Boolean setterArg) {
+        this.loadWithOverviewMode = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean useWideViewPort;
+
+      public @NonNull Builder setUseWideViewPort(@Nullable Boolean setterArg) {
+        this.useWideViewPort = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean displayZoomControls;
+
+      public @NonNull Builder setDisplayZoomControls(@Nullable Boolean setterArg) {
+        this.displayZoomControls = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean builtInZoomControls;
+
+      public @NonNull Builder setBuiltInZoomControls(@Nullable Boolean setterArg) {
+        this.builtInZoomControls = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean allowFileAccess;
+
+      public @NonNull Builder setAllowFileAccess(@Nullable Boolean setterArg) {
+        this.allowFileAccess = setterArg;
+        return this;
+      }
+
+      public @NonNull WebSettingsData build() {
+        WebSettingsData pigeonReturn = new WebSettingsData();
+        pigeonReturn.setDomStorageEnabled(domStorageEnabled);
+        pigeonReturn.setJavaScriptCanOpenWindowsAutomatically(
+            javaScriptCanOpenWindowsAutomatically);
+        pigeonReturn.setSupportMultipleWindows(supportMultipleWindows);
+        pigeonReturn.setJavaScriptEnabled(javaScriptEnabled);
+        pigeonReturn.setUserAgentString(userAgentString);
+        pigeonReturn.setMediaPlaybackRequiresUserGesture(mediaPlaybackRequiresUserGesture);
+        pigeonReturn.setSupportZoom(supportZoom);
+        pigeonReturn.setLoadWithOverviewMode(loadWithOverviewMode);
+        pigeonReturn.setUseWideViewPort(useWideViewPort);
+        pigeonReturn.setDisplayZoomControls(displayZoomControls);
+        pigeonReturn.setBuiltInZoomControls(builtInZoomControls);
+        pigeonReturn.setAllowFileAccess(allowFileAccess);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("domStorageEnabled", domStorageEnabled);
+      toMapResult.put(
+          "javaScriptCanOpenWindowsAutomatically", javaScriptCanOpenWindowsAutomatically);
+      toMapResult.put("supportMultipleWindows", supportMultipleWindows);
+      toMapResult.put("javaScriptEnabled", javaScriptEnabled);
+      toMapResult.put("userAgentString", userAgentString);
+      toMapResult.put("mediaPlaybackRequiresUserGesture", mediaPlaybackRequiresUserGesture);
+      toMapResult.put("supportZoom", supportZoom);
+      toMapResult.put("loadWithOverviewMode", loadWithOverviewMode);
+      toMapResult.put("useWideViewPort", useWideViewPort);
+      toMapResult.put("displayZoomControls", displayZoomControls);
+      toMapResult.put("builtInZoomControls", builtInZoomControls);
+      toMapResult.put("allowFileAccess", allowFileAccess);
+      return toMapResult;
+    }
+
+    static @NonNull WebSettingsData fromMap(@NonNull Map<String, Object> map) {
+      WebSettingsData pigeonResult = new WebSettingsData();
+      Object domStorageEnabled = map.get("domStorageEnabled");
+      pigeonResult.setDomStorageEnabled((Boolean) domStorageEnabled);
+      Object javaScriptCanOpenWindowsAutomatically =
+          map.get("javaScriptCanOpenWindowsAutomatically");
+      pigeonResult.setJavaScriptCanOpenWindowsAutomatically(
+          (Boolean) javaScriptCanOpenWindowsAutomatically);
+      Object supportMultipleWindows = map.get("supportMultipleWindows");
+      pigeonResult.setSupportMultipleWindows((Boolean) supportMultipleWindows);
+      Object javaScriptEnabled = map.get("javaScriptEnabled");
+      pigeonResult.setJavaScriptEnabled((Boolean) javaScriptEnabled);
+      Object userAgentString = map.get("userAgentString");
+      pigeonResult.setUserAgentString((String) userAgentString);
+      Object mediaPlaybackRequiresUserGesture = map.get("mediaPlaybackRequiresUserGesture");
+      pigeonResult.setMediaPlaybackRequiresUserGesture((Boolean) mediaPlaybackRequiresUserGesture);
+      Object supportZoom = map.get("supportZoom");
+      pigeonResult.setSupportZoom((Boolean) supportZoom);
+      Object loadWithOverviewMode = map.get("loadWithOverviewMode");
+      pigeonResult.setLoadWithOverviewMode((Boolean) loadWithOverviewMode);
+      Object useWideViewPort = map.get("useWideViewPort");
+      pigeonResult.setUseWideViewPort((Boolean) useWideViewPort);
+      Object displayZoomControls = map.get("displayZoomControls");
+      pigeonResult.setDisplayZoomControls((Boolean) displayZoomControls);
+      Object builtInZoomControls = map.get("builtInZoomControls");
+      pigeonResult.setBuiltInZoomControls((Boolean) builtInZoomControls);
+      Object allowFileAccess = map.get("allowFileAccess");
+      pigeonResult.setAllowFileAccess((Boolean) allowFileAccess);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class WebViewPoolStatisticsData {
+    private @NonNull Long capacity;
+
+    public @NonNull Long getCapacity() {
+      return capacity;
+    }
+
+    public void setCapacity(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"capacity\" is null.");
+      }
+      this.capacity = setterArg;
+    }
+
+    private @NonNull Long size;
+
+    public @NonNull Long getSize() {
+      return size;
+    }
+
+    public void setSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"size\" is null.");
+      }
+      this.size = setterArg;
+    }
+
+    private @NonNull Long hitCount;
+
+    public @NonNull Long getHitCount() {
+      return hitCount;
+    }
+
+    public void setHitCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitCount\" is null.");
+      }
+      this.hitCount = setterArg;
+    }
+
+    private @NonNull Long missCount;
+
+    public @NonNull Long getMissCount() {
+      return missCount;
+    }
+
+    public void setMissCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"missCount\" is null.");
+      }
+      this.missCount = setterArg;
+    }
+
+    private @NonNull Long recycleCount;
+
+    public @NonNull Long getRecycleCount() {
+      return recycleCount;
+    }
+
+    public void setRecycleCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"recycleCount\" is null.");
+      }
+      this.recycleCount = setterArg;
+    }
+
+    private @NonNull Long constructionCount;
+
+    public @NonNull Long getConstructionCount() {
+      return constructionCount;
+    }
+
+    public void setConstructionCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"constructionCount\" is null.");
+      }
+      this.constructionCount = setterArg;
+    }
+
+    private @NonNull Long totalConstructionMicros;
+
+    public @NonNull Long getTotalConstructionMicros() {
+      return totalConstructionMicros;
+    }
+
+    public void setTotalConstructionMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"totalConstructionMicros\" is null.");
+      }
+      this.totalConstructionMicros = setterArg;
+    }
+
+    private @NonNull Long maxConstructionMicros;
+
+    public @NonNull Long getMaxConstructionMicros() {
+      return maxConstructionMicros;
+    }
+
+    public void setMaxConstructionMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxConstructionMicros\" is null.");
+      }
+      this.maxConstructionMicros = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private WebViewPoolStatisticsData() {}
+
+    public static final class Builder {
+      private @Nullable Long capacity;
+
+      public @NonNull Builder setCapacity(@NonNull Long setterArg) {
+        this.capacity = setterArg;
+        return this;
+      }
+
+      private @Nullable Long size;
+
+      public @NonNull Builder setSize(@NonNull Long setterArg) {
+        this.size = setterArg;
+        return this;
+      }
+
+      private @Nullable Long hitCount;
+
+      public @NonNull Builder setHitCount(@NonNull Long setterArg) {
+        this.hitCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long missCount;
+
+      public @NonNull Builder setMissCount(@NonNull Long setterArg) {
+        this.missCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long recycleCount;
+
+      public @NonNull Builder setRecycleCount(@NonNull Long setterArg) {
+        this.recycleCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long constructionCount;
+
+      public @NonNull Builder setConstructionCount(@NonNull Long setterArg) {
+        this.constructionCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long totalConstructionMicros;
+
+      public @NonNull Builder setTotalConstructionMicros(@NonNull Long setterArg) {
+        this.totalConstructionMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxConstructionMicros;
+
+      public @NonNull Builder setMaxConstructionMicros(@NonNull Long setterArg) {
+        this.maxConstructionMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull WebViewPoolStatisticsData build() {
+        WebViewPoolStatisticsData pigeonReturn = new WebViewPoolStatisticsData();
+        pigeonReturn.setCapacity(capacity);
+        pigeonReturn.setSize(size);
+        pigeonReturn.setHitCount(hitCount);
+        pigeonReturn.setMissCount(missCount);
+        pigeonReturn.setRecycleCount(recycleCount);
+        pigeonReturn.setConstructionCount(constructionCount);
+        pigeonReturn.setTotalConstructionMicros(totalConstructionMicros);
+        pigeonReturn.setMaxConstructionMicros(maxConstructionMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("capacity", capacity);
+      toMapResult.put("size", size);
+      toMapResult.put("hitCount", hitCount);
+      toMapResult.put("missCount", missCount);
+      toMapResult.put("recycleCount", recycleCount);
+      toMapResult.put("constructionCount", constructionCount);
+      toMapResult.put("totalConstructionMicros", totalConstructionMicros);
+      toMapResult.put("maxConstructionMicros", maxConstructionMicros);
+      return toMapResult;
+    }
+
+    static @NonNull WebViewPoolStatisticsData fromMap(@NonNull Map<String, Object> map) {
+      WebViewPoolStatisticsData pigeonResult = new WebViewPoolStatisticsData();
+      Object capacity = map.get("capacity");
+      pigeonResult.setCapacity(
+          (capacity == null)
+              ? null
+              : ((capacity instanceof Integer) ? (Integer) capacity : (Long) capacity));
+      Object size = map.get("size");
+      pigeonResult.setSize(
+          (size == null) ? null : ((size instanceof Integer) ? (Integer) size : (Long) size));
+      Object hitCount = map.get("hitCount");
+      pigeonResult.setHitCount(
+          (hitCount == null)
+              ? null
+              : ((hitCount instanceof Integer) ? (Integer) hitCount : (Long) hitCount));
+      Object missCount = map.get("missCount");
+      pigeonResult.setMissCount(
+          (missCount == null)
+              ? null
+              : ((missCount instanceof Integer) ? (Integer) missCount : (Long) missCount));
+      Object recycleCount = map.get("recycleCount");
+      pigeonResult.setRecycleCount(
+          (recycleCount == null)
+              ? null
+              : ((recycleCount instanceof Integer) ? (Integer) recycleCount : (Long) recycleCount));
+      Object constructionCount = map.get("constructionCount");
+      pigeonResult.setConstructionCount(
+          (constructionCount == null)
+              ? null
+              : ((constructionCount instanceof Integer)
+                  ? (Integer) constructionCount
+                  : (Long) constructionCount));
+      Object totalConstructionMicros = map.get("totalConstructionMicros");
+      pigeonResult.setTotalConstructionMicros(
+          (totalConstructionMicros == null)
+              ? null
+              : ((totalConstructionMicros instanceof Integer)
+                  ? (Integer) totalConstructionMicros
+                  : (Long) totalConstructionMicros));
+      Object maxConstructionMicros = map.get("maxConstructionMicros");
+      pigeonResult.setMaxConstructionMicros(
+          (maxConstructionMicros == null)
+              ? null
+              : ((maxConstructionMicros instanceof Integer)
+                  ? (Integer) maxConstructionMicros
+                  : (Long) maxConstructionMicros));
+      return pigeonResult;
+    }
+  }
+
+  public interface Result<T> {
+    void success(T result);
+
+    void error(Throwable error);
+  }
+
+  private static class CookieManagerHostApiCodec extends StandardMessageCodec {
+    public static final CookieManagerHostApiCodec INSTANCE = new CookieManagerHostApiCodec();
+
+    private CookieManagerHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface CookieManagerHostApi {
+    void clearCookies(Result<Boolean> result);
+
+    void setCookie(@NonNull String url, @NonNull String value);
+
+    /** The codec used by CookieManagerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return CookieManagerHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `CookieManagerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, CookieManagerHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.CookieManagerHostApi.clearCookies",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Result<Boolean> resultCallback =
+                      new Result<Boolean>() {
+                        public void success(Boolean result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.clearCookies(resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CookieManagerHostApi.setCookie", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String urlArg = (String) args.get(0);
+                  if (urlArg == null) {
+                    throw new NullPointerException("urlArg unexpectedly null.");
+                  }
+                  String valueArg = (String) args.get(1);
+                  if (valueArg == null) {
+                    throw new NullPointerException("valueArg unexpectedly null.");
+                  }
+                  api.setCookie(urlArg, valueArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class WebViewHostApiCodec extends StandardMessageCodec {
+    public static final WebViewHostApiCodec INSTANCE = new WebViewHostApiCodec();
+
+    private WebViewHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebViewHostApi {
+    void create(@NonNull Long instanceId, @NonNull Boolean useHybridComposition);
+
+    void dispose(@NonNull Long instanceId);
+
+    void loadData(
+        @NonNull Long instanceId,
+        @NonNull String data,
+        @Nullable String mimeType,
+        @Nullable String encoding);
+
+    void loadDataWithBaseUrl(
+        @NonNull Long instanceId,
+        @Nullable String baseUrl,
+        @NonNull String data,
+        @Nullable String mimeType,
+        @Nullable String encoding,
+        @Nullable String historyUrl);
+
+    void loadUrl(
+        @NonNull Long instanceId, @NonNull String url, @NonNull Map<String, String> headers);
+
+    void postUrl(@NonNull Long instanceId, @NonNull String url, @NonNull byte[] data);
+
+    void loadHtmlBytes(@NonNull Long instanceId, @NonNull byte[] html, @Nullable String baseUrl);
+
+    void loadHtmlFile(@NonNull Long instanceId, @NonNull String path, @Nullable String baseUrl);
+
+    @Nullable
+    String getUrl(@NonNull Long instanceId);
+
+    @NonNull
+    Boolean canGoBack(@NonNull Long instanceId);
+
+    @NonNull
+    Boolean canGoForward(@NonNull Long instanceId);
+
+    void goBack(@NonNull Long instanceId);
+
+    void goForward(@NonNull Long instanceId);
+
+    void reload(@NonNull Long instanceId);
+
+    void clearCache(@NonNull Long instanceId, @NonNull Boolean includeDiskFiles);
+
+    void evaluateJavascript(
+        @NonNull Long instanceId, @NonNull String javascriptString, Result<String> result);
+
+    void evaluateJavascriptBatched(
+        @NonNull Long instanceId, @NonNull String javascriptString, Result<String> result);
+
+    @Nullable
+    String getTitle(@NonNull Long instanceId);
+
+    void scrollTo(@NonNull Long instanceId, @NonNull Long x, @NonNull Long y);
+
+    void scrollBy(@NonNull Long instanceId, @NonNull Long x, @NonNull Long y);
+
+    @NonNull
+    Long getScrollX(@NonNull Long instanceId);
+
+    @NonNull
+    Long getScrollY(@NonNull Long instanceId);
+
+    void setWebContentsDebuggingEnabled(@NonNull Boolean enabled);
+
+    void setWebViewClient(@NonNull Long instanceId, @NonNull Long webViewClientInstanceId);
+
+    void addJavaScriptChannel(@NonNull Long instanceId, @NonNull Long javaScriptChannelInstanceId);
+
+    void removeJavaScriptChannel(
+        @NonNull Long instanceId, @NonNull Long javaScriptChannelInstanceId);
+
+    void setDownloadListener(@NonNull Long instanceId, @Nullable Long listenerInstanceId);
+
+    void setWebChromeClient(@NonNull Long instanceId, @Nullable Long clientInstanceId);
+
+    void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
+
+    void setRendererPriorityPolicy(
+        @NonNull Long instanceId,
+        @NonNull Long rendererRequestedPriority,
+        @NonNull Boolean waivedWhenNotVisible);
+
+    /** The codec used by WebViewHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebViewHostApiCodec.INSTANCE;
+    }
+
+    /** Sets up an instance of `WebViewHostApi` to handle messages through the `binaryMessenger`. */
+    static void setup(BinaryMessenger binaryMessenger, WebViewHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean useHybridCompositionArg = (Boolean) args.get(1);
+                  if (useHybridCompositionArg == null) {
+                    throw new NullPointerException("useHybridCompositionArg unexpectedly null.");
+                  }
+                  api.create(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      useHybridCompositionArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.dispose", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.dispose((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.loadData", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String dataArg = (String) args.get(1);
+                  if (dataArg == null) {
+                    throw new NullPointerException("dataArg unexpectedly null.");
+                  }
+                  String mimeTypeArg = (String) args.get(2);
+                  String encodingArg = (String) args.get(3);
+                  api.loadData(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      dataArg,
+                      mimeTypeArg,
+                      encodingArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.loadDataWithBaseUrl",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String baseUrlArg = (String) args.get(1);
+                  String dataArg = (String) args.get(2);
+                  if (dataArg == null) {
+                    throw new NullPointerException("dataArg unexpectedly null.");
+                  }
+                  String mimeTypeArg = (String) args.get(3);
+                  String encodingArg = (String) args.get(4);
+                  String historyUrlArg = (String) args.get(5);
+                  api.loadDataWithBaseUrl(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      baseUrlArg,
+                      dataArg,
+                      mimeTypeArg,
+                      encodingArg,
+                      historyUrlArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.loadUrl", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String urlArg = (String) args.get(1);
+                  if (urlArg == null) {
+                    throw new NullPointerException("urlArg unexpectedly null.");
+                  }
+                  Map<String, String> headersArg = (Map<String, String>) args.get(2);
+                  if (headersArg == null) {
+                    throw new NullPointerException("headersArg unexpectedly null.");
+                  }
+                  api.loadUrl(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      urlArg,
+                      headersArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.postUrl", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String urlArg = (String) args.get(1);
+                  if (urlArg == null) {
+                    throw new NullPointerException("urlArg unexpectedly null.");
+                  }
+                  byte[] dataArg = (byte[]) args.get(2);
+                  if (dataArg == null) {
+                    throw new NullPointerException("dataArg unexpectedly null.");
+                  }
+                  api.postUrl(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), urlArg, dataArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.loadHtmlBytes", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  byte[] htmlArg = (byte[]) args.get(1);
+                  if (htmlArg == null) {
+                    throw new NullPointerException("htmlArg unexpectedly null.");
+                  }
+                  String baseUrlArg = (String) args.get(2);
+                  api.loadHtmlBytes(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      htmlArg,
+                      baseUrlArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.loadHtmlFile", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String pathArg = (String) args.get(1);
+                  if (pathArg == null) {
+                    throw new NullPointerException("pathArg unexpectedly null.");
+                  }
+                  String baseUrlArg = (String) args.get(2);
+                  api.loadHtmlFile(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      pathArg,
+                      baseUrlArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getUrl", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String output =
+                      api.getUrl((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.canGoBack", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean output =
+                      api.canGoBack((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.canGoForward", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean output =
+                      api.canGoForward((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.goBack", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.goBack((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.goForward", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.goForward((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.reload", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  api.reload((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.clearCache", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean includeDiskFilesArg = (Boolean) args.get(1);
+                  if (includeDiskFilesArg == null) {
+                    throw new NullPointerException("includeDiskFilesArg unexpectedly null.");
+                  }
+                  api.clearCache(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      includeDiskFilesArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascript",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String javascriptStringArg = (String) args.get(1);
+                  if (javascriptStringArg == null) {
+                    throw new NullPointerException("javascriptStringArg unexpectedly null.");
+                  }
+                  Result<String> resultCallback =
+                      new Result<String>() {
+                        public void success(String result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
 
-    /** The codec used by CookieManagerHostApi. */
-    static MessageCodec<Object> getCodec() {
-      return CookieManagerHostApiCodec.INSTANCE;
-    }
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
 
-    /**
-     * Sets up an instance of `CookieManagerHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, CookieManagerHostApi api) {
+                  api.evaluateJavascript(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      javascriptStringArg,
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.CookieManagerHostApi.clearCookies",
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  Result<Boolean> resultCallback =
-                      new Result<Boolean>() {
-                        public void success(Boolean result) {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String javascriptStringArg = (String) args.get(1);
+                  if (javascriptStringArg == null) {
+                    throw new NullPointerException("javascriptStringArg unexpectedly null.");
+                  }
+                  Result<String> resultCallback =
+                      new Result<String>() {
+                        public void success(String result) {
                           wrapped.put("result", result);
                           reply.reply(wrapped);
                         }
@@ -317,7 +2065,10 @@ public class GeneratedAndroidWebView {
                         }
                       };
 
-                  api.clearCookies(resultCallback);
+                  api.evaluateJavascriptBatched(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      javascriptStringArg,
+                      resultCallback);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                   reply.reply(wrapped);
@@ -330,23 +2081,56 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.CookieManagerHostApi.setCookie", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getTitle", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  String urlArg = (String) args.get(0);
-                  if (urlArg == null) {
-                    throw new NullPointerException("urlArg unexpectedly null.");
-                  }
-                  String valueArg = (String) args.get(1);
-                  if (valueArg == null) {
-                    throw new NullPointerException("valueArg unexpectedly null.");
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  api.setCookie(urlArg, valueArg);
-                  wrapped.put("result", null);
+                  String output =
+                      api.getTitle((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.scrollTo", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Number xArg = (Number) args.get(1);
+                  if (xArg == null) {
+                    throw new NullPointerException("xArg unexpectedly null.");
+                  }
+                  Number yArg = (Number) args.get(2);
+                  if (yArg == null) {
+                    throw new NullPointerException("yArg unexpectedly null.");
+                  }
+                  api.scrollTo(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (xArg == null) ? null : xArg.longValue(),
+                      (yArg == null) ? null : yArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -356,99 +2140,10 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
-    }
-  }
-
-  private static class WebViewHostApiCodec extends StandardMessageCodec {
-    public static final WebViewHostApiCodec INSTANCE = new WebViewHostApiCodec();
-
-    private WebViewHostApiCodec() {}
-  }
-
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface WebViewHostApi {
-    void create(@NonNull Long instanceId, @NonNull Boolean useHybridComposition);
-
-    void dispose(@NonNull Long instanceId);
-
-    void loadData(
-        @NonNull Long instanceId,
-        @NonNull String data,
-        @Nullable String mimeType,
-        @Nullable String encoding);
-
-    void loadDataWithBaseUrl(
-        @NonNull Long instanceId,
-        @Nullable String baseUrl,
-        @NonNull String data,
-        @Nullable String mimeType,
-        @Nullable String encoding,
-        @Nullable String historyUrl);
-
-    void loadUrl(
-        @NonNull Long instanceId, @NonNull String url, @NonNull Map<String, String> headers);
-
-    void postUrl(@NonNull Long instanceId, @NonNull String url, @NonNull byte[] data);
-
-    @Nullable
-    String getUrl(@NonNull Long instanceId);
-
-    @NonNull
-    Boolean canGoBack(@NonNull Long instanceId);
-
-    @NonNull
-    Boolean canGoForward(@NonNull Long instanceId);
-
-    void goBack(@NonNull Long instanceId);
-
-    void goForward(@NonNull Long instanceId);
-
-    void reload(@NonNull Long instanceId);
-
-    void clearCache(@NonNull Long instanceId, @NonNull Boolean includeDiskFiles);
-
-    void evaluateJavascript(
-        @NonNull Long instanceId, @NonNull String javascriptString, Result<String> result);
-
-    @Nullable
-    String getTitle(@NonNull Long instanceId);
-
-    void scrollTo(@NonNull Long instanceId, @NonNull Long x, @NonNull Long y);
-
-    void scrollBy(@NonNull Long instanceId, @NonNull Long x, @NonNull Long y);
-
-    @NonNull
-    Long getScrollX(@NonNull Long instanceId);
-
-    @NonNull
-    Long getScrollY(@NonNull Long instanceId);
-
-    void setWebContentsDebuggingEnabled(@NonNull Boolean enabled);
-
-    void setWebViewClient(@NonNull Long instanceId, @NonNull Long webViewClientInstanceId);
-
-    void addJavaScriptChannel(@NonNull Long instanceId, @NonNull Long javaScriptChannelInstanceId);
-
-    void removeJavaScriptChannel(
-        @NonNull Long instanceId, @NonNull Long javaScriptChannelInstanceId);
-
-    void setDownloadListener(@NonNull Long instanceId, @Nullable Long listenerInstanceId);
-
-    void setWebChromeClient(@NonNull Long instanceId, @Nullable Long clientInstanceId);
-
-    void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
-
-    /** The codec used by WebViewHostApi. */
-    static MessageCodec<Object> getCodec() {
-      return WebViewHostApiCodec.INSTANCE;
-    }
-
-    /** Sets up an instance of `WebViewHostApi` to handle messages through the `binaryMessenger`. */
-    static void setup(BinaryMessenger binaryMessenger, WebViewHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.scrollBy", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -459,13 +2154,18 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean useHybridCompositionArg = (Boolean) args.get(1);
-                  if (useHybridCompositionArg == null) {
-                    throw new NullPointerException("useHybridCompositionArg unexpectedly null.");
+                  Number xArg = (Number) args.get(1);
+                  if (xArg == null) {
+                    throw new NullPointerException("xArg unexpectedly null.");
                   }
-                  api.create(
+                  Number yArg = (Number) args.get(2);
+                  if (yArg == null) {
+                    throw new NullPointerException("yArg unexpectedly null.");
+                  }
+                  api.scrollBy(
                       (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      useHybridCompositionArg);
+                      (xArg == null) ? null : xArg.longValue(),
+                      (yArg == null) ? null : yArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -479,7 +2179,7 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.dispose", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getScrollX", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -490,8 +2190,9 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  api.dispose((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", null);
+                  Long output =
+                      api.getScrollX((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -504,7 +2205,7 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.loadData", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getScrollY", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -515,18 +2216,9 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String dataArg = (String) args.get(1);
-                  if (dataArg == null) {
-                    throw new NullPointerException("dataArg unexpectedly null.");
-                  }
-                  String mimeTypeArg = (String) args.get(2);
-                  String encodingArg = (String) args.get(3);
-                  api.loadData(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      dataArg,
-                      mimeTypeArg,
-                      encodingArg);
-                  wrapped.put("result", null);
+                  Long output =
+                      api.getScrollY((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -540,8 +2232,33 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.loadDataWithBaseUrl",
+                "dev.flutter.pigeon.WebViewHostApi.setWebContentsDebuggingEnabled",
                 getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Boolean enabledArg = (Boolean) args.get(0);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  api.setWebContentsDebuggingEnabled(enabledArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.setWebViewClient", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -552,21 +2269,15 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String baseUrlArg = (String) args.get(1);
-                  String dataArg = (String) args.get(2);
-                  if (dataArg == null) {
-                    throw new NullPointerException("dataArg unexpectedly null.");
+                  Number webViewClientInstanceIdArg = (Number) args.get(1);
+                  if (webViewClientInstanceIdArg == null) {
+                    throw new NullPointerException("webViewClientInstanceIdArg unexpectedly null.");
                   }
-                  String mimeTypeArg = (String) args.get(3);
-                  String encodingArg = (String) args.get(4);
-                  String historyUrlArg = (String) args.get(5);
-                  api.loadDataWithBaseUrl(
+                  api.setWebViewClient(
                       (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      baseUrlArg,
-                      dataArg,
-                      mimeTypeArg,
-                      encodingArg,
-                      historyUrlArg);
+                      (webViewClientInstanceIdArg == null)
+                          ? null
+                          : webViewClientInstanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -580,7 +2291,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.loadUrl", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.addJavaScriptChannel",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -591,18 +2304,16 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String urlArg = (String) args.get(1);
-                  if (urlArg == null) {
-                    throw new NullPointerException("urlArg unexpectedly null.");
-                  }
-                  Map<String, String> headersArg = (Map<String, String>) args.get(2);
-                  if (headersArg == null) {
-                    throw new NullPointerException("headersArg unexpectedly null.");
+                  Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
+                  if (javaScriptChannelInstanceIdArg == null) {
+                    throw new NullPointerException(
+                        "javaScriptChannelInstanceIdArg unexpectedly null.");
                   }
-                  api.loadUrl(
+                  api.addJavaScriptChannel(
                       (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      urlArg,
-                      headersArg);
+                      (javaScriptChannelInstanceIdArg == null)
+                          ? null
+                          : javaScriptChannelInstanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -616,7 +2327,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.postUrl", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.removeJavaScriptChannel",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -627,16 +2340,16 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String urlArg = (String) args.get(1);
-                  if (urlArg == null) {
-                    throw new NullPointerException("urlArg unexpectedly null.");
-                  }
-                  byte[] dataArg = (byte[]) args.get(2);
-                  if (dataArg == null) {
-                    throw new NullPointerException("dataArg unexpectedly null.");
+                  Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
+                  if (javaScriptChannelInstanceIdArg == null) {
+                    throw new NullPointerException(
+                        "javaScriptChannelInstanceIdArg unexpectedly null.");
                   }
-                  api.postUrl(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), urlArg, dataArg);
+                  api.removeJavaScriptChannel(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (javaScriptChannelInstanceIdArg == null)
+                          ? null
+                          : javaScriptChannelInstanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -650,7 +2363,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getUrl", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setDownloadListener",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -661,9 +2376,11 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String output =
-                      api.getUrl((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", output);
+                  Number listenerInstanceIdArg = (Number) args.get(1);
+                  api.setDownloadListener(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (listenerInstanceIdArg == null) ? null : listenerInstanceIdArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -676,7 +2393,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.canGoBack", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setWebChromeClient",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -687,9 +2406,11 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean output =
-                      api.canGoBack((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", output);
+                  Number clientInstanceIdArg = (Number) args.get(1);
+                  api.setWebChromeClient(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (clientInstanceIdArg == null) ? null : clientInstanceIdArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -702,7 +2423,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.canGoForward", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setBackgroundColor",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -713,9 +2436,14 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean output =
-                      api.canGoForward((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", output);
+                  Number colorArg = (Number) args.get(1);
+                  if (colorArg == null) {
+                    throw new NullPointerException("colorArg unexpectedly null.");
+                  }
+                  api.setBackgroundColor(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (colorArg == null) ? null : colorArg.longValue());
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -728,7 +2456,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.goBack", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -739,7 +2469,21 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  api.goBack((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  Number rendererRequestedPriorityArg = (Number) args.get(1);
+                  if (rendererRequestedPriorityArg == null) {
+                    throw new NullPointerException(
+                        "rendererRequestedPriorityArg unexpectedly null.");
+                  }
+                  Boolean waivedWhenNotVisibleArg = (Boolean) args.get(2);
+                  if (waivedWhenNotVisibleArg == null) {
+                    throw new NullPointerException("waivedWhenNotVisibleArg unexpectedly null.");
+                  }
+                  api.setRendererPriorityPolicy(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (rendererRequestedPriorityArg == null)
+                          ? null
+                          : rendererRequestedPriorityArg.longValue(),
+                      waivedWhenNotVisibleArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -750,10 +2494,81 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class WebSettingsHostApiCodec extends StandardMessageCodec {
+    public static final WebSettingsHostApiCodec INSTANCE = new WebSettingsHostApiCodec();
+
+    private WebSettingsHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return WebSettingsData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebSettingsData) {
+        stream.write(128);
+        writeValue(stream, ((WebSettingsData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebSettingsHostApi {
+    void create(@NonNull Long instanceId, @NonNull Long webViewInstanceId);
+
+    void dispose(@NonNull Long instanceId);
+
+    void setDomStorageEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
+
+    void setJavaScriptCanOpenWindowsAutomatically(@NonNull Long instanceId, @NonNull Boolean flag);
+
+    void setSupportMultipleWindows(@NonNull Long instanceId, @NonNull Boolean support);
+
+    void setJavaScriptEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
+
+    void setUserAgentString(@NonNull Long instanceId, @Nullable String userAgentString);
+
+    void setMediaPlaybackRequiresUserGesture(@NonNull Long instanceId, @NonNull Boolean require);
+
+    void setSupportZoom(@NonNull Long instanceId, @NonNull Boolean support);
+
+    void setLoadWithOverviewMode(@NonNull Long instanceId, @NonNull Boolean overview);
+
+    void setUseWideViewPort(@NonNull Long instanceId, @NonNull Boolean use);
+
+    void setDisplayZoomControls(@NonNull Long instanceId, @NonNull Boolean enabled);
+
+    void setBuiltInZoomControls(@NonNull Long instanceId, @NonNull Boolean enabled);
+
+    void setAllowFileAccess(@NonNull Long instanceId, @NonNull Boolean enabled);
+
+    void applySettings(@NonNull Long instanceId, @NonNull WebSettingsData settings);
+
+    /** The codec used by WebSettingsHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebSettingsHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebSettingsHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebSettingsHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.goForward", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebSettingsHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -764,7 +2579,13 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  api.goForward((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  Number webViewInstanceIdArg = (Number) args.get(1);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  api.create(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -778,7 +2599,7 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.reload", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebSettingsHostApi.dispose", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -789,7 +2610,7 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  api.reload((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  api.dispose((instanceIdArg == null) ? null : instanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -803,7 +2624,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.clearCache", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setDomStorageEnabled",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -814,13 +2637,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean includeDiskFilesArg = (Boolean) args.get(1);
-                  if (includeDiskFilesArg == null) {
-                    throw new NullPointerException("includeDiskFilesArg unexpectedly null.");
+                  Boolean flagArg = (Boolean) args.get(1);
+                  if (flagArg == null) {
+                    throw new NullPointerException("flagArg unexpectedly null.");
                   }
-                  api.clearCache(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      includeDiskFilesArg);
+                  api.setDomStorageEnabled(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), flagArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -835,7 +2657,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascript",
+                "dev.flutter.pigeon.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -847,31 +2669,17 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String javascriptStringArg = (String) args.get(1);
-                  if (javascriptStringArg == null) {
-                    throw new NullPointerException("javascriptStringArg unexpectedly null.");
+                  Boolean flagArg = (Boolean) args.get(1);
+                  if (flagArg == null) {
+                    throw new NullPointerException("flagArg unexpectedly null.");
                   }
-                  Result<String> resultCallback =
-                      new Result<String>() {
-                        public void success(String result) {
-                          wrapped.put("result", result);
-                          reply.reply(wrapped);
-                        }
-
-                        public void error(Throwable error) {
-                          wrapped.put("error", wrapError(error));
-                          reply.reply(wrapped);
-                        }
-                      };
-
-                  api.evaluateJavascript(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      javascriptStringArg,
-                      resultCallback);
+                  api.setJavaScriptCanOpenWindowsAutomatically(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), flagArg);
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
-                  reply.reply(wrapped);
                 }
+                reply.reply(wrapped);
               });
         } else {
           channel.setMessageHandler(null);
@@ -880,7 +2688,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getTitle", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setSupportMultipleWindows",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -891,9 +2701,13 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  String output =
-                      api.getTitle((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", output);
+                  Boolean supportArg = (Boolean) args.get(1);
+                  if (supportArg == null) {
+                    throw new NullPointerException("supportArg unexpectedly null.");
+                  }
+                  api.setSupportMultipleWindows(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), supportArg);
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -906,7 +2720,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.scrollTo", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setJavaScriptEnabled",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -917,18 +2733,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number xArg = (Number) args.get(1);
-                  if (xArg == null) {
-                    throw new NullPointerException("xArg unexpectedly null.");
-                  }
-                  Number yArg = (Number) args.get(2);
-                  if (yArg == null) {
-                    throw new NullPointerException("yArg unexpectedly null.");
+                  Boolean flagArg = (Boolean) args.get(1);
+                  if (flagArg == null) {
+                    throw new NullPointerException("flagArg unexpectedly null.");
                   }
-                  api.scrollTo(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (xArg == null) ? null : xArg.longValue(),
-                      (yArg == null) ? null : yArg.longValue());
+                  api.setJavaScriptEnabled(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), flagArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -942,7 +2752,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.scrollBy", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setUserAgentString",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -953,18 +2765,10 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number xArg = (Number) args.get(1);
-                  if (xArg == null) {
-                    throw new NullPointerException("xArg unexpectedly null.");
-                  }
-                  Number yArg = (Number) args.get(2);
-                  if (yArg == null) {
-                    throw new NullPointerException("yArg unexpectedly null.");
-                  }
-                  api.scrollBy(
+                  String userAgentStringArg = (String) args.get(1);
+                  api.setUserAgentString(
                       (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (xArg == null) ? null : xArg.longValue(),
-                      (yArg == null) ? null : yArg.longValue());
+                      userAgentStringArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -978,7 +2782,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getScrollX", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -989,9 +2795,13 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Long output =
-                      api.getScrollX((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", output);
+                  Boolean requireArg = (Boolean) args.get(1);
+                  if (requireArg == null) {
+                    throw new NullPointerException("requireArg unexpectedly null.");
+                  }
+                  api.setMediaPlaybackRequiresUserGesture(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), requireArg);
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -1004,7 +2814,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getScrollY", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setSupportZoom",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1015,35 +2827,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Long output =
-                      api.getScrollY((instanceIdArg == null) ? null : instanceIdArg.longValue());
-                  wrapped.put("result", output);
-                } catch (Error | RuntimeException exception) {
-                  wrapped.put("error", wrapError(exception));
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
-      }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.setWebContentsDebuggingEnabled",
-                getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                Map<String, Object> wrapped = new HashMap<>();
-                try {
-                  ArrayList<Object> args = (ArrayList<Object>) message;
-                  Boolean enabledArg = (Boolean) args.get(0);
-                  if (enabledArg == null) {
-                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  Boolean supportArg = (Boolean) args.get(1);
+                  if (supportArg == null) {
+                    throw new NullPointerException("supportArg unexpectedly null.");
                   }
-                  api.setWebContentsDebuggingEnabled(enabledArg);
+                  api.setSupportZoom(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), supportArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1057,7 +2846,9 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.setWebViewClient", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebSettingsHostApi.setLoadWithOverviewMode",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1068,15 +2859,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number webViewClientInstanceIdArg = (Number) args.get(1);
-                  if (webViewClientInstanceIdArg == null) {
-                    throw new NullPointerException("webViewClientInstanceIdArg unexpectedly null.");
+                  Boolean overviewArg = (Boolean) args.get(1);
+                  if (overviewArg == null) {
+                    throw new NullPointerException("overviewArg unexpectedly null.");
                   }
-                  api.setWebViewClient(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (webViewClientInstanceIdArg == null)
-                          ? null
-                          : webViewClientInstanceIdArg.longValue());
+                  api.setLoadWithOverviewMode(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), overviewArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1091,7 +2879,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.addJavaScriptChannel",
+                "dev.flutter.pigeon.WebSettingsHostApi.setUseWideViewPort",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1103,16 +2891,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
-                  if (javaScriptChannelInstanceIdArg == null) {
-                    throw new NullPointerException(
-                        "javaScriptChannelInstanceIdArg unexpectedly null.");
+                  Boolean useArg = (Boolean) args.get(1);
+                  if (useArg == null) {
+                    throw new NullPointerException("useArg unexpectedly null.");
                   }
-                  api.addJavaScriptChannel(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (javaScriptChannelInstanceIdArg == null)
-                          ? null
-                          : javaScriptChannelInstanceIdArg.longValue());
+                  api.setUseWideViewPort(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), useArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1127,7 +2911,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.removeJavaScriptChannel",
+                "dev.flutter.pigeon.WebSettingsHostApi.setDisplayZoomControls",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1139,16 +2923,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
-                  if (javaScriptChannelInstanceIdArg == null) {
-                    throw new NullPointerException(
-                        "javaScriptChannelInstanceIdArg unexpectedly null.");
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
                   }
-                  api.removeJavaScriptChannel(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (javaScriptChannelInstanceIdArg == null)
-                          ? null
-                          : javaScriptChannelInstanceIdArg.longValue());
+                  api.setDisplayZoomControls(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1163,7 +2943,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.setDownloadListener",
+                "dev.flutter.pigeon.WebSettingsHostApi.setBuiltInZoomControls",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1175,10 +2955,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number listenerInstanceIdArg = (Number) args.get(1);
-                  api.setDownloadListener(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (listenerInstanceIdArg == null) ? null : listenerInstanceIdArg.longValue());
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  api.setBuiltInZoomControls(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1193,7 +2975,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.setWebChromeClient",
+                "dev.flutter.pigeon.WebSettingsHostApi.setAllowFileAccess",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1205,10 +2987,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number clientInstanceIdArg = (Number) args.get(1);
-                  api.setWebChromeClient(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (clientInstanceIdArg == null) ? null : clientInstanceIdArg.longValue());
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  api.setAllowFileAccess(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1222,9 +3006,7 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebViewHostApi.setBackgroundColor",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebSettingsHostApi.applySettings", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1235,13 +3017,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number colorArg = (Number) args.get(1);
-                  if (colorArg == null) {
-                    throw new NullPointerException("colorArg unexpectedly null.");
-                  }
-                  api.setBackgroundColor(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (colorArg == null) ? null : colorArg.longValue());
+                  WebSettingsData settingsArg = (WebSettingsData) args.get(1);
+                  if (settingsArg == null) {
+                    throw new NullPointerException("settingsArg unexpectedly null.");
+                  }
+                  api.applySettings(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), settingsArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1255,55 +3036,31 @@ public class GeneratedAndroidWebView {
     }
   }
 
-  private static class WebSettingsHostApiCodec extends StandardMessageCodec {
-    public static final WebSettingsHostApiCodec INSTANCE = new WebSettingsHostApiCodec();
+  private static class JavaScriptChannelHostApiCodec extends StandardMessageCodec {
+    public static final JavaScriptChannelHostApiCodec INSTANCE =
+        new JavaScriptChannelHostApiCodec();
 
-    private WebSettingsHostApiCodec() {}
+    private JavaScriptChannelHostApiCodec() {}
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface WebSettingsHostApi {
-    void create(@NonNull Long instanceId, @NonNull Long webViewInstanceId);
-
-    void dispose(@NonNull Long instanceId);
-
-    void setDomStorageEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
-
-    void setJavaScriptCanOpenWindowsAutomatically(@NonNull Long instanceId, @NonNull Boolean flag);
-
-    void setSupportMultipleWindows(@NonNull Long instanceId, @NonNull Boolean support);
-
-    void setJavaScriptEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
-
-    void setUserAgentString(@NonNull Long instanceId, @Nullable String userAgentString);
-
-    void setMediaPlaybackRequiresUserGesture(@NonNull Long instanceId, @NonNull Boolean require);
-
-    void setSupportZoom(@NonNull Long instanceId, @NonNull Boolean support);
-
-    void setLoadWithOverviewMode(@NonNull Long instanceId, @NonNull Boolean overview);
-
-    void setUseWideViewPort(@NonNull Long instanceId, @NonNull Boolean use);
-
-    void setDisplayZoomControls(@NonNull Long instanceId, @NonNull Boolean enabled);
-
-    void setBuiltInZoomControls(@NonNull Long instanceId, @NonNull Boolean enabled);
-
-    void setAllowFileAccess(@NonNull Long instanceId, @NonNull Boolean enabled);
+  public interface JavaScriptChannelHostApi {
+    void create(@NonNull Long instanceId, @NonNull String channelName);
 
-    /** The codec used by WebSettingsHostApi. */
+    /** The codec used by JavaScriptChannelHostApi. */
     static MessageCodec<Object> getCodec() {
-      return WebSettingsHostApiCodec.INSTANCE;
+      return JavaScriptChannelHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `WebSettingsHostApi` to handle messages through the `binaryMessenger`.
+     * Sets up an instance of `JavaScriptChannelHostApi` to handle messages through the
+     * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, WebSettingsHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, JavaScriptChannelHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebSettingsHostApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.JavaScriptChannelHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1314,13 +3071,12 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Number webViewInstanceIdArg = (Number) args.get(1);
-                  if (webViewInstanceIdArg == null) {
-                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  String channelNameArg = (String) args.get(1);
+                  if (channelNameArg == null) {
+                    throw new NullPointerException("channelNameArg unexpectedly null.");
                   }
                   api.create(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue());
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), channelNameArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1331,10 +3087,89 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class JavaScriptChannelFlutterApiCodec extends StandardMessageCodec {
+    public static final JavaScriptChannelFlutterApiCodec INSTANCE =
+        new JavaScriptChannelFlutterApiCodec();
+
+    private JavaScriptChannelFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class JavaScriptChannelFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public JavaScriptChannelFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return JavaScriptChannelFlutterApiCodec.INSTANCE;
+    }
+
+    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.dispose",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void postMessage(
+        @NonNull Long instanceIdArg, @NonNull String messageArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessage",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class WebViewClientHostApiCodec extends StandardMessageCodec {
+    public static final WebViewClientHostApiCodec INSTANCE = new WebViewClientHostApiCodec();
+
+    private WebViewClientHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebViewClientHostApi {
+    void create(
+        @NonNull Long instanceId,
+        @NonNull Boolean shouldOverrideUrlLoading,
+        @NonNull Boolean includesRequestHeaders);
+
+    void setSubscribedCallbacks(@NonNull Long instanceId, @NonNull Long callbacks);
+
+    /** The codec used by WebViewClientHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebViewClientHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebViewClientHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebViewClientHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebSettingsHostApi.dispose", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebViewClientHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1345,7 +3180,19 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  api.dispose((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  Boolean shouldOverrideUrlLoadingArg = (Boolean) args.get(1);
+                  if (shouldOverrideUrlLoadingArg == null) {
+                    throw new NullPointerException(
+                        "shouldOverrideUrlLoadingArg unexpectedly null.");
+                  }
+                  Boolean includesRequestHeadersArg = (Boolean) args.get(2);
+                  if (includesRequestHeadersArg == null) {
+                    throw new NullPointerException("includesRequestHeadersArg unexpectedly null.");
+                  }
+                  api.create(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      shouldOverrideUrlLoadingArg,
+                      includesRequestHeadersArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1360,7 +3207,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setDomStorageEnabled",
+                "dev.flutter.pigeon.WebViewClientHostApi.setSubscribedCallbacks",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1372,12 +3219,13 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean flagArg = (Boolean) args.get(1);
-                  if (flagArg == null) {
-                    throw new NullPointerException("flagArg unexpectedly null.");
+                  Number callbacksArg = (Number) args.get(1);
+                  if (callbacksArg == null) {
+                    throw new NullPointerException("callbacksArg unexpectedly null.");
                   }
-                  api.setDomStorageEnabled(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), flagArg);
+                  api.setSubscribedCallbacks(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (callbacksArg == null) ? null : callbacksArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1388,12 +3236,204 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class WebViewClientFlutterApiCodec extends StandardMessageCodec {
+    public static final WebViewClientFlutterApiCodec INSTANCE = new WebViewClientFlutterApiCodec();
+
+    private WebViewClientFlutterApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return WebResourceErrorData.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 129:
+          return WebResourceRequestData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebResourceErrorData) {
+        stream.write(128);
+        writeValue(stream, ((WebResourceErrorData) value).toMap());
+      } else if (value instanceof WebResourceRequestData) {
+        stream.write(129);
+        writeValue(stream, ((WebResourceRequestData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class WebViewClientFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public WebViewClientFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return WebViewClientFlutterApiCodec.INSTANCE;
+    }
+
+    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.WebViewClientFlutterApi.dispose", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onPageStarted(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull String urlArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onPageStarted",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onPageFinished(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull String urlArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onPageFinished",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onReceivedRequestError(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull WebResourceRequestData requestArg,
+        @NonNull WebResourceErrorData errorArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedRequestError",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(instanceIdArg, webViewInstanceIdArg, requestArg, errorArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onReceivedError(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Long errorCodeArg,
+        @NonNull String descriptionArg,
+        @NonNull String failingUrlArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedError",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(
+                  instanceIdArg,
+                  webViewInstanceIdArg,
+                  errorCodeArg,
+                  descriptionArg,
+                  failingUrlArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void requestLoading(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull WebResourceRequestData requestArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewClientFlutterApi.requestLoading",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, requestArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void urlLoading(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull String urlArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.WebViewClientFlutterApi.urlLoading", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class DownloadListenerHostApiCodec extends StandardMessageCodec {
+    public static final DownloadListenerHostApiCodec INSTANCE = new DownloadListenerHostApiCodec();
+
+    private DownloadListenerHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface DownloadListenerHostApi {
+    void create(@NonNull Long instanceId);
+
+    /** The codec used by DownloadListenerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return DownloadListenerHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `DownloadListenerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, DownloadListenerHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.DownloadListenerHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1404,12 +3444,7 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean flagArg = (Boolean) args.get(1);
-                  if (flagArg == null) {
-                    throw new NullPointerException("flagArg unexpectedly null.");
-                  }
-                  api.setJavaScriptCanOpenWindowsAutomatically(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), flagArg);
+                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1420,12 +3455,97 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class DownloadListenerFlutterApiCodec extends StandardMessageCodec {
+    public static final DownloadListenerFlutterApiCodec INSTANCE =
+        new DownloadListenerFlutterApiCodec();
+
+    private DownloadListenerFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class DownloadListenerFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public DownloadListenerFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return DownloadListenerFlutterApiCodec.INSTANCE;
+    }
+
+    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.DownloadListenerFlutterApi.dispose", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onDownloadStart(
+        @NonNull Long instanceIdArg,
+        @NonNull String urlArg,
+        @NonNull String userAgentArg,
+        @NonNull String contentDispositionArg,
+        @NonNull String mimetypeArg,
+        @NonNull Long contentLengthArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadStart",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(
+                  instanceIdArg,
+                  urlArg,
+                  userAgentArg,
+                  contentDispositionArg,
+                  mimetypeArg,
+                  contentLengthArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class WebChromeClientHostApiCodec extends StandardMessageCodec {
+    public static final WebChromeClientHostApiCodec INSTANCE = new WebChromeClientHostApiCodec();
+
+    private WebChromeClientHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebChromeClientHostApi {
+    void create(@NonNull Long instanceId, @NonNull Long webViewClientInstanceId);
+
+    void setSubscribedCallbacks(@NonNull Long instanceId, @NonNull Long callbacks);
+
+    /** The codec used by WebChromeClientHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebChromeClientHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebChromeClientHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebChromeClientHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setSupportMultipleWindows",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebChromeClientHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1436,12 +3556,15 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean supportArg = (Boolean) args.get(1);
-                  if (supportArg == null) {
-                    throw new NullPointerException("supportArg unexpectedly null.");
+                  Number webViewClientInstanceIdArg = (Number) args.get(1);
+                  if (webViewClientInstanceIdArg == null) {
+                    throw new NullPointerException("webViewClientInstanceIdArg unexpectedly null.");
                   }
-                  api.setSupportMultipleWindows(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), supportArg);
+                  api.create(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (webViewClientInstanceIdArg == null)
+                          ? null
+                          : webViewClientInstanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1456,7 +3579,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setJavaScriptEnabled",
+                "dev.flutter.pigeon.WebChromeClientHostApi.setSubscribedCallbacks",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1468,42 +3591,13 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean flagArg = (Boolean) args.get(1);
-                  if (flagArg == null) {
-                    throw new NullPointerException("flagArg unexpectedly null.");
-                  }
-                  api.setJavaScriptEnabled(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), flagArg);
-                  wrapped.put("result", null);
-                } catch (Error | RuntimeException exception) {
-                  wrapped.put("error", wrapError(exception));
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
-      }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setUserAgentString",
-                getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                Map<String, Object> wrapped = new HashMap<>();
-                try {
-                  ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  Number callbacksArg = (Number) args.get(1);
+                  if (callbacksArg == null) {
+                    throw new NullPointerException("callbacksArg unexpectedly null.");
                   }
-                  String userAgentStringArg = (String) args.get(1);
-                  api.setUserAgentString(
+                  api.setSubscribedCallbacks(
                       (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      userAgentStringArg);
+                      (callbacksArg == null) ? null : callbacksArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1514,29 +3608,50 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class FlutterAssetManagerHostApiCodec extends StandardMessageCodec {
+    public static final FlutterAssetManagerHostApiCodec INSTANCE =
+        new FlutterAssetManagerHostApiCodec();
+
+    private FlutterAssetManagerHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface FlutterAssetManagerHostApi {
+    @NonNull
+    List<String> list(@NonNull String path);
+
+    @NonNull
+    String getAssetFilePathByName(@NonNull String name);
+
+    /** The codec used by FlutterAssetManagerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return FlutterAssetManagerHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `FlutterAssetManagerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, FlutterAssetManagerHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.FlutterAssetManagerHostApi.list", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Boolean requireArg = (Boolean) args.get(1);
-                  if (requireArg == null) {
-                    throw new NullPointerException("requireArg unexpectedly null.");
+                  String pathArg = (String) args.get(0);
+                  if (pathArg == null) {
+                    throw new NullPointerException("pathArg unexpectedly null.");
                   }
-                  api.setMediaPlaybackRequiresUserGesture(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), requireArg);
-                  wrapped.put("result", null);
+                  List<String> output = api.list(pathArg);
+                  wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -1550,7 +3665,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setSupportZoom",
+                "dev.flutter.pigeon.FlutterAssetManagerHostApi.getAssetFilePathByName",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1558,17 +3673,12 @@ public class GeneratedAndroidWebView {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Boolean supportArg = (Boolean) args.get(1);
-                  if (supportArg == null) {
-                    throw new NullPointerException("supportArg unexpectedly null.");
+                  String nameArg = (String) args.get(0);
+                  if (nameArg == null) {
+                    throw new NullPointerException("nameArg unexpectedly null.");
                   }
-                  api.setSupportZoom(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), supportArg);
-                  wrapped.put("result", null);
+                  String output = api.getAssetFilePathByName(nameArg);
+                  wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -1578,12 +3688,86 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class WebChromeClientFlutterApiCodec extends StandardMessageCodec {
+    public static final WebChromeClientFlutterApiCodec INSTANCE =
+        new WebChromeClientFlutterApiCodec();
+
+    private WebChromeClientFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class WebChromeClientFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public WebChromeClientFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return WebChromeClientFlutterApiCodec.INSTANCE;
+    }
+
+    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.WebChromeClientFlutterApi.dispose", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onProgressChanged(
+        @NonNull Long instanceIdArg,
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Long progressArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, progressArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class WebStorageHostApiCodec extends StandardMessageCodec {
+    public static final WebStorageHostApiCodec INSTANCE = new WebStorageHostApiCodec();
+
+    private WebStorageHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebStorageHostApi {
+    void create(@NonNull Long instanceId);
+
+    void deleteAllData(@NonNull Long instanceId);
+
+    /** The codec used by WebStorageHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebStorageHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebStorageHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebStorageHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setLoadWithOverviewMode",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebStorageHostApi.create", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1594,12 +3778,7 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean overviewArg = (Boolean) args.get(1);
-                  if (overviewArg == null) {
-                    throw new NullPointerException("overviewArg unexpectedly null.");
-                  }
-                  api.setLoadWithOverviewMode(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), overviewArg);
+                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1613,9 +3792,7 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setUseWideViewPort",
-                getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebStorageHostApi.deleteAllData", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1626,12 +3803,7 @@ public class GeneratedAndroidWebView {
                   if (instanceIdArg == null) {
                     throw new NullPointerException("instanceIdArg unexpectedly null.");
                   }
-                  Boolean useArg = (Boolean) args.get(1);
-                  if (useArg == null) {
-                    throw new NullPointerException("useArg unexpectedly null.");
-                  }
-                  api.setUseWideViewPort(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), useArg);
+                  api.deleteAllData((instanceIdArg == null) ? null : instanceIdArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1642,11 +3814,77 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+
+  private static class InstanceManagerHostApiCodec extends StandardMessageCodec {
+    public static final InstanceManagerHostApiCodec INSTANCE = new InstanceManagerHostApiCodec();
+
+    private InstanceManagerHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return InstanceCreationData.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 129:
+          return InstanceTypeStatisticsData.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 130:
+          return LeakedInstanceData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof InstanceCreationData) {
+        stream.write(128);
+        writeValue(stream, ((InstanceCreationData) value).toMap());
+      } else if (value instanceof InstanceTypeStatisticsData) {
+        stream.write(129);
+        writeValue(stream, ((InstanceTypeStatisticsData) value).toMap());
+      } else if (value instanceof LeakedInstanceData) {
+        stream.write(130);
+        writeValue(stream, ((LeakedInstanceData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface InstanceManagerHostApi {
+    void setWeakReferencesEnabled(@NonNull Boolean enabled);
+
+    @NonNull
+    List<InstanceTypeStatisticsData> getStatistics();
+
+    @NonNull
+    List<LeakedInstanceData> getLeakedInstances();
+
+    void createAll(@NonNull List<InstanceCreationData> instances);
+
+    void disposeAll(@NonNull List<Long> instanceIds);
+
+    /** The codec used by InstanceManagerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return InstanceManagerHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `InstanceManagerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, InstanceManagerHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setDisplayZoomControls",
+                "dev.flutter.pigeon.InstanceManagerHostApi.setWeakReferencesEnabled",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -1654,16 +3892,11 @@ public class GeneratedAndroidWebView {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Boolean enabledArg = (Boolean) args.get(1);
+                  Boolean enabledArg = (Boolean) args.get(0);
                   if (enabledArg == null) {
                     throw new NullPointerException("enabledArg unexpectedly null.");
                   }
-                  api.setDisplayZoomControls(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
+                  api.setWeakReferencesEnabled(enabledArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1678,25 +3911,15 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setBuiltInZoomControls",
+                "dev.flutter.pigeon.InstanceManagerHostApi.getStatistics",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Boolean enabledArg = (Boolean) args.get(1);
-                  if (enabledArg == null) {
-                    throw new NullPointerException("enabledArg unexpectedly null.");
-                  }
-                  api.setBuiltInZoomControls(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
-                  wrapped.put("result", null);
+                  List<InstanceTypeStatisticsData> output = api.getStatistics();
+                  wrapped.put("result", output);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -1710,78 +3933,40 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.WebSettingsHostApi.setAllowFileAccess",
+                "dev.flutter.pigeon.InstanceManagerHostApi.getLeakedInstances",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
-                try {
-                  ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Boolean enabledArg = (Boolean) args.get(1);
-                  if (enabledArg == null) {
-                    throw new NullPointerException("enabledArg unexpectedly null.");
-                  }
-                  api.setAllowFileAccess(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
-                  wrapped.put("result", null);
-                } catch (Error | RuntimeException exception) {
-                  wrapped.put("error", wrapError(exception));
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
-      }
-    }
-  }
-
-  private static class JavaScriptChannelHostApiCodec extends StandardMessageCodec {
-    public static final JavaScriptChannelHostApiCodec INSTANCE =
-        new JavaScriptChannelHostApiCodec();
-
-    private JavaScriptChannelHostApiCodec() {}
-  }
-
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface JavaScriptChannelHostApi {
-    void create(@NonNull Long instanceId, @NonNull String channelName);
-
-    /** The codec used by JavaScriptChannelHostApi. */
-    static MessageCodec<Object> getCodec() {
-      return JavaScriptChannelHostApiCodec.INSTANCE;
-    }
-
-    /**
-     * Sets up an instance of `JavaScriptChannelHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, JavaScriptChannelHostApi api) {
+                try {
+                  List<LeakedInstanceData> output = api.getLeakedInstances();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.JavaScriptChannelHostApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.InstanceManagerHostApi.createAll", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  String channelNameArg = (String) args.get(1);
-                  if (channelNameArg == null) {
-                    throw new NullPointerException("channelNameArg unexpectedly null.");
+                  List<InstanceCreationData> instancesArg =
+                      (List<InstanceCreationData>) args.get(0);
+                  if (instancesArg == null) {
+                    throw new NullPointerException("instancesArg unexpectedly null.");
                   }
-                  api.create(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), channelNameArg);
+                  api.createAll(instancesArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1792,102 +3977,23 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
-    }
-  }
-
-  private static class JavaScriptChannelFlutterApiCodec extends StandardMessageCodec {
-    public static final JavaScriptChannelFlutterApiCodec INSTANCE =
-        new JavaScriptChannelFlutterApiCodec();
-
-    private JavaScriptChannelFlutterApiCodec() {}
-  }
-
-  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class JavaScriptChannelFlutterApi {
-    private final BinaryMessenger binaryMessenger;
-
-    public JavaScriptChannelFlutterApi(BinaryMessenger argBinaryMessenger) {
-      this.binaryMessenger = argBinaryMessenger;
-    }
-
-    public interface Reply<T> {
-      void reply(T reply);
-    }
-
-    static MessageCodec<Object> getCodec() {
-      return JavaScriptChannelFlutterApiCodec.INSTANCE;
-    }
-
-    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.dispose",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
-
-    public void postMessage(
-        @NonNull Long instanceIdArg, @NonNull String messageArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessage",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
-  }
-
-  private static class WebViewClientHostApiCodec extends StandardMessageCodec {
-    public static final WebViewClientHostApiCodec INSTANCE = new WebViewClientHostApiCodec();
-
-    private WebViewClientHostApiCodec() {}
-  }
-
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface WebViewClientHostApi {
-    void create(@NonNull Long instanceId, @NonNull Boolean shouldOverrideUrlLoading);
-
-    /** The codec used by WebViewClientHostApi. */
-    static MessageCodec<Object> getCodec() {
-      return WebViewClientHostApiCodec.INSTANCE;
-    }
-
-    /**
-     * Sets up an instance of `WebViewClientHostApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(BinaryMessenger binaryMessenger, WebViewClientHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebViewClientHostApi.create", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.InstanceManagerHostApi.disposeAll",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Boolean shouldOverrideUrlLoadingArg = (Boolean) args.get(1);
-                  if (shouldOverrideUrlLoadingArg == null) {
-                    throw new NullPointerException(
-                        "shouldOverrideUrlLoadingArg unexpectedly null.");
+                  List<Long> instanceIdsArg = (List<Long>) args.get(0);
+                  if (instanceIdsArg == null) {
+                    throw new NullPointerException("instanceIdsArg unexpectedly null.");
                   }
-                  api.create(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      shouldOverrideUrlLoadingArg);
+                  api.disposeAll(instanceIdsArg);
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -1901,44 +4007,18 @@ public class GeneratedAndroidWebView {
     }
   }
 
-  private static class WebViewClientFlutterApiCodec extends StandardMessageCodec {
-    public static final WebViewClientFlutterApiCodec INSTANCE = new WebViewClientFlutterApiCodec();
-
-    private WebViewClientFlutterApiCodec() {}
-
-    @Override
-    protected Object readValueOfType(byte type, ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 128:
-          return WebResourceErrorData.fromMap((Map<String, Object>) readValue(buffer));
-
-        case (byte) 129:
-          return WebResourceRequestData.fromMap((Map<String, Object>) readValue(buffer));
+  private static class InstanceManagerFlutterApiCodec extends StandardMessageCodec {
+    public static final InstanceManagerFlutterApiCodec INSTANCE =
+        new InstanceManagerFlutterApiCodec();
 
-        default:
-          return super.readValueOfType(type, buffer);
-      }
-    }
-
-    @Override
-    protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof WebResourceErrorData) {
-        stream.write(128);
-        writeValue(stream, ((WebResourceErrorData) value).toMap());
-      } else if (value instanceof WebResourceRequestData) {
-        stream.write(129);
-        writeValue(stream, ((WebResourceRequestData) value).toMap());
-      } else {
-        super.writeValue(stream, value);
-      }
-    }
+    private InstanceManagerFlutterApiCodec() {}
   }
 
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class WebViewClientFlutterApi {
+  public static class InstanceManagerFlutterApi {
     private final BinaryMessenger binaryMessenger;
 
-    public WebViewClientFlutterApi(BinaryMessenger argBinaryMessenger) {
+    public InstanceManagerFlutterApi(BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
     }
 
@@ -1947,166 +4027,153 @@ public class GeneratedAndroidWebView {
     }
 
     static MessageCodec<Object> getCodec() {
-      return WebViewClientFlutterApiCodec.INSTANCE;
-    }
-
-    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.WebViewClientFlutterApi.dispose", getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
+      return InstanceManagerFlutterApiCodec.INSTANCE;
     }
 
-    public void onPageStarted(
-        @NonNull Long instanceIdArg,
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull String urlArg,
-        Reply<Void> callback) {
+    public void disposeAll(@NonNull List<Long> instanceIdsArg, Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(
               binaryMessenger,
-              "dev.flutter.pigeon.WebViewClientFlutterApi.onPageStarted",
+              "dev.flutter.pigeon.InstanceManagerFlutterApi.disposeAll",
               getCodec());
       channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg)),
+          new ArrayList<Object>(Arrays.asList(instanceIdsArg)),
           channelReply -> {
             callback.reply(null);
           });
     }
+  }
 
-    public void onPageFinished(
-        @NonNull Long instanceIdArg,
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull String urlArg,
-        Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.WebViewClientFlutterApi.onPageFinished",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
+  private static class ChannelStatisticsHostApiCodec extends StandardMessageCodec {
+    public static final ChannelStatisticsHostApiCodec INSTANCE =
+        new ChannelStatisticsHostApiCodec();
 
-    public void onReceivedRequestError(
-        @NonNull Long instanceIdArg,
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull WebResourceRequestData requestArg,
-        @NonNull WebResourceErrorData errorArg,
-        Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedRequestError",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(
-              Arrays.asList(instanceIdArg, webViewInstanceIdArg, requestArg, errorArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
+    private ChannelStatisticsHostApiCodec() {}
 
-    public void onReceivedError(
-        @NonNull Long instanceIdArg,
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull Long errorCodeArg,
-        @NonNull String descriptionArg,
-        @NonNull String failingUrlArg,
-        Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedError",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(
-              Arrays.asList(
-                  instanceIdArg,
-                  webViewInstanceIdArg,
-                  errorCodeArg,
-                  descriptionArg,
-                  failingUrlArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
-    }
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ChannelStatisticsData.fromMap((Map<String, Object>) readValue(buffer));
 
-    public void requestLoading(
-        @NonNull Long instanceIdArg,
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull WebResourceRequestData requestArg,
-        Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.WebViewClientFlutterApi.requestLoading",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, requestArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
+        default:
+          return super.readValueOfType(type, buffer);
+      }
     }
 
-    public void urlLoading(
-        @NonNull Long instanceIdArg,
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull String urlArg,
-        Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.WebViewClientFlutterApi.urlLoading", getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, urlArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ChannelStatisticsData) {
+        stream.write(128);
+        writeValue(stream, ((ChannelStatisticsData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
     }
   }
 
-  private static class DownloadListenerHostApiCodec extends StandardMessageCodec {
-    public static final DownloadListenerHostApiCodec INSTANCE = new DownloadListenerHostApiCodec();
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface ChannelStatisticsHostApi {
+    void setEnabled(@NonNull Boolean enabled);
 
-    private DownloadListenerHostApiCodec() {}
-  }
+    @NonNull
+    List<ChannelStatisticsData> getStatistics();
 
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface DownloadListenerHostApi {
-    void create(@NonNull Long instanceId);
+    void reset();
 
-    /** The codec used by DownloadListenerHostApi. */
+    void dumpToLog();
+
+    /** The codec used by ChannelStatisticsHostApi. */
     static MessageCodec<Object> getCodec() {
-      return DownloadListenerHostApiCodec.INSTANCE;
+      return ChannelStatisticsHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `DownloadListenerHostApi` to handle messages through the
+     * Sets up an instance of `ChannelStatisticsHostApi` to handle messages through the
      * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, DownloadListenerHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, ChannelStatisticsHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.DownloadListenerHostApi.create", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.ChannelStatisticsHostApi.setEnabled",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  Boolean enabledArg = (Boolean) args.get(0);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
                   }
-                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  api.setEnabled(enabledArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ChannelStatisticsHostApi.getStatistics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  List<ChannelStatisticsData> output = api.getStatistics();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ChannelStatisticsHostApi.reset", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.reset();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ChannelStatisticsHostApi.dumpToLog",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.dumpToLog();
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -2120,116 +4187,253 @@ public class GeneratedAndroidWebView {
     }
   }
 
-  private static class DownloadListenerFlutterApiCodec extends StandardMessageCodec {
-    public static final DownloadListenerFlutterApiCodec INSTANCE =
-        new DownloadListenerFlutterApiCodec();
+  private static class CommandBatchHostApiCodec extends StandardMessageCodec {
+    public static final CommandBatchHostApiCodec INSTANCE = new CommandBatchHostApiCodec();
 
-    private DownloadListenerFlutterApiCodec() {}
+    private CommandBatchHostApiCodec() {}
   }
 
-  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class DownloadListenerFlutterApi {
-    private final BinaryMessenger binaryMessenger;
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface CommandBatchHostApi {
+    @NonNull
+    List<byte[]> executeBatch(@NonNull List<Object> batch);
 
-    public DownloadListenerFlutterApi(BinaryMessenger argBinaryMessenger) {
-      this.binaryMessenger = argBinaryMessenger;
+    /** The codec used by CommandBatchHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return CommandBatchHostApiCodec.INSTANCE;
     }
 
-    public interface Reply<T> {
-      void reply(T reply);
+    /**
+     * Sets up an instance of `CommandBatchHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, CommandBatchHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.CommandBatchHostApi.executeBatch", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  List<Object> batchArg = (List<Object>) args.get(0);
+                  if (batchArg == null) {
+                    throw new NullPointerException("batchArg unexpectedly null.");
+                  }
+                  List<byte[]> output = api.executeBatch(batchArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
+  }
 
-    static MessageCodec<Object> getCodec() {
-      return DownloadListenerFlutterApiCodec.INSTANCE;
+  private static class WebViewPoolHostApiCodec extends StandardMessageCodec {
+    public static final WebViewPoolHostApiCodec INSTANCE = new WebViewPoolHostApiCodec();
+
+    private WebViewPoolHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return WebViewPoolStatisticsData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
     }
 
-    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.DownloadListenerFlutterApi.dispose", getCodec());
-      channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebViewPoolStatisticsData) {
+        stream.write(128);
+        writeValue(stream, ((WebViewPoolStatisticsData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
     }
+  }
 
-    public void onDownloadStart(
-        @NonNull Long instanceIdArg,
-        @NonNull String urlArg,
-        @NonNull String userAgentArg,
-        @NonNull String contentDispositionArg,
-        @NonNull String mimetypeArg,
-        @NonNull Long contentLengthArg,
-        Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadStart",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(
-              Arrays.asList(
-                  instanceIdArg,
-                  urlArg,
-                  userAgentArg,
-                  contentDispositionArg,
-                  mimetypeArg,
-                  contentLengthArg)),
-          channelReply -> {
-            callback.reply(null);
-          });
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebViewPoolHostApi {
+    void setCapacity(@NonNull Long capacity, @NonNull Boolean useHybridComposition);
+
+    void setRecycleCapacity(@NonNull Long recycleCapacity);
+
+    @NonNull
+    WebViewPoolStatisticsData getStatistics();
+
+    void resetStatistics();
+
+    /** The codec used by WebViewPoolHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebViewPoolHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebViewPoolHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebViewPoolHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.setCapacity", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number capacityArg = (Number) args.get(0);
+                  if (capacityArg == null) {
+                    throw new NullPointerException("capacityArg unexpectedly null.");
+                  }
+                  Boolean useHybridCompositionArg = (Boolean) args.get(1);
+                  if (useHybridCompositionArg == null) {
+                    throw new NullPointerException("useHybridCompositionArg unexpectedly null.");
+                  }
+                  api.setCapacity(
+                      (capacityArg == null) ? null : capacityArg.longValue(),
+                      useHybridCompositionArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewPoolHostApi.setRecycleCapacity",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number recycleCapacityArg = (Number) args.get(0);
+                  if (recycleCapacityArg == null) {
+                    throw new NullPointerException("recycleCapacityArg unexpectedly null.");
+                  }
+                  api.setRecycleCapacity(
+                      (recycleCapacityArg == null) ? null : recycleCapacityArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.getStatistics", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  WebViewPoolStatisticsData output = api.getStatistics();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewPoolHostApi.resetStatistics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.resetStatistics();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
-  private static class WebChromeClientHostApiCodec extends StandardMessageCodec {
-    public static final WebChromeClientHostApiCodec INSTANCE = new WebChromeClientHostApiCodec();
+  private static class WebViewProviderHostApiCodec extends StandardMessageCodec {
+    public static final WebViewProviderHostApiCodec INSTANCE = new WebViewProviderHostApiCodec();
 
-    private WebChromeClientHostApiCodec() {}
+    private WebViewProviderHostApiCodec() {}
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface WebChromeClientHostApi {
-    void create(@NonNull Long instanceId, @NonNull Long webViewClientInstanceId);
+  public interface WebViewProviderHostApi {
+    void warmUp(Result<Long> result);
 
-    /** The codec used by WebChromeClientHostApi. */
+    /** The codec used by WebViewProviderHostApi. */
     static MessageCodec<Object> getCodec() {
-      return WebChromeClientHostApiCodec.INSTANCE;
+      return WebViewProviderHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `WebChromeClientHostApi` to handle messages through the
+     * Sets up an instance of `WebViewProviderHostApi` to handle messages through the
      * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, WebChromeClientHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, WebViewProviderHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebChromeClientHostApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.WebViewProviderHostApi.warmUp", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
-                  ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
-                  }
-                  Number webViewClientInstanceIdArg = (Number) args.get(1);
-                  if (webViewClientInstanceIdArg == null) {
-                    throw new NullPointerException("webViewClientInstanceIdArg unexpectedly null.");
-                  }
-                  api.create(
-                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
-                      (webViewClientInstanceIdArg == null)
-                          ? null
-                          : webViewClientInstanceIdArg.longValue());
-                  wrapped.put("result", null);
+                  Result<Long> resultCallback =
+                      new Result<Long>() {
+                        public void success(Long result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.warmUp(resultCallback);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
                 }
-                reply.reply(wrapped);
               });
         } else {
           channel.setMessageHandler(null);
@@ -2238,47 +4442,61 @@ public class GeneratedAndroidWebView {
     }
   }
 
-  private static class FlutterAssetManagerHostApiCodec extends StandardMessageCodec {
-    public static final FlutterAssetManagerHostApiCodec INSTANCE =
-        new FlutterAssetManagerHostApiCodec();
+  private static class WebViewSuspensionHostApiCodec extends StandardMessageCodec {
+    public static final WebViewSuspensionHostApiCodec INSTANCE =
+        new WebViewSuspensionHostApiCodec();
 
-    private FlutterAssetManagerHostApiCodec() {}
+    private WebViewSuspensionHostApiCodec() {}
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface FlutterAssetManagerHostApi {
-    @NonNull
-    List<String> list(@NonNull String path);
+  public interface WebViewSuspensionHostApi {
+    void setPolicy(
+        @NonNull Boolean enabled, @NonNull Long gracePeriodMillis, @NonNull Boolean pausesTimers);
 
-    @NonNull
-    String getAssetFilePathByName(@NonNull String name);
+    void setExcluded(@NonNull Long webViewInstanceId, @NonNull Boolean excluded);
 
-    /** The codec used by FlutterAssetManagerHostApi. */
+    void setRendererPriorityManaged(@NonNull Boolean managed);
+
+    /** The codec used by WebViewSuspensionHostApi. */
     static MessageCodec<Object> getCodec() {
-      return FlutterAssetManagerHostApiCodec.INSTANCE;
+      return WebViewSuspensionHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `FlutterAssetManagerHostApi` to handle messages through the
+     * Sets up an instance of `WebViewSuspensionHostApi` to handle messages through the
      * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, FlutterAssetManagerHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, WebViewSuspensionHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.FlutterAssetManagerHostApi.list", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  String pathArg = (String) args.get(0);
-                  if (pathArg == null) {
-                    throw new NullPointerException("pathArg unexpectedly null.");
+                  Boolean enabledArg = (Boolean) args.get(0);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
                   }
-                  List<String> output = api.list(pathArg);
-                  wrapped.put("result", output);
+                  Number gracePeriodMillisArg = (Number) args.get(1);
+                  if (gracePeriodMillisArg == null) {
+                    throw new NullPointerException("gracePeriodMillisArg unexpectedly null.");
+                  }
+                  Boolean pausesTimersArg = (Boolean) args.get(2);
+                  if (pausesTimersArg == null) {
+                    throw new NullPointerException("pausesTimersArg unexpectedly null.");
+                  }
+                  api.setPolicy(
+                      enabledArg,
+                      (gracePeriodMillisArg == null) ? null : gracePeriodMillisArg.longValue(),
+                      pausesTimersArg);
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -2292,7 +4510,7 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.FlutterAssetManagerHostApi.getAssetFilePathByName",
+                "dev.flutter.pigeon.WebViewSuspensionHostApi.setExcluded",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
@@ -2300,12 +4518,45 @@ public class GeneratedAndroidWebView {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  String nameArg = (String) args.get(0);
-                  if (nameArg == null) {
-                    throw new NullPointerException("nameArg unexpectedly null.");
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
                   }
-                  String output = api.getAssetFilePathByName(nameArg);
-                  wrapped.put("result", output);
+                  Boolean excludedArg = (Boolean) args.get(1);
+                  if (excludedArg == null) {
+                    throw new NullPointerException("excludedArg unexpectedly null.");
+                  }
+                  api.setExcluded(
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue(),
+                      excludedArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewSuspensionHostApi.setRendererPriorityManaged",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Boolean managedArg = (Boolean) args.get(0);
+                  if (managedArg == null) {
+                    throw new NullPointerException("managedArg unexpectedly null.");
+                  }
+                  api.setRendererPriorityManaged(managedArg);
+                  wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
                 }
@@ -2318,18 +4569,17 @@ public class GeneratedAndroidWebView {
     }
   }
 
-  private static class WebChromeClientFlutterApiCodec extends StandardMessageCodec {
-    public static final WebChromeClientFlutterApiCodec INSTANCE =
-        new WebChromeClientFlutterApiCodec();
+  private static class WebViewMemoryFlutterApiCodec extends StandardMessageCodec {
+    public static final WebViewMemoryFlutterApiCodec INSTANCE = new WebViewMemoryFlutterApiCodec();
 
-    private WebChromeClientFlutterApiCodec() {}
+    private WebViewMemoryFlutterApiCodec() {}
   }
 
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
-  public static class WebChromeClientFlutterApi {
+  public static class WebViewMemoryFlutterApi {
     private final BinaryMessenger binaryMessenger;
 
-    public WebChromeClientFlutterApi(BinaryMessenger argBinaryMessenger) {
+    public WebViewMemoryFlutterApi(BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
     }
 
@@ -2338,74 +4588,117 @@ public class GeneratedAndroidWebView {
     }
 
     static MessageCodec<Object> getCodec() {
-      return WebChromeClientFlutterApiCodec.INSTANCE;
+      return WebViewMemoryFlutterApiCodec.INSTANCE;
     }
 
-    public void dispose(@NonNull Long instanceIdArg, Reply<Void> callback) {
+    public void onTrimMemory(
+        @NonNull Long levelArg,
+        @NonNull Long droppedWebViewCountArg,
+        @NonNull Boolean clearedCacheArg,
+        @NonNull Long pausedWebViewCountArg,
+        Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.WebChromeClientFlutterApi.dispose", getCodec());
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory",
+              getCodec());
       channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg)),
+          new ArrayList<Object>(
+              Arrays.asList(
+                  levelArg, droppedWebViewCountArg, clearedCacheArg, pausedWebViewCountArg)),
           channelReply -> {
             callback.reply(null);
           });
     }
+  }
+
+  private static class WebViewRecoveryFlutterApiCodec extends StandardMessageCodec {
+    public static final WebViewRecoveryFlutterApiCodec INSTANCE =
+        new WebViewRecoveryFlutterApiCodec();
+
+    private WebViewRecoveryFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class WebViewRecoveryFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public WebViewRecoveryFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
 
-    public void onProgressChanged(
-        @NonNull Long instanceIdArg,
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return WebViewRecoveryFlutterApiCodec.INSTANCE;
+    }
+
+    public void onRenderProcessGone(
         @NonNull Long webViewInstanceIdArg,
-        @NonNull Long progressArg,
+        @NonNull Boolean didCrashArg,
+        @NonNull Boolean stateRestoredArg,
         Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(
               binaryMessenger,
-              "dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged",
+              "dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone",
               getCodec());
       channel.send(
-          new ArrayList<Object>(Arrays.asList(instanceIdArg, webViewInstanceIdArg, progressArg)),
+          new ArrayList<Object>(Arrays.asList(webViewInstanceIdArg, didCrashArg, stateRestoredArg)),
           channelReply -> {
             callback.reply(null);
           });
     }
   }
 
-  private static class WebStorageHostApiCodec extends StandardMessageCodec {
-    public static final WebStorageHostApiCodec INSTANCE = new WebStorageHostApiCodec();
+  private static class WebViewStateStoreHostApiCodec extends StandardMessageCodec {
+    public static final WebViewStateStoreHostApiCodec INSTANCE =
+        new WebViewStateStoreHostApiCodec();
 
-    private WebStorageHostApiCodec() {}
+    private WebViewStateStoreHostApiCodec() {}
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface WebStorageHostApi {
-    void create(@NonNull Long instanceId);
+  public interface WebViewStateStoreHostApi {
+    void setMaxSize(@NonNull Long maxBytes);
 
-    void deleteAllData(@NonNull Long instanceId);
+    void saveState(@NonNull Long webViewInstanceId, @NonNull String key);
 
-    /** The codec used by WebStorageHostApi. */
+    void restoreState(@NonNull Long webViewInstanceId, @NonNull String key, Result<Boolean> result);
+
+    void remove(@NonNull String key);
+
+    void clear();
+
+    /** The codec used by WebViewStateStoreHostApi. */
     static MessageCodec<Object> getCodec() {
-      return WebStorageHostApiCodec.INSTANCE;
+      return WebViewStateStoreHostApiCodec.INSTANCE;
     }
 
     /**
-     * Sets up an instance of `WebStorageHostApi` to handle messages through the `binaryMessenger`.
+     * Sets up an instance of `WebViewStateStoreHostApi` to handle messages through the
+     * `binaryMessenger`.
      */
-    static void setup(BinaryMessenger binaryMessenger, WebStorageHostApi api) {
+    static void setup(BinaryMessenger binaryMessenger, WebViewStateStoreHostApi api) {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebStorageHostApi.create", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewStateStoreHostApi.setMaxSize",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  Number maxBytesArg = (Number) args.get(0);
+                  if (maxBytesArg == null) {
+                    throw new NullPointerException("maxBytesArg unexpectedly null.");
                   }
-                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  api.setMaxSize((maxBytesArg == null) ? null : maxBytesArg.longValue());
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
@@ -2419,18 +4712,117 @@ public class GeneratedAndroidWebView {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.WebStorageHostApi.deleteAllData", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewStateStoreHostApi.saveState",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 Map<String, Object> wrapped = new HashMap<>();
                 try {
                   ArrayList<Object> args = (ArrayList<Object>) message;
-                  Number instanceIdArg = (Number) args.get(0);
-                  if (instanceIdArg == null) {
-                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
                   }
-                  api.deleteAllData((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  String keyArg = (String) args.get(1);
+                  if (keyArg == null) {
+                    throw new NullPointerException("keyArg unexpectedly null.");
+                  }
+                  api.saveState(
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue(),
+                      keyArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewStateStoreHostApi.restoreState",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  String keyArg = (String) args.get(1);
+                  if (keyArg == null) {
+                    throw new NullPointerException("keyArg unexpectedly null.");
+                  }
+                  Result<Boolean> resultCallback =
+                      new Result<Boolean>() {
+                        public void success(Boolean result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.restoreState(
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue(),
+                      keyArg,
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewStateStoreHostApi.remove", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String keyArg = (String) args.get(0);
+                  if (keyArg == null) {
+                    throw new NullPointerException("keyArg unexpectedly null.");
+                  }
+                  api.remove(keyArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewStateStoreHostApi.clear", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.clear();
                   wrapped.put("result", null);
                 } catch (Error | RuntimeException exception) {
                   wrapped.put("error", wrapError(exception));
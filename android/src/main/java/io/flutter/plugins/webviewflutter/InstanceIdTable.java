@@ -0,0 +1,374 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bidirectional table between instance ids and instances compared by identity.
+ *
+ * <p>Ids are looked up by indexing an array with the slot encoded in their low bits, and the entry
+ * found there only matches if its full id, including the generation, is equal. Instances are looked
+ * up in an open-addressing hash table with linear probing keyed by {@link System#identityHashCode},
+ * matching how the paired Dart objects are tracked. Each id is boxed once when it is added, so
+ * {@link #getId} never allocates.
+ *
+ * <p>Instances added with {@link #putWeak} are only weakly reachable from the table. Their entries
+ * stay in place after collection until they are passed to {@link #removeCollected}.
+ *
+ * <p>This class is thread-safe. Modifications are serialized on the table, while {@link
+ * #getInstance} and {@link #getId} never block. Entries are immutable, and a hash table slot only
+ * ever changes from empty to an entry and from an entry to removed. Removed hash table slots are
+ * reclaimed by rebuilding the hash table and publishing the copy.
+ *
+ * <p>The table also counts its entries by the type tag encoded in their id and records when each
+ * entry was added, so that occupancy can be reported without instrumenting every caller.
+ */
+final class InstanceIdTable {
+  private static final int DEFAULT_CAPACITY = 16;
+  // Golden ratio multiplier for Fibonacci hashing.
+  private static final int HASH_MULTIPLIER = 0x9E3779B9;
+  // Marks a hash table slot whose entry was removed. Probing continues past it.
+  private static final Object REMOVED = new Object();
+
+  private volatile AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(DEFAULT_CAPACITY);
+  private volatile HashTable keys = new HashTable(DEFAULT_CAPACITY);
+  private volatile int size;
+  private volatile int weakSize;
+  // Indexed by type tag. Only accessed while holding the lock.
+  private final int[] liveCounts = new int[InstanceManager.TYPE_TAG_COUNT];
+  private final int[] highWaterMarks = new int[InstanceManager.TYPE_TAG_COUNT];
+
+  /** The number of instances in the table. */
+  int size() {
+    return size;
+  }
+
+  /** The number of instances added with {@link #putWeak} that have not been removed yet. */
+  int weakSize() {
+    return weakSize;
+  }
+
+  /**
+   * Adds a pairing between {@code id} and {@code instance}.
+   *
+   * <p>Any existing pairing of {@code instance} or of an id with the same slot as {@code id} is
+   * removed first.
+   */
+  synchronized void put(long id, Object instance) {
+    insert(new Entry(id, instance, instance, System.nanoTime()));
+  }
+
+  /**
+   * Adds a pairing between {@code id} and {@code instance} that does not prevent {@code instance}
+   * from being garbage collected.
+   *
+   * <p>Any existing pairing of {@code instance} or of an id with the same slot as {@code id} is
+   * removed first. Once {@code instance} is collected, its entry is enqueued on {@code queue}.
+   */
+  synchronized void putWeak(long id, Object instance, ReferenceQueue<Object> queue) {
+    insert(new Entry(id, instance, new WeakInstance(instance, queue, id), System.nanoTime()));
+    weakSize++;
+  }
+
+  /**
+   * Removes the entry of a collected weak instance.
+   *
+   * @param reference a reference polled from the queue passed to {@link #putWeak}
+   * @return the id of the removed entry, or null if the id was paired with another instance since
+   */
+  @Nullable
+  synchronized Long removeCollected(Reference<?> reference) {
+    if (!(reference instanceof WeakInstance)) {
+      return null;
+    }
+    final Entry entry = getEntry(((WeakInstance) reference).id);
+    if (entry == null || entry.stored != reference) {
+      return null;
+    }
+    delete(entry);
+    return entry.boxedId;
+  }
+
+  /** Returns the instance paired with {@code id}, or null. */
+  @Nullable
+  Object getInstance(long id) {
+    final Entry entry = getEntry(id);
+    return entry != null ? unwrap(entry.stored) : null;
+  }
+
+  /** Returns the id paired with {@code instance}, or null. */
+  @Nullable
+  Long getId(Object instance) {
+    if (instance == null) {
+      return null;
+    }
+    final HashTable keys = this.keys;
+    final int index = keys.indexOf(instance);
+    if (index < 0) {
+      return null;
+    }
+    // The slot may have been removed since it was found, in which case the entry read before the
+    // removal is still returned.
+    final Object key = keys.entries.get(index);
+    return key != REMOVED ? ((Entry) key).boxedId : null;
+  }
+
+  /**
+   * Returns when the entry for {@code id} was added, as a {@link System#nanoTime} value, or -1 if
+   * the table doesn't contain {@code id}.
+   */
+  long getAddedNanos(long id) {
+    final Entry entry = getEntry(id);
+    return entry != null ? entry.addedNanos : -1;
+  }
+
+  /**
+   * Returns the occupancy of each type tag that has had at least one entry.
+   *
+   * <p>Ages are measured from when each entry was added until {@code nowNanos}. An entry falls into
+   * the first histogram bucket whose bound in {@code ageBucketBoundsNanos} is greater than its age,
+   * or into the last bucket if there is none.
+   */
+  synchronized List<InstanceManager.TypeStatistics> getStatistics(
+      long nowNanos, long[] ageBucketBoundsNanos) {
+    final long[][] ageHistograms = new long[InstanceManager.TYPE_TAG_COUNT][];
+    for (int i = 0; i < slots.length(); i++) {
+      final Entry entry = slots.get(i);
+      if (entry == null) {
+        continue;
+      }
+      final int tag = InstanceManager.getTypeTag(entry.id);
+      if (ageHistograms[tag] == null) {
+        ageHistograms[tag] = new long[ageBucketBoundsNanos.length + 1];
+      }
+      final long age = nowNanos - entry.addedNanos;
+      int bucket = 0;
+      while (bucket < ageBucketBoundsNanos.length && age >= ageBucketBoundsNanos[bucket]) {
+        bucket++;
+      }
+      ageHistograms[tag][bucket]++;
+    }
+
+    final List<InstanceManager.TypeStatistics> statistics = new ArrayList<>();
+    for (int tag = 0; tag < InstanceManager.TYPE_TAG_COUNT; tag++) {
+      if (highWaterMarks[tag] == 0) {
+        continue;
+      }
+      statistics.add(
+          new InstanceManager.TypeStatistics(
+              tag,
+              liveCounts[tag],
+              highWaterMarks[tag],
+              ageHistograms[tag] != null
+                  ? ageHistograms[tag]
+                  : new long[ageBucketBoundsNanos.length + 1]));
+    }
+    return statistics;
+  }
+
+  /** Removes the pairing for {@code id} and returns its instance, or null. */
+  @Nullable
+  synchronized Object removeId(long id) {
+    final Entry entry = getEntry(id);
+    if (entry == null) {
+      return null;
+    }
+    delete(entry);
+    return unwrap(entry.stored);
+  }
+
+  /** Removes the pairing for {@code instance} and returns its id, or null. */
+  @Nullable
+  synchronized Long removeInstance(Object instance) {
+    if (instance == null) {
+      return null;
+    }
+    final int index = keys.indexOf(instance);
+    if (index < 0) {
+      return null;
+    }
+    final Entry entry = (Entry) keys.entries.get(index);
+    delete(entry);
+    return entry.boxedId;
+  }
+
+  @Nullable
+  private Entry getEntry(long id) {
+    final AtomicReferenceArray<Entry> slots = this.slots;
+    final int slot = InstanceManager.getSlot(id);
+    if (slot >= slots.length()) {
+      return null;
+    }
+    final Entry entry = slots.get(slot);
+    return entry != null && entry.id == id ? entry : null;
+  }
+
+  // Must be called while holding the lock.
+  private void insert(Entry entry) {
+    final int slot = InstanceManager.getSlot(entry.id);
+    final Entry stale = slot < slots.length() ? slots.get(slot) : null;
+    if (stale != null) {
+      delete(stale);
+    }
+    removeInstance(unwrap(entry.stored));
+
+    if (slot >= slots.length()) {
+      growSlots(slot + 1);
+    }
+    HashTable keys = this.keys;
+    if ((keys.used + 1) * 2 > keys.capacity()) {
+      keys = rebuildKeys();
+    }
+    keys.insert(entry);
+    slots.set(slot, entry);
+    size++;
+
+    final int tag = InstanceManager.getTypeTag(entry.id);
+    liveCounts[tag]++;
+    if (liveCounts[tag] > highWaterMarks[tag]) {
+      highWaterMarks[tag] = liveCounts[tag];
+    }
+  }
+
+  private void delete(Entry entry) {
+    slots.set(InstanceManager.getSlot(entry.id), null);
+    keys.entries.set(keys.indexOfEntry(entry), REMOVED);
+    if (entry.stored instanceof WeakInstance) {
+      weakSize--;
+    }
+    size--;
+    liveCounts[InstanceManager.getTypeTag(entry.id)]--;
+  }
+
+  private void growSlots(int minLength) {
+    final AtomicReferenceArray<Entry> oldSlots = slots;
+    int length = oldSlots.length() * 2;
+    while (length < minLength) {
+      length *= 2;
+    }
+    final AtomicReferenceArray<Entry> newSlots = new AtomicReferenceArray<>(length);
+    for (int i = 0; i < oldSlots.length(); i++) {
+      newSlots.set(i, oldSlots.get(i));
+    }
+    slots = newSlots;
+  }
+
+  // Copies the live entries into a hash table sized for the current size and publishes it. Readers
+  // still probing the old hash table see a consistent state from before the copy.
+  private HashTable rebuildKeys() {
+    int capacity = DEFAULT_CAPACITY;
+    while ((size + 1) * 4 > capacity) {
+      capacity *= 2;
+    }
+    final HashTable oldKeys = keys;
+    final HashTable newKeys = new HashTable(capacity);
+    for (int i = 0; i < oldKeys.capacity(); i++) {
+      final Object key = oldKeys.entries.get(i);
+      if (key != null && key != REMOVED) {
+        newKeys.insert((Entry) key);
+      }
+    }
+    keys = newKeys;
+    return newKeys;
+  }
+
+  @Nullable
+  private static Object unwrap(Object stored) {
+    return stored instanceof WeakInstance ? ((WeakInstance) stored).get() : stored;
+  }
+
+  /** An immutable pairing. {@code stored} is either the instance or a {@link WeakInstance}. */
+  private static final class Entry {
+    final long id;
+    final Long boxedId;
+    final Object stored;
+    // Kept because a weak instance may already be cleared when its entry is removed.
+    final int identityHash;
+    final long addedNanos;
+
+    Entry(long id, Object instance, Object stored, long addedNanos) {
+      this.id = id;
+      this.boxedId = id;
+      this.stored = stored;
+      this.identityHash = System.identityHashCode(instance);
+      this.addedNanos = addedNanos;
+    }
+  }
+
+  /** Open-addressing hash table of entries keyed by the identity of their instance. */
+  private static final class HashTable {
+    // A null element marks an empty slot.
+    final AtomicReferenceArray<Object> entries;
+    final int mask;
+    final int shift;
+
+    // Slots that are not empty, including removed ones. Only used by writers.
+    int used;
+
+    HashTable(int capacity) {
+      entries = new AtomicReferenceArray<>(capacity);
+      mask = capacity - 1;
+      shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    int capacity() {
+      return entries.length();
+    }
+
+    void insert(Entry entry) {
+      int index = hash(entry.identityHash);
+      while (entries.get(index) != null) {
+        index = (index + 1) & mask;
+      }
+      entries.set(index, entry);
+      used++;
+    }
+
+    int indexOf(Object instance) {
+      final int identityHash = System.identityHashCode(instance);
+      int index = hash(identityHash);
+      Object key;
+      while ((key = entries.get(index)) != null) {
+        if (key != REMOVED) {
+          final Entry entry = (Entry) key;
+          if (entry.identityHash == identityHash && unwrap(entry.stored) == instance) {
+            return index;
+          }
+        }
+        index = (index + 1) & mask;
+      }
+      return -1;
+    }
+
+    // Finds the slot holding exactly this entry, even if its weak instance is already cleared.
+    int indexOfEntry(Entry entry) {
+      int index = hash(entry.identityHash);
+      while (entries.get(index) != entry) {
+        index = (index + 1) & mask;
+      }
+      return index;
+    }
+
+    int hash(int identityHash) {
+      return (identityHash * HASH_MULTIPLIER) >>> shift;
+    }
+  }
+
+  private static final class WeakInstance extends WeakReference<Object> {
+    final long id;
+
+    WeakInstance(Object instance, ReferenceQueue<Object> queue, long id) {
+      super(instance, queue);
+      this.id = id;
+    }
+  }
+}
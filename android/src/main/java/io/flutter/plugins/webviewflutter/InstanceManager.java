@@ -4,18 +4,131 @@
 
 package io.flutter.plugins.webviewflutter;
 
-import android.util.LongSparseArray;
+import android.webkit.DownloadListener;
+import android.webkit.WebChromeClient;
+import android.webkit.WebSettings;
+import android.webkit.WebStorage;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Maintains instances to intercommunicate with Dart objects.
  *
  * <p>When an instance is added with an instanceId, either can be used to retrieve the other.
+ * Instances are compared by identity and lookups in either direction are O(1).
+ *
+ * <p>InstanceIds are handles allocated by Dart. Bits 0-23 hold a slot that is reused after its
+ * instance is removed, bits 24-31 hold a {@link TypeTag} and the remaining bits hold a generation
+ * that is incremented each time the slot is reused. Looking up an instanceId indexes an array with
+ * its slot, and ids of removed instances never match a newer instance in the same slot.
+ *
+ * <p>This class is thread-safe. {@link #getInstance} and {@link #getInstanceId} never block, so
+ * they can be called from callbacks that don't run on the platform thread.
+ *
+ * <p>When weak references are enabled, instances added with {@link #addWeakInstance} do not prevent
+ * garbage collection. Their pairings are removed by {@link #removeCollectedInstances}.
+ *
+ * <p>For debugging, the manager reports how many instances of each type are alive with {@link
+ * #getStatistics} and which instances are still alive after the instance that owned them was
+ * removed with {@link #getLeakedInstances}.
  */
 public class InstanceManager {
-  private final LongSparseArray<Object> instanceIdsToInstances = new LongSparseArray<>();
-  private final Map<Object, Long> instancesToInstanceIds = new HashMap<>();
+  private static final int SLOT_BITS = 24;
+  private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+  private static final int TYPE_TAG_MASK = 0xFF;
+
+  /** The number of distinct type tag values that can be encoded in an instanceId. */
+  static final int TYPE_TAG_COUNT = TYPE_TAG_MASK + 1;
+
+  /**
+   * Upper bounds of the buckets of {@link TypeStatistics#ageHistogram}, excluding the last bucket
+   * which has no upper bound.
+   */
+  public static final long[] AGE_HISTOGRAM_BOUNDS_MILLIS = {
+    1000L, 10 * 1000L, 60 * 1000L, 10 * 60 * 1000L, 60 * 60 * 1000L
+  };
+
+  /**
+   * The type of instance an instanceId refers to.
+   *
+   * <p>Values must match `InstanceTypeTag` in `lib/src/instance_manager.dart`.
+   *
+   * @param <T> the class of instances with this tag
+   */
+  public static final class TypeTag<T> {
+    public static final TypeTag<WebView> WEB_VIEW = new TypeTag<>(1, WebView.class);
+    public static final TypeTag<WebSettings> WEB_SETTINGS = new TypeTag<>(2, WebSettings.class);
+    public static final TypeTag<JavaScriptChannel> JAVA_SCRIPT_CHANNEL =
+        new TypeTag<>(3, JavaScriptChannel.class);
+    public static final TypeTag<WebViewClient> WEB_VIEW_CLIENT =
+        new TypeTag<>(4, WebViewClient.class);
+    public static final TypeTag<DownloadListener> DOWNLOAD_LISTENER =
+        new TypeTag<>(5, DownloadListener.class);
+    public static final TypeTag<WebChromeClient> WEB_CHROME_CLIENT =
+        new TypeTag<>(6, WebChromeClient.class);
+    public static final TypeTag<WebStorage> WEB_STORAGE = new TypeTag<>(7, WebStorage.class);
+
+    final int value;
+    final Class<T> type;
+
+    private TypeTag(int value, Class<T> type) {
+      this.value = value;
+      this.type = type;
+    }
+  }
+
+  /** Occupancy of the instances that have a single {@link TypeTag}. */
+  public static final class TypeStatistics {
+    /** The value of the {@link TypeTag}, or 0 for instances added without one. */
+    public final int typeTag;
+    /** The number of instances in the manager. */
+    public final int liveCount;
+    /** The largest number of instances that were in the manager at the same time. */
+    public final int highWaterMark;
+    /**
+     * The number of instances in the manager by how long ago they were added, bucketed by {@link
+     * #AGE_HISTOGRAM_BOUNDS_MILLIS}.
+     */
+    public final long[] ageHistogram;
+
+    TypeStatistics(int typeTag, int liveCount, int highWaterMark, long[] ageHistogram) {
+      this.typeTag = typeTag;
+      this.liveCount = liveCount;
+      this.highWaterMark = highWaterMark;
+      this.ageHistogram = ageHistogram;
+    }
+  }
+
+  /** An instance that is still in the manager after the instance that owned it was removed. */
+  public static final class LeakedInstance {
+    /** The instanceId of the leaked instance. */
+    public final long instanceId;
+    /** The instanceId of the removed owner. */
+    public final long ownerInstanceId;
+    /** How long ago the leaked instance was added. */
+    public final long ageMillis;
+
+    LeakedInstance(long instanceId, long ownerInstanceId, long ageMillis) {
+      this.instanceId = instanceId;
+      this.ownerInstanceId = ownerInstanceId;
+      this.ageMillis = ageMillis;
+    }
+  }
+
+  private final InstanceIdTable instances = new InstanceIdTable();
+  private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+  private volatile boolean weakReferencesEnabled = false;
+  // Guarded by itself. Entries of removed instances are dropped lazily by getLeakedInstances.
+  private final Map<Long, Long> ownerInstanceIds = new HashMap<>();
 
   /**
    * Add a new instance to the manager.
@@ -26,8 +139,64 @@ public class InstanceManager {
    * @param instanceId unique id of the added object
    */
   public void addInstance(Object instance, long instanceId) {
-    instancesToInstanceIds.put(instance, instanceId);
-    instanceIdsToInstances.append(instanceId, instance);
+    instances.put(instanceId, instance);
+  }
+
+  /**
+   * Add a new instance to the manager that is only weakly referenced when weak references are
+   * enabled.
+   *
+   * <p>This should only be used for instances that are kept alive by another object for as long as
+   * they are useful, such as the {@link android.webkit.WebSettings} of a {@link
+   * android.webkit.WebView}. Otherwise this is the same as {@link #addInstance}.
+   *
+   * @param instance the new object to be added
+   * @param instanceId unique id of the added object
+   */
+  public void addWeakInstance(Object instance, long instanceId) {
+    if (weakReferencesEnabled) {
+      instances.putWeak(instanceId, instance, referenceQueue);
+    } else {
+      instances.put(instanceId, instance);
+    }
+  }
+
+  /**
+   * Sets whether instances added with {@link #addWeakInstance} are weakly referenced.
+   *
+   * <p>This only affects instances added afterwards.
+   *
+   * @param enabled whether weak references are enabled
+   */
+  public void setWeakReferencesEnabled(boolean enabled) {
+    weakReferencesEnabled = enabled;
+  }
+
+  /** Whether instances added with {@link #addWeakInstance} are weakly referenced. */
+  public boolean getWeakReferencesEnabled() {
+    return weakReferencesEnabled;
+  }
+
+  /** Whether the manager contains weakly referenced instances that have not been removed yet. */
+  public boolean hasWeakInstances() {
+    return instances.weakSize() > 0;
+  }
+
+  /**
+   * Remove the pairings of weakly referenced instances that have been garbage collected.
+   *
+   * @return the instanceIds of the removed pairings
+   */
+  public List<Long> removeCollectedInstances() {
+    final List<Long> instanceIds = new ArrayList<>();
+    Reference<?> reference;
+    while ((reference = referenceQueue.poll()) != null) {
+      final Long instanceId = instances.removeCollected(reference);
+      if (instanceId != null) {
+        instanceIds.add(instanceId);
+      }
+    }
+    return instanceIds;
   }
 
   /**
@@ -37,12 +206,7 @@ public class InstanceManager {
    * @return the removed instance if the manager contains the instanceId, otherwise null
    */
   public Object removeInstanceWithId(long instanceId) {
-    final Object instance = instanceIdsToInstances.get(instanceId);
-    if (instance != null) {
-      instanceIdsToInstances.remove(instanceId);
-      instancesToInstanceIds.remove(instance);
-    }
-    return instance;
+    return instances.removeId(instanceId);
   }
 
   /**
@@ -53,12 +217,7 @@ public class InstanceManager {
    *     null
    */
   public Long removeInstance(Object instance) {
-    final Long instanceId = instancesToInstanceIds.get(instance);
-    if (instanceId != null) {
-      instanceIdsToInstances.remove(instanceId);
-      instancesToInstanceIds.remove(instance);
-    }
-    return instanceId;
+    return instances.removeInstance(instance);
   }
 
   /**
@@ -69,7 +228,39 @@ public class InstanceManager {
    *     null
    */
   public Object getInstance(long instanceId) {
-    return instanceIdsToInstances.get(instanceId);
+    return instances.getInstance(instanceId);
+  }
+
+  /**
+   * Retrieve the instance paired with instanceId and check that it has the expected type.
+   *
+   * <p>InstanceIds created without a {@link TypeTag} are checked against the class of the
+   * instance instead.
+   *
+   * @param instanceId the instanceId of the desired instance
+   * @param typeTag the expected type of the instance
+   * @return the instance stored with the instanceId
+   * @throws IllegalStateException if the manager doesn't contain the instanceId, which happens when
+   *     the instance has been removed, or if the instance doesn't have the expected type
+   */
+  @NonNull
+  @SuppressWarnings("unchecked")
+  public <T> T getInstance(long instanceId, TypeTag<T> typeTag) {
+    final Object instance = instances.getInstance(instanceId);
+    if (instance == null) {
+      throw new IllegalStateException(
+          String.format(
+              "No %s with instanceId %d. It may have already been disposed.",
+              typeTag.type.getSimpleName(), instanceId));
+    }
+    final int tag = getTypeTag(instanceId);
+    if (tag != typeTag.value && (tag != 0 || !typeTag.type.isInstance(instance))) {
+      throw new IllegalStateException(
+          String.format(
+              "Instance with instanceId %d is not a %s.",
+              instanceId, typeTag.type.getSimpleName()));
+    }
+    return (T) instance;
   }
 
   /**
@@ -79,6 +270,73 @@ public class InstanceManager {
    * @return the instanceId paired with instance if the manager contains the value, otherwise null
    */
   public Long getInstanceId(Object instance) {
-    return instancesToInstanceIds.get(instance);
+    return instances.getId(instance);
+  }
+
+  /**
+   * Records that the instance with instanceId belongs to the instance with ownerInstanceId, such as
+   * the {@link WebSettings} or {@link WebViewClient} of a {@link WebView}.
+   *
+   * <p>Replaces any owner previously set for instanceId.
+   *
+   * @param instanceId the instanceId of the owned instance
+   * @param ownerInstanceId the instanceId of the owner
+   */
+  public void setOwner(long instanceId, long ownerInstanceId) {
+    synchronized (ownerInstanceIds) {
+      ownerInstanceIds.put(instanceId, ownerInstanceId);
+    }
+  }
+
+  /**
+   * Retrieve the occupancy of each {@link TypeTag} that has ever had an instance in the manager.
+   *
+   * @return the statistics, ordered by type tag value
+   */
+  public List<TypeStatistics> getStatistics() {
+    final long[] ageBucketBoundsNanos = new long[AGE_HISTOGRAM_BOUNDS_MILLIS.length];
+    for (int i = 0; i < ageBucketBoundsNanos.length; i++) {
+      ageBucketBoundsNanos[i] = TimeUnit.MILLISECONDS.toNanos(AGE_HISTOGRAM_BOUNDS_MILLIS[i]);
+    }
+    return instances.getStatistics(System.nanoTime(), ageBucketBoundsNanos);
+  }
+
+  /**
+   * Retrieve the instances that are still in the manager after their owner was removed.
+   *
+   * <p>An instance only has an owner once {@link #setOwner} has been called for it.
+   *
+   * @return the leaked instances
+   */
+  public List<LeakedInstance> getLeakedInstances() {
+    final long nowNanos = System.nanoTime();
+    final List<LeakedInstance> leakedInstances = new ArrayList<>();
+    synchronized (ownerInstanceIds) {
+      final Iterator<Map.Entry<Long, Long>> iterator = ownerInstanceIds.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<Long, Long> owner = iterator.next();
+        final long addedNanos = instances.getAddedNanos(owner.getKey());
+        if (addedNanos < 0) {
+          iterator.remove();
+        } else if (instances.getInstance(owner.getValue()) == null) {
+          leakedInstances.add(
+              new LeakedInstance(
+                  owner.getKey(),
+                  owner.getValue(),
+                  TimeUnit.NANOSECONDS.toMillis(nowNanos - addedNanos)));
+        }
+      }
+    }
+    return leakedInstances;
+  }
+
+  /** The slot encoded in the low bits of an instanceId. */
+  static int getSlot(long instanceId) {
+    return (int) instanceId & SLOT_MASK;
+  }
+
+  /** The value of the {@link TypeTag} encoded in an instanceId, or 0 if it has none. */
+  static int getTypeTag(long instanceId) {
+    return (int) (instanceId >>> SLOT_BITS) & TYPE_TAG_MASK;
   }
 }
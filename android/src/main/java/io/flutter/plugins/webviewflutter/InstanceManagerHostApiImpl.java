@@ -0,0 +1,215 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceCreationData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceTypeStatisticsData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.LeakedInstanceData;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Host api implementation for {@link InstanceManager}.
+ *
+ * <p>While weak references are enabled, periodically removes garbage collected instances from the
+ * {@link InstanceManager} and disposes the paired Dart objects in a single message.
+ *
+ * <p>Also reports the occupancy of the {@link InstanceManager} and the instances that outlived their
+ * owner, and creates or disposes a group of instances in a single message.
+ */
+public class InstanceManagerHostApiImpl implements InstanceManagerHostApi {
+  /** How often collected instances are looked for while weak references are in use. */
+  static final long COLLECTION_INTERVAL_MILLIS = 2000;
+
+  private final InstanceManager instanceManager;
+  private final InstanceManagerFlutterApi flutterApi;
+  private final Handler platformThreadHandler;
+  private final Runnable collectionRunnable = this::runCollection;
+  // Indexed by type tag.
+  private final CreateHandler[] createHandlers = new CreateHandler[InstanceManager.TYPE_TAG_COUNT];
+  // Indexed by type tag.
+  private final DisposeHandler[] disposeHandlers =
+      new DisposeHandler[InstanceManager.TYPE_TAG_COUNT];
+
+  /** Creates an instance from an element of {@link #createAll}. */
+  public interface CreateHandler {
+    /**
+     * Creates an instance and adds it to the {@link InstanceManager}.
+     *
+     * @param data the instanceId of the new instance and the arguments of its creation
+     */
+    void create(InstanceCreationData data);
+  }
+
+  /** Disposes an instance that {@link #disposeAll} removed from the {@link InstanceManager}. */
+  public interface DisposeHandler {
+    /**
+     * Disposes an instance that is no longer in the {@link InstanceManager}.
+     *
+     * @param instance the removed instance
+     */
+    void dispose(Object instance);
+  }
+
+  /**
+   * Creates a host API that handles the configuration of an {@link InstanceManager}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param flutterApi handles sending messages to Dart
+   * @param platformThreadHandler handler used to schedule removal of collected instances
+   */
+  public InstanceManagerHostApiImpl(
+      InstanceManager instanceManager,
+      InstanceManagerFlutterApi flutterApi,
+      Handler platformThreadHandler) {
+    this.instanceManager = instanceManager;
+    this.flutterApi = flutterApi;
+    this.platformThreadHandler = platformThreadHandler;
+  }
+
+  @Override
+  public void setWeakReferencesEnabled(Boolean enabled) {
+    instanceManager.setWeakReferencesEnabled(enabled);
+    platformThreadHandler.removeCallbacks(collectionRunnable);
+    if (enabled || instanceManager.hasWeakInstances()) {
+      platformThreadHandler.postDelayed(collectionRunnable, COLLECTION_INTERVAL_MILLIS);
+    }
+  }
+
+  /**
+   * Sets how {@link #createAll} creates instances with a {@link TypeTag}.
+   *
+   * @param typeTag the type of the instances
+   * @param createHandler creates the instances
+   */
+  public void setCreateHandler(TypeTag<?> typeTag, CreateHandler createHandler) {
+    createHandlers[typeTag.value] = createHandler;
+  }
+
+  /**
+   * Sets how {@link #disposeAll} disposes instances with a {@link TypeTag} instead of releasing
+   * them.
+   *
+   * @param typeTag the type of the instances
+   * @param disposeHandler disposes the instances
+   */
+  public void setDisposeHandler(TypeTag<?> typeTag, DisposeHandler disposeHandler) {
+    disposeHandlers[typeTag.value] = disposeHandler;
+  }
+
+  /**
+   * Creates instances in order, so an instance can reference one that precedes it.
+   *
+   * <p>The type of each instance is read from its instanceId. No instance is created if any of them
+   * has a type without a {@link CreateHandler}.
+   */
+  @Override
+  public void createAll(List<InstanceCreationData> instances) {
+    for (InstanceCreationData data : instances) {
+      final int typeTag = InstanceManager.getTypeTag(data.getInstanceId());
+      if (createHandlers[typeTag] == null) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Instance with instanceId %d has type tag %d, which can't be created in bulk.",
+                data.getInstanceId(), typeTag));
+      }
+    }
+    for (InstanceCreationData data : instances) {
+      createHandlers[InstanceManager.getTypeTag(data.getInstanceId())].create(data);
+    }
+  }
+
+  /**
+   * Removes instances from the {@link InstanceManager} and releases them.
+   *
+   * <p>Every pairing is removed before any instance is released, so instances that are released by
+   * their owner, such as the clients of a {@link android.webkit.WebView}, don't send a message to
+   * Dart to dispose themselves. Instances with a {@link DisposeHandler} for their type are disposed
+   * by it instead, e.g. so a {@link android.webkit.WebView} can be recycled.
+   */
+  @Override
+  public void disposeAll(List<Long> instanceIds) {
+    final List<Object> instances = new ArrayList<>(instanceIds.size());
+    final List<DisposeHandler> handlers = new ArrayList<>(instanceIds.size());
+    // Ids that fit in an int are decoded as Integers.
+    for (Object instanceId : instanceIds) {
+      final long id = ((Number) instanceId).longValue();
+      final Object instance = instanceManager.removeInstanceWithId(id);
+      if (instance != null) {
+        instances.add(instance);
+        handlers.add(disposeHandlers[InstanceManager.getTypeTag(id)]);
+      }
+    }
+    for (int i = 0; i < instances.size(); i++) {
+      final Object instance = instances.get(i);
+      final DisposeHandler handler = handlers.get(i);
+      if (handler != null) {
+        handler.dispose(instance);
+      } else if (instance instanceof Releasable) {
+        ((Releasable) instance).release();
+      }
+    }
+  }
+
+  @Override
+  public List<InstanceTypeStatisticsData> getStatistics() {
+    final List<InstanceTypeStatisticsData> data = new ArrayList<>();
+    for (InstanceManager.TypeStatistics statistics : instanceManager.getStatistics()) {
+      final List<Long> ageHistogram = new ArrayList<>(statistics.ageHistogram.length);
+      for (long count : statistics.ageHistogram) {
+        ageHistogram.add(count);
+      }
+      data.add(
+          new InstanceTypeStatisticsData.Builder()
+              .setTypeTag((long) statistics.typeTag)
+              .setLiveCount((long) statistics.liveCount)
+              .setHighWaterMark((long) statistics.highWaterMark)
+              .setAgeHistogram(ageHistogram)
+              .build());
+    }
+    return data;
+  }
+
+  @Override
+  public List<LeakedInstanceData> getLeakedInstances() {
+    final List<LeakedInstanceData> data = new ArrayList<>();
+    for (InstanceManager.LeakedInstance leakedInstance : instanceManager.getLeakedInstances()) {
+      data.add(
+          new LeakedInstanceData.Builder()
+              .setInstanceId(leakedInstance.instanceId)
+              .setOwnerInstanceId(leakedInstance.ownerInstanceId)
+              .setAgeMillis(leakedInstance.ageMillis)
+              .build());
+    }
+    return data;
+  }
+
+  /**
+   * Removes instances that have been garbage collected and tells Dart to dispose the paired
+   * objects.
+   */
+  public void disposeCollectedInstances() {
+    final List<Long> instanceIds = instanceManager.removeCollectedInstances();
+    if (!instanceIds.isEmpty()) {
+      flutterApi.disposeAll(instanceIds, reply -> {});
+    }
+  }
+
+  /** Stops looking for collected instances. */
+  public void release() {
+    platformThreadHandler.removeCallbacks(collectionRunnable);
+  }
+
+  private void runCollection() {
+    disposeCollectedInstances();
+    if (instanceManager.getWeakReferencesEnabled() || instanceManager.hasWeakInstances()) {
+      platformThreadHandler.postDelayed(collectionRunnable, COLLECTION_INTERVAL_MILLIS);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link BinaryMessenger} that records the traffic of each channel in a {@link
+ * BinaryMessengerStatistics}.
+ *
+ * <p>For sent messages the encoded size and the time until Dart replies are recorded. For received
+ * messages the encoded size and how long the handler ran are recorded. Handlers that reply
+ * asynchronously are only timed until they return. Handlers that run on a {@link TaskQueue} are
+ * timed on its thread.
+ */
+public class InstrumentedBinaryMessenger implements BinaryMessenger {
+  private final BinaryMessenger binaryMessenger;
+  private final BinaryMessengerStatistics statistics;
+
+  /**
+   * Creates a {@link BinaryMessenger} that records the traffic of {@code binaryMessenger}.
+   *
+   * @param binaryMessenger sends and receives the messages
+   * @param statistics records the traffic while it is enabled
+   */
+  public InstrumentedBinaryMessenger(
+      BinaryMessenger binaryMessenger, BinaryMessengerStatistics statistics) {
+    this.binaryMessenger = binaryMessenger;
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+    send(channel, message, null);
+  }
+
+  @Override
+  public void send(
+      @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+    if (!statistics.isEnabled()) {
+      binaryMessenger.send(channel, message, callback);
+      return;
+    }
+
+    // Encoded messages end at the position of the buffer.
+    statistics.recordMessage(channel, message != null ? message.position() : 0);
+    final long sentNanos = System.nanoTime();
+    binaryMessenger.send(
+        channel,
+        message,
+        reply -> {
+          statistics.recordReplyLatency(channel, System.nanoTime() - sentNanos);
+          if (callback != null) {
+            callback.reply(reply);
+          }
+        });
+  }
+
+  @Override
+  public TaskQueue makeBackgroundTaskQueue() {
+    return binaryMessenger.makeBackgroundTaskQueue();
+  }
+
+  @Override
+  public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+    binaryMessenger.setMessageHandler(channel, instrument(channel, handler));
+  }
+
+  @Override
+  public void setMessageHandler(
+      @NonNull String channel,
+      @Nullable BinaryMessageHandler handler,
+      @Nullable TaskQueue taskQueue) {
+    binaryMessenger.setMessageHandler(channel, instrument(channel, handler), taskQueue);
+  }
+
+  @Nullable
+  private BinaryMessageHandler instrument(String channel, @Nullable BinaryMessageHandler handler) {
+    if (handler == null) {
+      return null;
+    }
+
+    return (message, reply) -> {
+      if (!statistics.isEnabled()) {
+        handler.onMessage(message, reply);
+        return;
+      }
+
+      // Received messages start at the position of the buffer.
+      statistics.recordMessage(channel, message != null ? message.remaining() : 0);
+      final long startNanos = System.nanoTime();
+      try {
+        handler.onMessage(message, reply);
+      } finally {
+        statistics.recordHandlerTime(channel, System.nanoTime() - startNanos);
+      }
+    };
+  }
+}
@@ -22,7 +22,7 @@ import androidx.annotation.Nullable;
 public class JavaScriptChannel implements Releasable {
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
-  @Nullable private JavaScriptChannelFlutterApiImpl flutterApi;
+  @Nullable private volatile JavaScriptChannelFlutterApiImpl flutterApi;
 
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
@@ -44,17 +44,26 @@ public class JavaScriptChannel implements Releasable {
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(final String message) {
-    final Runnable postMessageRunnable =
-        () -> {
-          if (flutterApi != null) {
-            flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
-          }
-        };
+    final JavaScriptChannelFlutterApiImpl api = flutterApi;
+    if (api == null) {
+      return;
+    }
 
     if (platformThreadHandler.getLooper() == Looper.myLooper()) {
-      postMessageRunnable.run();
-    } else {
-      platformThreadHandler.post(postMessageRunnable);
+      api.postMessage(this, message, reply -> {});
+      return;
+    }
+
+    // Messages can only be sent to Dart on the platform thread, but the instance id can be resolved
+    // here so that nothing is posted for a channel that has already been removed.
+    final Long instanceId = api.getInstanceId(this);
+    if (instanceId != null) {
+      platformThreadHandler.post(
+          () -> {
+            if (flutterApi != null) {
+              api.postMessage(instanceId, message, reply -> {});
+            }
+          });
     }
   }
 
@@ -4,16 +4,21 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
 
 /**
  * Flutter Api implementation for {@link JavaScriptChannel}.
  *
- * <p>Passes arguments of callbacks methods from a {@link JavaScriptChannel} to Dart.
+ * <p>Passes arguments of callbacks methods from a {@link JavaScriptChannel} to Dart. Each method
+ * sends through a {@link PreboundChannel} instead of creating a channel per message.
  */
 public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
   private final InstanceManager instanceManager;
+  private final PreboundChannel<Reply<Void>> disposeChannel;
+  private final PreboundChannel<Reply<Void>> postMessageChannel;
 
   /**
    * Creates a Flutter api that sends messages to Dart.
@@ -25,6 +30,33 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
     this.instanceManager = instanceManager;
+    disposeChannel =
+        new PreboundChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.JavaScriptChannelFlutterApi.dispose",
+            getCodec(),
+            1,
+            JavaScriptChannelFlutterApiImpl::toChannelReply);
+    postMessageChannel =
+        new PreboundChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessage",
+            getCodec(),
+            2,
+            JavaScriptChannelFlutterApiImpl::toChannelReply);
+  }
+
+  /**
+   * Retrieves the instance id paired with a {@link JavaScriptChannel}.
+   *
+   * <p>Unlike sending messages, this can be called from any thread.
+   *
+   * @param javaScriptChannel the channel paired with the desired instance id
+   * @return the instance id, or null if the channel has been removed
+   */
+  @Nullable
+  public Long getInstanceId(JavaScriptChannel javaScriptChannel) {
+    return instanceManager.getInstanceId(javaScriptChannel);
   }
 
   /** Passes arguments from {@link JavaScriptChannel#postMessage} to Dart. */
@@ -47,4 +79,18 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
       callback.reply(null);
     }
   }
+
+  @Override
+  public void dispose(Long instanceIdArg, Reply<Void> callback) {
+    disposeChannel.send(instanceIdArg, callback);
+  }
+
+  @Override
+  public void postMessage(Long instanceIdArg, String messageArg, Reply<Void> callback) {
+    postMessageChannel.send(instanceIdArg, messageArg, callback);
+  }
+
+  private static BasicMessageChannel.Reply<Object> toChannelReply(Reply<Void> callback) {
+    return channelReply -> callback.reply(null);
+  }
 }
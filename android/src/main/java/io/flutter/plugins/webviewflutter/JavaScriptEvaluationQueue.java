@@ -0,0 +1,317 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.view.Choreographer;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the scripts that are queued for a {@link WebView} during a frame with a single call to
+ * {@link WebView#evaluateJavascript}.
+ *
+ * <p>Each call to {@link WebView#evaluateJavascript} is a round trip to the renderer, so bursts of
+ * small scripts, such as reading several values of the DOM once a page is finished, mostly wait on
+ * IPC. Scripts are queued until the next {@link Choreographer} frame, or {@link
+ * #FLUSH_TIMEOUT_MILLIS} if no frame is drawn. The scripts of a {@link WebView} are then merged
+ * into one script that evaluates each of them in order with an indirect {@code eval} and returns
+ * all of their results. A script that throws results in null, as it would on its own, without
+ * affecting the others.
+ *
+ * <p>The results of merged scripts are serialized with {@code JSON.stringify} instead of by the
+ * {@link WebView}, and declarations made with {@code let}, {@code const} or {@code class} are only
+ * visible to their own script. A single script is evaluated as is, and merged scripts are evaluated
+ * one by one when the page doesn't allow {@code eval}. If the merged script returns anything but
+ * the results or the marker of a blocked {@code eval}, its scripts fail instead. Only scripts that
+ * Dart evaluates with {@code evaluateJavascriptBatched} are queued.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+public class JavaScriptEvaluationQueue {
+  /** How long scripts may wait for a frame before they are evaluated anyway. */
+  static final long FLUSH_TIMEOUT_MILLIS = 100;
+
+  // Returned by the merged script, instead of any results, when eval is blocked by the
+  // Content-Security-Policy of the page. JSON.stringify escapes control characters, so no joined
+  // results can be equal to it.
+  static final String EVAL_BLOCKED = "\u0000csp";
+
+  // Returns EVAL_BLOCKED without evaluating anything if eval is blocked. Results are separated by
+  // new lines, which JSON.stringify never emits.
+  private static final String MERGED_SCRIPT_FORMAT =
+      "(function() {"
+          + "try { (0, eval)('0'); } catch (e) { return '\\u0000csp'; }"
+          + "var scripts = [%s];"
+          + "var results = [];"
+          + "for (var i = 0; i < scripts.length; i++) {"
+          + "try {"
+          + "var result = JSON.stringify((0, eval)(scripts[i]));"
+          + "results.push(result === undefined ? 'null' : result);"
+          + "} catch (e) { results.push('null'); }"
+          + "}"
+          + "return results.join('\\n');"
+          + "})()";
+
+  private final Choreographer choreographer;
+  private final Handler mainThreadHandler;
+  private final Map<WebView, List<QueuedScript>> queuedScripts = new LinkedHashMap<>();
+  private boolean flushScheduled;
+
+  private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> flush();
+  private final Runnable flushRunnable = this::flush;
+
+  private static class QueuedScript {
+    final String script;
+    final Result<String> result;
+
+    QueuedScript(String script, Result<String> result) {
+      this.script = script;
+      this.result = result;
+    }
+  }
+
+  /**
+   * Creates a queue that evaluates scripts on the next frame.
+   *
+   * @param choreographer schedules evaluating the scripts of a frame
+   * @param mainThreadHandler handler of the main thread that evaluates the scripts without a frame
+   */
+  public JavaScriptEvaluationQueue(
+      @NonNull Choreographer choreographer, @NonNull Handler mainThreadHandler) {
+    this.choreographer = choreographer;
+    this.mainThreadHandler = mainThreadHandler;
+  }
+
+  /**
+   * Queues a script.
+   *
+   * @param webView the {@link WebView} that evaluates the script
+   * @param script the script to evaluate
+   * @param result receives the result of the script as JSON
+   */
+  public void evaluate(@NonNull WebView webView, @NonNull String script, Result<String> result) {
+    List<QueuedScript> scripts = queuedScripts.get(webView);
+    if (scripts == null) {
+      scripts = new ArrayList<>();
+      queuedScripts.put(webView, scripts);
+    }
+    scripts.add(new QueuedScript(script, result));
+
+    if (!flushScheduled) {
+      flushScheduled = true;
+      choreographer.postFrameCallback(frameCallback);
+      mainThreadHandler.postDelayed(flushRunnable, FLUSH_TIMEOUT_MILLIS);
+    }
+  }
+
+  /** Evaluates the queued scripts of every {@link WebView} now instead of on the next frame. */
+  public void flush() {
+    if (flushScheduled) {
+      choreographer.removeFrameCallback(frameCallback);
+      mainThreadHandler.removeCallbacks(flushRunnable);
+      flushScheduled = false;
+    }
+
+    final Map<WebView, List<QueuedScript>> scripts = new LinkedHashMap<>(queuedScripts);
+    queuedScripts.clear();
+    for (Map.Entry<WebView, List<QueuedScript>> entry : scripts.entrySet()) {
+      evaluateScripts(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Evaluates the queued scripts of a {@link WebView} now.
+   *
+   * <p>Called before the {@link WebView} navigates, so its scripts run on the page they were queued
+   * for.
+   *
+   * @param webView the {@link WebView} whose scripts are evaluated
+   */
+  public void flush(@NonNull WebView webView) {
+    final List<QueuedScript> scripts = queuedScripts.remove(webView);
+    if (scripts != null) {
+      evaluateScripts(webView, scripts);
+    }
+  }
+
+  /**
+   * Fails the queued scripts of a {@link WebView} without evaluating them.
+   *
+   * <p>Called when the {@link WebView} is disposed or its renderer is gone, since the page that the
+   * scripts were queued for is gone too.
+   *
+   * @param webView the {@link WebView} whose scripts are dropped
+   */
+  public void cancel(@NonNull WebView webView) {
+    final List<QueuedScript> scripts = queuedScripts.remove(webView);
+    if (scripts == null) {
+      return;
+    }
+    for (QueuedScript queuedScript : scripts) {
+      queuedScript.result.error(
+          new IllegalStateException("The page that the script was queued for is gone."));
+    }
+  }
+
+  private static void evaluateScripts(WebView webView, List<QueuedScript> scripts) {
+    if (scripts.size() == 1) {
+      evaluateScript(webView, scripts.get(0));
+      return;
+    }
+
+    final StringBuilder quotedScripts = new StringBuilder();
+    for (QueuedScript queuedScript : scripts) {
+      if (quotedScripts.length() > 0) {
+        quotedScripts.append(',');
+      }
+      appendQuoted(quotedScripts, queuedScript.script);
+    }
+    webView.evaluateJavascript(
+        String.format(MERGED_SCRIPT_FORMAT, quotedScripts),
+        value -> {
+          final String joinedResults = unquote(value);
+          if (EVAL_BLOCKED.equals(joinedResults)) {
+            for (QueuedScript queuedScript : scripts) {
+              evaluateScript(webView, queuedScript);
+            }
+            return;
+          }
+          final String[] results = splitResults(joinedResults, scripts.size());
+          if (results == null) {
+            // The scripts may already have run, e.g. before the page navigated away, so they
+            // aren't evaluated again.
+            for (QueuedScript queuedScript : scripts) {
+              queuedScript.result.error(
+                  new IllegalStateException("The merged scripts returned " + value + "."));
+            }
+            return;
+          }
+          for (int i = 0; i < results.length; i++) {
+            scripts.get(i).result.success(results[i]);
+          }
+        });
+  }
+
+  private static void evaluateScript(WebView webView, QueuedScript queuedScript) {
+    webView.evaluateJavascript(queuedScript.script, queuedScript.result::success);
+  }
+
+  /**
+   * Splits the result of a merged script into the results of its scripts.
+   *
+   * @param joinedResults the result of the merged script, decoded with {@link #unquote}
+   * @param count the number of merged scripts
+   * @return the results as JSON, or null if there isn't a result for every script
+   */
+  @Nullable
+  static String[] splitResults(@Nullable String joinedResults, int count) {
+    if (joinedResults == null) {
+      return null;
+    }
+    final String[] results = joinedResults.split("\n", -1);
+    return results.length == count ? results : null;
+  }
+
+  // Appends a string as a JavaScript string literal.
+  static void appendQuoted(StringBuilder builder, String string) {
+    builder.append('"');
+    for (int i = 0; i < string.length(); i++) {
+      final char c = string.charAt(i);
+      switch (c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          // Line separators end string literals in older versions of JavaScript.
+          if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+            builder.append(String.format("\\u%04x", (int) c));
+          } else {
+            builder.append(c);
+          }
+      }
+    }
+    builder.append('"');
+  }
+
+  // Decodes a JSON string. Returns null if value isn't a JSON string.
+  @Nullable
+  static String unquote(@Nullable String value) {
+    if (value == null || value.length() < 2 || value.charAt(0) != '"') {
+      return null;
+    }
+
+    final StringBuilder builder = new StringBuilder(value.length());
+    final int end = value.length() - 1;
+    int i = 1;
+    while (i < end) {
+      final char c = value.charAt(i++);
+      if (c == '"') {
+        return null;
+      } else if (c != '\\') {
+        builder.append(c);
+        continue;
+      } else if (i == end) {
+        return null;
+      }
+
+      final char escaped = value.charAt(i++);
+      switch (escaped) {
+        case '"':
+        case '\\':
+        case '/':
+          builder.append(escaped);
+          break;
+        case 'b':
+          builder.append('\b');
+          break;
+        case 'f':
+          builder.append('\f');
+          break;
+        case 'n':
+          builder.append('\n');
+          break;
+        case 'r':
+          builder.append('\r');
+          break;
+        case 't':
+          builder.append('\t');
+          break;
+        case 'u':
+          if (i + 4 > end) {
+            return null;
+          }
+          try {
+            builder.append((char) Integer.parseInt(value.substring(i, i + 4), 16));
+          } catch (NumberFormatException exception) {
+            return null;
+          }
+          i += 4;
+          break;
+        default:
+          return null;
+      }
+    }
+    return value.charAt(end) == '"' ? builder.toString() : null;
+  }
+}
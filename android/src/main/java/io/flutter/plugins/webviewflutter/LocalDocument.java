@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+
+/**
+ * An HTML document that a {@link WebView} loads from UTF-8 bytes or a file instead of from its URL.
+ *
+ * <p>The {@link WebView} loads the URL of the document as usual and its {@link WebViewClient}
+ * answers the request with a response that streams the bytes or the file. Unlike {@link
+ * WebView#loadDataWithBaseURL}, the document never exists as a {@link String}, so large documents
+ * don't need twice their size in UTF-16 on the Java heap.
+ *
+ * <p>The document is served every time its URL is requested, e.g. on reload, until the {@link
+ * Host} is given another document or loads something else.
+ */
+class LocalDocument {
+  /**
+   * URL of documents that are loaded without a base URL.
+   *
+   * <p>The domain is reserved for local content by {@link WebView} and never resolves.
+   */
+  static final String DEFAULT_URL = "https://appassets.androidplatform.net/";
+
+  /** A {@link WebView} that serves a {@link LocalDocument} for its URL. */
+  interface Host {
+    /**
+     * Sets the document to serve.
+     *
+     * <p>The document is read on the thread that {@link WebViewClient#shouldInterceptRequest} is
+     * called on, so implementations must publish it safely.
+     *
+     * @param document the document, or null to stop serving one
+     */
+    void setLocalDocument(@Nullable LocalDocument document);
+
+    /** The document to serve, or null if there is none. */
+    @Nullable
+    LocalDocument getLocalDocument();
+  }
+
+  final String url;
+  @Nullable private final byte[] bytes;
+  @Nullable private final File file;
+
+  private LocalDocument(String url, @Nullable byte[] bytes, @Nullable File file) {
+    this.url = url;
+    this.bytes = bytes;
+    this.file = file;
+  }
+
+  /**
+   * Creates a document that is served from UTF-8 encoded bytes.
+   *
+   * @param url the URL of the document, or null to use {@link #DEFAULT_URL}
+   * @param bytes the UTF-8 encoded document, which must not be modified afterwards
+   */
+  static LocalDocument fromBytes(@Nullable String url, @NonNull byte[] bytes) {
+    return new LocalDocument(url != null ? url : DEFAULT_URL, bytes, null);
+  }
+
+  /**
+   * Creates a document that is streamed from a UTF-8 encoded file each time it is served.
+   *
+   * @param url the URL of the document, or null to use {@link #DEFAULT_URL}
+   * @param file the UTF-8 encoded document
+   */
+  static LocalDocument fromFile(@Nullable String url, @NonNull File file) {
+    return new LocalDocument(url != null ? url : DEFAULT_URL, null, file);
+  }
+
+  /**
+   * Returns a response with the document of {@code view} if {@code url} is the URL of the document.
+   *
+   * <p>The URL matches if it is the same, ignoring a trailing slash that {@link WebView} adds to
+   * URLs without a path.
+   *
+   * @param view the {@link WebView} that requests the URL
+   * @param url the requested URL
+   * @return the response, or null if the request should be loaded as usual
+   */
+  @Nullable
+  static WebResourceResponse intercept(WebView view, String url) {
+    if (!(view instanceof Host)) {
+      return null;
+    }
+    final LocalDocument document = ((Host) view).getLocalDocument();
+    if (document == null || !(url.equals(document.url) || url.equals(document.url + "/"))) {
+      return null;
+    }
+    // A response without data is shown as a failed load.
+    return new WebResourceResponse("text/html", "UTF-8", document.open());
+  }
+
+  @Nullable
+  private InputStream open() {
+    if (bytes != null) {
+      return new ByteArrayInputStream(bytes);
+    }
+    try {
+      return new FileInputStream(file);
+    } catch (FileNotFoundException exception) {
+      return null;
+    }
+  }
+}
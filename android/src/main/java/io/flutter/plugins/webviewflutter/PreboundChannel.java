@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Sends the messages of a single FlutterApi method.
+ *
+ * <p>The generated FlutterApis create a channel and an argument list for every send. This channel
+ * and the list that arguments are encoded from are created once and reused by every send instead.
+ * {@link BasicMessageChannel#send} encodes the list before it returns, so a send only holds the
+ * lock on this object until then. The reply passed to the channel is reused for as long as callers
+ * pass the same callback, which is the case for lambdas that don't capture anything.
+ *
+ * @param <C> the type of the callback of the FlutterApi method
+ */
+final class PreboundChannel<C> {
+  /** Adapts a callback of a FlutterApi to a reply of its channel. */
+  interface ReplyAdapter<C> {
+    BasicMessageChannel.Reply<Object> adapt(C callback);
+  }
+
+  private final BasicMessageChannel<Object> channel;
+  private final ArrayList<Object> arguments;
+  private final ReplyAdapter<C> replyAdapter;
+  private C callback;
+  private BasicMessageChannel.Reply<Object> channelReply;
+
+  /**
+   * Creates a channel of a FlutterApi method.
+   *
+   * @param binaryMessenger handles sending messages to Dart
+   * @param name the name of the channel of the method
+   * @param codec the codec of the FlutterApi
+   * @param argumentCount the number of arguments of the method
+   * @param replyAdapter adapts the callbacks that are passed to {@code send}
+   */
+  PreboundChannel(
+      BinaryMessenger binaryMessenger,
+      String name,
+      MessageCodec<Object> codec,
+      int argumentCount,
+      ReplyAdapter<C> replyAdapter) {
+    this.channel = new BasicMessageChannel<>(binaryMessenger, name, codec);
+    this.arguments = new ArrayList<>(Collections.nCopies(argumentCount, null));
+    this.replyAdapter = replyAdapter;
+  }
+
+  synchronized void send(Object arg0, C callback) {
+    arguments.set(0, arg0);
+    send(callback);
+  }
+
+  synchronized void send(Object arg0, Object arg1, C callback) {
+    arguments.set(0, arg0);
+    arguments.set(1, arg1);
+    send(callback);
+  }
+
+  synchronized void send(Object arg0, Object arg1, Object arg2, C callback) {
+    arguments.set(0, arg0);
+    arguments.set(1, arg1);
+    arguments.set(2, arg2);
+    send(callback);
+  }
+
+  synchronized void send(Object arg0, Object arg1, Object arg2, Object arg3, C callback) {
+    arguments.set(0, arg0);
+    arguments.set(1, arg1);
+    arguments.set(2, arg2);
+    arguments.set(3, arg3);
+    send(callback);
+  }
+
+  synchronized void send(
+      Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, C callback) {
+    arguments.set(0, arg0);
+    arguments.set(1, arg1);
+    arguments.set(2, arg2);
+    arguments.set(3, arg3);
+    arguments.set(4, arg4);
+    send(callback);
+  }
+
+  synchronized void send(
+      Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, C callback) {
+    arguments.set(0, arg0);
+    arguments.set(1, arg1);
+    arguments.set(2, arg2);
+    arguments.set(3, arg3);
+    arguments.set(4, arg4);
+    arguments.set(5, arg5);
+    send(callback);
+  }
+
+  // Must be called while holding the lock.
+  private void send(C callback) {
+    if (callback != this.callback) {
+      this.callback = callback;
+      this.channelReply = replyAdapter.adapt(callback);
+    }
+    channel.send(arguments, channelReply);
+    // Don't keep the arguments reachable until the next send.
+    Collections.fill(arguments, null);
+  }
+}
@@ -0,0 +1,30 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+/**
+ * Represents a {@link android.webkit.WebView} that can be reset and reused after the Dart object it
+ * was paired with is disposed.
+ */
+interface Recyclable {
+  /**
+   * Sets whether the WebView is kept when its platform view is disposed.
+   *
+   * <p>A recyclable WebView is only detached from its parent when its platform view is disposed,
+   * and whoever recycles it is responsible for destroying it if it isn't reused.
+   */
+  void setRecyclable(boolean recyclable);
+
+  /** Whether the WebView is kept when its platform view is disposed. */
+  boolean isRecyclable();
+
+  /**
+   * Detaches everything that Dart attached to the WebView, restores the default settings and loads
+   * a blank page.
+   *
+   * <p>The page of the previous owner stays in the history until the blank page commits.
+   */
+  void recycle();
+}
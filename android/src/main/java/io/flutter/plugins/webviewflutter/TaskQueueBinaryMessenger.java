@@ -0,0 +1,51 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link BinaryMessenger} that runs every message handler set on it on a single {@link TaskQueue}.
+ *
+ * <p>This lets a host API be set up on a background thread without changing its generated setup
+ * method. Handlers of the same {@link TaskQueue} never run concurrently when the queue is serial,
+ * which is the default of {@link BinaryMessenger#makeBackgroundTaskQueue()}. Messages are sent
+ * unchanged.
+ */
+public class TaskQueueBinaryMessenger implements BinaryMessenger {
+  private final BinaryMessenger binaryMessenger;
+  private final TaskQueue taskQueue;
+
+  /**
+   * Creates a {@link BinaryMessenger} that sets handlers on {@code binaryMessenger} to run on
+   * {@code taskQueue}.
+   *
+   * @param binaryMessenger sends and receives the messages
+   * @param taskQueue runs the message handlers
+   */
+  public TaskQueueBinaryMessenger(BinaryMessenger binaryMessenger, TaskQueue taskQueue) {
+    this.binaryMessenger = binaryMessenger;
+    this.taskQueue = taskQueue;
+  }
+
+  @Override
+  public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+    binaryMessenger.send(channel, message);
+  }
+
+  @Override
+  public void send(
+      @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+    binaryMessenger.send(channel, message, callback);
+  }
+
+  @Override
+  public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+    binaryMessenger.setMessageHandler(channel, handler, taskQueue);
+  }
+}
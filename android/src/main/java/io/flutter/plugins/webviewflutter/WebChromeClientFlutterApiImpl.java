@@ -6,16 +6,20 @@ package io.flutter.plugins.webviewflutter;
 
 import android.webkit.WebChromeClient;
 import android.webkit.WebView;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientFlutterApi;
 
 /**
  * Flutter Api implementation for {@link WebChromeClient}.
  *
- * <p>Passes arguments of callbacks methods from a {@link WebChromeClient} to Dart.
+ * <p>Passes arguments of callbacks methods from a {@link WebChromeClient} to Dart. Each method
+ * sends through a {@link PreboundChannel} instead of creating a channel per message.
  */
 public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
   private final InstanceManager instanceManager;
+  private final PreboundChannel<Reply<Void>> disposeChannel;
+  private final PreboundChannel<Reply<Void>> onProgressChangedChannel;
 
   /**
    * Creates a Flutter api that sends messages to Dart.
@@ -27,6 +31,20 @@ public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
     this.instanceManager = instanceManager;
+    disposeChannel =
+        new PreboundChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.WebChromeClientFlutterApi.dispose",
+            getCodec(),
+            1,
+            WebChromeClientFlutterApiImpl::toChannelReply);
+    onProgressChangedChannel =
+        new PreboundChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged",
+            getCodec(),
+            3,
+            WebChromeClientFlutterApiImpl::toChannelReply);
   }
 
   /** Passes arguments from {@link WebChromeClient#onProgressChanged} to Dart. */
@@ -53,4 +71,19 @@ public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
       callback.reply(null);
     }
   }
+
+  @Override
+  public void dispose(Long instanceIdArg, Reply<Void> callback) {
+    disposeChannel.send(instanceIdArg, callback);
+  }
+
+  @Override
+  public void onProgressChanged(
+      Long instanceIdArg, Long webViewInstanceIdArg, Long progressArg, Reply<Void> callback) {
+    onProgressChangedChannel.send(instanceIdArg, webViewInstanceIdArg, progressArg, callback);
+  }
+
+  private static BasicMessageChannel.Reply<Object> toChannelReply(Reply<Void> callback) {
+    return channelReply -> callback.reply(null);
+  }
 }
@@ -37,6 +37,7 @@ import java.util.List;
 
 import io.flutter.app.FlutterApplication;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
 
 /**
  * Host api implementation for {@link WebChromeClient}.
@@ -44,6 +45,11 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClient
  * <p>Handles creating {@link WebChromeClient}s that intercommunicate with a paired Dart object.
  */
 public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
+  // Bits of the callbacks a client sends to Dart. These match the indices of the values of
+  // WebChromeClientCallback in android_webview.dart.
+  static final long ON_PROGRESS_CHANGED = 1;
+  static final long ALL_CALLBACKS = (1 << 1) - 1;
+
   private final InstanceManager instanceManager;
   private final WebChromeClientCreator webChromeClientCreator;
   private final WebChromeClientFlutterApiImpl flutterApi;
@@ -61,6 +67,7 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
   public static class WebChromeClientImpl extends WebChromeClient implements Releasable {
     @Nullable private WebChromeClientFlutterApiImpl flutterApi;
     private WebViewClient webViewClient;
+    private long subscribedCallbacks = ALL_CALLBACKS;
 
     /**
      * Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart.
@@ -179,7 +186,7 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void onProgressChanged(WebView view, int progress) {
-      if (flutterApi != null) {
+      if (flutterApi != null && (subscribedCallbacks & ON_PROGRESS_CHANGED) != 0) {
         flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
       }
     }
@@ -194,6 +201,15 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
       this.webViewClient = webViewClient;
     }
 
+    /**
+     * Sets which callbacks are sent to Dart.
+     *
+     * @param callbacks bitmask of bits such as {@link WebChromeClientHostApiImpl#ON_PROGRESS_CHANGED}
+     */
+    public void setSubscribedCallbacks(long callbacks) {
+      subscribedCallbacks = callbacks;
+    }
+
     @Override
     public void release() {
       if (flutterApi != null) {
@@ -237,12 +253,19 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
   @Override
   public void create(Long instanceId, Long webViewClientInstanceId) {
     final WebViewClient webViewClient =
-        (WebViewClient) instanceManager.getInstance(webViewClientInstanceId);
+        instanceManager.getInstance(webViewClientInstanceId, TypeTag.WEB_VIEW_CLIENT);
     final WebChromeClient webChromeClient =
         webChromeClientCreator.createWebChromeClient(flutterApi, webViewClient);
     instanceManager.addInstance(webChromeClient, instanceId);
   }
 
+  @Override
+  public void setSubscribedCallbacks(Long instanceId, Long callbacks) {
+    final WebChromeClient webChromeClient =
+        instanceManager.getInstance(instanceId, TypeTag.WEB_CHROME_CLIENT);
+    ((WebChromeClientImpl) webChromeClient).setSubscribedCallbacks(callbacks);
+  }
+
   private static long getFileSize(Uri fileUri) {
     Cursor returnCursor = WebViewFlutterPlugin.activity.getApplicationContext().getContentResolver()
             .query(fileUri, null, null, null, null);
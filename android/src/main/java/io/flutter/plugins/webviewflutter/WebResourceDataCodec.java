@@ -0,0 +1,260 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceErrorData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceRequestData;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Codec that writes {@link WebResourceRequestData} and {@link WebResourceErrorData} with a fixed
+ * field layout instead of as maps.
+ *
+ * <p>Request headers with a name from {@link #HEADER_NAMES} are written as the index of the name. A
+ * request with {@link #OMITTED_REQUEST_HEADERS} is written with no headers and a flag, so the
+ * reader can tell omitted headers from a request without headers. Used by {@link
+ * WebViewClientFlutterApiImpl} for the callbacks that pass these classes.
+ *
+ * <p>The layout must match {@code WebResourceDataCodec} in lib/src/web_resource_data_codec.dart.
+ */
+class WebResourceDataCodec extends StandardMessageCodec {
+  static final WebResourceDataCodec INSTANCE = new WebResourceDataCodec();
+
+  /** Type of {@link WebResourceErrorData}, in the order Pigeon assigns types. */
+  static final byte WEB_RESOURCE_ERROR_DATA = (byte) 128;
+  /** Type of {@link WebResourceRequestData}, in the order Pigeon assigns types. */
+  static final byte WEB_RESOURCE_REQUEST_DATA = (byte) 129;
+
+  /**
+   * Request header names that are written as their index plus one. A header name written as 0 is
+   * followed by the name itself.
+   *
+   * <p>Only append to this list, since the index of a name is part of the message layout.
+   */
+  static final String[] HEADER_NAMES = {
+    "Accept",
+    "Accept-Encoding",
+    "Accept-Language",
+    "Authorization",
+    "Cache-Control",
+    "Connection",
+    "Content-Length",
+    "Content-Type",
+    "Cookie",
+    "DNT",
+    "Host",
+    "If-Modified-Since",
+    "If-None-Match",
+    "Origin",
+    "Pragma",
+    "Range",
+    "Referer",
+    "Save-Data",
+    "Sec-CH-UA",
+    "Sec-CH-UA-Mobile",
+    "Sec-CH-UA-Platform",
+    "Sec-Fetch-Dest",
+    "Sec-Fetch-Mode",
+    "Sec-Fetch-Site",
+    "Sec-Fetch-User",
+    "Upgrade-Insecure-Requests",
+    "User-Agent",
+    "X-Requested-With",
+  };
+
+  /**
+   * Headers of a request whose headers weren't included.
+   *
+   * <p>Compared by identity, so a request without headers isn't mistaken for one whose headers were
+   * omitted.
+   */
+  static final Map<String, String> OMITTED_REQUEST_HEADERS =
+      Collections.unmodifiableMap(new HashMap<>());
+
+  private static final Map<String, Integer> HEADER_NAME_INDICES = new HashMap<>();
+
+  static {
+    for (int i = 0; i < HEADER_NAMES.length; i++) {
+      HEADER_NAME_INDICES.put(HEADER_NAMES[i], i + 1);
+    }
+  }
+
+  private static final int IS_FOR_MAIN_FRAME = 1;
+  private static final int HAS_GESTURE = 1 << 1;
+  private static final int HAS_IS_REDIRECT = 1 << 2;
+  private static final int IS_REDIRECT = 1 << 3;
+  private static final int HEADERS_OMITTED = 1 << 4;
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  WebResourceDataCodec() {}
+
+  /**
+   * Encodes {@code message} into a new buffer.
+   *
+   * <p>As with {@link StandardMessageCodec}, the encoded message ends at the position of the
+   * returned buffer.
+   */
+  @Override
+  @Nullable
+  public ByteBuffer encodeMessage(@Nullable Object message) {
+    if (message == null) {
+      return null;
+    }
+    final MessageBuffer stream = new MessageBuffer();
+    writeValue(stream, message);
+    return stream.toByteBuffer();
+  }
+
+  @Override
+  protected void writeValue(@NonNull ByteArrayOutputStream stream, @Nullable Object value) {
+    if (value instanceof WebResourceErrorData) {
+      stream.write(WEB_RESOURCE_ERROR_DATA);
+      writeError(stream, (WebResourceErrorData) value);
+    } else if (value instanceof WebResourceRequestData) {
+      stream.write(WEB_RESOURCE_REQUEST_DATA);
+      writeRequest(stream, (WebResourceRequestData) value);
+    } else {
+      super.writeValue(stream, value);
+    }
+  }
+
+  @Override
+  protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+    switch (type) {
+      case WEB_RESOURCE_ERROR_DATA:
+        return readError(buffer);
+      case WEB_RESOURCE_REQUEST_DATA:
+        return readRequest(buffer);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+
+  private static void writeError(ByteArrayOutputStream stream, WebResourceErrorData error) {
+    writeInt(stream, error.getErrorCode().intValue());
+    writeString(stream, error.getDescription());
+  }
+
+  private static WebResourceErrorData readError(ByteBuffer buffer) {
+    return new WebResourceErrorData.Builder()
+        .setErrorCode((long) buffer.getInt())
+        .setDescription(readString(buffer))
+        .build();
+  }
+
+  private static void writeRequest(ByteArrayOutputStream stream, WebResourceRequestData request) {
+    final Map<String, String> headers = request.getRequestHeaders();
+    int flags = 0;
+    if (request.getIsForMainFrame()) {
+      flags |= IS_FOR_MAIN_FRAME;
+    }
+    if (request.getHasGesture()) {
+      flags |= HAS_GESTURE;
+    }
+    if (request.getIsRedirect() != null) {
+      flags |= HAS_IS_REDIRECT;
+      if (request.getIsRedirect()) {
+        flags |= IS_REDIRECT;
+      }
+    }
+    if (headers == OMITTED_REQUEST_HEADERS) {
+      flags |= HEADERS_OMITTED;
+    }
+    stream.write(flags);
+    writeString(stream, request.getUrl());
+    writeString(stream, request.getMethod());
+
+    writeSize(stream, headers.size());
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      final Integer nameIndex = HEADER_NAME_INDICES.get(header.getKey());
+      if (nameIndex != null) {
+        stream.write(nameIndex);
+      } else {
+        stream.write(0);
+        writeString(stream, header.getKey());
+      }
+      writeString(stream, header.getValue());
+    }
+  }
+
+  private static WebResourceRequestData readRequest(ByteBuffer buffer) {
+    final int flags = buffer.get();
+    final WebResourceRequestData.Builder request =
+        new WebResourceRequestData.Builder()
+            .setIsForMainFrame((flags & IS_FOR_MAIN_FRAME) != 0)
+            .setHasGesture((flags & HAS_GESTURE) != 0)
+            .setUrl(readString(buffer))
+            .setMethod(readString(buffer));
+    if ((flags & HAS_IS_REDIRECT) != 0) {
+      request.setIsRedirect((flags & IS_REDIRECT) != 0);
+    }
+
+    final int headerCount = readSize(buffer);
+    if ((flags & HEADERS_OMITTED) != 0) {
+      return request.setRequestHeaders(OMITTED_REQUEST_HEADERS).build();
+    }
+    final Map<String, String> headers = new LinkedHashMap<>(headerCount * 2);
+    for (int i = 0; i < headerCount; i++) {
+      final int nameIndex = buffer.get() & 0xff;
+      final String name = nameIndex != 0 ? HEADER_NAMES[nameIndex - 1] : readString(buffer);
+      headers.put(name, readString(buffer));
+    }
+    return request.setRequestHeaders(headers).build();
+  }
+
+  // Writes ASCII strings without allocating, which covers nearly every url, method and header.
+  private static void writeString(ByteArrayOutputStream stream, String value) {
+    final int length = value.length();
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) >= 0x80) {
+        writeBytes(stream, value.getBytes(UTF8));
+        return;
+      }
+    }
+    writeSize(stream, length);
+    if (stream instanceof MessageBuffer) {
+      ((MessageBuffer) stream).writeAscii(value);
+      return;
+    }
+    for (int i = 0; i < length; i++) {
+      stream.write(value.charAt(i));
+    }
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    return new String(readBytes(buffer), UTF8);
+  }
+
+  /** Stream that is copied into a direct buffer without an intermediate byte array. */
+  private static final class MessageBuffer extends ByteArrayOutputStream {
+    // Unlike write(int), this doesn't take the lock of the stream for every byte.
+    void writeAscii(String value) {
+      final int length = value.length();
+      if (count + length > buf.length) {
+        buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + length));
+      }
+      for (int i = 0; i < length; i++) {
+        buf[count++] = (byte) value.charAt(i);
+      }
+    }
+
+    ByteBuffer toByteBuffer() {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(count);
+      buffer.put(buf, 0, count);
+      return buffer;
+    }
+  }
+}
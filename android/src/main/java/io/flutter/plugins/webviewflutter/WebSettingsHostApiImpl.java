@@ -4,18 +4,30 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.content.Context;
+import android.os.Build;
 import android.webkit.WebSettings;
 import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsData;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
+import io.flutter.plugins.webviewflutter.WebSettingsMirror.Setting;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Host api implementation for {@link WebSettings}.
  *
  * <p>Handles creating {@link WebSettings}s that intercommunicate with a paired Dart object.
+ *
+ * <p>Values are only passed to a {@link WebSettings} when they differ from the value that was last
+ * applied to it, see {@link WebSettingsMirror}.
  */
 public class WebSettingsHostApiImpl implements WebSettingsHostApi {
   private final InstanceManager instanceManager;
   private final WebSettingsCreator webSettingsCreator;
+  // WebSettings are owned by their WebView, so their mirrors are dropped along with them.
+  private final Map<WebSettings, WebSettingsMirror> mirrors = new WeakHashMap<>();
 
   /** Handles creating {@link WebSettings} for a {@link WebSettingsHostApiImpl}. */
   public static class WebSettingsCreator {
@@ -44,8 +56,12 @@ public class WebSettingsHostApiImpl implements WebSettingsHostApi {
 
   @Override
   public void create(Long instanceId, Long webViewInstanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
-    instanceManager.addInstance(webSettingsCreator.createWebSettings(webView), instanceId);
+    final WebView webView = instanceManager.getInstance(webViewInstanceId, TypeTag.WEB_VIEW);
+    final WebSettings webSettings = webSettingsCreator.createWebSettings(webView);
+    // A recycled WebView keeps its WebSettings, whose values were restored without the mirror.
+    mirrors.remove(webSettings);
+    instanceManager.addWeakInstance(webSettings, instanceId);
+    instanceManager.setOwner(instanceId, webViewInstanceId);
   }
 
   @Override
@@ -55,73 +71,198 @@ public class WebSettingsHostApiImpl implements WebSettingsHostApi {
 
   @Override
   public void setDomStorageEnabled(Long instanceId, Boolean flag) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setDomStorageEnabled(flag);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.DOM_STORAGE_ENABLED, flag)) {
+      webSettings.setDomStorageEnabled(flag);
+    }
   }
 
   @Override
   public void setJavaScriptCanOpenWindowsAutomatically(Long instanceId, Boolean flag) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setJavaScriptCanOpenWindowsAutomatically(flag);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.JAVA_SCRIPT_CAN_OPEN_WINDOWS_AUTOMATICALLY, flag)) {
+      webSettings.setJavaScriptCanOpenWindowsAutomatically(flag);
+    }
   }
 
   @Override
   public void setSupportMultipleWindows(Long instanceId, Boolean support) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setSupportMultipleWindows(support);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.SUPPORT_MULTIPLE_WINDOWS, support)) {
+      webSettings.setSupportMultipleWindows(support);
+    }
   }
 
   @Override
   public void setJavaScriptEnabled(Long instanceId, Boolean flag) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setJavaScriptEnabled(flag);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.JAVA_SCRIPT_ENABLED, flag)) {
+      webSettings.setJavaScriptEnabled(flag);
+    }
   }
 
   @Override
   public void setUserAgentString(Long instanceId, String userAgentString) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setUserAgentString(userAgentString);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.USER_AGENT_STRING, userAgentString)) {
+      webSettings.setUserAgentString(userAgentString);
+    }
   }
 
   @Override
   public void setMediaPlaybackRequiresUserGesture(Long instanceId, Boolean require) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setMediaPlaybackRequiresUserGesture(require);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.MEDIA_PLAYBACK_REQUIRES_USER_GESTURE, require)) {
+      webSettings.setMediaPlaybackRequiresUserGesture(require);
+    }
   }
 
   @Override
   public void setSupportZoom(Long instanceId, Boolean support) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setSupportZoom(support);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.SUPPORT_ZOOM, support)) {
+      webSettings.setSupportZoom(support);
+    }
   }
 
   @Override
   public void setLoadWithOverviewMode(Long instanceId, Boolean overview) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setLoadWithOverviewMode(overview);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.LOAD_WITH_OVERVIEW_MODE, overview)) {
+      webSettings.setLoadWithOverviewMode(overview);
+    }
   }
 
   @Override
   public void setUseWideViewPort(Long instanceId, Boolean use) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setUseWideViewPort(use);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.USE_WIDE_VIEW_PORT, use)) {
+      webSettings.setUseWideViewPort(use);
+    }
   }
 
   @Override
   public void setDisplayZoomControls(Long instanceId, Boolean enabled) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setDisplayZoomControls(enabled);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.DISPLAY_ZOOM_CONTROLS, enabled)) {
+      webSettings.setDisplayZoomControls(enabled);
+    }
   }
 
   @Override
   public void setBuiltInZoomControls(Long instanceId, Boolean enabled) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setBuiltInZoomControls(enabled);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.BUILT_IN_ZOOM_CONTROLS, enabled)) {
+      webSettings.setBuiltInZoomControls(enabled);
+    }
   }
 
   @Override
   public void setAllowFileAccess(Long instanceId, Boolean enabled) {
-    final WebSettings webSettings = (WebSettings) instanceManager.getInstance(instanceId);
-    webSettings.setAllowFileAccess(enabled);
+    final WebSettings webSettings = instanceManager.getInstance(instanceId, TypeTag.WEB_SETTINGS);
+    if (getMirror(webSettings).update(Setting.ALLOW_FILE_ACCESS, enabled)) {
+      webSettings.setAllowFileAccess(enabled);
+    }
+  }
+
+  /**
+   * Applies each setting of {@code settings} that is not null as if its setter had been called.
+   *
+   * <p>Null settings are left unchanged, so an empty user agent string resets the user agent.
+   */
+  @Override
+  public void applySettings(Long instanceId, WebSettingsData settings) {
+    if (settings.getDomStorageEnabled() != null) {
+      setDomStorageEnabled(instanceId, settings.getDomStorageEnabled());
+    }
+    if (settings.getJavaScriptCanOpenWindowsAutomatically() != null) {
+      setJavaScriptCanOpenWindowsAutomatically(
+          instanceId, settings.getJavaScriptCanOpenWindowsAutomatically());
+    }
+    if (settings.getSupportMultipleWindows() != null) {
+      setSupportMultipleWindows(instanceId, settings.getSupportMultipleWindows());
+    }
+    if (settings.getJavaScriptEnabled() != null) {
+      setJavaScriptEnabled(instanceId, settings.getJavaScriptEnabled());
+    }
+    if (settings.getUserAgentString() != null) {
+      setUserAgentString(instanceId, settings.getUserAgentString());
+    }
+    if (settings.getMediaPlaybackRequiresUserGesture() != null) {
+      setMediaPlaybackRequiresUserGesture(
+          instanceId, settings.getMediaPlaybackRequiresUserGesture());
+    }
+    if (settings.getSupportZoom() != null) {
+      setSupportZoom(instanceId, settings.getSupportZoom());
+    }
+    if (settings.getLoadWithOverviewMode() != null) {
+      setLoadWithOverviewMode(instanceId, settings.getLoadWithOverviewMode());
+    }
+    if (settings.getUseWideViewPort() != null) {
+      setUseWideViewPort(instanceId, settings.getUseWideViewPort());
+    }
+    if (settings.getDisplayZoomControls() != null) {
+      setDisplayZoomControls(instanceId, settings.getDisplayZoomControls());
+    }
+    if (settings.getBuiltInZoomControls() != null) {
+      setBuiltInZoomControls(instanceId, settings.getBuiltInZoomControls());
+    }
+    if (settings.getAllowFileAccess() != null) {
+      setAllowFileAccess(instanceId, settings.getAllowFileAccess());
+    }
+  }
+
+  /**
+   * Restores the default value of every setting that Dart can change.
+   *
+   * @param webSettings the settings to restore
+   * @param context the context of the {@link WebView} that owns the settings
+   */
+  static void resetToDefaults(WebSettings webSettings, Context context) {
+    webSettings.setDomStorageEnabled(false);
+    webSettings.setJavaScriptCanOpenWindowsAutomatically(false);
+    webSettings.setSupportMultipleWindows(false);
+    webSettings.setJavaScriptEnabled(false);
+    webSettings.setUserAgentString(null);
+    webSettings.setMediaPlaybackRequiresUserGesture(true);
+    webSettings.setSupportZoom(true);
+    webSettings.setLoadWithOverviewMode(false);
+    webSettings.setUseWideViewPort(false);
+    webSettings.setDisplayZoomControls(true);
+    webSettings.setBuiltInZoomControls(false);
+    // File access is disabled by default for apps that target Android R and above.
+    webSettings.setAllowFileAccess(
+        context.getApplicationInfo().targetSdkVersion < Build.VERSION_CODES.R);
+  }
+
+  /**
+   * Applies every setting that Dart can change from one {@link WebSettings} to another.
+   *
+   * @param source the settings to copy
+   * @param target the settings to change, e.g. of a {@link WebView} that replaces another
+   */
+  static void copySettings(WebSettings source, WebSettings target) {
+    target.setDomStorageEnabled(source.getDomStorageEnabled());
+    target.setJavaScriptCanOpenWindowsAutomatically(
+        source.getJavaScriptCanOpenWindowsAutomatically());
+    target.setSupportMultipleWindows(source.supportMultipleWindows());
+    target.setJavaScriptEnabled(source.getJavaScriptEnabled());
+    target.setUserAgentString(source.getUserAgentString());
+    target.setMediaPlaybackRequiresUserGesture(source.getMediaPlaybackRequiresUserGesture());
+    target.setSupportZoom(source.supportZoom());
+    target.setLoadWithOverviewMode(source.getLoadWithOverviewMode());
+    target.setUseWideViewPort(source.getUseWideViewPort());
+    target.setDisplayZoomControls(source.getDisplayZoomControls());
+    target.setBuiltInZoomControls(source.getBuiltInZoomControls());
+    target.setAllowFileAccess(source.getAllowFileAccess());
+  }
+
+  private WebSettingsMirror getMirror(WebSettings webSettings) {
+    WebSettingsMirror mirror = mirrors.get(webSettings);
+    if (mirror == null) {
+      mirror = new WebSettingsMirror();
+      mirrors.put(webSettings, mirror);
+    }
+    return mirror;
   }
 }
@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebSettings;
+import androidx.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The values that have been applied to a {@link WebSettings}.
+ *
+ * <p>Every {@link WebSettings} setter calls into the WebView provider, even when the value doesn't
+ * change, and Dart applies all of its settings again whenever one of them is updated. A mirror
+ * remembers the last value applied to each setting so that only changed values are passed on.
+ * Settings that have never been applied are unknown and always passed on.
+ *
+ * <p>A mirror is only accurate if every change of its {@link WebSettings} goes through it.
+ */
+class WebSettingsMirror {
+  /** A setting of a {@link WebSettings} that is tracked by a {@link WebSettingsMirror}. */
+  enum Setting {
+    DOM_STORAGE_ENABLED,
+    JAVA_SCRIPT_CAN_OPEN_WINDOWS_AUTOMATICALLY,
+    SUPPORT_MULTIPLE_WINDOWS,
+    JAVA_SCRIPT_ENABLED,
+    USER_AGENT_STRING,
+    MEDIA_PLAYBACK_REQUIRES_USER_GESTURE,
+    SUPPORT_ZOOM,
+    LOAD_WITH_OVERVIEW_MODE,
+    USE_WIDE_VIEW_PORT,
+    DISPLAY_ZOOM_CONTROLS,
+    BUILT_IN_ZOOM_CONTROLS,
+    ALLOW_FILE_ACCESS
+  }
+
+  private final Map<Setting, Object> values = new EnumMap<>(Setting.class);
+
+  /**
+   * Records the value of a setting that is about to be applied.
+   *
+   * @param setting the setting
+   * @param value the new value of the setting
+   * @return whether the value differs from the last value that was applied and must be applied
+   */
+  boolean update(Setting setting, @Nullable Object value) {
+    if (values.containsKey(setting) && Objects.equals(values.get(setting), value)) {
+      return false;
+    }
+    values.put(setting, value);
+    return true;
+  }
+}
@@ -6,11 +6,15 @@ package io.flutter.plugins.webviewflutter;
 
 import android.webkit.WebStorage;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
 
 /**
  * Host api implementation for {@link WebStorage}.
  *
  * <p>Handles creating {@link WebStorage}s that intercommunicate with a paired Dart object.
+ *
+ * <p>Methods may be called on a background thread. {@link WebStorage} forwards its calls to the
+ * platform thread itself, and the {@link InstanceManager} is thread-safe.
  */
 public class WebStorageHostApiImpl implements WebStorageHostApi {
   private final InstanceManager instanceManager;
@@ -42,12 +46,12 @@ public class WebStorageHostApiImpl implements WebStorageHostApi {
 
   @Override
   public void create(Long instanceId) {
-    instanceManager.addInstance(webStorageCreator.createWebStorage(), instanceId);
+    instanceManager.addWeakInstance(webStorageCreator.createWebStorage(), instanceId);
   }
 
   @Override
   public void deleteAllData(Long instanceId) {
-    final WebStorage webStorage = (WebStorage) instanceManager.getInstance(instanceId);
+    final WebStorage webStorage = instanceManager.getInstance(instanceId, TypeTag.WEB_STORAGE);
     webStorage.deleteAllData();
   }
 }
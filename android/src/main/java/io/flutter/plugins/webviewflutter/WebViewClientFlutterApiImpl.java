@@ -12,17 +12,32 @@ import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceErrorData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceRequestData;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFlutterApi;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Flutter Api implementation for {@link WebViewClient}.
  *
- * <p>Passes arguments of callbacks methods from a {@link WebViewClient} to Dart.
+ * <p>Passes arguments of callbacks methods from a {@link WebViewClient} to Dart. Each method sends
+ * through a {@link PreboundChannel} instead of creating a channel per message. Callbacks with a
+ * {@link WebResourceRequestData} are encoded with a {@link WebResourceDataCodec} instead of the
+ * generated codec, and must be decoded with the {@code WebResourceDataCodec} of Dart.
  */
 public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
   private final InstanceManager instanceManager;
+  private final PreboundChannel<Reply<Void>> disposeChannel;
+  private final PreboundChannel<Reply<Void>> onPageStartedChannel;
+  private final PreboundChannel<Reply<Void>> onPageFinishedChannel;
+  private final PreboundChannel<Reply<Void>> onReceivedRequestErrorChannel;
+  private final PreboundChannel<Reply<Void>> onReceivedErrorChannel;
+  private final PreboundChannel<Reply<Void>> requestLoadingChannel;
+  private final PreboundChannel<Reply<Void>> urlLoadingChannel;
 
   @RequiresApi(api = Build.VERSION_CODES.M)
   static GeneratedAndroidWebView.WebResourceErrorData createWebResourceErrorData(
@@ -42,19 +57,27 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
         .build();
   }
 
+  /**
+   * Creates the data of a request that is sent to Dart.
+   *
+   * @param request the request of a {@link WebViewClient} callback
+   * @param includesRequestHeaders whether the headers are copied, or replaced with {@link
+   *     WebResourceDataCodec#OMITTED_REQUEST_HEADERS}
+   */
   @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
   static GeneratedAndroidWebView.WebResourceRequestData createWebResourceRequestData(
-      WebResourceRequest request) {
+      WebResourceRequest request, boolean includesRequestHeaders) {
+    final Map<String, String> requestHeaders =
+        includesRequestHeaders
+            ? request.getRequestHeaders()
+            : WebResourceDataCodec.OMITTED_REQUEST_HEADERS;
     final GeneratedAndroidWebView.WebResourceRequestData.Builder requestData =
         new GeneratedAndroidWebView.WebResourceRequestData.Builder()
             .setUrl(request.getUrl().toString())
             .setIsForMainFrame(request.isForMainFrame())
             .setHasGesture(request.hasGesture())
             .setMethod(request.getMethod())
-            .setRequestHeaders(
-                request.getRequestHeaders() != null
-                    ? request.getRequestHeaders()
-                    : new HashMap<>());
+            .setRequestHeaders(requestHeaders != null ? requestHeaders : new HashMap<>());
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
       requestData.setIsRedirect(request.isRedirect());
     }
@@ -72,6 +95,15 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
     this.instanceManager = instanceManager;
+    disposeChannel = bind(binaryMessenger, "dispose", getCodec(), 1);
+    onPageStartedChannel = bind(binaryMessenger, "onPageStarted", getCodec(), 3);
+    onPageFinishedChannel = bind(binaryMessenger, "onPageFinished", getCodec(), 3);
+    onReceivedRequestErrorChannel =
+        bind(binaryMessenger, "onReceivedRequestError", WebResourceDataCodec.INSTANCE, 4);
+    onReceivedErrorChannel = bind(binaryMessenger, "onReceivedError", getCodec(), 5);
+    requestLoadingChannel =
+        bind(binaryMessenger, "requestLoading", WebResourceDataCodec.INSTANCE, 3);
+    urlLoadingChannel = bind(binaryMessenger, "urlLoading", getCodec(), 3);
   }
 
   /** Passes arguments from {@link WebViewClient#onPageStarted} to Dart. */
@@ -104,11 +136,12 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       WebView webView,
       WebResourceRequest request,
       WebResourceError error,
+      boolean includesRequestHeaders,
       Reply<Void> callback) {
     onReceivedRequestError(
         instanceManager.getInstanceId(webViewClient),
         instanceManager.getInstanceId(webView),
-        createWebResourceRequestData(request),
+        createWebResourceRequestData(request, includesRequestHeaders),
         createWebResourceErrorData(error),
         callback);
   }
@@ -123,11 +156,12 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       WebView webView,
       WebResourceRequest request,
       WebResourceErrorCompat error,
+      boolean includesRequestHeaders,
       Reply<Void> callback) {
     onReceivedRequestError(
         instanceManager.getInstanceId(webViewClient),
         instanceManager.getInstanceId(webView),
-        createWebResourceRequestData(request),
+        createWebResourceRequestData(request, includesRequestHeaders),
         createWebResourceErrorData(error),
         callback);
   }
@@ -161,11 +195,12 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       WebViewClient webViewClient,
       WebView webView,
       WebResourceRequest request,
+      boolean includesRequestHeaders,
       Reply<Void> callback) {
     requestLoading(
         instanceManager.getInstanceId(webViewClient),
         instanceManager.getInstanceId(webView),
-        createWebResourceRequestData(request),
+        createWebResourceRequestData(request, includesRequestHeaders),
         callback);
   }
 
@@ -195,4 +230,76 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       callback.reply(null);
     }
   }
+
+  @Override
+  public void dispose(Long instanceIdArg, Reply<Void> callback) {
+    disposeChannel.send(instanceIdArg, callback);
+  }
+
+  @Override
+  public void onPageStarted(
+      Long instanceIdArg, Long webViewInstanceIdArg, String urlArg, Reply<Void> callback) {
+    onPageStartedChannel.send(instanceIdArg, webViewInstanceIdArg, urlArg, callback);
+  }
+
+  @Override
+  public void onPageFinished(
+      Long instanceIdArg, Long webViewInstanceIdArg, String urlArg, Reply<Void> callback) {
+    onPageFinishedChannel.send(instanceIdArg, webViewInstanceIdArg, urlArg, callback);
+  }
+
+  @Override
+  public void onReceivedRequestError(
+      Long instanceIdArg,
+      Long webViewInstanceIdArg,
+      WebResourceRequestData requestArg,
+      WebResourceErrorData errorArg,
+      Reply<Void> callback) {
+    onReceivedRequestErrorChannel.send(
+        instanceIdArg, webViewInstanceIdArg, requestArg, errorArg, callback);
+  }
+
+  @Override
+  public void onReceivedError(
+      Long instanceIdArg,
+      Long webViewInstanceIdArg,
+      Long errorCodeArg,
+      String descriptionArg,
+      String failingUrlArg,
+      Reply<Void> callback) {
+    onReceivedErrorChannel.send(
+        instanceIdArg, webViewInstanceIdArg, errorCodeArg, descriptionArg, failingUrlArg, callback);
+  }
+
+  @Override
+  public void requestLoading(
+      Long instanceIdArg,
+      Long webViewInstanceIdArg,
+      WebResourceRequestData requestArg,
+      Reply<Void> callback) {
+    requestLoadingChannel.send(instanceIdArg, webViewInstanceIdArg, requestArg, callback);
+  }
+
+  @Override
+  public void urlLoading(
+      Long instanceIdArg, Long webViewInstanceIdArg, String urlArg, Reply<Void> callback) {
+    urlLoadingChannel.send(instanceIdArg, webViewInstanceIdArg, urlArg, callback);
+  }
+
+  private static PreboundChannel<Reply<Void>> bind(
+      BinaryMessenger binaryMessenger,
+      String method,
+      MessageCodec<Object> codec,
+      int argumentCount) {
+    return new PreboundChannel<>(
+        binaryMessenger,
+        "dev.flutter.pigeon.WebViewClientFlutterApi." + method,
+        codec,
+        argumentCount,
+        WebViewClientFlutterApiImpl::toChannelReply);
+  }
+
+  private static BasicMessageChannel.Reply<Object> toChannelReply(Reply<Void> callback) {
+    return channelReply -> callback.reply(null);
+  }
 }
@@ -9,8 +9,10 @@ import android.annotation.TargetApi;
 import android.graphics.Bitmap;
 import android.os.Build;
 import android.view.KeyEvent;
+import android.webkit.RenderProcessGoneDetail;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
@@ -18,6 +20,7 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import androidx.webkit.WebViewClientCompat;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
 
 /**
  * Host api implementation for {@link WebViewClient}.
@@ -25,6 +28,16 @@ import androidx.webkit.WebViewClientCompat;
  * <p>Handles creating {@link WebViewClient}s that intercommunicate with a paired Dart object.
  */
 public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebViewClientHostApi {
+  // Bits of the callbacks a client sends to Dart. These match the indices of the values of
+  // WebViewClientCallback in android_webview.dart.
+  static final long ON_PAGE_STARTED = 1;
+  static final long ON_PAGE_FINISHED = 1 << 1;
+  static final long ON_RECEIVED_REQUEST_ERROR = 1 << 2;
+  static final long ON_RECEIVED_ERROR = 1 << 3;
+  static final long REQUEST_LOADING = 1 << 4;
+  static final long URL_LOADING = 1 << 5;
+  static final long ALL_CALLBACKS = (1 << 6) - 1;
+
   private final InstanceManager instanceManager;
   private final WebViewClientCreator webViewClientCreator;
   private final WebViewClientFlutterApiImpl flutterApi;
@@ -32,13 +45,22 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   /**
    * An interface implemented by a class that extends {@link WebViewClient} and {@link Releasable}.
    */
-  public interface ReleasableWebViewClient extends Releasable {}
+  public interface ReleasableWebViewClient extends Releasable {
+    /**
+     * Sets which callbacks are sent to Dart. The arguments of other callbacks are never built.
+     *
+     * @param callbacks bitmask of bits such as {@link WebViewClientHostApiImpl#ON_PAGE_STARTED}
+     */
+    void setSubscribedCallbacks(long callbacks);
+  }
 
   /** Implementation of {@link WebViewClient} that passes arguments of callback methods to Dart. */
   @RequiresApi(Build.VERSION_CODES.N)
   public static class WebViewClientImpl extends WebViewClient implements ReleasableWebViewClient {
     @Nullable private WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    private final boolean includesRequestHeaders;
+    private long subscribedCallbacks = ALL_CALLBACKS;
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -48,35 +70,51 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
      */
     public WebViewClientImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, true);
+    }
+
+    /**
+     * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param shouldOverrideUrlLoading whether loading a url should be overridden
+     * @param includesRequestHeaders whether the headers of requests are sent to Dart
+     */
+    public WebViewClientImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        boolean includesRequestHeaders) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
+      this.includesRequestHeaders = includesRequestHeaders;
       this.flutterApi = flutterApi;
     }
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
-      if (flutterApi != null) {
+      if (isSubscribed(ON_PAGE_STARTED)) {
         flutterApi.onPageStarted(this, view, url, reply -> {});
       }
     }
 
     @Override
     public void onPageFinished(WebView view, String url) {
-      if (flutterApi != null) {
+      if (isSubscribed(ON_PAGE_FINISHED)) {
         flutterApi.onPageFinished(this, view, url, reply -> {});
       }
     }
 
     @Override
     public void onReceivedError(WebView view, WebResourceRequest request, WebResourceError error) {
-      if (flutterApi != null) {
-        flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
+      if (isSubscribed(ON_RECEIVED_REQUEST_ERROR)) {
+        flutterApi.onReceivedRequestError(
+            this, view, request, error, includesRequestHeaders, reply -> {});
       }
     }
 
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
-      if (flutterApi != null) {
+      if (isSubscribed(ON_RECEIVED_ERROR)) {
         flutterApi.onReceivedError(
             this, view, (long) errorCode, description, failingUrl, reply -> {});
       }
@@ -84,20 +122,31 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, WebResourceRequest request) {
-      if (flutterApi != null) {
-        flutterApi.requestLoading(this, view, request, reply -> {});
+      if (isSubscribed(REQUEST_LOADING)) {
+        flutterApi.requestLoading(this, view, request, includesRequestHeaders, reply -> {});
       }
       return shouldOverrideUrlLoading;
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, String url) {
-      if (flutterApi != null) {
+      if (isSubscribed(URL_LOADING)) {
         flutterApi.urlLoading(this, view, url, reply -> {});
       }
       return shouldOverrideUrlLoading;
     }
 
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, String url) {
+      return LocalDocument.intercept(view, url);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(WebView view, RenderProcessGoneDetail detail) {
+      return WebViewRecovery.onRenderProcessGone(view, detail.didCrash());
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -105,6 +154,15 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // truly lost.
     }
 
+    @Override
+    public void setSubscribedCallbacks(long callbacks) {
+      subscribedCallbacks = callbacks;
+    }
+
+    private boolean isSubscribed(long callback) {
+      return flutterApi != null && (subscribedCallbacks & callback) != 0;
+    }
+
     public void release() {
       if (flutterApi != null) {
         flutterApi.dispose(this, reply -> {});
@@ -121,23 +179,33 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       implements ReleasableWebViewClient {
     private @Nullable WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    private final boolean includesRequestHeaders;
+    private long subscribedCallbacks = ALL_CALLBACKS;
 
     public WebViewClientCompatImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, true);
+    }
+
+    public WebViewClientCompatImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        boolean includesRequestHeaders) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
+      this.includesRequestHeaders = includesRequestHeaders;
       this.flutterApi = flutterApi;
     }
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
-      if (flutterApi != null) {
+      if (isSubscribed(ON_PAGE_STARTED)) {
         flutterApi.onPageStarted(this, view, url, reply -> {});
       }
     }
 
     @Override
     public void onPageFinished(WebView view, String url) {
-      if (flutterApi != null) {
+      if (isSubscribed(ON_PAGE_FINISHED)) {
         flutterApi.onPageFinished(this, view, url, reply -> {});
       }
     }
@@ -151,15 +219,16 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceErrorCompat error) {
-      if (flutterApi != null) {
-        flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
+      if (isSubscribed(ON_RECEIVED_REQUEST_ERROR)) {
+        flutterApi.onReceivedRequestError(
+            this, view, request, error, includesRequestHeaders, reply -> {});
       }
     }
 
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
-      if (flutterApi != null) {
+      if (isSubscribed(ON_RECEIVED_ERROR)) {
         flutterApi.onReceivedError(
             this, view, (long) errorCode, description, failingUrl, reply -> {});
       }
@@ -169,20 +238,31 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public boolean shouldOverrideUrlLoading(
         @NonNull WebView view, @NonNull WebResourceRequest request) {
-      if (flutterApi != null) {
-        flutterApi.requestLoading(this, view, request, reply -> {});
+      if (isSubscribed(REQUEST_LOADING)) {
+        flutterApi.requestLoading(this, view, request, includesRequestHeaders, reply -> {});
       }
       return shouldOverrideUrlLoading;
     }
 
     @Override
     public boolean shouldOverrideUrlLoading(WebView view, String url) {
-      if (flutterApi != null) {
+      if (isSubscribed(URL_LOADING)) {
         flutterApi.urlLoading(this, view, url, reply -> {});
       }
       return shouldOverrideUrlLoading;
     }
 
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, String url) {
+      return LocalDocument.intercept(view, url);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(WebView view, RenderProcessGoneDetail detail) {
+      return WebViewRecovery.onRenderProcessGone(view, detail.didCrash());
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -190,6 +270,15 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // truly lost.
     }
 
+    @Override
+    public void setSubscribedCallbacks(long callbacks) {
+      subscribedCallbacks = callbacks;
+    }
+
+    private boolean isSubscribed(long callback) {
+      return flutterApi != null && (subscribedCallbacks & callback) != 0;
+    }
+
     public void release() {
       if (flutterApi != null) {
         flutterApi.dispose(this, reply -> {});
@@ -204,10 +293,14 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
      * Creates a {@link WebViewClient}.
      *
      * @param flutterApi handles sending messages to Dart
+     * @param shouldOverrideUrlLoading whether loading a url should be overridden
+     * @param includesRequestHeaders whether the headers of requests are sent to Dart
      * @return the created {@link WebViewClient}
      */
     public WebViewClient createWebViewClient(
-        WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+        WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        boolean includesRequestHeaders) {
       // WebViewClientCompat is used to get
       // shouldOverrideUrlLoading(WebView view, WebResourceRequest request)
       // invoked by the webview on older Android devices, without it pages that use iframes will
@@ -217,9 +310,10 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // to bug https://bugs.chromium.org/p/chromium/issues/detail?id=925887. Also, see
       // https://github.com/flutter/flutter/issues/29446.
       if (android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading, includesRequestHeaders);
       } else {
-        return new WebViewClientCompatImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientCompatImpl(
+            flutterApi, shouldOverrideUrlLoading, includesRequestHeaders);
       }
     }
   }
@@ -241,9 +335,18 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   }
 
   @Override
-  public void create(Long instanceId, Boolean shouldOverrideUrlLoading) {
+  public void create(
+      Long instanceId, Boolean shouldOverrideUrlLoading, Boolean includesRequestHeaders) {
     final WebViewClient webViewClient =
-        webViewClientCreator.createWebViewClient(flutterApi, shouldOverrideUrlLoading);
+        webViewClientCreator.createWebViewClient(
+            flutterApi, shouldOverrideUrlLoading, includesRequestHeaders);
     instanceManager.addInstance(webViewClient, instanceId);
   }
+
+  @Override
+  public void setSubscribedCallbacks(Long instanceId, Long callbacks) {
+    final WebViewClient webViewClient =
+        instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW_CLIENT);
+    ((ReleasableWebViewClient) webViewClient).setSubscribedCallbacks(callbacks);
+  }
 }
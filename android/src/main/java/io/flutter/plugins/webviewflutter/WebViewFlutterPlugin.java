@@ -10,7 +10,9 @@ import android.content.Context;
 import android.content.Intent;
 import android.os.Handler;
 import android.util.Log;
+import android.view.Choreographer;
 import android.view.View;
+import android.webkit.WebView;
 import androidx.annotation.NonNull;
 
 import io.flutter.app.FlutterApplication;
@@ -20,15 +22,26 @@ import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.PluginRegistry;
 import io.flutter.plugin.platform.PlatformViewRegistry;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.ChannelStatisticsHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CommandBatchHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FlutterAssetManagerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewMemoryFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewProviderHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewRecoveryFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewStateStoreHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewSuspensionHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
@@ -38,12 +51,30 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
  * <p>Call {@link #registerWith} to use the stable {@code io.flutter.plugin.common} package instead.
  */
 public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.ActivityResultListener, ActivityAware {
+  // Callbacks of events that Dart doesn't reply to, so they can wait for the next frame.
+  private static final String[] BATCHED_CHANNELS = {
+    "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessage",
+    "dev.flutter.pigeon.WebViewClientFlutterApi.onPageStarted",
+    "dev.flutter.pigeon.WebViewClientFlutterApi.onPageFinished",
+    "dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedRequestError",
+    "dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedError",
+    "dev.flutter.pigeon.WebViewClientFlutterApi.requestLoading",
+    "dev.flutter.pigeon.WebViewClientFlutterApi.urlLoading",
+    "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadStart",
+    "dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone",
+  };
+
   @SuppressLint("StaticFieldLeak")
   public static Activity activity;
   private FlutterPluginBinding pluginBinding;
   private WebViewHostApiImpl webViewHostApi;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
   private WebChromeClientHostApiImpl webChromeClientHostApi;
+  private InstanceManagerHostApiImpl instanceManagerHostApi;
+  private FrameBatchingBinaryMessenger flutterApiMessenger;
+  private WebViewMemoryTrimmer memoryTrimmer;
+
+  private static volatile boolean warmUpProviderOnAttach;
 
   /**
    * Add an instance of this to {@link io.flutter.embedding.engine.plugins.PluginRegistry} to
@@ -59,6 +90,20 @@ public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.Activ
    */
   public WebViewFlutterPlugin() {}
 
+  /**
+   * Sets whether the WebView provider is loaded on a background thread as soon as the plugin is
+   * attached to an engine.
+   *
+   * <p>This must be called before the plugin is attached, e.g. in {@code Application.onCreate}, to
+   * have an effect on the first engine. Dart can also start loading the provider later and read how
+   * long loading it took. Defaults to false.
+   *
+   * @param enabled whether the provider is loaded when the plugin is attached
+   */
+  public static void setWarmUpProviderOnAttach(boolean enabled) {
+    warmUpProviderOnAttach = enabled;
+  }
+
   /**
    * Registers a plugin implementation that uses the stable {@code io.flutter.plugin.common}
    * package.
@@ -68,14 +113,21 @@ public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.Activ
    */
   @SuppressWarnings({"unused", "deprecation"})
   public static void registerWith(io.flutter.plugin.common.PluginRegistry.Registrar registrar) {
-    new WebViewFlutterPlugin()
-        .setUp(
-            registrar.messenger(),
-            registrar.platformViewRegistry(),
-            registrar.activity(),
-            registrar.view(),
-            new FlutterAssetManager.RegistrarFlutterAssetManager(
-                registrar.context().getAssets(), registrar));
+    final WebViewFlutterPlugin plugin = new WebViewFlutterPlugin();
+    plugin.setUp(
+        registrar.messenger(),
+        registrar.platformViewRegistry(),
+        registrar.activity(),
+        registrar.view(),
+        new FlutterAssetManager.RegistrarFlutterAssetManager(
+            registrar.context().getAssets(), registrar));
+    // The plugin is never detached from an engine with this embedding, so the memory trimmer is
+    // unregistered when the view is destroyed instead.
+    registrar.addViewDestroyListener(
+        view -> {
+          plugin.unregisterMemoryTrimmer(registrar.context());
+          return false;
+        });
   }
 
   private void setUp(
@@ -87,6 +139,39 @@ public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.Activ
 
     InstanceManager instanceManager = new InstanceManager();
 
+    // Traffic is recorded below the batching messenger for the batches and above it for the
+    // callbacks they contain. Nothing is recorded until Dart enables it.
+    final BinaryMessengerStatistics messengerStatistics = new BinaryMessengerStatistics();
+    binaryMessenger = new InstrumentedBinaryMessenger(binaryMessenger, messengerStatistics);
+    ChannelStatisticsHostApi.setup(
+        binaryMessenger, new ChannelStatisticsHostApiImpl(messengerStatistics));
+
+    // Callbacks of events are sent to Dart once per frame. Disposals are sent right away through
+    // the same messenger so they stay ordered after the callbacks of the disposed instances.
+    flutterApiMessenger =
+        new FrameBatchingBinaryMessenger(
+            binaryMessenger, Choreographer.getInstance(), new Handler(context.getMainLooper()));
+    for (String channel : BATCHED_CHANNELS) {
+      flutterApiMessenger.addBatchedChannel(channel);
+    }
+    flutterApiMessenger.addCollapsibleChannel(
+        "dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged");
+    final BinaryMessenger instrumentedFlutterApiMessenger =
+        new InstrumentedBinaryMessenger(flutterApiMessenger, messengerStatistics);
+
+    // Host APIs of WebViews and their dependents can also be called in batches, which Dart uses to
+    // create and set up a WebView with a single message.
+    final CommandBatchBinaryMessenger commandBatchMessenger =
+        new CommandBatchBinaryMessenger(binaryMessenger);
+    CommandBatchHostApi.setup(binaryMessenger, new CommandBatchHostApiImpl(commandBatchMessenger));
+
+    instanceManagerHostApi =
+        new InstanceManagerHostApiImpl(
+            instanceManager,
+            new InstanceManagerFlutterApi(instrumentedFlutterApiMessenger),
+            new Handler(context.getMainLooper()));
+    InstanceManagerHostApi.setup(commandBatchMessenger, instanceManagerHostApi);
+
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
 
@@ -97,51 +182,109 @@ public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.Activ
         new JavaScriptChannelHostApiImpl(
             instanceManager,
             new JavaScriptChannelHostApiImpl.JavaScriptChannelCreator(),
-            new JavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager),
+            new JavaScriptChannelFlutterApiImpl(instrumentedFlutterApiMessenger, instanceManager),
             new Handler(context.getMainLooper()));
 
-    WebViewHostApi.setup(binaryMessenger, webViewHostApi);
-    JavaScriptChannelHostApi.setup(binaryMessenger, javaScriptChannelHostApi);
+    WebViewHostApi.setup(commandBatchMessenger, webViewHostApi);
+    WebViewPoolHostApi.setup(
+        binaryMessenger, new WebViewPoolHostApiImpl(webViewHostApi.getWebViewPool()));
+    WebViewProviderHostApi.setup(
+        binaryMessenger,
+        new WebViewProviderHostApiImpl(WebViewProviderWarmUp.getInstance(context)));
+    WebViewSuspensionHostApi.setup(
+        binaryMessenger,
+        new WebViewSuspensionHostApiImpl(instanceManager, webViewHostApi.getWebViewSuspender()));
+    WebViewStateStoreHostApi.setup(
+        binaryMessenger,
+        new WebViewStateStoreHostApiImpl(instanceManager, WebViewStateStore.getInstance(context)));
+
+    // Memory is mostly trimmed while the app is in the background and no frames flush batched
+    // callbacks, so trims are reported without batching.
+    memoryTrimmer =
+        new WebViewMemoryTrimmer(
+            webViewHostApi.getWebViewPool(),
+            webViewHostApi.getWebViewSuspender(),
+            new WebViewMemoryFlutterApi(binaryMessenger));
+    context.getApplicationContext().registerComponentCallbacks(memoryTrimmer);
+    // A replaced WebView is only shown once Dart creates a new platform view for it, so the report
+    // can wait for the next frame like other callbacks.
+    webViewHostApi
+        .getWebViewRecovery()
+        .setFlutterApi(new WebViewRecoveryFlutterApi(instrumentedFlutterApiMessenger));
+    JavaScriptChannelHostApi.setup(commandBatchMessenger, javaScriptChannelHostApi);
     if (context instanceof FlutterApplication) {
       Activity currentActivity = ((FlutterApplication) context).getCurrentActivity();
       if (currentActivity != null) {
         activity = currentActivity;
       }
     }
-    WebViewClientHostApi.setup(
-        binaryMessenger,
+    final WebViewClientHostApiImpl webViewClientHostApi =
         new WebViewClientHostApiImpl(
             instanceManager,
             new WebViewClientHostApiImpl.WebViewClientCreator(),
-            new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
+            new WebViewClientFlutterApiImpl(instrumentedFlutterApiMessenger, instanceManager));
+    WebViewClientHostApi.setup(commandBatchMessenger, webViewClientHostApi);
     webChromeClientHostApi = new WebChromeClientHostApiImpl(
             instanceManager,
             new WebChromeClientHostApiImpl.WebChromeClientCreator(),
-            new WebChromeClientFlutterApiImpl(binaryMessenger, instanceManager));
+            new WebChromeClientFlutterApiImpl(instrumentedFlutterApiMessenger, instanceManager));
     WebChromeClientHostApi.setup(
-        binaryMessenger,webChromeClientHostApi
+        commandBatchMessenger,webChromeClientHostApi
         );
-    DownloadListenerHostApi.setup(
-        binaryMessenger,
+    final DownloadListenerHostApiImpl downloadListenerHostApi =
         new DownloadListenerHostApiImpl(
             instanceManager,
             new DownloadListenerHostApiImpl.DownloadListenerCreator(),
-            new DownloadListenerFlutterApiImpl(binaryMessenger, instanceManager)));
-    WebSettingsHostApi.setup(
-        binaryMessenger,
+            new DownloadListenerFlutterApiImpl(instrumentedFlutterApiMessenger, instanceManager));
+    DownloadListenerHostApi.setup(commandBatchMessenger, downloadListenerHostApi);
+    final WebSettingsHostApiImpl webSettingsHostApi =
         new WebSettingsHostApiImpl(
-            instanceManager, new WebSettingsHostApiImpl.WebSettingsCreator()));
+            instanceManager, new WebSettingsHostApiImpl.WebSettingsCreator());
+    WebSettingsHostApi.setup(commandBatchMessenger, webSettingsHostApi);
+
+    // Assets and web storage aren't bound to a WebView, so their handlers run in order on a
+    // background thread instead of competing with WebView rendering and input. Cookies stay on the
+    // main thread so the cookies of a new WebView are set before it loads its initial URL.
+    final BinaryMessenger backgroundMessenger =
+        new TaskQueueBinaryMessenger(binaryMessenger, binaryMessenger.makeBackgroundTaskQueue());
     FlutterAssetManagerHostApi.setup(
-        binaryMessenger, new FlutterAssetManagerHostApiImpl(flutterAssetManager));
+        backgroundMessenger, new FlutterAssetManagerHostApiImpl(flutterAssetManager));
     CookieManagerHostApi.setup(binaryMessenger, new CookieManagerHostApiImpl());
-    WebStorageHostApi.setup(
-        binaryMessenger,
-        new WebStorageHostApiImpl(instanceManager, new WebStorageHostApiImpl.WebStorageCreator()));
+    final WebStorageHostApiImpl webStorageHostApi =
+        new WebStorageHostApiImpl(instanceManager, new WebStorageHostApiImpl.WebStorageCreator());
+    WebStorageHostApi.setup(backgroundMessenger, webStorageHostApi);
+
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.WEB_VIEW, data -> webViewHostApi.create(data.getInstanceId(), data.getFlag()));
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.WEB_SETTINGS,
+        data -> webSettingsHostApi.create(data.getInstanceId(), data.getReferencedInstanceId()));
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.JAVA_SCRIPT_CHANNEL,
+        data -> javaScriptChannelHostApi.create(data.getInstanceId(), data.getName()));
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.WEB_VIEW_CLIENT,
+        data ->
+            webViewClientHostApi.create(
+                data.getInstanceId(), data.getFlag(), data.getSecondaryFlag()));
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.DOWNLOAD_LISTENER, data -> downloadListenerHostApi.create(data.getInstanceId()));
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.WEB_CHROME_CLIENT,
+        data ->
+            webChromeClientHostApi.create(data.getInstanceId(), data.getReferencedInstanceId()));
+    instanceManagerHostApi.setCreateHandler(
+        TypeTag.WEB_STORAGE, data -> webStorageHostApi.create(data.getInstanceId()));
+    instanceManagerHostApi.setDisposeHandler(
+        TypeTag.WEB_VIEW, instance -> webViewHostApi.disposeWebView((WebView) instance));
   }
 
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
     pluginBinding = binding;
+    if (warmUpProviderOnAttach) {
+      WebViewProviderWarmUp.getInstance(binding.getApplicationContext()).start();
+    }
     setUp(
         binding.getBinaryMessenger(),
         binding.getPlatformViewRegistry(),
@@ -152,29 +295,47 @@ public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.Activ
   }
 
   @Override
-  public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {}
+  public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (instanceManagerHostApi != null) {
+      instanceManagerHostApi.release();
+      instanceManagerHostApi = null;
+    }
+    if (flutterApiMessenger != null) {
+      flutterApiMessenger.release();
+      flutterApiMessenger = null;
+    }
+    unregisterMemoryTrimmer(binding.getApplicationContext());
+    if (webViewHostApi != null) {
+      webViewHostApi.getWebViewPool().release();
+      webViewHostApi.getWebViewSuspender().release();
+    }
+  }
 
   @Override
   public void onAttachedToActivity(@NonNull ActivityPluginBinding activityPluginBinding) {
     activity = activityPluginBinding.getActivity();
     activityPluginBinding.addActivityResultListener(this);
     updateContext(activityPluginBinding.getActivity());
+    webViewHostApi.getWebViewSuspender().setActivity(activityPluginBinding.getActivity());
   }
 
   @Override
   public void onDetachedFromActivityForConfigChanges() {
     updateContext(pluginBinding.getApplicationContext());
+    webViewHostApi.getWebViewSuspender().setActivity(null);
   }
 
   @Override
   public void onReattachedToActivityForConfigChanges(
       @NonNull ActivityPluginBinding activityPluginBinding) {
     updateContext(activityPluginBinding.getActivity());
+    webViewHostApi.getWebViewSuspender().setActivity(activityPluginBinding.getActivity());
   }
 
   @Override
   public void onDetachedFromActivity() {
     updateContext(pluginBinding.getApplicationContext());
+    webViewHostApi.getWebViewSuspender().setActivity(null);
   }
 
   @Override
@@ -186,4 +347,11 @@ public class WebViewFlutterPlugin implements FlutterPlugin, PluginRegistry.Activ
     webViewHostApi.setContext(context);
     javaScriptChannelHostApi.setPlatformThreadHandler(new Handler(context.getMainLooper()));
   }
+
+  private void unregisterMemoryTrimmer(Context context) {
+    if (memoryTrimmer != null) {
+      context.getApplicationContext().unregisterComponentCallbacks(memoryTrimmer);
+      memoryTrimmer = null;
+    }
+  }
 }
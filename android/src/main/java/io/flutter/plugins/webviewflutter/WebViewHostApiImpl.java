@@ -7,7 +7,13 @@ package io.flutter.plugins.webviewflutter;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.hardware.display.DisplayManager;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.Choreographer;
 import android.view.View;
+import android.view.ViewGroup;
 import android.webkit.DownloadListener;
 import android.webkit.WebChromeClient;
 import android.webkit.WebView;
@@ -17,8 +23,11 @@ import androidx.annotation.Nullable;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerImpl;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
 import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeClientImpl;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.ReleasableWebViewClient;
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,6 +41,10 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   private final WebViewProxy webViewProxy;
   // Only used with WebView using virtual displays.
   @Nullable private final View containerView;
+  private final WebViewPool webViewPool;
+  private final WebViewSuspender webViewSuspender;
+  private final WebViewRecovery webViewRecovery;
+  private final JavaScriptEvaluationQueue javaScriptEvaluationQueue;
 
   private Context context;
 
@@ -88,6 +101,14 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       return value;
     }
 
+    // Hands the value over without releasing it.
+    @Nullable
+    T take() {
+      final T taken = value;
+      value = null;
+      return taken;
+    }
+
     void release() {
       if (value != null) {
         value.release();
@@ -96,8 +117,60 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     }
   }
 
+  // Flutter hides the parent of a Hybrid Composition platform view when it isn't part of a frame,
+  // which is reported to the WebView through onVisibilityChanged.
+  private static void reportVisibility(
+      WebView webView, @Nullable WebViewSuspender.Observer observer, boolean attached) {
+    if (observer != null) {
+      observer.onVisibilityChanged(
+          webView,
+          attached && webView.isShown() && webView.getWindowVisibility() == View.VISIBLE);
+    }
+  }
+
+  private static void moveState(
+      WebView webView,
+      WebView replacement,
+      ReleasableValue<ReleasableWebViewClient> webViewClient,
+      ReleasableValue<DownloadListenerImpl> downloadListener,
+      ReleasableValue<WebChromeClientImpl> webChromeClient,
+      Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces,
+      @Nullable Integer backgroundColor) {
+    if (webChromeClient.get() != null) {
+      replacement.setWebChromeClient(webChromeClient.take());
+    }
+    if (webViewClient.get() != null) {
+      replacement.setWebViewClient((WebViewClient) webViewClient.take());
+    }
+    if (downloadListener.get() != null) {
+      replacement.setDownloadListener(downloadListener.take());
+    }
+    for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> javaScriptInterface :
+        javaScriptInterfaces.entrySet()) {
+      replacement.addJavascriptInterface(
+          javaScriptInterface.getValue().take(), javaScriptInterface.getKey());
+    }
+    javaScriptInterfaces.clear();
+    if (backgroundColor != null) {
+      replacement.setBackgroundColor(backgroundColor);
+    }
+  }
+
+  private static void detachFromParent(View view) {
+    final ViewGroup parent = (ViewGroup) view.getParent();
+    if (parent != null) {
+      parent.removeView(view);
+    }
+  }
+
   /** Implementation of {@link WebView} that can be used as a Flutter {@link PlatformView}s. */
-  public static class WebViewPlatformView extends WebView implements PlatformView, Releasable {
+  public static class WebViewPlatformView extends WebView
+      implements PlatformView,
+          Releasable,
+          Recyclable,
+          WebViewSuspender.Observable,
+          WebViewRecovery.Recoverable,
+          LocalDocument.Host {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -106,6 +179,11 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         new ReleasableValue<>();
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
+    @Nullable private volatile LocalDocument localDocument;
+    private boolean recyclable;
+    @Nullable private WebViewSuspender.Observer suspenderObserver;
+    @Nullable private WebViewRecovery recovery;
+    @Nullable private Integer backgroundColor;
 
     /**
      * Creates a {@link WebViewPlatformView}.
@@ -114,6 +192,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
      */
     public WebViewPlatformView(Context context) {
       super(context);
+      super.setWebViewClient(new WebViewRecovery.DefaultWebViewClient());
     }
 
     @Override
@@ -123,7 +202,14 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
     @Override
     public void dispose() {
-      destroy();
+      if (suspenderObserver != null) {
+        suspenderObserver.onDisposed(this);
+      }
+      if (recyclable) {
+        detachFromParent(this);
+      } else {
+        destroy();
+      }
     }
 
     @Override
@@ -170,8 +256,111 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       javaScriptInterfaces.remove(name);
     }
 
+    @Override
+    public void setLocalDocument(@Nullable LocalDocument document) {
+      localDocument = document;
+    }
+
+    @Nullable
+    @Override
+    public LocalDocument getLocalDocument() {
+      return localDocument;
+    }
+
+    @Override
+    public void setRecyclable(boolean recyclable) {
+      this.recyclable = recyclable;
+    }
+
+    @Override
+    public boolean isRecyclable() {
+      return recyclable;
+    }
+
+    @Override
+    public void setSuspenderObserver(@Nullable WebViewSuspender.Observer observer) {
+      suspenderObserver = observer;
+    }
+
+    @Override
+    public void setRecovery(@Nullable WebViewRecovery recovery) {
+      this.recovery = recovery;
+    }
+
+    @Nullable
+    @Override
+    public WebViewRecovery getRecovery() {
+      return recovery;
+    }
+
+    @Override
+    public void setBackgroundColor(int color) {
+      super.setBackgroundColor(color);
+      backgroundColor = color;
+    }
+
+    @Override
+    public void moveStateTo(@NonNull WebView replacement) {
+      moveState(
+          this,
+          replacement,
+          currentWebViewClient,
+          currentDownloadListener,
+          currentWebChromeClient,
+          javaScriptInterfaces,
+          backgroundColor);
+      ((LocalDocument.Host) replacement).setLocalDocument(localDocument);
+      localDocument = null;
+      ((Recyclable) replacement).setRecyclable(recyclable);
+      // The platform view of this WebView is disposed by Flutter, which destroys it.
+      recyclable = false;
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+      super.onAttachedToWindow();
+      reportVisibility(this, suspenderObserver, true);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+      super.onDetachedFromWindow();
+      reportVisibility(this, suspenderObserver, false);
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+      super.onWindowVisibilityChanged(visibility);
+      reportVisibility(this, suspenderObserver, true);
+    }
+
+    @Override
+    protected void onVisibilityChanged(@NonNull View changedView, int visibility) {
+      super.onVisibilityChanged(changedView, visibility);
+      reportVisibility(this, suspenderObserver, true);
+    }
+
+    @Override
+    public void recycle() {
+      for (String name : new ArrayList<>(javaScriptInterfaces.keySet())) {
+        removeJavascriptInterface(name);
+      }
+      super.setWebChromeClient(null);
+      currentWebChromeClient.release();
+      super.setWebViewClient(new WebViewRecovery.DefaultWebViewClient());
+      currentWebViewClient.release();
+      super.setDownloadListener(null);
+      currentDownloadListener.release();
+      localDocument = null;
+
+      stopLoading();
+      WebSettingsHostApiImpl.resetToDefaults(getSettings(), getContext());
+      loadUrl(WebViewPool.BLANK_URL);
+    }
+
     @Override
     public void release() {
+      localDocument = null;
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
@@ -188,7 +377,12 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    */
   @SuppressLint("ViewConstructor")
   public static class InputAwareWebViewPlatformView extends InputAwareWebView
-      implements PlatformView, Releasable {
+      implements PlatformView,
+          Releasable,
+          Recyclable,
+          WebViewSuspender.Observable,
+          WebViewRecovery.Recoverable,
+          LocalDocument.Host {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -197,6 +391,11 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         new ReleasableValue<>();
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
+    @Nullable private volatile LocalDocument localDocument;
+    private boolean recyclable;
+    @Nullable private WebViewSuspender.Observer suspenderObserver;
+    @Nullable private WebViewRecovery recovery;
+    @Nullable private Integer backgroundColor;
 
     /**
      * Creates a {@link InputAwareWebViewPlatformView}.
@@ -205,6 +404,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
      */
     public InputAwareWebViewPlatformView(Context context, View containerView) {
       super(context, containerView);
+      super.setWebViewClient(new WebViewRecovery.DefaultWebViewClient());
     }
 
     @Override
@@ -224,8 +424,15 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
     @Override
     public void dispose() {
+      if (suspenderObserver != null) {
+        suspenderObserver.onDisposed(this);
+      }
       super.dispose();
-      destroy();
+      if (recyclable) {
+        detachFromParent(this);
+      } else {
+        destroy();
+      }
     }
 
     @Override
@@ -282,8 +489,111 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       javaScriptInterfaces.remove(name);
     }
 
+    @Override
+    public void setLocalDocument(@Nullable LocalDocument document) {
+      localDocument = document;
+    }
+
+    @Nullable
+    @Override
+    public LocalDocument getLocalDocument() {
+      return localDocument;
+    }
+
+    @Override
+    public void setRecyclable(boolean recyclable) {
+      this.recyclable = recyclable;
+    }
+
+    @Override
+    public boolean isRecyclable() {
+      return recyclable;
+    }
+
+    @Override
+    public void setSuspenderObserver(@Nullable WebViewSuspender.Observer observer) {
+      suspenderObserver = observer;
+    }
+
+    @Override
+    public void setRecovery(@Nullable WebViewRecovery recovery) {
+      this.recovery = recovery;
+    }
+
+    @Nullable
+    @Override
+    public WebViewRecovery getRecovery() {
+      return recovery;
+    }
+
+    @Override
+    public void setBackgroundColor(int color) {
+      super.setBackgroundColor(color);
+      backgroundColor = color;
+    }
+
+    @Override
+    public void moveStateTo(@NonNull WebView replacement) {
+      moveState(
+          this,
+          replacement,
+          currentWebViewClient,
+          currentDownloadListener,
+          currentWebChromeClient,
+          javaScriptInterfaces,
+          backgroundColor);
+      ((LocalDocument.Host) replacement).setLocalDocument(localDocument);
+      localDocument = null;
+      ((Recyclable) replacement).setRecyclable(recyclable);
+      // The platform view of this WebView is disposed by Flutter, which destroys it.
+      recyclable = false;
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+      super.onAttachedToWindow();
+      reportVisibility(this, suspenderObserver, true);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+      super.onDetachedFromWindow();
+      reportVisibility(this, suspenderObserver, false);
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+      super.onWindowVisibilityChanged(visibility);
+      reportVisibility(this, suspenderObserver, true);
+    }
+
+    @Override
+    protected void onVisibilityChanged(@NonNull View changedView, int visibility) {
+      super.onVisibilityChanged(changedView, visibility);
+      reportVisibility(this, suspenderObserver, true);
+    }
+
+    @Override
+    public void recycle() {
+      for (String name : new ArrayList<>(javaScriptInterfaces.keySet())) {
+        removeJavascriptInterface(name);
+      }
+      super.setWebChromeClient(null);
+      currentWebChromeClient.release();
+      super.setWebViewClient(new WebViewRecovery.DefaultWebViewClient());
+      currentWebViewClient.release();
+      super.setDownloadListener(null);
+      currentDownloadListener.release();
+      localDocument = null;
+
+      stopLoading();
+      WebSettingsHostApiImpl.resetToDefaults(getSettings(), getContext());
+      loadUrl(WebViewPool.BLANK_URL);
+    }
+
     @Override
     public void release() {
+      localDocument = null;
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
@@ -307,23 +617,98 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       WebViewProxy webViewProxy,
       Context context,
       @Nullable View containerView) {
+    this(
+        instanceManager,
+        webViewProxy,
+        context,
+        containerView,
+        Looper.myQueue(),
+        new JavaScriptEvaluationQueue(
+            Choreographer.getInstance(), new Handler(Looper.getMainLooper())));
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewProxy handles creating {@link WebView}s and calling its static methods
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param containerView parent of the webView
+   * @param messageQueue queue of the main thread that fills the {@link WebViewPool} while idle
+   * @param javaScriptEvaluationQueue merges the batched scripts evaluated during a frame
+   */
+  WebViewHostApiImpl(
+      InstanceManager instanceManager,
+      WebViewProxy webViewProxy,
+      Context context,
+      @Nullable View containerView,
+      @Nullable MessageQueue messageQueue,
+      JavaScriptEvaluationQueue javaScriptEvaluationQueue) {
     this.instanceManager = instanceManager;
     this.webViewProxy = webViewProxy;
     this.context = context;
     this.containerView = containerView;
+    this.webViewPool = new WebViewPool(this::constructWebView, messageQueue);
+    this.webViewSuspender = new WebViewSuspender(new Handler(Looper.getMainLooper()));
+    this.javaScriptEvaluationQueue = javaScriptEvaluationQueue;
+    this.webViewRecovery =
+        new WebViewRecovery(
+            instanceManager,
+            this::constructWebView,
+            webViewPool,
+            webViewSuspender,
+            javaScriptEvaluationQueue);
   }
 
   /**
    * Sets the context to construct {@link WebView}s.
    *
+   * <p>{@link WebView}s in the {@link WebViewPool} were constructed with the previous context and
+   * are destroyed.
+   *
    * @param context the new context.
    */
   public void setContext(Context context) {
     this.context = context;
+    webViewPool.clear();
+  }
+
+  /**
+   * The {@link WebViewPool} that {@link #create} takes {@link WebView}s from.
+   *
+   * @return the pool of {@link WebView}s constructed ahead of time
+   */
+  public WebViewPool getWebViewPool() {
+    return webViewPool;
+  }
+
+  /**
+   * The {@link WebViewSuspender} that tracks every {@link WebView} created by {@link #create}.
+   *
+   * @return the suspender of hidden {@link WebView}s
+   */
+  public WebViewSuspender getWebViewSuspender() {
+    return webViewSuspender;
+  }
+
+  /**
+   * The {@link WebViewRecovery} that replaces the {@link WebView}s created by {@link #create} when
+   * their renderer is gone.
+   *
+   * @return the recovery of dead {@link WebView}s
+   */
+  public WebViewRecovery getWebViewRecovery() {
+    return webViewRecovery;
   }
 
   @Override
   public void create(Long instanceId, Boolean useHybridComposition) {
+    final WebView webView = webViewPool.obtain(useHybridComposition);
+    webViewSuspender.add(webView);
+    instanceManager.addInstance(webView, instanceId);
+  }
+
+  private WebView constructWebView(boolean useHybridComposition) {
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
@@ -335,21 +720,41 @@ public class WebViewHostApiImpl implements WebViewHostApi {
             : webViewProxy.createInputAwareWebView(context, containerView);
 
     displayListenerProxy.onPostWebViewInitialization(displayManager);
-    instanceManager.addInstance(webView, instanceId);
+    ((WebViewRecovery.Recoverable) webView).setRecovery(webViewRecovery);
+    return webView;
   }
 
   @Override
   public void dispose(Long instanceId) {
     final WebView instance = (WebView) instanceManager.getInstance(instanceId);
     if (instance != null) {
-      ((Releasable) instance).release();
+      disposeWebView(instance);
       instanceManager.removeInstance(instance);
     }
   }
 
+  /**
+   * Releases a {@link WebView} that Dart disposed and hands it to the {@link WebViewPool}, which
+   * either keeps it for reuse or destroys it.
+   *
+   * <p>Also used by {@link InstanceManagerHostApiImpl#disposeAll}, which removes the {@link
+   * WebView} from the {@link InstanceManager} itself.
+   *
+   * @param webView the disposed {@link WebView}
+   */
+  public void disposeWebView(WebView webView) {
+    javaScriptEvaluationQueue.cancel(webView);
+    webViewSuspender.remove(webView);
+    // WebViews of a previous context aren't reused so they don't keep it.
+    webViewPool.recycle(webView, webView.getContext() == context);
+    ((Releasable) webView).release();
+  }
+
   @Override
   public void loadData(Long instanceId, String data, String mimeType, String encoding) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
+    clearLocalDocument(webView);
     webView.loadData(data, mimeType, encoding);
   }
 
@@ -361,98 +766,144 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       String mimeType,
       String encoding,
       String historyUrl) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
+    clearLocalDocument(webView);
     webView.loadDataWithBaseURL(baseUrl, data, mimeType, encoding, historyUrl);
   }
 
+  /**
+   * Loads a UTF-8 encoded HTML document without decoding it to a {@link String}.
+   *
+   * <p>The document is served for {@code baseUrl}, or {@link LocalDocument#DEFAULT_URL} if it is
+   * null, by the {@link WebViewClient} of the WebView.
+   */
+  @Override
+  public void loadHtmlBytes(Long instanceId, byte[] html, String baseUrl) {
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
+    loadLocalDocument(webView, LocalDocument.fromBytes(baseUrl, html));
+  }
+
+  /**
+   * Loads a UTF-8 encoded HTML file by streaming it to the WebView.
+   *
+   * <p>Unlike loading a file URL, this doesn't need file access to be allowed and the document
+   * gets the origin of {@code baseUrl}, or of {@link LocalDocument#DEFAULT_URL} if it is null.
+   */
+  @Override
+  public void loadHtmlFile(Long instanceId, String path, String baseUrl) {
+    final File file = new File(path);
+    if (!file.isFile()) {
+      throw new IllegalArgumentException(String.format("No file found at path: %s", path));
+    }
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
+    loadLocalDocument(webView, LocalDocument.fromFile(baseUrl, file));
+  }
+
   @Override
   public void loadUrl(Long instanceId, String url, Map<String, String> headers) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
+    clearLocalDocument(webView);
     webView.loadUrl(url, headers);
   }
 
   @Override
   public void postUrl(Long instanceId, String url, byte[] data) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
+    clearLocalDocument(webView);
     webView.postUrl(url, data);
   }
 
   @Override
   public String getUrl(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     return webView.getUrl();
   }
 
   @Override
   public Boolean canGoBack(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     return webView.canGoBack();
   }
 
   @Override
   public Boolean canGoForward(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     return webView.canGoForward();
   }
 
   @Override
   public void goBack(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
     webView.goBack();
   }
 
   @Override
   public void goForward(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
     webView.goForward();
   }
 
   @Override
   public void reload(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.flush(webView);
     webView.reload();
   }
 
   @Override
   public void clearCache(Long instanceId, Boolean includeDiskFiles) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     webView.clearCache(includeDiskFiles);
   }
 
   @Override
   public void evaluateJavascript(
       Long instanceId, String javascriptString, GeneratedAndroidWebView.Result<String> result) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     webView.evaluateJavascript(javascriptString, result::success);
   }
 
+  @Override
+  public void evaluateJavascriptBatched(
+      Long instanceId, String javascriptString, GeneratedAndroidWebView.Result<String> result) {
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    javaScriptEvaluationQueue.evaluate(webView, javascriptString, result);
+  }
+
   @Override
   public String getTitle(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     return webView.getTitle();
   }
 
   @Override
   public void scrollTo(Long instanceId, Long x, Long y) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     webView.scrollTo(x.intValue(), y.intValue());
   }
 
   @Override
   public void scrollBy(Long instanceId, Long x, Long y) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     webView.scrollBy(x.intValue(), y.intValue());
   }
 
   @Override
   public Long getScrollX(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     return (long) webView.getScrollX();
   }
 
   @Override
   public Long getScrollY(Long instanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     return (long) webView.getScrollY();
   }
 
@@ -463,41 +914,79 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
   @Override
   public void setWebViewClient(Long instanceId, Long webViewClientInstanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    webView.setWebViewClient((WebViewClient) instanceManager.getInstance(webViewClientInstanceId));
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    webView.setWebViewClient(
+        instanceManager.getInstance(webViewClientInstanceId, TypeTag.WEB_VIEW_CLIENT));
+    instanceManager.setOwner(webViewClientInstanceId, instanceId);
   }
 
   @Override
   public void addJavaScriptChannel(Long instanceId, Long javaScriptChannelInstanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     final JavaScriptChannel javaScriptChannel =
-        (JavaScriptChannel) instanceManager.getInstance(javaScriptChannelInstanceId);
+        instanceManager.getInstance(javaScriptChannelInstanceId, TypeTag.JAVA_SCRIPT_CHANNEL);
     webView.addJavascriptInterface(javaScriptChannel, javaScriptChannel.javaScriptChannelName);
+    instanceManager.setOwner(javaScriptChannelInstanceId, instanceId);
   }
 
   @Override
   public void removeJavaScriptChannel(Long instanceId, Long javaScriptChannelInstanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     final JavaScriptChannel javaScriptChannel =
-        (JavaScriptChannel) instanceManager.getInstance(javaScriptChannelInstanceId);
+        instanceManager.getInstance(javaScriptChannelInstanceId, TypeTag.JAVA_SCRIPT_CHANNEL);
     webView.removeJavascriptInterface(javaScriptChannel.javaScriptChannelName);
   }
 
   @Override
   public void setDownloadListener(Long instanceId, Long listenerInstanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    webView.setDownloadListener((DownloadListener) instanceManager.getInstance(listenerInstanceId));
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    webView.setDownloadListener(
+        listenerInstanceId != null
+            ? instanceManager.getInstance(listenerInstanceId, TypeTag.DOWNLOAD_LISTENER)
+            : null);
+    if (listenerInstanceId != null) {
+      instanceManager.setOwner(listenerInstanceId, instanceId);
+    }
   }
 
   @Override
   public void setWebChromeClient(Long instanceId, Long clientInstanceId) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    webView.setWebChromeClient((WebChromeClient) instanceManager.getInstance(clientInstanceId));
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+    webView.setWebChromeClient(
+        clientInstanceId != null
+            ? instanceManager.getInstance(clientInstanceId, TypeTag.WEB_CHROME_CLIENT)
+            : null);
+    if (clientInstanceId != null) {
+      instanceManager.setOwner(clientInstanceId, instanceId);
+    }
   }
 
   @Override
   public void setBackgroundColor(Long instanceId, Long color) {
-    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
     webView.setBackgroundColor(color.intValue());
   }
+
+  @Override
+  public void setRendererPriorityPolicy(
+      Long instanceId, Long rendererRequestedPriority, Boolean waivedWhenNotVisible) {
+    // Renderer priorities only exist since Android O. Before that, every WebView of the process
+    // shares a single renderer priority.
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      final WebView webView = instanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+      webView.setRendererPriorityPolicy(
+          rendererRequestedPriority.intValue(), waivedWhenNotVisible);
+    }
+  }
+
+  private static void loadLocalDocument(WebView webView, LocalDocument document) {
+    ((LocalDocument.Host) webView).setLocalDocument(document);
+    webView.loadUrl(document.url);
+  }
+
+  private static void clearLocalDocument(WebView webView) {
+    if (webView instanceof LocalDocument.Host) {
+      ((LocalDocument.Host) webView).setLocalDocument(null);
+    }
+  }
 }
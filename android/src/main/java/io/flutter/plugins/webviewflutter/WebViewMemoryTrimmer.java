@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewMemoryFlutterApi;
+import java.util.List;
+
+/**
+ * Frees memory held by {@link WebView}s when Android reports memory pressure.
+ *
+ * <p>The more severe the trim level, the more is freed:
+ *
+ * <ul>
+ *   <li>From {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_MODERATE} and {@link
+ *       ComponentCallbacks2#TRIM_MEMORY_BACKGROUND}, the {@link WebView}s of the {@link
+ *       WebViewPool} are destroyed.
+ *   <li>From {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_LOW} and {@link
+ *       ComponentCallbacks2#TRIM_MEMORY_MODERATE}, the in-memory resource cache is also cleared if
+ *       a {@link WebView} is hidden. The cache is shared by every {@link WebView} of the process.
+ *   <li>From {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL} and {@link
+ *       ComponentCallbacks2#TRIM_MEMORY_COMPLETE}, hidden {@link WebView}s are also suspended right
+ *       away, even if the {@link WebViewSuspender} is disabled.
+ * </ul>
+ *
+ * <p>{@link ComponentCallbacks2#TRIM_MEMORY_UI_HIDDEN} only reports that the app isn't visible
+ * anymore, which isn't memory pressure, so nothing is freed. Each trim and the actions it applied
+ * are reported to Dart.
+ */
+public class WebViewMemoryTrimmer implements ComponentCallbacks2 {
+  // How much is freed for a trim level, from nothing to every action.
+  private static final int SEVERITY_NONE = 0;
+  private static final int SEVERITY_DROP_POOL = 1;
+  private static final int SEVERITY_CLEAR_CACHE = 2;
+  private static final int SEVERITY_SUSPEND_HIDDEN = 3;
+
+  private final WebViewPool webViewPool;
+  private final WebViewSuspender webViewSuspender;
+  private final WebViewMemoryFlutterApi flutterApi;
+
+  /**
+   * Creates a trimmer that frees the memory of the {@link WebView}s created by Dart.
+   *
+   * @param webViewPool the pool whose {@link WebView}s are destroyed
+   * @param webViewSuspender tracks which {@link WebView}s are hidden and suspends them
+   * @param flutterApi reports each trim to Dart
+   */
+  public WebViewMemoryTrimmer(
+      @NonNull WebViewPool webViewPool,
+      @NonNull WebViewSuspender webViewSuspender,
+      @NonNull WebViewMemoryFlutterApi flutterApi) {
+    this.webViewPool = webViewPool;
+    this.webViewSuspender = webViewSuspender;
+    this.flutterApi = flutterApi;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    final int severity = getSeverity(level);
+    int droppedWebViewCount = 0;
+    if (severity >= SEVERITY_DROP_POOL) {
+      droppedWebViewCount = webViewPool.trim();
+    }
+
+    boolean clearedCache = false;
+    final List<WebView> hiddenWebViews = webViewSuspender.getHiddenWebViews();
+    if (severity >= SEVERITY_CLEAR_CACHE && !hiddenWebViews.isEmpty()) {
+      hiddenWebViews.get(0).clearCache(false);
+      clearedCache = true;
+    }
+
+    int pausedWebViewCount = 0;
+    if (severity >= SEVERITY_SUSPEND_HIDDEN) {
+      pausedWebViewCount = webViewSuspender.suspendHidden();
+    }
+
+    flutterApi.onTrimMemory(
+        (long) level,
+        (long) droppedWebViewCount,
+        clearedCache,
+        (long) pausedWebViewCount,
+        reply -> {});
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  // The levels while the app runs and while it's cached aren't ordered by severity relative to
+  // each other, and TRIM_MEMORY_UI_HIDDEN lies in between, so each level is mapped explicitly.
+  private static int getSeverity(int level) {
+    switch (level) {
+      case TRIM_MEMORY_RUNNING_MODERATE:
+      case TRIM_MEMORY_BACKGROUND:
+        return SEVERITY_DROP_POOL;
+      case TRIM_MEMORY_RUNNING_LOW:
+      case TRIM_MEMORY_MODERATE:
+        return SEVERITY_CLEAR_CACHE;
+      case TRIM_MEMORY_RUNNING_CRITICAL:
+      case TRIM_MEMORY_COMPLETE:
+        return SEVERITY_SUSPEND_HIDDEN;
+      default:
+        return level > TRIM_MEMORY_COMPLETE ? SEVERITY_SUSPEND_HIDDEN : SEVERITY_NONE;
+    }
+  }
+}
@@ -0,0 +1,361 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.webkit.WebBackForwardList;
+import android.webkit.WebHistoryItem;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Keeps {@link WebView}s that have been constructed ahead of time.
+ *
+ * <p>Constructing the first {@link WebView} of a process loads and initializes the WebView
+ * provider, which can block the main thread for hundreds of milliseconds. A pool constructs its
+ * {@link WebView}s while the main thread is idle, one per idle pass, so that creating a {@link
+ * WebView} for Dart is usually a hit that only takes one from the pool.
+ *
+ * <p>A pool can also recycle {@link WebView}s that Dart disposed instead of destroying them. A
+ * recycled {@link WebView} is reset to a blank page and taken before any constructed one. A
+ * recycled {@link WebView} whose blank page hasn't committed by the time it's taken is destroyed
+ * instead, so it never keeps the page of its previous owner in its history.
+ *
+ * <p>The pool also times every {@link WebView} it constructs, whether ahead of time or on a miss.
+ *
+ * <p>A pool is empty until it's given a capacity. All methods must be called on the main thread.
+ */
+public class WebViewPool {
+  /** The page that recycled {@link WebView}s are reset to. */
+  static final String BLANK_URL = "about:blank";
+
+  /** Constructs the {@link WebView}s of a {@link WebViewPool}. */
+  interface WebViewFactory {
+    /**
+     * Constructs a {@link WebView}.
+     *
+     * @param useHybridComposition whether the {@link WebView} is displayed with Hybrid Composition
+     * @return the constructed {@link WebView}
+     */
+    @NonNull
+    WebView createWebView(boolean useHybridComposition);
+  }
+
+  private final WebViewFactory webViewFactory;
+  @Nullable private final MessageQueue messageQueue;
+  private final ArrayDeque<WebView> webViews = new ArrayDeque<>();
+  private final ArrayDeque<WebView> recycledWebViews = new ArrayDeque<>();
+  private final MessageQueue.IdleHandler idleHandler = this::fillOnIdle;
+
+  private int capacity;
+  private int recycleCapacity;
+  private boolean useHybridComposition;
+  private boolean idleHandlerAdded;
+  private boolean trimmed;
+  private long hitCount;
+  private long missCount;
+  private long recycleCount;
+  private long constructionCount;
+  private long totalConstructionMicros;
+  private long maxConstructionMicros;
+
+  /**
+   * Creates an empty pool.
+   *
+   * @param webViewFactory constructs the {@link WebView}s of the pool
+   * @param messageQueue queue of the main thread that reports when it is idle. The pool is never
+   *     filled if this is null.
+   */
+  WebViewPool(@NonNull WebViewFactory webViewFactory, @Nullable MessageQueue messageQueue) {
+    this.webViewFactory = webViewFactory;
+    this.messageQueue = messageQueue;
+  }
+
+  /**
+   * Sets how many {@link WebView}s the pool keeps.
+   *
+   * <p>The pool only keeps one kind of {@link WebView}, so changing the kind destroys the {@link
+   * WebView}s of the previous kind. A capacity of 0 disables the pool.
+   *
+   * @param capacity the number of {@link WebView}s to keep
+   * @param useHybridComposition whether the pool keeps {@link WebView}s for Hybrid Composition
+   *     instead of virtual displays
+   */
+  public void setCapacity(int capacity, boolean useHybridComposition) {
+    if (this.useHybridComposition != useHybridComposition) {
+      clear();
+    }
+    this.capacity = capacity;
+    this.useHybridComposition = useHybridComposition;
+    trimmed = false;
+    while (webViews.size() > capacity) {
+      webViews.removeLast().destroy();
+    }
+    scheduleFill();
+  }
+
+  /**
+   * Sets how many disposed {@link WebView}s the pool keeps for reuse.
+   *
+   * <p>Only {@link WebView}s that are obtained while recycling is enabled are recycled. A capacity
+   * of 0 disables recycling.
+   *
+   * @param recycleCapacity the number of recycled {@link WebView}s to keep
+   */
+  public void setRecycleCapacity(int recycleCapacity) {
+    this.recycleCapacity = recycleCapacity;
+    while (recycledWebViews.size() > recycleCapacity) {
+      recycledWebViews.removeLast().destroy();
+    }
+  }
+
+  /**
+   * Takes a {@link WebView} from the pool.
+   *
+   * @param useHybridComposition whether the {@link WebView} is displayed with Hybrid Composition
+   * @return a {@link WebView} of the pool, or null if the pool has none of the requested kind
+   */
+  @Nullable
+  public WebView take(boolean useHybridComposition) {
+    if (capacity == 0 && recycleCapacity == 0) {
+      return null;
+    }
+
+    WebView webView = takeRecycled(useHybridComposition);
+    if (webView == null && this.useHybridComposition == useHybridComposition) {
+      webView = webViews.pollFirst();
+    }
+    if (webView != null) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+    trimmed = false;
+    scheduleFill();
+    return webView;
+  }
+
+  /**
+   * Takes a {@link WebView} from the pool, or constructs one if the pool has none of the requested
+   * kind.
+   *
+   * @param useHybridComposition whether the {@link WebView} is displayed with Hybrid Composition
+   * @return a {@link WebView} that hasn't been used
+   */
+  @NonNull
+  public WebView obtain(boolean useHybridComposition) {
+    WebView webView = take(useHybridComposition);
+    if (webView == null) {
+      webView = construct(useHybridComposition);
+    }
+    if (webView instanceof Recyclable) {
+      ((Recyclable) webView).setRecyclable(recycleCapacity > 0);
+    }
+    return webView;
+  }
+
+  /**
+   * Handles a {@link WebView} that Dart disposed.
+   *
+   * <p>A recyclable {@link WebView} is reset and kept for reuse if it can be reused, it was
+   * detached from its platform view and the pool has room for it. Otherwise it is destroyed. Other
+   * {@link WebView}s are left alone, since they are destroyed along with their platform view.
+   *
+   * @param webView the disposed {@link WebView}
+   * @param reusable whether the {@link WebView} can be reused, e.g. it uses the current context
+   */
+  public void recycle(@NonNull WebView webView, boolean reusable) {
+    if (!(webView instanceof Recyclable) || !((Recyclable) webView).isRecyclable()) {
+      return;
+    }
+
+    if (reusable && webView.getParent() == null && recycledWebViews.size() < recycleCapacity) {
+      ((Recyclable) webView).recycle();
+      recycledWebViews.addLast(webView);
+      recycleCount++;
+    } else {
+      webView.destroy();
+    }
+  }
+
+  /**
+   * Destroys a {@link WebView} of the pool that can't be used anymore, e.g. because its renderer is
+   * gone.
+   *
+   * @param webView the {@link WebView} to destroy
+   * @return whether the {@link WebView} was in the pool
+   */
+  public boolean discard(@NonNull WebView webView) {
+    if (!webViews.remove(webView) && !recycledWebViews.remove(webView)) {
+      return false;
+    }
+    webView.destroy();
+    scheduleFill();
+    return true;
+  }
+
+  /**
+   * Destroys the {@link WebView}s of the pool.
+   *
+   * <p>The pool is filled again while the main thread is idle. This is called when the {@link
+   * android.content.Context} of new {@link WebView}s changes, so no {@link WebView} keeps the
+   * previous one.
+   */
+  public void clear() {
+    while (!webViews.isEmpty()) {
+      webViews.removeFirst().destroy();
+    }
+    while (!recycledWebViews.isEmpty()) {
+      recycledWebViews.removeFirst().destroy();
+    }
+    scheduleFill();
+  }
+
+  /**
+   * Destroys the {@link WebView}s of the pool to free memory.
+   *
+   * <p>Unlike {@link #clear}, the pool isn't filled again until a {@link WebView} is taken from it
+   * or its capacity is set.
+   *
+   * @return the number of destroyed {@link WebView}s
+   */
+  public int trim() {
+    final int size = getSize();
+    trimmed = true;
+    clear();
+    if (idleHandlerAdded) {
+      messageQueue.removeIdleHandler(idleHandler);
+      idleHandlerAdded = false;
+    }
+    return size;
+  }
+
+  /** Disables the pool and recycling and destroys the {@link WebView}s of the pool. */
+  public void release() {
+    capacity = 0;
+    recycleCapacity = 0;
+    clear();
+    if (idleHandlerAdded) {
+      messageQueue.removeIdleHandler(idleHandler);
+      idleHandlerAdded = false;
+    }
+  }
+
+  /** The number of {@link WebView}s the pool keeps. */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** The number of disposed {@link WebView}s the pool keeps for reuse. */
+  public int getRecycleCapacity() {
+    return recycleCapacity;
+  }
+
+  /** The number of {@link WebView}s in the pool, including recycled ones. */
+  public int getSize() {
+    return webViews.size() + recycledWebViews.size();
+  }
+
+  /** The number of {@link WebView}s that have been taken from the pool. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** The number of {@link WebView}s that had to be constructed because the pool had none. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** The number of disposed {@link WebView}s that have been kept for reuse. */
+  public long getRecycleCount() {
+    return recycleCount;
+  }
+
+  /** The number of {@link WebView}s that have been constructed by the pool. */
+  public long getConstructionCount() {
+    return constructionCount;
+  }
+
+  /** The total time it took to construct {@link WebView}s in microseconds. */
+  public long getTotalConstructionMicros() {
+    return totalConstructionMicros;
+  }
+
+  /** The longest time it took to construct a {@link WebView} in microseconds. */
+  public long getMaxConstructionMicros() {
+    return maxConstructionMicros;
+  }
+
+  /** Resets the hit, miss and recycle counts and the construction times. */
+  public void resetStatistics() {
+    hitCount = 0;
+    missCount = 0;
+    recycleCount = 0;
+    constructionCount = 0;
+    totalConstructionMicros = 0;
+    maxConstructionMicros = 0;
+  }
+
+  // A recycled WebView is only reused once its blank page has committed. Until then the page of
+  // the previous owner is still its current entry, which clearing the history doesn't remove, so
+  // the next owner could go back to it.
+  @Nullable
+  private WebView takeRecycled(boolean useHybridComposition) {
+    final Iterator<WebView> iterator = recycledWebViews.iterator();
+    while (iterator.hasNext()) {
+      final WebView webView = iterator.next();
+      if (!(webView instanceof InputAwareWebView) == useHybridComposition) {
+        iterator.remove();
+        webView.clearHistory();
+        if (isBlank(webView)) {
+          return webView;
+        }
+        webView.destroy();
+      }
+    }
+    return null;
+  }
+
+  private static boolean isBlank(WebView webView) {
+    final WebBackForwardList history = webView.copyBackForwardList();
+    if (history == null || history.getSize() > 1) {
+      return false;
+    }
+    final WebHistoryItem currentItem = history.getCurrentItem();
+    return currentItem != null && BLANK_URL.equals(currentItem.getUrl());
+  }
+
+  private WebView construct(boolean useHybridComposition) {
+    final long startNanos = SystemClock.elapsedRealtimeNanos();
+    final WebView webView = webViewFactory.createWebView(useHybridComposition);
+    final long constructionMicros = (SystemClock.elapsedRealtimeNanos() - startNanos) / 1000;
+
+    constructionCount++;
+    totalConstructionMicros += constructionMicros;
+    maxConstructionMicros = Math.max(maxConstructionMicros, constructionMicros);
+    return webView;
+  }
+
+  private void scheduleFill() {
+    if (!idleHandlerAdded && !trimmed && messageQueue != null && webViews.size() < capacity) {
+      messageQueue.addIdleHandler(idleHandler);
+      idleHandlerAdded = true;
+    }
+  }
+
+  // Constructs a single WebView per idle pass so input that arrives in between isn't delayed by
+  // more than one construction.
+  private boolean fillOnIdle() {
+    if (webViews.size() < capacity) {
+      webViews.addLast(construct(useHybridComposition));
+    }
+    idleHandlerAdded = webViews.size() < capacity;
+    return idleHandlerAdded;
+  }
+}
@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolStatisticsData;
+
+/**
+ * Host api implementation for {@link WebViewPool}.
+ *
+ * <p>Lets Dart size the pool of {@link android.webkit.WebView}s that are constructed ahead of time
+ * or recycled and read how often it had one ready.
+ */
+public class WebViewPoolHostApiImpl implements WebViewPoolHostApi {
+  private final WebViewPool webViewPool;
+
+  /**
+   * Creates a host API that configures a {@link WebViewPool}.
+   *
+   * @param webViewPool keeps the {@link android.webkit.WebView}s that are constructed ahead of time
+   */
+  public WebViewPoolHostApiImpl(WebViewPool webViewPool) {
+    this.webViewPool = webViewPool;
+  }
+
+  @Override
+  public void setCapacity(Long capacity, Boolean useHybridComposition) {
+    webViewPool.setCapacity(capacity.intValue(), useHybridComposition);
+  }
+
+  @Override
+  public void setRecycleCapacity(Long recycleCapacity) {
+    webViewPool.setRecycleCapacity(recycleCapacity.intValue());
+  }
+
+  @Override
+  public WebViewPoolStatisticsData getStatistics() {
+    return new WebViewPoolStatisticsData.Builder()
+        .setCapacity((long) webViewPool.getCapacity())
+        .setSize((long) webViewPool.getSize())
+        .setHitCount(webViewPool.getHitCount())
+        .setMissCount(webViewPool.getMissCount())
+        .setRecycleCount(webViewPool.getRecycleCount())
+        .setConstructionCount(webViewPool.getConstructionCount())
+        .setTotalConstructionMicros(webViewPool.getTotalConstructionMicros())
+        .setMaxConstructionMicros(webViewPool.getMaxConstructionMicros())
+        .build();
+  }
+
+  @Override
+  public void resetStatistics() {
+    webViewPool.resetStatistics();
+  }
+}
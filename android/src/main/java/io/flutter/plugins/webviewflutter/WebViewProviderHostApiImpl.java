@@ -0,0 +1,31 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewProviderHostApi;
+
+/**
+ * Host api implementation for {@link WebViewProviderWarmUp}.
+ *
+ * <p>Lets Dart load the WebView provider ahead of time and measure how long it took.
+ */
+public class WebViewProviderHostApiImpl implements WebViewProviderHostApi {
+  private final WebViewProviderWarmUp warmUp;
+
+  /**
+   * Creates a host API that starts and reports a {@link WebViewProviderWarmUp}.
+   *
+   * @param warmUp loads the WebView provider of the process
+   */
+  public WebViewProviderHostApiImpl(WebViewProviderWarmUp warmUp) {
+    this.warmUp = warmUp;
+  }
+
+  @Override
+  public void warmUp(Result<Long> result) {
+    warmUp.warmUp(result);
+  }
+}
@@ -0,0 +1,145 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.webkit.WebSettings;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads the WebView provider of the process on a background thread.
+ *
+ * <p>The first {@link android.webkit.WebView} constructed in a process loads the WebView provider
+ * unless it's already loaded. Loading it ahead of time on another thread moves that cost off the
+ * main thread. The provider is loaded by {@link WebSettings#getDefaultUserAgent}, which may be
+ * called from any thread, and a {@link android.webkit.WebView} that is constructed while it runs
+ * waits for it instead of loading the provider a second time.
+ *
+ * <p>The provider is loaded at most once per process. All methods must be called on the main
+ * thread, and results are delivered on the main thread.
+ */
+public class WebViewProviderWarmUp {
+  private static final String THREAD_NAME = "WebViewProviderWarmUp";
+
+  @Nullable private static WebViewProviderWarmUp instance;
+
+  private final Runnable warmUpTask;
+  private final Executor executor;
+  private final Handler mainThreadHandler;
+  private final List<Result<Long>> pendingResults = new ArrayList<>();
+
+  private boolean started;
+  @Nullable private Long durationMillis;
+  @Nullable private Throwable error;
+
+  /**
+   * Returns the warm-up of the WebView provider of this process.
+   *
+   * @param context any context of the application
+   * @return the warm-up of the WebView provider
+   */
+  public static synchronized WebViewProviderWarmUp getInstance(Context context) {
+    if (instance == null) {
+      final Context applicationContext = context.getApplicationContext();
+      instance =
+          new WebViewProviderWarmUp(
+              () -> WebSettings.getDefaultUserAgent(applicationContext),
+              runnable -> new Thread(runnable, THREAD_NAME).start(),
+              new Handler(Looper.getMainLooper()));
+    }
+    return instance;
+  }
+
+  /**
+   * Creates a warm-up that hasn't started.
+   *
+   * @param warmUpTask loads the WebView provider
+   * @param executor runs {@code warmUpTask} off the main thread
+   * @param mainThreadHandler handler of the main thread that results are delivered on
+   */
+  WebViewProviderWarmUp(
+      @NonNull Runnable warmUpTask,
+      @NonNull Executor executor,
+      @NonNull Handler mainThreadHandler) {
+    this.warmUpTask = warmUpTask;
+    this.executor = executor;
+    this.mainThreadHandler = mainThreadHandler;
+  }
+
+  /** Starts loading the WebView provider unless it has already started. */
+  public void start() {
+    if (started) {
+      return;
+    }
+    started = true;
+
+    final long startMillis = SystemClock.elapsedRealtime();
+    executor.execute(
+        () -> {
+          Throwable taskError = null;
+          try {
+            warmUpTask.run();
+          } catch (RuntimeException exception) {
+            taskError = exception;
+          }
+          final long taskDurationMillis = SystemClock.elapsedRealtime() - startMillis;
+          final Throwable finalTaskError = taskError;
+          mainThreadHandler.post(() -> complete(taskDurationMillis, finalTaskError));
+        });
+  }
+
+  /**
+   * Starts loading the WebView provider unless it has already started and reports how long it
+   * took.
+   *
+   * @param result receives the time it took to load the WebView provider in milliseconds, or the
+   *     error that loading it failed with
+   */
+  public void warmUp(@NonNull Result<Long> result) {
+    if (durationMillis != null) {
+      result.success(durationMillis);
+    } else if (error != null) {
+      result.error(error);
+    } else {
+      pendingResults.add(result);
+      start();
+    }
+  }
+
+  /**
+   * The time it took to load the WebView provider in milliseconds.
+   *
+   * @return the duration of the warm-up, or null if it hasn't finished or failed
+   */
+  @Nullable
+  public Long getDurationMillis() {
+    return durationMillis;
+  }
+
+  private void complete(long taskDurationMillis, @Nullable Throwable taskError) {
+    if (taskError != null) {
+      error = taskError;
+    } else {
+      durationMillis = taskDurationMillis;
+    }
+
+    for (Result<Long> result : pendingResults) {
+      if (taskError != null) {
+        result.error(taskError);
+      } else {
+        result.success(taskDurationMillis);
+      }
+    }
+    pendingResults.clear();
+  }
+}
@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.os.Bundle;
+import android.webkit.RenderProcessGoneDetail;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewRecoveryFlutterApi;
+
+/**
+ * Replaces {@link WebView}s whose renderer process is gone.
+ *
+ * <p>When the renderer of a {@link WebView} crashes or is killed to free memory, the {@link
+ * WebView} can't be used anymore and the whole app is killed unless its {@link WebViewClient}
+ * handles {@link WebViewClient#onRenderProcessGone}. A recovery constructs a replacement and pairs
+ * it with the same Dart object, moves the clients, JavaScript channels and settings of the dead
+ * {@link WebView} to it and restores its navigation history, which is kept in the app's process.
+ * Dart is then told to create a new platform view, and the dead {@link WebView} is destroyed once
+ * its platform view is disposed.
+ *
+ * <p>{@link WebView}s that aren't paired with a Dart object, such as the ones of a {@link
+ * WebViewPool}, are only discarded. All methods must be called on the main thread.
+ */
+public class WebViewRecovery {
+  /** A {@link WebView} whose Dart state can be moved to a replacement. */
+  interface Recoverable {
+    /**
+     * Sets the recovery that handles the loss of the renderer of the {@link WebView}.
+     *
+     * @param recovery the recovery, or null to let the renderer loss kill the app
+     */
+    void setRecovery(@Nullable WebViewRecovery recovery);
+
+    /** The recovery that handles the loss of the renderer of the {@link WebView}. */
+    @Nullable
+    WebViewRecovery getRecovery();
+
+    /**
+     * Moves everything that Dart attached to the {@link WebView} to a replacement.
+     *
+     * <p>The moved clients and JavaScript channels are no longer released by the {@link WebView}.
+     *
+     * @param replacement a {@link WebView} that hasn't been used
+     */
+    void moveStateTo(@NonNull WebView replacement);
+  }
+
+  /**
+   * Client of {@link WebView}s that Dart hasn't given a {@link WebViewClient}.
+   *
+   * <p>Without a client that handles it, the loss of a renderer kills the app, even if the {@link
+   * WebView} is only kept in a {@link WebViewPool}.
+   */
+  static class DefaultWebViewClient extends WebViewClient {
+    @RequiresApi(Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(WebView view, RenderProcessGoneDetail detail) {
+      return WebViewRecovery.onRenderProcessGone(view, detail.didCrash());
+    }
+  }
+
+  private final InstanceManager instanceManager;
+  private final WebViewPool.WebViewFactory webViewFactory;
+  private final WebViewPool webViewPool;
+  private final WebViewSuspender webViewSuspender;
+  private final JavaScriptEvaluationQueue javaScriptEvaluationQueue;
+  @Nullable private WebViewRecoveryFlutterApi flutterApi;
+
+  /**
+   * Creates a recovery that doesn't report to Dart until it's given a Flutter API.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewFactory constructs the replacements of dead {@link WebView}s
+   * @param webViewPool the pool that dead {@link WebView}s are discarded from
+   * @param webViewSuspender the suspender that tracks the dead {@link WebView}s
+   * @param javaScriptEvaluationQueue the queue whose scripts for dead {@link WebView}s are failed
+   */
+  public WebViewRecovery(
+      @NonNull InstanceManager instanceManager,
+      @NonNull WebViewPool.WebViewFactory webViewFactory,
+      @NonNull WebViewPool webViewPool,
+      @NonNull WebViewSuspender webViewSuspender,
+      @NonNull JavaScriptEvaluationQueue javaScriptEvaluationQueue) {
+    this.instanceManager = instanceManager;
+    this.webViewFactory = webViewFactory;
+    this.webViewPool = webViewPool;
+    this.webViewSuspender = webViewSuspender;
+    this.javaScriptEvaluationQueue = javaScriptEvaluationQueue;
+  }
+
+  /**
+   * Sets the Flutter API that is told about replaced {@link WebView}s.
+   *
+   * @param flutterApi handles sending messages to Dart, or null to stop reporting
+   */
+  public void setFlutterApi(@Nullable WebViewRecoveryFlutterApi flutterApi) {
+    this.flutterApi = flutterApi;
+  }
+
+  /**
+   * Handles the loss of the renderer of a {@link WebView} for a {@link WebViewClient}.
+   *
+   * @param webView the {@link WebView} whose renderer is gone
+   * @param didCrash whether the renderer crashed instead of being killed by the system
+   * @return whether the loss was handled. The app is killed otherwise.
+   */
+  static boolean onRenderProcessGone(@NonNull WebView webView, boolean didCrash) {
+    if (webView instanceof Recoverable) {
+      final WebViewRecovery recovery = ((Recoverable) webView).getRecovery();
+      if (recovery != null) {
+        recovery.recover(webView, didCrash);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces a {@link WebView} whose renderer is gone.
+   *
+   * @param webView a {@link Recoverable} {@link WebView} whose renderer is gone
+   * @param didCrash whether the renderer crashed instead of being killed by the system
+   */
+  void recover(@NonNull WebView webView, boolean didCrash) {
+    final Long instanceId = instanceManager.getInstanceId(webView);
+    if (instanceId == null) {
+      webViewPool.discard(webView);
+      return;
+    }
+    // The page the scripts were queued for is gone, and the replacement hasn't loaded it yet.
+    javaScriptEvaluationQueue.cancel(webView);
+
+    final Bundle state = new Bundle();
+    final boolean stateSaved = webView.saveState(state) != null;
+    final WebView replacement =
+        webViewFactory.createWebView(!(webView instanceof InputAwareWebView));
+
+    final WebSettings settings = webView.getSettings();
+    WebSettingsHostApiImpl.copySettings(settings, replacement.getSettings());
+    final Long settingsInstanceId = instanceManager.getInstanceId(settings);
+    if (settingsInstanceId != null) {
+      instanceManager.addWeakInstance(replacement.getSettings(), settingsInstanceId);
+    }
+    ((Recoverable) webView).moveStateTo(replacement);
+    webViewSuspender.replace(webView, replacement);
+    instanceManager.addInstance(replacement, instanceId);
+
+    final boolean stateRestored = stateSaved && replacement.restoreState(state) != null;
+    if (flutterApi != null) {
+      flutterApi.onRenderProcessGone(instanceId, didCrash, stateRestored, reply -> {});
+    }
+  }
+}
@@ -0,0 +1,309 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Parcel;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.WebViewCompat;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the state of {@link android.webkit.WebView}s on disk so it survives the process.
+ *
+ * <p>A snapshot is the {@link Bundle} filled by {@link android.webkit.WebView#saveState}, which
+ * holds the back/forward list and the page state of each entry, including its scroll position.
+ * Each snapshot is kept compressed in its own file, named after a key such as the id of a tab.
+ * Snapshots are written and read on a single background thread, in the order they were requested.
+ *
+ * <p>A {@link Bundle} is stored as the bytes of a {@link Parcel}, which are only meant to be read
+ * by the same build of Android and WebView that wrote them. Each snapshot is tagged with both
+ * versions, and a snapshot written by other versions is deleted instead of restored.
+ *
+ * <p>The snapshots are bounded by a total size. When they grow past it, the snapshots that were
+ * least recently saved or restored are deleted first.
+ *
+ * <p>There is a single store per process. All methods must be called on the main thread, and
+ * results are delivered on the main thread.
+ */
+public class WebViewStateStore {
+  private static final String THREAD_NAME = "WebViewStateStore";
+  private static final String DIRECTORY_NAME = "webview_flutter_state";
+  private static final String SNAPSHOT_SUFFIX = ".state";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  /** The total size of the snapshots until a store is given another one. */
+  static final long DEFAULT_MAX_SIZE_BYTES = 4 * 1024 * 1024;
+
+  @Nullable private static WebViewStateStore instance;
+
+  private final File directory;
+  private final String snapshotVersion;
+  private final Executor executor;
+  private final Handler mainThreadHandler;
+  private volatile long maxSizeBytes = DEFAULT_MAX_SIZE_BYTES;
+
+  /**
+   * Returns the store of this process.
+   *
+   * @param context any context of the application
+   * @return the store of {@link android.webkit.WebView} snapshots
+   */
+  public static synchronized WebViewStateStore getInstance(Context context) {
+    if (instance == null) {
+      instance =
+          new WebViewStateStore(
+              new File(context.getApplicationContext().getCacheDir(), DIRECTORY_NAME),
+              getSnapshotVersion(context),
+              Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, THREAD_NAME)),
+              new Handler(Looper.getMainLooper()));
+    }
+    return instance;
+  }
+
+  /**
+   * Creates a store of the snapshots in a directory.
+   *
+   * @param directory the directory of the snapshot files. It's created when needed.
+   * @param snapshotVersion the versions of Android and WebView that snapshots are tagged with
+   * @param executor runs the file operations off the main thread, one at a time
+   * @param mainThreadHandler handler of the main thread that results are delivered on
+   */
+  WebViewStateStore(
+      @NonNull File directory,
+      @NonNull String snapshotVersion,
+      @NonNull Executor executor,
+      @NonNull Handler mainThreadHandler) {
+    this.directory = directory;
+    this.snapshotVersion = snapshotVersion;
+    this.executor = executor;
+    this.mainThreadHandler = mainThreadHandler;
+  }
+
+  /**
+   * Sets the total size of the snapshots and deletes the least recently used ones that don't fit.
+   *
+   * @param maxSizeBytes the number of bytes the snapshot files may take
+   */
+  public void setMaxSize(long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+    executor.execute(this::evict);
+  }
+
+  /**
+   * Writes a snapshot, replacing the previous snapshot of the key.
+   *
+   * @param key the key of the snapshot
+   * @param state the state saved by {@link android.webkit.WebView#saveState}. It must not be
+   *     changed afterwards.
+   */
+  public void save(@NonNull String key, @NonNull Bundle state) {
+    executor.execute(
+        () -> {
+          try {
+            write(getFile(key), marshall(state));
+          } catch (IOException exception) {
+            // Snapshots are only an optimization, so the previous snapshot is dropped instead.
+            getFile(key).delete();
+          }
+          evict();
+        });
+  }
+
+  /**
+   * Reads a snapshot.
+   *
+   * @param key the key of the snapshot
+   * @param result receives the state to pass to {@link android.webkit.WebView#restoreState}, or
+   *     null if the key has no snapshot that can be read by the current versions of Android and
+   *     WebView
+   */
+  public void restore(@NonNull String key, @NonNull Result<Bundle> result) {
+    executor.execute(
+        () -> {
+          final File file = getFile(key);
+          Bundle state = null;
+          if (file.exists()) {
+            try {
+              final byte[] bytes = read(file);
+              if (bytes != null) {
+                state = unmarshall(bytes);
+                file.setLastModified(System.currentTimeMillis());
+              } else {
+                file.delete();
+              }
+            } catch (IOException | RuntimeException exception) {
+              file.delete();
+            }
+          }
+          final Bundle finalState = state;
+          mainThreadHandler.post(() -> result.success(finalState));
+        });
+  }
+
+  /**
+   * Deletes a snapshot.
+   *
+   * @param key the key of the snapshot
+   */
+  public void remove(@NonNull String key) {
+    executor.execute(() -> getFile(key).delete());
+  }
+
+  /** Deletes every snapshot. */
+  public void clear() {
+    executor.execute(
+        () -> {
+          final File[] files = directory.listFiles();
+          if (files != null) {
+            for (File file : files) {
+              file.delete();
+            }
+          }
+        });
+  }
+
+  // Keeps the most recently used snapshots that fit in maxSizeBytes.
+  private void evict() {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+
+    final long[] lastModified = new long[files.length];
+    for (int i = 0; i < files.length; i++) {
+      lastModified[i] = files[i].lastModified();
+    }
+    final Integer[] order = new Integer[files.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(lastModified[b], lastModified[a]));
+
+    long sizeBytes = 0;
+    for (Integer index : order) {
+      sizeBytes += files[index].length();
+      if (sizeBytes > maxSizeBytes) {
+        files[index].delete();
+      }
+    }
+  }
+
+  File getFile(String key) {
+    final byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(Charset.forName("UTF-8")));
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException(exception);
+    }
+
+    final StringBuilder name = new StringBuilder();
+    for (byte b : digest) {
+      name.append(String.format("%02x", b));
+    }
+    return new File(directory, name.append(SNAPSHOT_SUFFIX).toString());
+  }
+
+  // Writes to a temporary file first so a snapshot is never left half written.
+  private void write(File file, byte[] bytes) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Unable to create " + directory);
+    }
+
+    final File temporaryFile = new File(directory, file.getName() + TEMPORARY_SUFFIX);
+    try (DataOutputStream output =
+        new DataOutputStream(new GZIPOutputStream(new FileOutputStream(temporaryFile)))) {
+      output.writeUTF(snapshotVersion);
+      output.write(bytes);
+    }
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      throw new IOException("Unable to write " + file);
+    }
+  }
+
+  // Returns null if the snapshot was written by other versions of Android or WebView.
+  @Nullable
+  private byte[] read(File file) throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(new GZIPInputStream(new FileInputStream(file)))) {
+      if (!snapshotVersion.equals(input.readUTF())) {
+        return null;
+      }
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      int count;
+      while ((count = input.read(buffer)) != -1) {
+        output.write(buffer, 0, count);
+      }
+      return output.toByteArray();
+    }
+  }
+
+  private static byte[] marshall(Bundle state) {
+    final Parcel parcel = Parcel.obtain();
+    try {
+      parcel.writeBundle(state);
+      return parcel.marshall();
+    } finally {
+      parcel.recycle();
+    }
+  }
+
+  private static Bundle unmarshall(byte[] bytes) {
+    final Parcel parcel = Parcel.obtain();
+    try {
+      parcel.unmarshall(bytes, 0, bytes.length);
+      parcel.setDataPosition(0);
+      final Bundle state = parcel.readBundle(WebViewStateStore.class.getClassLoader());
+      // A Bundle is only unparceled when it's first accessed, so a snapshot that can't be read
+      // would otherwise throw on the main thread once it's restored.
+      if (state != null) {
+        state.size();
+      }
+      return state;
+    } finally {
+      parcel.recycle();
+    }
+  }
+
+  // PackageInfo#versionCode is only deprecated for versions that are larger than an int.
+  @SuppressWarnings("deprecation")
+  private static String getSnapshotVersion(Context context) {
+    final StringBuilder version = new StringBuilder(Build.FINGERPRINT);
+    final PackageInfo webViewPackage = WebViewCompat.getCurrentWebViewPackage(context);
+    if (webViewPackage != null) {
+      version
+          .append('/')
+          .append(webViewPackage.packageName)
+          .append('/')
+          .append(webViewPackage.versionName)
+          .append('/')
+          .append(webViewPackage.versionCode);
+    }
+    return version.toString();
+  }
+}
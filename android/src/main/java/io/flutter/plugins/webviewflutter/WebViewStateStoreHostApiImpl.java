@@ -0,0 +1,83 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Bundle;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewStateStoreHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
+
+/**
+ * Host api implementation for {@link WebViewStateStore}.
+ *
+ * <p>Saves the state of a {@link WebView} under a key and restores it into a new {@link WebView},
+ * which brings back its navigation history and scroll position without loading every page again.
+ */
+public class WebViewStateStoreHostApiImpl implements WebViewStateStoreHostApi {
+  private final InstanceManager instanceManager;
+  private final WebViewStateStore stateStore;
+
+  /**
+   * Creates a host API that saves and restores the state of {@link WebView}s.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param stateStore keeps the snapshots of the {@link WebView}s on disk
+   */
+  public WebViewStateStoreHostApiImpl(
+      InstanceManager instanceManager, WebViewStateStore stateStore) {
+    this.instanceManager = instanceManager;
+    this.stateStore = stateStore;
+  }
+
+  @Override
+  public void setMaxSize(Long maxBytes) {
+    stateStore.setMaxSize(maxBytes);
+  }
+
+  @Override
+  public void saveState(Long webViewInstanceId, String key) {
+    final WebView webView = instanceManager.getInstance(webViewInstanceId, TypeTag.WEB_VIEW);
+    final Bundle state = new Bundle();
+    if (webView.saveState(state) != null) {
+      stateStore.save(key, state);
+    } else {
+      // A WebView without history has nothing to restore, so an older snapshot would be stale.
+      stateStore.remove(key);
+    }
+  }
+
+  @Override
+  public void restoreState(Long webViewInstanceId, String key, Result<Boolean> result) {
+    stateStore.restore(
+        key,
+        new Result<Bundle>() {
+          @Override
+          public void success(Bundle state) {
+            // The WebView may have been disposed while the snapshot was read.
+            final Object webView = instanceManager.getInstance(webViewInstanceId);
+            result.success(
+                state != null
+                    && webView instanceof WebView
+                    && ((WebView) webView).restoreState(state) != null);
+          }
+
+          @Override
+          public void error(Throwable error) {
+            result.error(error);
+          }
+        });
+  }
+
+  @Override
+  public void remove(String key) {
+    stateStore.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    stateStore.clear();
+  }
+}
@@ -0,0 +1,463 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suspends {@link WebView}s while they can't be seen.
+ *
+ * <p>A {@link WebView} that is covered by another route or scrolled out of a {@code PageView} keeps
+ * running timers, animations and JavaScript. A suspender calls {@link WebView#onPause} on a {@link
+ * WebView} once it has been hidden for a grace period, or once the activity has stopped, and calls
+ * {@link WebView#onResume} as soon as it's shown again.
+ *
+ * <p>A suspender can also pause JavaScript timers with {@link WebView#pauseTimers}. The timers are
+ * paused for the whole process, including the {@link WebView}s of other activities that no
+ * suspender tracks, so they are only paused while every suspender with {@link WebView}s pauses
+ * timers and has suspended all of them.
+ *
+ * <p>A suspender can also manage the renderer priority of its {@link WebView}s on Android O and
+ * above. Shown {@link WebView}s are given an important renderer while hidden ones waive their
+ * priority, so the system kills the renderers of hidden {@link WebView}s first when memory is low.
+ *
+ * <p>Only {@link WebView}s that report their visibility through {@link Observable} are suspended
+ * while hidden, and only after they have been shown once. {@link WebView}s can be excluded, e.g.
+ * while they play audio.
+ *
+ * <p>A suspender is disabled until it's given a policy. All methods must be called on the main
+ * thread.
+ */
+public class WebViewSuspender {
+  /** A {@link WebView} that reports when it's shown, hidden or disposed. */
+  interface Observable {
+    /**
+     * Sets the observer of the {@link WebView}.
+     *
+     * @param observer receives the changes of the {@link WebView}, or null to stop reporting them
+     */
+    void setSuspenderObserver(@Nullable Observer observer);
+  }
+
+  /** Receives the changes of an {@link Observable} {@link WebView}. */
+  interface Observer {
+    /**
+     * Called when a {@link WebView} is shown or hidden.
+     *
+     * @param webView the {@link WebView} that changed
+     * @param visible whether the {@link WebView} and all its ancestors are visible in a visible
+     *     window
+     */
+    void onVisibilityChanged(@NonNull WebView webView, boolean visible);
+
+    /**
+     * Called when the platform view of a {@link WebView} is disposed, before it's destroyed.
+     *
+     * @param webView the disposed {@link WebView}
+     */
+    void onDisposed(@NonNull WebView webView);
+  }
+
+  private static class Entry {
+    boolean visible;
+    boolean shown;
+    boolean excluded;
+    boolean suspended;
+    boolean suspendedUntilShown;
+    int rendererPriority = UNMANAGED_RENDERER_PRIORITY;
+    @Nullable Runnable pendingSuspension;
+  }
+
+  private static final int UNMANAGED_RENDERER_PRIORITY = -1;
+
+  // Timers are paused for every WebView of the process, so they're only paused once every
+  // suspender of the process pauses timers and has suspended all of its WebViews.
+  private static final Set<WebViewSuspender> suspendersWithWebViews = new HashSet<>();
+  private static boolean timersPaused;
+
+  private final Handler handler;
+  private final Map<WebView, Entry> entries = new HashMap<>();
+  private final Observer observer =
+      new Observer() {
+        @Override
+        public void onVisibilityChanged(@NonNull WebView webView, boolean visible) {
+          setVisible(webView, visible);
+        }
+
+        @Override
+        public void onDisposed(@NonNull WebView webView) {
+          remove(webView);
+        }
+      };
+  private final Application.ActivityLifecycleCallbacks activityCallbacks =
+      new Application.ActivityLifecycleCallbacks() {
+        @Override
+        public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle state) {}
+
+        @Override
+        public void onActivityStarted(@NonNull Activity activity) {
+          if (activity == WebViewSuspender.this.activity) {
+            setActivityStarted(true);
+          }
+        }
+
+        @Override
+        public void onActivityResumed(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityPaused(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityStopped(@NonNull Activity activity) {
+          if (activity == WebViewSuspender.this.activity) {
+            setActivityStarted(false);
+          }
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(
+            @NonNull Activity activity, @NonNull Bundle state) {}
+
+        @Override
+        public void onActivityDestroyed(@NonNull Activity activity) {}
+      };
+
+  private boolean enabled;
+  private long gracePeriodMillis;
+  private boolean pausesTimers;
+  private boolean managesRendererPriority;
+  private boolean activityStarted = true;
+  @Nullable private Activity activity;
+
+  /**
+   * Creates a disabled suspender.
+   *
+   * @param handler handler of the main thread that suspends {@link WebView}s after the grace period
+   */
+  public WebViewSuspender(@NonNull Handler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * Sets when {@link WebView}s are suspended.
+   *
+   * <p>Disabling the suspender resumes every suspended {@link WebView}. Timers that are paused are
+   * resumed as soon as the suspender stops pausing them.
+   *
+   * @param enabled whether {@link WebView}s are suspended
+   * @param gracePeriodMillis how long a {@link WebView} has to be hidden before it's suspended
+   * @param pausesTimers whether the JavaScript timers of the process are paused while every tracked
+   *     {@link WebView} is suspended, which also pauses the timers of {@link WebView}s that aren't
+   *     tracked
+   */
+  public void setPolicy(boolean enabled, long gracePeriodMillis, boolean pausesTimers) {
+    this.enabled = enabled;
+    this.gracePeriodMillis = gracePeriodMillis;
+    this.pausesTimers = pausesTimers;
+    updateAll();
+  }
+
+  /**
+   * Sets whether the renderer priority of the {@link WebView}s follows their visibility.
+   *
+   * <p>Managed {@link WebView}s that aren't excluded get {@link
+   * WebView#RENDERER_PRIORITY_IMPORTANT} while shown and {@link WebView#RENDERER_PRIORITY_WAIVED}
+   * while hidden. Unmanaged {@link WebView}s are given the default policy back. This is ignored
+   * below Android O.
+   *
+   * @param managesRendererPriority whether the renderer priority is managed
+   */
+  public void setManagesRendererPriority(boolean managesRendererPriority) {
+    this.managesRendererPriority = managesRendererPriority;
+    updateAll();
+  }
+
+  /**
+   * Starts tracking a {@link WebView}.
+   *
+   * @param webView a {@link WebView} that isn't suspended
+   */
+  public void add(@NonNull WebView webView) {
+    if (entries.containsKey(webView)) {
+      return;
+    }
+
+    final Entry entry = new Entry();
+    entries.put(webView, entry);
+    if (webView instanceof Observable) {
+      ((Observable) webView).setSuspenderObserver(observer);
+    }
+    update(webView, entry);
+  }
+
+  /**
+   * Resumes a {@link WebView} if it's suspended, restores its renderer priority and stops tracking
+   * it.
+   *
+   * @param webView a {@link WebView} that is disposed
+   */
+  public void remove(@NonNull WebView webView) {
+    final Entry entry = entries.remove(webView);
+    if (entry == null) {
+      return;
+    }
+
+    if (webView instanceof Observable) {
+      ((Observable) webView).setSuspenderObserver(null);
+    }
+    resume(webView, entry);
+    restoreRendererPriority(webView, entry);
+    updateTimers(webView);
+  }
+
+  /**
+   * Tracks a {@link WebView} instead of another one that can't be used anymore.
+   *
+   * <p>The replaced {@link WebView} isn't resumed, and the replacement is only excluded if the
+   * replaced {@link WebView} was.
+   *
+   * @param webView a tracked {@link WebView} whose renderer is gone
+   * @param replacement a {@link WebView} that isn't suspended
+   */
+  public void replace(@NonNull WebView webView, @NonNull WebView replacement) {
+    final Entry entry = entries.remove(webView);
+    if (entry == null) {
+      return;
+    }
+
+    if (webView instanceof Observable) {
+      ((Observable) webView).setSuspenderObserver(null);
+    }
+    if (entry.pendingSuspension != null) {
+      handler.removeCallbacks(entry.pendingSuspension);
+    }
+    add(replacement);
+    setExcluded(replacement, entry.excluded);
+  }
+
+  /**
+   * Sets whether a {@link WebView} is never suspended, e.g. because it plays audio.
+   *
+   * @param webView a tracked {@link WebView}
+   * @param excluded whether the {@link WebView} is never suspended
+   */
+  public void setExcluded(@NonNull WebView webView, boolean excluded) {
+    final Entry entry = entries.get(webView);
+    if (entry != null) {
+      entry.excluded = excluded;
+      update(webView, entry);
+    }
+  }
+
+  /**
+   * Sets whether the activity that shows the {@link WebView}s is started.
+   *
+   * <p>Every {@link WebView} that isn't excluded is suspended while the activity is stopped.
+   *
+   * @param activityStarted whether the activity is started
+   */
+  public void setActivityStarted(boolean activityStarted) {
+    this.activityStarted = activityStarted;
+    updateAll();
+  }
+
+  /**
+   * Follows whether an activity is started.
+   *
+   * <p>The activity is assumed to be started when it's attached.
+   *
+   * @param activity the activity that shows the {@link WebView}s, or null to stop following it
+   */
+  public void setActivity(@Nullable Activity activity) {
+    if (this.activity != null) {
+      this.activity.getApplication().unregisterActivityLifecycleCallbacks(activityCallbacks);
+    }
+    this.activity = activity;
+    if (activity != null) {
+      activity.getApplication().registerActivityLifecycleCallbacks(activityCallbacks);
+    }
+    setActivityStarted(true);
+  }
+
+  /** Resumes and stops tracking every {@link WebView} and stops following the activity. */
+  public void release() {
+    setActivity(null);
+    for (WebView webView : new ArrayList<>(entries.keySet())) {
+      remove(webView);
+    }
+    enabled = false;
+  }
+
+  /**
+   * The tracked {@link WebView}s that are hidden, whether or not they are suspended.
+   *
+   * @return every {@link WebView} that has been hidden after being shown, or every {@link WebView}
+   *     while the activity is stopped
+   */
+  @NonNull
+  public List<WebView> getHiddenWebViews() {
+    final List<WebView> hiddenWebViews = new ArrayList<>();
+    for (Map.Entry<WebView, Entry> mapEntry : entries.entrySet()) {
+      if (isHidden(mapEntry.getValue())) {
+        hiddenWebViews.add(mapEntry.getKey());
+      }
+    }
+    return hiddenWebViews;
+  }
+
+  /**
+   * Suspends every hidden {@link WebView} that isn't excluded right away, even if the suspender is
+   * disabled.
+   *
+   * <p>The {@link WebView}s are resumed as soon as they're shown again or excluded.
+   *
+   * @return the number of {@link WebView}s that were suspended
+   */
+  public int suspendHidden() {
+    int suspendedCount = 0;
+    for (Map.Entry<WebView, Entry> mapEntry : entries.entrySet()) {
+      final Entry entry = mapEntry.getValue();
+      if (!entry.excluded && !entry.suspended && isHidden(entry)) {
+        if (entry.pendingSuspension != null) {
+          handler.removeCallbacks(entry.pendingSuspension);
+          entry.pendingSuspension = null;
+        }
+        suspend(mapEntry.getKey(), entry);
+        entry.suspendedUntilShown = true;
+        suspendedCount++;
+      }
+    }
+    updateTimers(null);
+    return suspendedCount;
+  }
+
+  private boolean isHidden(Entry entry) {
+    return !activityStarted || (entry.shown && !entry.visible);
+  }
+
+  private void setVisible(WebView webView, boolean visible) {
+    final Entry entry = entries.get(webView);
+    if (entry != null && entry.visible != visible) {
+      entry.visible = visible;
+      entry.shown |= visible;
+      update(webView, entry);
+    }
+  }
+
+  private void updateAll() {
+    for (Map.Entry<WebView, Entry> mapEntry : entries.entrySet()) {
+      updateEntry(mapEntry.getKey(), mapEntry.getValue());
+    }
+    updateTimers(null);
+  }
+
+  private void update(WebView webView, Entry entry) {
+    updateEntry(webView, entry);
+    updateTimers(null);
+  }
+
+  private void updateEntry(WebView webView, Entry entry) {
+    final boolean hidden = isHidden(entry);
+    if (managesRendererPriority && !entry.excluded) {
+      setRendererPriority(
+          webView,
+          entry,
+          hidden ? WebView.RENDERER_PRIORITY_WAIVED : WebView.RENDERER_PRIORITY_IMPORTANT);
+    } else {
+      restoreRendererPriority(webView, entry);
+    }
+    if (entry.suspendedUntilShown && hidden && !entry.excluded) {
+      return;
+    }
+    if (!enabled || entry.excluded || !hidden) {
+      resume(webView, entry);
+    } else if (!entry.suspended && entry.pendingSuspension == null) {
+      entry.pendingSuspension =
+          () -> {
+            entry.pendingSuspension = null;
+            suspend(webView, entry);
+            updateTimers(null);
+          };
+      handler.postDelayed(entry.pendingSuspension, gracePeriodMillis);
+    }
+  }
+
+  private void suspend(WebView webView, Entry entry) {
+    entry.suspended = true;
+    webView.onPause();
+  }
+
+  private void resume(WebView webView, Entry entry) {
+    if (entry.pendingSuspension != null) {
+      handler.removeCallbacks(entry.pendingSuspension);
+      entry.pendingSuspension = null;
+    }
+    entry.suspendedUntilShown = false;
+    if (entry.suspended) {
+      entry.suspended = false;
+      webView.onResume();
+    }
+  }
+
+  // Managed WebViews always waive their priority when not visible, so only the priority has to be
+  // compared to know whether the policy changed.
+  private static void setRendererPriority(WebView webView, Entry entry, int rendererPriority) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+        && entry.rendererPriority != rendererPriority) {
+      entry.rendererPriority = rendererPriority;
+      webView.setRendererPriorityPolicy(rendererPriority, true);
+    }
+  }
+
+  // Restores the default policy of a WebView that was managed.
+  private static void restoreRendererPriority(WebView webView, Entry entry) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+        && entry.rendererPriority != UNMANAGED_RENDERER_PRIORITY) {
+      entry.rendererPriority = UNMANAGED_RENDERER_PRIORITY;
+      webView.setRendererPriorityPolicy(WebView.RENDERER_PRIORITY_IMPORTANT, false);
+    }
+  }
+
+  // `removedWebView` calls resumeTimers when it was the last WebView of the process.
+  private void updateTimers(@Nullable WebView removedWebView) {
+    if (entries.isEmpty()) {
+      suspendersWithWebViews.remove(this);
+    } else {
+      suspendersWithWebViews.add(this);
+    }
+
+    boolean pauseTimers = !suspendersWithWebViews.isEmpty();
+    WebView anyWebView = removedWebView;
+    for (WebViewSuspender suspender : suspendersWithWebViews) {
+      pauseTimers &= suspender.pausesTimers;
+      for (Map.Entry<WebView, Entry> mapEntry : suspender.entries.entrySet()) {
+        pauseTimers &= mapEntry.getValue().suspended;
+        anyWebView = mapEntry.getKey();
+      }
+    }
+
+    if (pauseTimers != timersPaused && anyWebView != null) {
+      timersPaused = pauseTimers;
+      if (pauseTimers) {
+        anyWebView.pauseTimers();
+      } else {
+        anyWebView.resumeTimers();
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewSuspensionHostApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
+
+/**
+ * Host api implementation for {@link WebViewSuspender}.
+ *
+ * <p>Lets Dart choose when hidden {@link WebView}s are suspended, exclude {@link WebView}s and
+ * manage the priority of their renderers.
+ */
+public class WebViewSuspensionHostApiImpl implements WebViewSuspensionHostApi {
+  private final InstanceManager instanceManager;
+  private final WebViewSuspender webViewSuspender;
+
+  /**
+   * Creates a host API that configures a {@link WebViewSuspender}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewSuspender suspends the {@link WebView}s created by Dart while they are hidden
+   */
+  public WebViewSuspensionHostApiImpl(
+      InstanceManager instanceManager, WebViewSuspender webViewSuspender) {
+    this.instanceManager = instanceManager;
+    this.webViewSuspender = webViewSuspender;
+  }
+
+  @Override
+  public void setPolicy(Boolean enabled, Long gracePeriodMillis, Boolean pausesTimers) {
+    webViewSuspender.setPolicy(enabled, gracePeriodMillis, pausesTimers);
+  }
+
+  @Override
+  public void setExcluded(Long webViewInstanceId, Boolean excluded) {
+    final WebView webView = instanceManager.getInstance(webViewInstanceId, TypeTag.WEB_VIEW);
+    webViewSuspender.setExcluded(webView, excluded);
+  }
+
+  @Override
+  public void setRendererPriorityManaged(Boolean managed) {
+    webViewSuspender.setManagesRendererPriority(managed);
+  }
+}
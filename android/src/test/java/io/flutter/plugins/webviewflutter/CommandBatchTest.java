@@ -0,0 +1,130 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.BinaryMessenger.BinaryMessageHandler;
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CommandBatchTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+
+  CommandBatchBinaryMessenger commandBatchMessenger;
+  CommandBatchHostApiImpl testHostApiImpl;
+
+  @Before
+  public void setUp() {
+    commandBatchMessenger = new CommandBatchBinaryMessenger(mockBinaryMessenger);
+    testHostApiImpl = new CommandBatchHostApiImpl(commandBatchMessenger);
+  }
+
+  @Test
+  public void setsHandlersOnWrappedMessenger() {
+    final BinaryMessageHandler mockHandler = mock(BinaryMessageHandler.class);
+    commandBatchMessenger.setMessageHandler("channel", mockHandler);
+    verify(mockBinaryMessenger).setMessageHandler("channel", mockHandler);
+  }
+
+  @Test
+  public void executeBatchHandlesMessagesInOrder() {
+    final StringBuilder order = new StringBuilder();
+    commandBatchMessenger.setMessageHandler(
+        "first",
+        (message, reply) -> {
+          order.append("first ");
+          reply.reply(encodedReply(message.get()));
+        });
+    commandBatchMessenger.setMessageHandler(
+        "second",
+        (message, reply) -> {
+          order.append("second");
+          reply.reply(encodedReply((byte) 0x10));
+        });
+
+    final List<byte[]> replies =
+        testHostApiImpl.executeBatch(
+            Arrays.asList("first", new byte[] {0x01}, "second", new byte[] {0x02}));
+
+    assertEquals("first second", order.toString());
+    assertEquals(2, replies.size());
+    assertArrayEquals(new byte[] {0x01}, replies.get(0));
+    assertArrayEquals(new byte[] {0x10}, replies.get(1));
+  }
+
+  @Test
+  public void executeBatchRepliesNullWithoutHandler() {
+    final BinaryMessageHandler mockHandler = mock(BinaryMessageHandler.class);
+    commandBatchMessenger.setMessageHandler("channel", mockHandler);
+    commandBatchMessenger.setMessageHandler("channel", null);
+    commandBatchMessenger.setMessageHandler(
+        "background", mockHandler, mock(BinaryMessenger.TaskQueue.class));
+
+    final List<byte[]> replies =
+        testHostApiImpl.executeBatch(
+            Arrays.asList("channel", new byte[] {0x01}, "background", null));
+
+    assertNull(replies.get(0));
+    assertNull(replies.get(1));
+    verify(mockBinaryMessenger).setMessageHandler(eq("background"), eq(mockHandler), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void executeBatchFailsEvaluateJavascript() {
+    final WebViewHostApi mockWebViewHostApi = mock(WebViewHostApi.class);
+    WebViewHostApi.setup(commandBatchMessenger, mockWebViewHostApi);
+    final ByteBuffer message = WebViewHostApi.getCodec().encodeMessage(Arrays.asList(0L, "2 + 2"));
+    final byte[] messageBytes = new byte[message.position()];
+    message.flip();
+    message.get(messageBytes);
+
+    final List<byte[]> replies =
+        testHostApiImpl.executeBatch(
+            Arrays.asList("dev.flutter.pigeon.WebViewHostApi.evaluateJavascript", messageBytes));
+
+    final ArgumentCaptor<Result<String>> resultCaptor = ArgumentCaptor.forClass(Result.class);
+    verify(mockWebViewHostApi).evaluateJavascript(eq(0L), eq("2 + 2"), resultCaptor.capture());
+    final Map<String, Object> reply =
+        (Map<String, Object>)
+            StandardMessageCodec.INSTANCE.decodeMessage(ByteBuffer.wrap(replies.get(0)));
+    final Map<String, Object> error = (Map<String, Object>) reply.get("error");
+    assertEquals("IllegalStateException", error.get("code"));
+
+    // The late reply is dropped.
+    resultCaptor.getValue().success("4");
+    verify(mockBinaryMessenger, never()).send(any(), any(), any());
+  }
+
+  // Encoded messages end at the position of the buffer.
+  private static ByteBuffer encodedReply(byte value) {
+    final ByteBuffer reply = ByteBuffer.allocateDirect(8);
+    reply.put(value);
+    return reply;
+  }
+}
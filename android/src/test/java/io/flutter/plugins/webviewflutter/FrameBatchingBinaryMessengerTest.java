@@ -0,0 +1,202 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import android.view.Choreographer;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.BinaryMessenger.BinaryReply;
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFlutterApi;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class FrameBatchingBinaryMessengerTest {
+  private static final String ON_PROGRESS_CHANGED =
+      "dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged";
+  private static final String ON_PAGE_STARTED =
+      "dev.flutter.pigeon.WebViewClientFlutterApi.onPageStarted";
+  private static final String DISPOSE = "dev.flutter.pigeon.WebViewClientFlutterApi.dispose";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+  @Mock public Choreographer mockChoreographer;
+  @Mock public Handler mockPlatformThreadHandler;
+
+  FrameBatchingBinaryMessenger batchingMessenger;
+  WebChromeClientFlutterApi webChromeClientFlutterApi;
+  WebViewClientFlutterApi webViewClientFlutterApi;
+
+  @Before
+  public void setUp() {
+    batchingMessenger =
+        new FrameBatchingBinaryMessenger(
+            mockBinaryMessenger, mockChoreographer, mockPlatformThreadHandler);
+    batchingMessenger.addBatchedChannel(ON_PAGE_STARTED);
+    batchingMessenger.addCollapsibleChannel(ON_PROGRESS_CHANGED);
+    webChromeClientFlutterApi = new WebChromeClientFlutterApi(batchingMessenger);
+    webViewClientFlutterApi = new WebViewClientFlutterApi(batchingMessenger);
+  }
+
+  @Test
+  public void sendsMessagesOfAFrameAsOneBatch() {
+    webViewClientFlutterApi.onPageStarted(1L, 2L, "https://www.google.com", reply -> {});
+    webChromeClientFlutterApi.onProgressChanged(3L, 2L, 10L, reply -> {});
+
+    verify(mockChoreographer).postFrameCallback(any());
+    verify(mockBinaryMessenger, never()).send(any(), any(), any());
+
+    runFrameCallback();
+
+    final List<Object> batch = captureBatch(null);
+    assertEquals(4, batch.size());
+    assertEquals(ON_PAGE_STARTED, batch.get(0));
+    assertEquals(
+        Arrays.asList(1L, 2L, "https://www.google.com"),
+        WebViewClientFlutterApi.getCodec().decodeMessage(wrap(batch.get(1))));
+    assertEquals(ON_PROGRESS_CHANGED, batch.get(2));
+    assertEquals(
+        Arrays.asList(3L, 2L, 10L),
+        WebChromeClientFlutterApi.getCodec().decodeMessage(wrap(batch.get(3))));
+  }
+
+  @Test
+  public void collapsesMessagesForTheSameInstance() {
+    webChromeClientFlutterApi.onProgressChanged(3L, 2L, 10L, reply -> {});
+    webViewClientFlutterApi.onPageStarted(1L, 2L, "https://www.google.com", reply -> {});
+    webChromeClientFlutterApi.onProgressChanged(3L, 2L, 50L, reply -> {});
+    webChromeClientFlutterApi.onProgressChanged(4L, 5L, 20L, reply -> {});
+
+    runFrameCallback();
+
+    final List<Object> batch = captureBatch(null);
+    assertEquals(
+        Arrays.asList(ON_PAGE_STARTED, ON_PROGRESS_CHANGED, ON_PROGRESS_CHANGED),
+        Arrays.asList(batch.get(0), batch.get(2), batch.get(4)));
+    assertEquals(
+        Arrays.asList(3L, 2L, 50L),
+        WebChromeClientFlutterApi.getCodec().decodeMessage(wrap(batch.get(3))));
+    assertEquals(
+        Arrays.asList(4L, 5L, 20L),
+        WebChromeClientFlutterApi.getCodec().decodeMessage(wrap(batch.get(5))));
+  }
+
+  @Test
+  public void repliesWithRepliesOfHandlers() {
+    final BinaryReply mockSupersededReply = mock(BinaryReply.class);
+    final BinaryReply mockReply = mock(BinaryReply.class);
+    final BinaryReply mockOtherReply = mock(BinaryReply.class);
+    batchingMessenger.send(ON_PROGRESS_CHANGED, encodeProgress(10), mockSupersededReply);
+    batchingMessenger.send(ON_PAGE_STARTED, encodeProgress(20), mockOtherReply);
+    batchingMessenger.send(ON_PROGRESS_CHANGED, encodeProgress(50), mockReply);
+
+    runFrameCallback();
+
+    final ArgumentCaptor<BinaryReply> batchReplyCaptor = ArgumentCaptor.forClass(BinaryReply.class);
+    captureBatch(batchReplyCaptor);
+    verify(mockReply, never()).reply(any());
+
+    final ByteBuffer batchReply =
+        StandardMessageCodec.INSTANCE.encodeMessage(Arrays.asList(null, new byte[] {1, 2}));
+    batchReply.rewind();
+    batchReplyCaptor.getValue().reply(batchReply);
+    verify(mockOtherReply).reply(null);
+    final ArgumentCaptor<ByteBuffer> replyCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockSupersededReply).reply(replyCaptor.capture());
+    verify(mockReply).reply(replyCaptor.capture());
+    for (ByteBuffer reply : replyCaptor.getAllValues()) {
+      assertEquals(2, reply.position());
+      assertEquals(2, reply.get(1));
+    }
+  }
+
+  @Test
+  public void sendsOtherChannelsAfterQueuedMessages() {
+    final BinaryReply mockReply = mock(BinaryReply.class);
+    webViewClientFlutterApi.onPageStarted(1L, 2L, "https://www.google.com", reply -> {});
+    final ByteBuffer message = encodeProgress(0);
+    batchingMessenger.send(DISPOSE, message, mockReply);
+
+    final InOrder inOrder = inOrder(mockBinaryMessenger);
+    inOrder
+        .verify(mockBinaryMessenger)
+        .send(eq(FrameBatchingBinaryMessenger.BATCH_CHANNEL), any(), any());
+    inOrder.verify(mockBinaryMessenger).send(DISPOSE, message, mockReply);
+    verify(mockChoreographer).removeFrameCallback(any());
+  }
+
+  @Test
+  public void flushesAfterTimeoutWithoutAFrame() {
+    webChromeClientFlutterApi.onProgressChanged(3L, 2L, 10L, reply -> {});
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockPlatformThreadHandler)
+        .postDelayed(
+            runnableCaptor.capture(), eq(FrameBatchingBinaryMessenger.FLUSH_TIMEOUT_MILLIS));
+    runnableCaptor.getValue().run();
+
+    assertEquals(2, captureBatch(null).size());
+    verify(mockChoreographer).removeFrameCallback(any());
+  }
+
+  @Test
+  public void release() {
+    webChromeClientFlutterApi.onProgressChanged(3L, 2L, 10L, reply -> {});
+    batchingMessenger.release();
+    batchingMessenger.flush();
+
+    verify(mockChoreographer).removeFrameCallback(any());
+    verify(mockBinaryMessenger, never()).send(any(), any(), any());
+  }
+
+  private void runFrameCallback() {
+    final ArgumentCaptor<Choreographer.FrameCallback> frameCallbackCaptor =
+        ArgumentCaptor.forClass(Choreographer.FrameCallback.class);
+    verify(mockChoreographer).postFrameCallback(frameCallbackCaptor.capture());
+    frameCallbackCaptor.getValue().doFrame(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object> captureBatch(ArgumentCaptor<BinaryReply> batchReplyCaptor) {
+    final ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockBinaryMessenger)
+        .send(
+            eq(FrameBatchingBinaryMessenger.BATCH_CHANNEL),
+            messageCaptor.capture(),
+            batchReplyCaptor != null ? batchReplyCaptor.capture() : any());
+    final ByteBuffer message = messageCaptor.getValue();
+    message.rewind();
+    return (List<Object>) StandardMessageCodec.INSTANCE.decodeMessage(message);
+  }
+
+  private static ByteBuffer encodeProgress(long progress) {
+    return StandardMessageCodec.INSTANCE.encodeMessage(
+        new ArrayList<Object>(Arrays.asList(3L, 2L, progress)));
+  }
+
+  private static ByteBuffer wrap(Object bytes) {
+    return ByteBuffer.wrap((byte[]) bytes);
+  }
+}
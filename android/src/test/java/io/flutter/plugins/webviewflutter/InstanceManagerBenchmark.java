@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares {@link InstanceIdTable} with the sorted sparse array and {@link HashMap} pairing that
+ * {@link InstanceManager} previously used.
+ *
+ * <p>This is a coarse JVM microbenchmark, not a replacement for measuring on device. Remove the
+ * {@link Ignore} annotation to run it with the unit tests.
+ */
+@Ignore("Benchmark. Run manually.")
+public class InstanceManagerBenchmark {
+  private static final int LIVE_INSTANCES = 10000;
+  private static final int LOOKUPS = 2000000;
+  private static final int ITERATIONS = 10;
+
+  /** Reproduces android.util.LongSparseArray and the HashMap previously used for reverse lookups. */
+  private static class SparseArrayInstanceManager {
+    private long[] keys = new long[16];
+    private Object[] values = new Object[16];
+    private int size;
+    private final Map<Object, Long> instancesToInstanceIds = new HashMap<>();
+
+    void addInstance(Object instance, long instanceId) {
+      instancesToInstanceIds.put(instance, instanceId);
+      int index = Arrays.binarySearch(keys, 0, size, instanceId);
+      if (index >= 0) {
+        values[index] = instance;
+        return;
+      }
+      index = ~index;
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      System.arraycopy(keys, index, keys, index + 1, size - index);
+      System.arraycopy(values, index, values, index + 1, size - index);
+      keys[index] = instanceId;
+      values[index] = instance;
+      size++;
+    }
+
+    Object getInstance(long instanceId) {
+      final int index = Arrays.binarySearch(keys, 0, size, instanceId);
+      return index >= 0 ? values[index] : null;
+    }
+
+    Long getInstanceId(Object instance) {
+      return instancesToInstanceIds.get(instance);
+    }
+  }
+
+  @Test
+  public void lookupsWithTenThousandLiveInstances() {
+    final Object[] objects = new Object[LIVE_INSTANCES];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new Object();
+    }
+    final int[] order = new int[LOOKUPS];
+    final Random random = new Random(0);
+    for (int i = 0; i < order.length; i++) {
+      order[i] = random.nextInt(LIVE_INSTANCES);
+    }
+
+    final SparseArrayInstanceManager baseline = new SparseArrayInstanceManager();
+    final InstanceManager instanceManager = new InstanceManager();
+    for (int i = 0; i < objects.length; i++) {
+      baseline.addInstance(objects[i], i);
+      instanceManager.addInstance(objects[i], i);
+    }
+
+    long baselineNanos = Long.MAX_VALUE;
+    long instanceManagerNanos = Long.MAX_VALUE;
+    long checksum = 0;
+    for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+      long start = System.nanoTime();
+      for (int index : order) {
+        // Mirrors a WebViewClient callback: one forward lookup and two reverse lookups.
+        final Object instance = baseline.getInstance(index);
+        checksum += baseline.getInstanceId(instance) + baseline.getInstanceId(objects[index]);
+      }
+      baselineNanos = Math.min(baselineNanos, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      for (int index : order) {
+        final Object instance = instanceManager.getInstance(index);
+        checksum +=
+            instanceManager.getInstanceId(instance)
+                + instanceManager.getInstanceId(objects[index]);
+      }
+      instanceManagerNanos = Math.min(instanceManagerNanos, System.nanoTime() - start);
+    }
+
+    System.out.printf(
+        "%d live instances, %d lookups: sparse array + HashMap %.1f ns/op, InstanceIdTable %.1f"
+            + " ns/op (checksum %d)%n",
+        LIVE_INSTANCES,
+        LOOKUPS,
+        (double) baselineNanos / LOOKUPS,
+        (double) instanceManagerNanos / LOOKUPS,
+        checksum);
+  }
+}
@@ -0,0 +1,180 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceCreationData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceTypeStatisticsData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.LeakedInstanceData;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class InstanceManagerHostApiImplTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public InstanceManager mockInstanceManager;
+
+  @Mock public InstanceManagerFlutterApi mockFlutterApi;
+
+  @Mock public Handler mockHandler;
+
+  InstanceManagerHostApiImpl testHostApiImpl;
+
+  @Before
+  public void setUp() {
+    testHostApiImpl =
+        new InstanceManagerHostApiImpl(mockInstanceManager, mockFlutterApi, mockHandler);
+  }
+
+  @Test
+  public void setWeakReferencesEnabled() {
+    testHostApiImpl.setWeakReferencesEnabled(true);
+
+    verify(mockInstanceManager).setWeakReferencesEnabled(true);
+    verify(mockHandler)
+        .postDelayed(any(), eq(InstanceManagerHostApiImpl.COLLECTION_INTERVAL_MILLIS));
+  }
+
+  @Test
+  public void setWeakReferencesDisabledWithoutWeakInstances() {
+    testHostApiImpl.setWeakReferencesEnabled(false);
+
+    verify(mockInstanceManager).setWeakReferencesEnabled(false);
+    verify(mockHandler, never()).postDelayed(any(), anyLong());
+  }
+
+  @Test
+  public void disposeCollectedInstances() {
+    when(mockInstanceManager.removeCollectedInstances()).thenReturn(Arrays.asList(0L, 2L));
+
+    testHostApiImpl.disposeCollectedInstances();
+    verify(mockFlutterApi).disposeAll(eq(Arrays.asList(0L, 2L)), any());
+  }
+
+  @Test
+  public void disposeCollectedInstancesWithoutCollectedInstances() {
+    when(mockInstanceManager.removeCollectedInstances()).thenReturn(Collections.emptyList());
+
+    testHostApiImpl.disposeCollectedInstances();
+    verify(mockFlutterApi, never()).disposeAll(any(), any());
+  }
+
+  @Test
+  public void getStatistics() {
+    when(mockInstanceManager.getStatistics())
+        .thenReturn(
+            Collections.singletonList(
+                new InstanceManager.TypeStatistics(1, 2, 3, new long[] {2, 0})));
+
+    final List<InstanceTypeStatisticsData> statistics = testHostApiImpl.getStatistics();
+    assertEquals(1, statistics.size());
+    assertEquals((Long) 1L, statistics.get(0).getTypeTag());
+    assertEquals((Long) 2L, statistics.get(0).getLiveCount());
+    assertEquals((Long) 3L, statistics.get(0).getHighWaterMark());
+    assertEquals(Arrays.asList(2L, 0L), statistics.get(0).getAgeHistogram());
+  }
+
+  @Test
+  public void getLeakedInstances() {
+    when(mockInstanceManager.getLeakedInstances())
+        .thenReturn(Collections.singletonList(new InstanceManager.LeakedInstance(1L, 0L, 500L)));
+
+    final List<LeakedInstanceData> leakedInstances = testHostApiImpl.getLeakedInstances();
+    assertEquals(1, leakedInstances.size());
+    assertEquals((Long) 1L, leakedInstances.get(0).getInstanceId());
+    assertEquals((Long) 0L, leakedInstances.get(0).getOwnerInstanceId());
+    assertEquals((Long) 500L, leakedInstances.get(0).getAgeMillis());
+  }
+
+  @Test
+  public void createAll() {
+    final InstanceManagerHostApiImpl.CreateHandler mockCreateHandler =
+        mock(InstanceManagerHostApiImpl.CreateHandler.class);
+    testHostApiImpl.setCreateHandler(TypeTag.WEB_VIEW, mockCreateHandler);
+
+    final InstanceCreationData data =
+        new InstanceCreationData.Builder()
+            .setInstanceId((long) TypeTag.WEB_VIEW.value << 24)
+            .setFlag(false)
+            .build();
+    testHostApiImpl.createAll(Collections.singletonList(data));
+    verify(mockCreateHandler).create(data);
+  }
+
+  @Test
+  public void createAllWithoutCreateHandlerCreatesNothing() {
+    final InstanceManagerHostApiImpl.CreateHandler mockCreateHandler =
+        mock(InstanceManagerHostApiImpl.CreateHandler.class);
+    testHostApiImpl.setCreateHandler(TypeTag.WEB_VIEW, mockCreateHandler);
+
+    final InstanceCreationData webView =
+        new InstanceCreationData.Builder()
+            .setInstanceId((long) TypeTag.WEB_VIEW.value << 24)
+            .build();
+    final InstanceCreationData webStorage =
+        new InstanceCreationData.Builder()
+            .setInstanceId((long) TypeTag.WEB_STORAGE.value << 24)
+            .build();
+    try {
+      testHostApiImpl.createAll(Arrays.asList(webView, webStorage));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    verify(mockCreateHandler, never()).create(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void disposeAllRemovesEveryInstanceBeforeReleasing() {
+    final Releasable mockReleasable = mock(Releasable.class);
+    when(mockInstanceManager.removeInstanceWithId(0L)).thenReturn(mockReleasable);
+    when(mockInstanceManager.removeInstanceWithId(1L)).thenReturn(new Object());
+
+    // Ids that fit in an int are decoded as Integers.
+    final List<Object> instanceIds = Arrays.asList(0, 1L);
+    testHostApiImpl.disposeAll((List<Long>) (List<?>) instanceIds);
+
+    final InOrder inOrder = inOrder(mockInstanceManager, mockReleasable);
+    inOrder.verify(mockInstanceManager).removeInstanceWithId(0L);
+    inOrder.verify(mockInstanceManager).removeInstanceWithId(1L);
+    inOrder.verify(mockReleasable).release();
+  }
+
+  @Test
+  public void disposeAllUsesDisposeHandlerOfType() {
+    final InstanceManagerHostApiImpl.DisposeHandler mockDisposeHandler =
+        mock(InstanceManagerHostApiImpl.DisposeHandler.class);
+    testHostApiImpl.setDisposeHandler(TypeTag.WEB_VIEW, mockDisposeHandler);
+    final Releasable mockWebView = mock(Releasable.class);
+    final long webViewInstanceId = (long) TypeTag.WEB_VIEW.value << 24;
+    when(mockInstanceManager.removeInstanceWithId(webViewInstanceId)).thenReturn(mockWebView);
+
+    testHostApiImpl.disposeAll(Collections.singletonList(webViewInstanceId));
+
+    verify(mockDisposeHandler).dispose(mockWebView);
+    verify(mockWebView, never()).release();
+  }
+}
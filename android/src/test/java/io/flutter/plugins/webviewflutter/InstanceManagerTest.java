@@ -0,0 +1,313 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InstanceManagerTest {
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = new InstanceManager();
+  }
+
+  @Test
+  public void addInstance() {
+    final Object object = new Object();
+    testInstanceManager.addInstance(object, 0L);
+
+    assertSame(object, testInstanceManager.getInstance(0L));
+    assertEquals((Long) 0L, testInstanceManager.getInstanceId(object));
+  }
+
+  @Test
+  public void addInstanceReplacesExistingPairings() {
+    final Object first = new Object();
+    final Object second = new Object();
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.addInstance(second, 0L);
+
+    assertSame(second, testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(first));
+
+    testInstanceManager.addInstance(second, 1L);
+    assertNull(testInstanceManager.getInstance(0L));
+    assertEquals((Long) 1L, testInstanceManager.getInstanceId(second));
+  }
+
+  @Test
+  public void instancesAreComparedByIdentity() {
+    final String first = new String("instance");
+    final String second = new String("instance");
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.addInstance(second, 1L);
+
+    assertEquals((Long) 0L, testInstanceManager.getInstanceId(first));
+    assertEquals((Long) 1L, testInstanceManager.getInstanceId(second));
+  }
+
+  @Test
+  public void removeInstanceWithId() {
+    final Object object = new Object();
+    testInstanceManager.addInstance(object, 0L);
+
+    assertSame(object, testInstanceManager.removeInstanceWithId(0L));
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(object));
+    assertNull(testInstanceManager.removeInstanceWithId(0L));
+  }
+
+  @Test
+  public void removeInstance() {
+    final Object object = new Object();
+    testInstanceManager.addInstance(object, 0L);
+
+    assertEquals((Long) 0L, testInstanceManager.removeInstance(object));
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(object));
+    assertNull(testInstanceManager.removeInstance(object));
+  }
+
+  @Test
+  public void staleInstanceIdDoesNotMatchReusedSlot() {
+    final Object first = new Object();
+    final Object second = new Object();
+    final long secondInstanceId = 1L << 32;
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.removeInstanceWithId(0L);
+    testInstanceManager.addInstance(second, secondInstanceId);
+
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.removeInstanceWithId(0L));
+    assertSame(second, testInstanceManager.getInstance(secondInstanceId));
+  }
+
+  @Test
+  public void newerGenerationReplacesInstanceInSameSlot() {
+    final Object first = new Object();
+    final Object second = new Object();
+    testInstanceManager.addInstance(first, 0L);
+    testInstanceManager.addInstance(second, 1L << 32);
+
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(first));
+  }
+
+  @Test
+  public void getInstanceWithTypeTag() {
+    final WebView webView = mock(WebView.class);
+    final long instanceId = (long) TypeTag.WEB_VIEW.value << 24;
+    testInstanceManager.addInstance(webView, instanceId);
+
+    assertSame(webView, testInstanceManager.getInstance(instanceId, TypeTag.WEB_VIEW));
+  }
+
+  @Test
+  public void getInstanceWithoutTypeTagChecksClass() {
+    final WebView webView = mock(WebView.class);
+    testInstanceManager.addInstance(webView, 0L);
+
+    assertSame(webView, testInstanceManager.getInstance(0L, TypeTag.WEB_VIEW));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void getInstanceWithWrongTypeTagThrows() {
+    final long instanceId = (long) TypeTag.WEB_SETTINGS.value << 24;
+    testInstanceManager.addInstance(mock(WebView.class), instanceId);
+
+    testInstanceManager.getInstance(instanceId, TypeTag.WEB_VIEW);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void getInstanceWithWrongClassThrows() {
+    testInstanceManager.addInstance(new Object(), 0L);
+
+    testInstanceManager.getInstance(0L, TypeTag.WEB_VIEW);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void getInstanceWithStaleInstanceIdThrows() {
+    testInstanceManager.addInstance(mock(WebView.class), 0L);
+    testInstanceManager.removeInstanceWithId(0L);
+
+    testInstanceManager.getInstance(0L, TypeTag.WEB_VIEW);
+  }
+
+  @Test
+  public void getStatistics() {
+    final long webViewInstanceId = (long) TypeTag.WEB_VIEW.value << 24;
+    testInstanceManager.addInstance(new Object(), webViewInstanceId);
+    testInstanceManager.addInstance(new Object(), webViewInstanceId | 1);
+    testInstanceManager.addInstance(new Object(), 2L);
+    testInstanceManager.removeInstanceWithId(webViewInstanceId);
+
+    final List<InstanceManager.TypeStatistics> statistics = testInstanceManager.getStatistics();
+    assertEquals(2, statistics.size());
+
+    final InstanceManager.TypeStatistics untagged = statistics.get(0);
+    assertEquals(0, untagged.typeTag);
+    assertEquals(1, untagged.liveCount);
+    assertEquals(1, untagged.highWaterMark);
+
+    final InstanceManager.TypeStatistics webViews = statistics.get(1);
+    assertEquals(TypeTag.WEB_VIEW.value, webViews.typeTag);
+    assertEquals(1, webViews.liveCount);
+    assertEquals(2, webViews.highWaterMark);
+    assertEquals(
+        InstanceManager.AGE_HISTOGRAM_BOUNDS_MILLIS.length + 1, webViews.ageHistogram.length);
+    assertEquals(1, webViews.ageHistogram[0]);
+  }
+
+  @Test
+  public void getLeakedInstances() {
+    testInstanceManager.addInstance(new Object(), 0L);
+    testInstanceManager.addInstance(new Object(), 1L);
+    testInstanceManager.addInstance(new Object(), 2L);
+    testInstanceManager.addInstance(new Object(), 3L);
+    testInstanceManager.setOwner(1L, 0L);
+    testInstanceManager.setOwner(2L, 0L);
+    testInstanceManager.setOwner(3L, 4L);
+    assertEquals(1, testInstanceManager.getLeakedInstances().size());
+
+    testInstanceManager.removeInstanceWithId(0L);
+    testInstanceManager.removeInstanceWithId(2L);
+
+    final List<InstanceManager.LeakedInstance> leakedInstances =
+        testInstanceManager.getLeakedInstances();
+    assertEquals(2, leakedInstances.size());
+    for (InstanceManager.LeakedInstance leakedInstance : leakedInstances) {
+      assertTrue(leakedInstance.instanceId == 1L || leakedInstance.instanceId == 3L);
+      assertEquals(leakedInstance.instanceId == 1L ? 0L : 4L, leakedInstance.ownerInstanceId);
+    }
+  }
+
+  @Test
+  public void manyInstancesSurviveGrowthAndRemoval() {
+    final Object[] objects = new Object[10000];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new Object();
+      testInstanceManager.addInstance(objects[i], i);
+    }
+    for (int i = 0; i < objects.length; i += 2) {
+      testInstanceManager.removeInstance(objects[i]);
+    }
+
+    for (int i = 0; i < objects.length; i++) {
+      if (i % 2 == 0) {
+        assertNull(testInstanceManager.getInstance(i));
+        assertNull(testInstanceManager.getInstanceId(objects[i]));
+      } else {
+        assertSame(objects[i], testInstanceManager.getInstance(i));
+        assertEquals((Long) (long) i, testInstanceManager.getInstanceId(objects[i]));
+      }
+    }
+  }
+
+  @Test
+  public void readsFromAnotherThreadDuringModification() throws InterruptedException {
+    final Object[] objects = new Object[1000];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new Object();
+    }
+    final Object stableObject = objects[0];
+    testInstanceManager.addInstance(stableObject, 0L);
+
+    final AtomicBoolean done = new AtomicBoolean(false);
+    final AtomicReference<String> failure = new AtomicReference<>();
+    final Thread reader =
+        new Thread(
+            () -> {
+              while (!done.get()) {
+                for (int i = 0; i < objects.length; i++) {
+                  final Object instance = testInstanceManager.getInstance(i);
+                  final Long instanceId = testInstanceManager.getInstanceId(objects[i]);
+                  if ((instance != null && instance != objects[i])
+                      || (instanceId != null && instanceId != i)) {
+                    failure.set("Mismatched pairing for instanceId " + i);
+                  }
+                }
+                if (testInstanceManager.getInstance(0L) != stableObject) {
+                  failure.set("Lost the pairing for instanceId 0");
+                }
+              }
+            });
+    reader.start();
+
+    for (int round = 0; round < 20; round++) {
+      for (int i = 1; i < objects.length; i++) {
+        testInstanceManager.addInstance(objects[i], i);
+      }
+      for (int i = 1; i < objects.length; i++) {
+        testInstanceManager.removeInstanceWithId(i);
+      }
+    }
+    done.set(true);
+    reader.join();
+
+    assertNull(failure.get());
+  }
+
+  @Test
+  public void addWeakInstanceIsStrongWhenWeakReferencesAreDisabled() {
+    testInstanceManager.addWeakInstance(new Object(), 0L);
+
+    assertFalse(testInstanceManager.hasWeakInstances());
+    assertTrue(collectGarbage().isEmpty());
+  }
+
+  @Test
+  public void addWeakInstance() {
+    testInstanceManager.setWeakReferencesEnabled(true);
+    final Object object = new Object();
+    testInstanceManager.addWeakInstance(object, 0L);
+
+    assertTrue(testInstanceManager.hasWeakInstances());
+    assertSame(object, testInstanceManager.getInstance(0L));
+    assertEquals((Long) 0L, testInstanceManager.getInstanceId(object));
+    assertEquals((Long) 0L, testInstanceManager.removeInstance(object));
+    assertFalse(testInstanceManager.hasWeakInstances());
+  }
+
+  @Test
+  public void removeCollectedInstances() {
+    testInstanceManager.setWeakReferencesEnabled(true);
+    final Object strongObject = new Object();
+    testInstanceManager.addInstance(strongObject, 0L);
+    testInstanceManager.addWeakInstance(new Object(), 1L);
+
+    assertEquals(Collections.singletonList(1L), collectGarbage());
+    assertNull(testInstanceManager.getInstance(1L));
+    assertSame(strongObject, testInstanceManager.getInstance(0L));
+    assertFalse(testInstanceManager.hasWeakInstances());
+  }
+
+  // Garbage collection can't be forced, so this retries a bounded number of times.
+  private List<Long> collectGarbage() {
+    for (int i = 0; i < 10; i++) {
+      System.gc();
+      System.runFinalization();
+      final List<Long> instanceIds = testInstanceManager.removeCollectedInstances();
+      if (!instanceIds.isEmpty()) {
+        return instanceIds;
+      }
+    }
+    return Collections.emptyList();
+  }
+}
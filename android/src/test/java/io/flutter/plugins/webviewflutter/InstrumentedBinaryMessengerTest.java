@@ -0,0 +1,136 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.BinaryMessenger.BinaryMessageHandler;
+import io.flutter.plugin.common.BinaryMessenger.BinaryReply;
+import io.flutter.plugins.webviewflutter.BinaryMessengerStatistics.ChannelStatistics;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class InstrumentedBinaryMessengerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+
+  BinaryMessengerStatistics statistics;
+  InstrumentedBinaryMessenger instrumentedMessenger;
+
+  @Before
+  public void setUp() {
+    statistics = new BinaryMessengerStatistics();
+    statistics.setEnabled(true);
+    instrumentedMessenger = new InstrumentedBinaryMessenger(mockBinaryMessenger, statistics);
+  }
+
+  @Test
+  public void recordsSentMessages() {
+    final BinaryReply mockReply = mock(BinaryReply.class);
+    instrumentedMessenger.send("channel", encodedMessage(100), mockReply);
+    instrumentedMessenger.send("channel", encodedMessage(300), null);
+
+    final ArgumentCaptor<BinaryReply> replyCaptor = ArgumentCaptor.forClass(BinaryReply.class);
+    verify(mockBinaryMessenger, times(2)).send(eq("channel"), any(), replyCaptor.capture());
+    replyCaptor.getAllValues().get(0).reply(null);
+    verify(mockReply).reply(null);
+
+    final ChannelStatistics channelStatistics = statistics.getStatistics().get(0);
+    assertEquals("channel", channelStatistics.channel);
+    assertEquals(2, channelStatistics.messageCount);
+    assertEquals(400, channelStatistics.messageBytes);
+    assertArrayEquals(new long[] {0, 1, 1, 0, 0, 0, 0}, channelStatistics.messageSizeHistogram);
+    assertEquals(1, sum(channelStatistics.replyLatencyHistogram));
+    assertEquals(0, sum(channelStatistics.handlerTimeHistogram));
+  }
+
+  @Test
+  public void recordsReceivedMessages() {
+    final BinaryMessageHandler mockHandler = mock(BinaryMessageHandler.class);
+    instrumentedMessenger.setMessageHandler("channel", mockHandler);
+
+    final ArgumentCaptor<BinaryMessageHandler> handlerCaptor =
+        ArgumentCaptor.forClass(BinaryMessageHandler.class);
+    verify(mockBinaryMessenger).setMessageHandler(eq("channel"), handlerCaptor.capture());
+    final ByteBuffer message = ByteBuffer.wrap(new byte[20]);
+    final BinaryReply mockReply = mock(BinaryReply.class);
+    handlerCaptor.getValue().onMessage(message, mockReply);
+    verify(mockHandler).onMessage(message, mockReply);
+
+    final ChannelStatistics channelStatistics = statistics.getStatistics().get(0);
+    assertEquals(1, channelStatistics.messageCount);
+    assertEquals(20, channelStatistics.messageBytes);
+    assertEquals(1, sum(channelStatistics.handlerTimeHistogram));
+    assertEquals(0, sum(channelStatistics.replyLatencyHistogram));
+  }
+
+  @Test
+  public void keepsTaskQueueOfHandlers() {
+    final BinaryMessenger.TaskQueue mockTaskQueue = mock(BinaryMessenger.TaskQueue.class);
+    instrumentedMessenger.setMessageHandler(
+        "channel", mock(BinaryMessageHandler.class), mockTaskQueue);
+
+    verify(mockBinaryMessenger).setMessageHandler(eq("channel"), any(), eq(mockTaskQueue));
+  }
+
+  @Test
+  public void doesNotRecordWhileDisabled() {
+    statistics.setEnabled(false);
+    final BinaryReply mockReply = mock(BinaryReply.class);
+    instrumentedMessenger.send("channel", encodedMessage(100), mockReply);
+
+    verify(mockBinaryMessenger).send(eq("channel"), any(), eq(mockReply));
+    assertTrue(statistics.getStatistics().isEmpty());
+  }
+
+  @Test
+  public void formatsStatisticsOrderedByChannel() {
+    statistics.recordMessage("second", 10);
+    statistics.recordMessage("first", 70);
+    statistics.recordHandlerTime("first", 2000000);
+
+    final List<String> lines = statistics.format();
+    assertEquals(2, lines.size());
+    assertEquals(
+        "first: messages=1 bytes=70 sizes=0/1/0/0/0/0/0 handlerTimes=0/0/0/1/0/0/0"
+            + " replyLatencies=0/0/0/0/0/0/0",
+        lines.get(0));
+    assertTrue(lines.get(1).startsWith("second: messages=1 bytes=10"));
+
+    statistics.reset();
+    assertTrue(statistics.getStatistics().isEmpty());
+  }
+
+  // Encoded messages end at the position of the buffer.
+  private static ByteBuffer encodedMessage(int size) {
+    final ByteBuffer message = ByteBuffer.allocateDirect(size * 2);
+    message.position(size);
+    return message;
+  }
+
+  private static long sum(long[] histogram) {
+    long sum = 0;
+    for (long count : histogram) {
+      sum += count;
+    }
+    return sum;
+  }
+}
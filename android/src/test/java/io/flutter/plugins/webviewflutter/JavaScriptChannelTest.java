@@ -4,17 +4,28 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -62,4 +73,56 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("a message");
     verify(mockFlutterApi, never()).postMessage((JavaScriptChannel) any(), any(), any());
   }
+
+  @Test
+  public void postMessageFromAnotherThread() {
+    final Handler mockPlatformThreadHandler = mock(Handler.class);
+    when(mockPlatformThreadHandler.getLooper()).thenReturn(mock(Looper.class));
+    final JavaScriptChannel channel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mockPlatformThreadHandler);
+    when(mockFlutterApi.getInstanceId(channel)).thenReturn(1L);
+
+    channel.postMessage("A message post.");
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockPlatformThreadHandler).post(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+    verify(mockFlutterApi).postMessage(eq(1L), eq("A message post."), any());
+  }
+
+  @Test
+  public void postMessageFromAnotherThreadAfterRemoval() {
+    final Handler mockPlatformThreadHandler = mock(Handler.class);
+    when(mockPlatformThreadHandler.getLooper()).thenReturn(mock(Looper.class));
+    final JavaScriptChannel channel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mockPlatformThreadHandler);
+    when(mockFlutterApi.getInstanceId(channel)).thenReturn(null);
+
+    channel.postMessage("A message post.");
+    verify(mockPlatformThreadHandler, never()).post(any());
+  }
+
+  @Test
+  public void flutterApiEncodesArgumentsOfEverySend() {
+    final BinaryMessenger mockBinaryMessenger = mock(BinaryMessenger.class);
+    final JavaScriptChannelFlutterApiImpl flutterApi =
+        new JavaScriptChannelFlutterApiImpl(mockBinaryMessenger, instanceManager);
+
+    flutterApi.postMessage(0L, "first", reply -> {});
+    flutterApi.postMessage(1L, "second", reply -> {});
+
+    final ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockBinaryMessenger, times(2))
+        .send(
+            eq("dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessage"),
+            messageCaptor.capture(),
+            any());
+    final List<ByteBuffer> messages = messageCaptor.getAllValues();
+    assertEquals(Arrays.asList(0L, "first"), decode(messages.get(0)));
+    assertEquals(Arrays.asList(1L, "second"), decode(messages.get(1)));
+  }
+
+  private static Object decode(ByteBuffer message) {
+    message.rewind();
+    return JavaScriptChannelFlutterApi.getCodec().decodeMessage(message);
+  }
 }
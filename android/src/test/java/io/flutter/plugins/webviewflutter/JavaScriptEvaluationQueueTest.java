@@ -0,0 +1,183 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import android.view.Choreographer;
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JavaScriptEvaluationQueueTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Choreographer mockChoreographer;
+
+  @Mock public Handler mockMainThreadHandler;
+
+  @Mock public WebView mockWebView;
+
+  JavaScriptEvaluationQueue testQueue;
+
+  @Before
+  public void setUp() {
+    testQueue = new JavaScriptEvaluationQueue(mockChoreographer, mockMainThreadHandler);
+  }
+
+  @Test
+  public void singleScriptIsEvaluatedOnNextFrame() {
+    final Result<String> mockResult = mockResult();
+    testQueue.evaluate(mockWebView, "2 + 2", mockResult);
+    verify(mockWebView, never()).evaluateJavascript(anyString(), any());
+
+    runFrameCallback();
+
+    captureCallback("2 + 2").onReceiveValue("4");
+    verify(mockResult).success("4");
+  }
+
+  @Test
+  public void scriptsOfAFrameAreMerged() {
+    final Result<String> firstResult = mockResult();
+    final Result<String> secondResult = mockResult();
+    testQueue.evaluate(mockWebView, "document.title", firstResult);
+    testQueue.evaluate(mockWebView, "throw new Error('\"')", secondResult);
+    verify(mockChoreographer).postFrameCallback(any());
+
+    runFrameCallback();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    final ArgumentCaptor<String> scriptCaptor = ArgumentCaptor.forClass(String.class);
+    verify(mockWebView).evaluateJavascript(scriptCaptor.capture(), callbackCaptor.capture());
+    assertTrue(
+        scriptCaptor.getValue().contains("[\"document.title\",\"throw new Error('\\\"')\"]"));
+
+    callbackCaptor.getValue().onReceiveValue("\"\\\"Title\\\"\\nnull\"");
+    verify(firstResult).success("\"Title\"");
+    verify(secondResult).success("null");
+  }
+
+  @Test
+  public void mergedScriptsAreEvaluatedAloneWhenEvalIsBlocked() {
+    final Result<String> firstResult = mockResult();
+    final Result<String> secondResult = mockResult();
+    testQueue.evaluate(mockWebView, "1", firstResult);
+    testQueue.evaluate(mockWebView, "2", secondResult);
+    runFrameCallback();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("\"\\u0000csp\"");
+
+    captureCallback("1").onReceiveValue("1");
+    captureCallback("2").onReceiveValue("2");
+    verify(firstResult).success("1");
+    verify(secondResult).success("2");
+  }
+
+  @Test
+  public void mergedScriptsFailOnUnexpectedResult() {
+    final Result<String> firstResult = mockResult();
+    final Result<String> secondResult = mockResult();
+    testQueue.evaluate(mockWebView, "1", firstResult);
+    testQueue.evaluate(mockWebView, "2", secondResult);
+    runFrameCallback();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue(null);
+
+    verify(mockWebView, times(1)).evaluateJavascript(anyString(), any());
+    verify(firstResult).error(any(IllegalStateException.class));
+    verify(secondResult).error(any(IllegalStateException.class));
+  }
+
+  @Test
+  public void flushingWebViewEvaluatesItsScriptsNow() {
+    final WebView otherWebView = mock(WebView.class);
+    testQueue.evaluate(mockWebView, "1", mockResult());
+    testQueue.evaluate(otherWebView, "2", mockResult());
+
+    testQueue.flush(mockWebView);
+    verify(mockWebView).evaluateJavascript(eq("1"), any());
+    verify(otherWebView, never()).evaluateJavascript(anyString(), any());
+
+    runFrameCallback();
+    verify(mockWebView, times(1)).evaluateJavascript(anyString(), any());
+    verify(otherWebView).evaluateJavascript(eq("2"), any());
+  }
+
+  @Test
+  public void cancelingWebViewFailsItsScripts() {
+    final Result<String> mockResult = mockResult();
+    testQueue.evaluate(mockWebView, "1", mockResult);
+
+    testQueue.cancel(mockWebView);
+    verify(mockResult).error(any(IllegalStateException.class));
+
+    runFrameCallback();
+    verify(mockWebView, never()).evaluateJavascript(anyString(), any());
+    verify(mockResult, never()).success(any());
+  }
+
+  @Test
+  public void splitResults() {
+    assertArrayEquals(
+        new String[] {"\"a\\nb\"", "{\"c\":1}", "null"},
+        JavaScriptEvaluationQueue.splitResults("\"a\\nb\"\n{\"c\":1}\nnull", 3));
+    assertNull(JavaScriptEvaluationQueue.splitResults(null, 1));
+    assertNull(JavaScriptEvaluationQueue.splitResults("1\n2", 3));
+    assertNull(JavaScriptEvaluationQueue.unquote("null"));
+    assertEquals(
+        JavaScriptEvaluationQueue.EVAL_BLOCKED,
+        JavaScriptEvaluationQueue.unquote("\"\\u0000csp\""));
+    assertEquals("\u2028", JavaScriptEvaluationQueue.unquote("\"\\u2028\""));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Result<String> mockResult() {
+    return mock(Result.class);
+  }
+
+  private void runFrameCallback() {
+    final ArgumentCaptor<Choreographer.FrameCallback> frameCallbackCaptor =
+        ArgumentCaptor.forClass(Choreographer.FrameCallback.class);
+    verify(mockChoreographer).postFrameCallback(frameCallbackCaptor.capture());
+    frameCallbackCaptor.getValue().doFrame(0);
+  }
+
+  private ValueCallback<String> captureCallback(String script) {
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq(script), callbackCaptor.capture());
+    return callbackCaptor.getValue();
+  }
+}
@@ -0,0 +1,59 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.BinaryMessenger.BinaryMessageHandler;
+import io.flutter.plugin.common.BinaryMessenger.TaskQueue;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
+import java.nio.ByteBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class TaskQueueBinaryMessengerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+
+  @Mock public TaskQueue mockTaskQueue;
+
+  TaskQueueBinaryMessenger taskQueueMessenger;
+
+  @Before
+  public void setUp() {
+    taskQueueMessenger = new TaskQueueBinaryMessenger(mockBinaryMessenger, mockTaskQueue);
+  }
+
+  @Test
+  public void setsHandlersOnTaskQueue() {
+    final BinaryMessageHandler mockHandler = mock(BinaryMessageHandler.class);
+    taskQueueMessenger.setMessageHandler("channel", mockHandler);
+    verify(mockBinaryMessenger).setMessageHandler("channel", mockHandler, mockTaskQueue);
+  }
+
+  @Test
+  public void setsUpHostApiOnTaskQueue() {
+    WebStorageHostApi.setup(taskQueueMessenger, mock(WebStorageHostApi.class));
+    verify(mockBinaryMessenger)
+        .setMessageHandler(
+            eq("dev.flutter.pigeon.WebStorageHostApi.deleteAllData"), any(), eq(mockTaskQueue));
+  }
+
+  @Test
+  public void sendsUnchanged() {
+    final ByteBuffer message = ByteBuffer.allocateDirect(4);
+    taskQueueMessenger.send("channel", message);
+    verify(mockBinaryMessenger).send("channel", message);
+  }
+}
@@ -76,6 +76,17 @@ public class WebChromeClientTest {
     verify(mockFlutterApi, never()).onProgressChanged((WebChromeClient) any(), any(), any(), any());
   }
 
+  @Test
+  public void setSubscribedCallbacks() {
+    hostApiImpl.setSubscribedCallbacks(2L, 0L);
+    webChromeClient.onProgressChanged(mockWebView, 23);
+    verify(mockFlutterApi, never()).onProgressChanged((WebChromeClient) any(), any(), any(), any());
+
+    hostApiImpl.setSubscribedCallbacks(2L, WebChromeClientHostApiImpl.ON_PROGRESS_CHANGED);
+    webChromeClient.onProgressChanged(mockWebView, 24);
+    verify(mockFlutterApi).onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(24L), any());
+  }
+
   @Test
   public void onCreateWindow() {
     final WebView mockOnCreateWindowWebView = mock(WebView.class);
@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceErrorData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceRequestData;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares {@link WebResourceDataCodec} with the map based encoding that the generated codec of
+ * WebViewClientFlutterApi previously used.
+ *
+ * <p>This is a coarse JVM microbenchmark, not a replacement for measuring on device. Remove the
+ * {@link Ignore} annotation to run it with the unit tests.
+ */
+@Ignore("Benchmark. Run manually.")
+public class WebResourceDataCodecBenchmark {
+  private static final int MESSAGES = 200000;
+  private static final int ITERATIONS = 10;
+
+  /** Reproduces the codec Pigeon generates, which writes data classes as maps. */
+  private static class MapWebResourceDataCodec extends StandardMessageCodec {
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof WebResourceErrorData) {
+        stream.write(128);
+        writeValue(stream, ((WebResourceErrorData) value).toMap());
+      } else if (value instanceof WebResourceRequestData) {
+        stream.write(129);
+        writeValue(stream, ((WebResourceRequestData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  @Test
+  public void encodeOnReceivedRequestErrorArguments() {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+    headers.put("User-Agent", "Mozilla/5.0 (Linux; Android 12) AppleWebKit/537.36 Mobile");
+    headers.put("Referer", "https://www.example.com/");
+    headers.put("X-Requested-With", "io.flutter.plugins.webviewflutterexample");
+    headers.put("Upgrade-Insecure-Requests", "1");
+    final WebResourceRequestData request =
+        new WebResourceRequestData.Builder()
+            .setUrl("https://www.example.com/images/banner.png")
+            .setIsForMainFrame(false)
+            .setIsRedirect(false)
+            .setHasGesture(false)
+            .setMethod("GET")
+            .setRequestHeaders(headers)
+            .build();
+    final WebResourceErrorData error =
+        new WebResourceErrorData.Builder()
+            .setErrorCode(-2L)
+            .setDescription("net::ERR_NAME_NOT_RESOLVED")
+            .build();
+    final List<Object> arguments = new ArrayList<>(Arrays.asList(1L, 2L, request, error));
+
+    final MessageCodec<Object> mapCodec = new MapWebResourceDataCodec();
+    final MessageCodec<Object> compactCodec = new WebResourceDataCodec();
+
+    long mapNanos = Long.MAX_VALUE;
+    long compactNanos = Long.MAX_VALUE;
+    long checksum = 0;
+    for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+      long start = System.nanoTime();
+      for (int i = 0; i < MESSAGES; i++) {
+        checksum += mapCodec.encodeMessage(arguments).position();
+      }
+      mapNanos = Math.min(mapNanos, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      for (int i = 0; i < MESSAGES; i++) {
+        checksum += compactCodec.encodeMessage(arguments).position();
+      }
+      compactNanos = Math.min(compactNanos, System.nanoTime() - start);
+    }
+
+    final ByteBuffer mapMessage = mapCodec.encodeMessage(arguments);
+    final ByteBuffer compactMessage = compactCodec.encodeMessage(arguments);
+    System.out.printf(
+        "%d messages: maps %.1f ns/op and %d bytes, fixed layout %.1f ns/op and %d bytes"
+            + " (checksum %d)%n",
+        MESSAGES,
+        (double) mapNanos / MESSAGES,
+        mapMessage.position(),
+        (double) compactNanos / MESSAGES,
+        compactMessage.position(),
+        checksum);
+  }
+}
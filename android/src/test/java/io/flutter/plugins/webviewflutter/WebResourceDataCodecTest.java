@@ -0,0 +1,141 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceErrorData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceRequestData;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class WebResourceDataCodecTest {
+  private final WebResourceDataCodec codec = new WebResourceDataCodec();
+
+  @Test
+  public void encodeRequest() {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Accept", "*/*");
+    headers.put("X-Custom", "a");
+    final WebResourceRequestData request =
+        new WebResourceRequestData.Builder()
+            .setUrl("https://a.b/")
+            .setIsForMainFrame(true)
+            .setIsRedirect(false)
+            .setHasGesture(true)
+            .setMethod("GET")
+            .setRequestHeaders(headers)
+            .build();
+
+    // Also decoded by the Dart test of WebResourceDataCodec.
+    final byte[] expected = {
+      (byte) 129, 7, 12, 104, 116, 116, 112, 115, 58, 47, 47, 97, 46, 98, 47, 3, 71, 69, 84, 2, 1,
+      3, 42, 47, 42, 0, 8, 88, 45, 67, 117, 115, 116, 111, 109, 1, 97
+    };
+    assertArrayEquals(expected, toBytes(codec.encodeMessage(request)));
+  }
+
+  @Test
+  public void encodeRequestWithOmittedHeaders() {
+    final WebResourceRequestData request =
+        new WebResourceRequestData.Builder()
+            .setUrl("a")
+            .setIsForMainFrame(false)
+            .setHasGesture(false)
+            .setMethod("GET")
+            .setRequestHeaders(WebResourceDataCodec.OMITTED_REQUEST_HEADERS)
+            .build();
+
+    // Also decoded by the Dart test of WebResourceDataCodec.
+    final byte[] expected = {(byte) 129, 16, 1, 97, 3, 71, 69, 84, 0};
+    final ByteBuffer message = codec.encodeMessage(request);
+    assertArrayEquals(expected, toBytes(message));
+
+    message.rewind();
+    final WebResourceRequestData decodedRequest =
+        (WebResourceRequestData) codec.decodeMessage(message);
+    assertSame(WebResourceDataCodec.OMITTED_REQUEST_HEADERS, decodedRequest.getRequestHeaders());
+  }
+
+  @Test
+  public void encodeRequestWithoutHeaders() {
+    final WebResourceRequestData request =
+        new WebResourceRequestData.Builder()
+            .setUrl("a")
+            .setIsForMainFrame(false)
+            .setHasGesture(false)
+            .setMethod("GET")
+            .setRequestHeaders(new HashMap<>())
+            .build();
+
+    final byte[] expected = {(byte) 129, 0, 1, 97, 3, 71, 69, 84, 0};
+    assertArrayEquals(expected, toBytes(codec.encodeMessage(request)));
+  }
+
+  @Test
+  public void encodeError() {
+    final WebResourceErrorData error =
+        new WebResourceErrorData.Builder().setErrorCode(-2L).setDescription("err").build();
+
+    final byte[] expected = {
+      (byte) 128, (byte) 254, (byte) 255, (byte) 255, (byte) 255, 3, 101, 114, 114
+    };
+    assertArrayEquals(expected, toBytes(codec.encodeMessage(error)));
+  }
+
+  @Test
+  public void decodeEncodedArguments() {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("User-Agent", "agent");
+    headers.put("X-R\u00e9sum\u00e9", "\u00e9");
+    final WebResourceRequestData request =
+        new WebResourceRequestData.Builder()
+            .setUrl("https://a.b/\u00e9")
+            .setIsForMainFrame(false)
+            .setHasGesture(false)
+            .setMethod("POST")
+            .setRequestHeaders(headers)
+            .build();
+    final WebResourceErrorData error =
+        new WebResourceErrorData.Builder().setErrorCode(-8L).setDescription("timeout").build();
+
+    final ByteBuffer message = codec.encodeMessage(Arrays.asList(1L, request, error));
+    message.flip();
+    final List<Object> arguments = (List<Object>) codec.decodeMessage(message);
+
+    assertEquals(1L, arguments.get(0));
+    final WebResourceRequestData decodedRequest = (WebResourceRequestData) arguments.get(1);
+    assertEquals(request.toMap(), decodedRequest.toMap());
+    assertNull(decodedRequest.getIsRedirect());
+    assertEquals(error.toMap(), ((WebResourceErrorData) arguments.get(2)).toMap());
+  }
+
+  @Test
+  public void encodeMessageUsesBufferPerMessage() {
+    final WebResourceErrorData error =
+        new WebResourceErrorData.Builder().setErrorCode(-2L).setDescription("err").build();
+
+    final ByteBuffer message = codec.encodeMessage(error);
+    assertNotSame(message, codec.encodeMessage(error));
+    assertTrue(message.isDirect());
+  }
+
+  private static byte[] toBytes(ByteBuffer message) {
+    final byte[] bytes = new byte[message.position()];
+    message.flip();
+    message.get(bytes);
+    return bytes;
+  }
+}
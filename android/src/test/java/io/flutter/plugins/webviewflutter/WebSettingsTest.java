@@ -5,10 +5,15 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.webkit.WebSettings;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsData;
 import io.flutter.plugins.webviewflutter.WebSettingsHostApiImpl.WebSettingsCreator;
 import org.junit.Before;
 import org.junit.Rule;
@@ -22,6 +27,8 @@ public class WebSettingsTest {
 
   @Mock public WebSettings mockWebSettings;
 
+  @Mock public WebView mockWebView;
+
   @Mock WebSettingsCreator mockWebSettingsCreator;
 
   InstanceManager testInstanceManager;
@@ -32,7 +39,8 @@ public class WebSettingsTest {
     testInstanceManager = new InstanceManager();
     when(mockWebSettingsCreator.createWebSettings(any())).thenReturn(mockWebSettings);
     testHostApiImpl = new WebSettingsHostApiImpl(testInstanceManager, mockWebSettingsCreator);
-    testHostApiImpl.create(0L, 0L);
+    testInstanceManager.addInstance(mockWebView, 1L);
+    testHostApiImpl.create(0L, 1L);
   }
 
   @Test
@@ -100,4 +108,34 @@ public class WebSettingsTest {
     testHostApiImpl.setBuiltInZoomControls(0L, true);
     verify(mockWebSettings).setBuiltInZoomControls(true);
   }
+
+  @Test
+  public void settersSkipUnchangedValues() {
+    testHostApiImpl.setJavaScriptEnabled(0L, true);
+    testHostApiImpl.setJavaScriptEnabled(0L, true);
+    testHostApiImpl.setJavaScriptEnabled(0L, false);
+    testHostApiImpl.setUserAgentString(0L, null);
+    testHostApiImpl.setUserAgentString(0L, null);
+
+    verify(mockWebSettings, times(1)).setJavaScriptEnabled(true);
+    verify(mockWebSettings, times(1)).setJavaScriptEnabled(false);
+    verify(mockWebSettings, times(1)).setUserAgentString(null);
+  }
+
+  @Test
+  public void applySettings() {
+    testHostApiImpl.setSupportZoom(0L, true);
+    testHostApiImpl.applySettings(
+        0L,
+        new WebSettingsData.Builder()
+            .setDomStorageEnabled(true)
+            .setUserAgentString("hello")
+            .setSupportZoom(true)
+            .build());
+
+    verify(mockWebSettings).setDomStorageEnabled(true);
+    verify(mockWebSettings).setUserAgentString("hello");
+    verify(mockWebSettings, times(1)).setSupportZoom(true);
+    verify(mockWebSettings, never()).setJavaScriptEnabled(anyBoolean());
+  }
 }
@@ -5,7 +5,9 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -47,17 +49,20 @@ public class WebViewClientTest {
         new WebViewClientCreator() {
           @Override
           public WebViewClient createWebViewClient(
-              WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+              WebViewClientFlutterApiImpl flutterApi,
+              boolean shouldOverrideUrlLoading,
+              boolean includesRequestHeaders) {
             webViewClient =
                 (WebViewClientCompatImpl)
-                    super.createWebViewClient(flutterApi, shouldOverrideUrlLoading);
+                    super.createWebViewClient(
+                        flutterApi, shouldOverrideUrlLoading, includesRequestHeaders);
             return webViewClient;
           }
         };
 
     hostApiImpl =
         new WebViewClientHostApiImpl(instanceManager, webViewClientCreator, mockFlutterApi);
-    hostApiImpl.create(1L, true);
+    hostApiImpl.create(1L, true, true);
   }
 
   @Test
@@ -103,6 +108,52 @@ public class WebViewClientTest {
     verify(mockFlutterApi, never()).urlLoading((WebViewClient) any(), any(), any(), any());
   }
 
+  @Test
+  public void setSubscribedCallbacks() {
+    hostApiImpl.setSubscribedCallbacks(
+        1L, WebViewClientHostApiImpl.ON_PAGE_STARTED | WebViewClientHostApiImpl.ON_PAGE_FINISHED);
+
+    final WebResourceRequest mockRequest = mock(WebResourceRequest.class);
+    webViewClient.shouldOverrideUrlLoading(mockWebView, mockRequest);
+    webViewClient.shouldOverrideUrlLoading(mockWebView, "https://www.google.com");
+    verify(mockFlutterApi, never())
+        .requestLoading(
+            (WebViewClient) any(), any(), (WebResourceRequest) any(), anyBoolean(), any());
+    verify(mockFlutterApi, never()).urlLoading((WebViewClient) any(), any(), any(), any());
+    verify(mockRequest, never()).getUrl();
+
+    webViewClient.onPageFinished(mockWebView, "https://www.google.com");
+    verify(mockFlutterApi)
+        .onPageFinished(eq(webViewClient), eq(mockWebView), eq("https://www.google.com"), any());
+  }
+
+  @Test
+  public void requestLoadingOmitsHeadersOfClientCreatedWithoutThem() {
+    hostApiImpl.create(2L, true, false);
+    final WebViewClientCompatImpl clientWithoutHeaders = webViewClient;
+
+    final WebResourceRequest mockRequest = mock(WebResourceRequest.class);
+    clientWithoutHeaders.shouldOverrideUrlLoading(mockWebView, mockRequest);
+    verify(mockFlutterApi)
+        .requestLoading(
+            eq(clientWithoutHeaders), eq(mockWebView), eq(mockRequest), eq(false), any());
+  }
+
+  @Test
+  public void convertWebResourceRequestWithoutHeaders() {
+    final Uri mockUri = mock(Uri.class);
+    when(mockUri.toString()).thenReturn("");
+
+    final WebResourceRequest mockRequest = mock(WebResourceRequest.class);
+    when(mockRequest.getMethod()).thenReturn("method");
+    when(mockRequest.getUrl()).thenReturn(mockUri);
+
+    final GeneratedAndroidWebView.WebResourceRequestData data =
+        WebViewClientFlutterApiImpl.createWebResourceRequestData(mockRequest, false);
+    assertSame(WebResourceDataCodec.OMITTED_REQUEST_HEADERS, data.getRequestHeaders());
+    verify(mockRequest, never()).getRequestHeaders();
+  }
+
   @Test
   public void convertWebResourceRequestWithNullHeaders() {
     final Uri mockUri = mock(Uri.class);
@@ -115,7 +166,7 @@ public class WebViewClientTest {
     when(mockRequest.getRequestHeaders()).thenReturn(null);
 
     final GeneratedAndroidWebView.WebResourceRequestData data =
-        WebViewClientFlutterApiImpl.createWebResourceRequestData(mockRequest);
+        WebViewClientFlutterApiImpl.createWebResourceRequestData(mockRequest, true);
     assertEquals(data.getRequestHeaders(), new HashMap<String, String>());
   }
 }
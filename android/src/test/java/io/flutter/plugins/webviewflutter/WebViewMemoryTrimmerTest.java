@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewMemoryFlutterApi;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewMemoryTrimmerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewPool mockWebViewPool;
+
+  @Mock public WebViewSuspender mockWebViewSuspender;
+
+  @Mock public WebViewMemoryFlutterApi mockFlutterApi;
+
+  @Mock public WebView mockHiddenWebView;
+
+  WebViewMemoryTrimmer testTrimmer;
+
+  @Before
+  public void setUp() {
+    when(mockWebViewPool.trim()).thenReturn(2);
+    when(mockWebViewSuspender.getHiddenWebViews())
+        .thenReturn(Collections.singletonList(mockHiddenWebView));
+    when(mockWebViewSuspender.suspendHidden()).thenReturn(1);
+    testTrimmer = new WebViewMemoryTrimmer(mockWebViewPool, mockWebViewSuspender, mockFlutterApi);
+  }
+
+  @Test
+  public void runningModerateOnlyDropsPool() {
+    testTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+
+    verify(mockWebViewPool).trim();
+    verify(mockHiddenWebView, never()).clearCache(false);
+    verify(mockWebViewSuspender, never()).suspendHidden();
+    verify(mockFlutterApi)
+        .onTrimMemory(
+            eq((long) ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE),
+            eq(2L),
+            eq(false),
+            eq(0L),
+            any());
+  }
+
+  @Test
+  public void runningLowClearsCache() {
+    testTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    verify(mockHiddenWebView).clearCache(false);
+    verify(mockWebViewSuspender, never()).suspendHidden();
+  }
+
+  @Test
+  public void lowMemoryAppliesEveryAction() {
+    testTrimmer.onLowMemory();
+
+    verify(mockWebViewPool).trim();
+    verify(mockHiddenWebView).clearCache(false);
+    verify(mockWebViewSuspender).suspendHidden();
+    verify(mockFlutterApi)
+        .onTrimMemory(
+            eq((long) ComponentCallbacks2.TRIM_MEMORY_COMPLETE), eq(2L), eq(true), eq(1L), any());
+  }
+
+  @Test
+  public void uiHiddenFreesNothing() {
+    testTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+
+    verify(mockWebViewPool, never()).trim();
+    verify(mockHiddenWebView, never()).clearCache(false);
+    verify(mockWebViewSuspender, never()).suspendHidden();
+    verify(mockFlutterApi)
+        .onTrimMemory(
+            eq((long) ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN),
+            eq(0L),
+            eq(false),
+            eq(0L),
+            any());
+  }
+
+  @Test
+  public void backgroundOnlyDropsPool() {
+    testTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND);
+
+    verify(mockWebViewPool).trim();
+    verify(mockHiddenWebView, never()).clearCache(false);
+    verify(mockWebViewSuspender, never()).suspendHidden();
+  }
+
+  @Test
+  public void moderateClearsCache() {
+    testTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_MODERATE);
+
+    verify(mockWebViewPool).trim();
+    verify(mockHiddenWebView).clearCache(false);
+    verify(mockWebViewSuspender, never()).suspendHidden();
+  }
+}
@@ -0,0 +1,224 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.MessageQueue;
+import android.webkit.WebBackForwardList;
+import android.webkit.WebHistoryItem;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public MessageQueue mockMessageQueue;
+
+  @Mock public WebViewPool.WebViewFactory mockWebViewFactory;
+
+  WebViewPool testWebViewPool;
+
+  @Before
+  public void setUp() {
+    when(mockWebViewFactory.createWebView(true)).thenAnswer(invocation -> mock(WebView.class));
+    testWebViewPool = new WebViewPool(mockWebViewFactory, mockMessageQueue);
+  }
+
+  @Test
+  public void fillsOneWebViewPerIdlePass() {
+    testWebViewPool.setCapacity(2, true);
+    final MessageQueue.IdleHandler idleHandler = captureIdleHandler();
+
+    assertTrue(idleHandler.queueIdle());
+    assertEquals(1, testWebViewPool.getSize());
+    assertFalse(idleHandler.queueIdle());
+    assertEquals(2, testWebViewPool.getSize());
+  }
+
+  @Test
+  public void takeCountsHitsAndMisses() {
+    final WebView mockWebView = mock(WebView.class);
+    when(mockWebViewFactory.createWebView(true)).thenReturn(mockWebView);
+    testWebViewPool.setCapacity(1, true);
+    captureIdleHandler().queueIdle();
+
+    assertEquals(mockWebView, testWebViewPool.take(true));
+    assertNull(testWebViewPool.take(true));
+    assertNull(testWebViewPool.take(false));
+
+    assertEquals(1, testWebViewPool.getHitCount());
+    assertEquals(2, testWebViewPool.getMissCount());
+  }
+
+  @Test
+  public void obtainConstructsOnMiss() {
+    final WebView mockWebView = mock(WebView.class);
+    when(mockWebViewFactory.createWebView(false)).thenReturn(mockWebView);
+
+    assertEquals(mockWebView, testWebViewPool.obtain(false));
+    assertEquals(1, testWebViewPool.getConstructionCount());
+
+    testWebViewPool.resetStatistics();
+    assertEquals(0, testWebViewPool.getConstructionCount());
+  }
+
+  @Test
+  public void takeDoesNotCountWhileDisabled() {
+    assertNull(testWebViewPool.take(true));
+    assertEquals(0, testWebViewPool.getMissCount());
+    verify(mockMessageQueue, never()).addIdleHandler(any());
+  }
+
+  @Test
+  public void releaseDestroysPooledWebViews() {
+    final WebView takenWebView = mock(WebView.class);
+    final WebView pooledWebView = mock(WebView.class);
+    when(mockWebViewFactory.createWebView(true)).thenReturn(takenWebView, pooledWebView);
+    testWebViewPool.setCapacity(2, true);
+    final MessageQueue.IdleHandler idleHandler = captureIdleHandler();
+    idleHandler.queueIdle();
+    testWebViewPool.take(true);
+    idleHandler.queueIdle();
+
+    testWebViewPool.release();
+
+    assertEquals(0, testWebViewPool.getSize());
+    verify(takenWebView, never()).destroy();
+    verify(pooledWebView).destroy();
+    verify(mockMessageQueue).removeIdleHandler(idleHandler);
+  }
+
+  @Test
+  public void trimDoesNotRefillUntilTaken() {
+    final WebView pooledWebView = mock(WebView.class);
+    when(mockWebViewFactory.createWebView(true)).thenReturn(pooledWebView);
+    testWebViewPool.setCapacity(1, true);
+    final MessageQueue.IdleHandler idleHandler = captureIdleHandler();
+    idleHandler.queueIdle();
+
+    assertEquals(1, testWebViewPool.trim());
+    verify(pooledWebView).destroy();
+    verify(mockMessageQueue, times(1)).addIdleHandler(idleHandler);
+
+    testWebViewPool.take(true);
+    verify(mockMessageQueue, times(2)).addIdleHandler(idleHandler);
+  }
+
+  @Test
+  public void obtainReusesRecycledWebView() {
+    final WebView recyclableWebView = mockRecyclableWebView();
+    when(mockWebViewFactory.createWebView(true)).thenReturn(recyclableWebView);
+    testWebViewPool.setRecycleCapacity(1);
+
+    assertEquals(recyclableWebView, testWebViewPool.obtain(true));
+    verify((Recyclable) recyclableWebView).setRecyclable(true);
+
+    testWebViewPool.recycle(recyclableWebView, true);
+    verify((Recyclable) recyclableWebView).recycle();
+    verify(recyclableWebView, never()).destroy();
+    assertEquals(1, testWebViewPool.getSize());
+    assertEquals(1, testWebViewPool.getRecycleCount());
+
+    assertEquals(recyclableWebView, testWebViewPool.obtain(true));
+    assertEquals(1, testWebViewPool.getConstructionCount());
+    assertEquals(1, testWebViewPool.getHitCount());
+  }
+
+  @Test
+  public void recycleDestroysWebViewThatCannotBeKept() {
+    final WebView staleWebView = mockRecyclableWebView();
+    final WebView keptWebView = mockRecyclableWebView();
+    final WebView extraWebView = mockRecyclableWebView();
+    testWebViewPool.setRecycleCapacity(1);
+
+    testWebViewPool.recycle(staleWebView, false);
+    testWebViewPool.recycle(keptWebView, true);
+    testWebViewPool.recycle(extraWebView, true);
+
+    verify(staleWebView).destroy();
+    verify(keptWebView, never()).destroy();
+    verify(extraWebView).destroy();
+    verify((Recyclable) extraWebView, never()).recycle();
+  }
+
+  @Test
+  public void recycleIgnoresWebViewThatIsNotRecyclable() {
+    final WebView mockWebView = mock(WebView.class);
+    testWebViewPool.setRecycleCapacity(1);
+
+    testWebViewPool.recycle(mockWebView, true);
+
+    verify(mockWebView, never()).destroy();
+    assertEquals(0, testWebViewPool.getSize());
+  }
+
+  @Test
+  public void obtainDestroysRecycledWebViewBeforeBlankPageCommits() {
+    final WebView recyclableWebView = mockRecyclableWebView();
+    mockHistory(recyclableWebView, "https://www.google.com");
+    testWebViewPool.setRecycleCapacity(1);
+    testWebViewPool.recycle(recyclableWebView, true);
+
+    final WebView obtainedWebView = testWebViewPool.obtain(true);
+
+    assertNotSame(recyclableWebView, obtainedWebView);
+    verify(recyclableWebView).destroy();
+    assertEquals(0, testWebViewPool.getSize());
+    assertEquals(1, testWebViewPool.getMissCount());
+  }
+
+  @Test
+  public void obtainDestroysRecycledWebViewWithPreviousPageInHistory() {
+    final WebView recyclableWebView = mockRecyclableWebView();
+    mockHistory(recyclableWebView, "https://www.google.com", WebViewPool.BLANK_URL);
+    testWebViewPool.setRecycleCapacity(1);
+    testWebViewPool.recycle(recyclableWebView, true);
+
+    assertNotSame(recyclableWebView, testWebViewPool.obtain(true));
+    verify(recyclableWebView).destroy();
+  }
+
+  private static WebView mockRecyclableWebView() {
+    final WebViewPlatformView mockWebView = mock(WebViewPlatformView.class);
+    when(mockWebView.isRecyclable()).thenReturn(true);
+    mockHistory(mockWebView, WebViewPool.BLANK_URL);
+    return mockWebView;
+  }
+
+  // The last URL is the current entry.
+  static void mockHistory(WebView mockWebView, String... urls) {
+    final WebBackForwardList mockHistory = mock(WebBackForwardList.class);
+    when(mockHistory.getSize()).thenReturn(urls.length);
+    final WebHistoryItem mockCurrentItem = mock(WebHistoryItem.class);
+    when(mockCurrentItem.getUrl()).thenReturn(urls[urls.length - 1]);
+    when(mockHistory.getCurrentItem()).thenReturn(mockCurrentItem);
+    when(mockWebView.copyBackForwardList()).thenReturn(mockHistory);
+  }
+
+  private MessageQueue.IdleHandler captureIdleHandler() {
+    final ArgumentCaptor<MessageQueue.IdleHandler> idleHandlerCaptor =
+        ArgumentCaptor.forClass(MessageQueue.IdleHandler.class);
+    verify(mockMessageQueue).addIdleHandler(idleHandlerCaptor.capture());
+    return idleHandlerCaptor.getValue();
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewProviderWarmUpTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Runnable mockWarmUpTask;
+
+  @Mock public Handler mockMainThreadHandler;
+
+  final List<Runnable> backgroundTasks = new ArrayList<>();
+
+  WebViewProviderWarmUp testWarmUp;
+
+  @Before
+  public void setUp() {
+    when(mockMainThreadHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    testWarmUp =
+        new WebViewProviderWarmUp(mockWarmUpTask, backgroundTasks::add, mockMainThreadHandler);
+  }
+
+  @Test
+  public void startRunsTaskOnce() {
+    testWarmUp.start();
+    testWarmUp.start();
+
+    assertEquals(1, backgroundTasks.size());
+    verify(mockWarmUpTask, never()).run();
+    backgroundTasks.get(0).run();
+    verify(mockWarmUpTask).run();
+    assertNotNull(testWarmUp.getDurationMillis());
+  }
+
+  @Test
+  public void warmUpReportsDuration() {
+    @SuppressWarnings("unchecked")
+    final Result<Long> mockResult = mock(Result.class);
+    testWarmUp.warmUp(mockResult);
+    verify(mockResult, never()).success(anyLong());
+
+    backgroundTasks.get(0).run();
+    verify(mockResult).success(anyLong());
+
+    testWarmUp.warmUp(mockResult);
+    verify(mockResult, times(2)).success(anyLong());
+    assertEquals(1, backgroundTasks.size());
+  }
+
+  @Test
+  public void warmUpReportsError() {
+    final RuntimeException exception = new RuntimeException();
+    doThrow(exception).when(mockWarmUpTask).run();
+    @SuppressWarnings("unchecked")
+    final Result<Long> mockResult = mock(Result.class);
+
+    testWarmUp.warmUp(mockResult);
+    backgroundTasks.get(0).run();
+
+    verify(mockResult).error(exception);
+    assertNull(testWarmUp.getDurationMillis());
+  }
+}
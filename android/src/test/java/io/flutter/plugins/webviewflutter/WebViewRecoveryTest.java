@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebBackForwardList;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewRecoveryFlutterApi;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewRecoveryTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewPool.WebViewFactory mockWebViewFactory;
+
+  @Mock public WebViewPool mockWebViewPool;
+
+  @Mock public WebViewSuspender mockWebViewSuspender;
+
+  @Mock public JavaScriptEvaluationQueue mockJavaScriptEvaluationQueue;
+
+  @Mock public WebViewRecoveryFlutterApi mockFlutterApi;
+
+  @Mock public WebView mockReplacement;
+
+  InstanceManager testInstanceManager;
+  WebViewRecovery testRecovery;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = new InstanceManager();
+    when(mockWebViewFactory.createWebView(anyBoolean())).thenReturn(mockReplacement);
+    when(mockReplacement.getSettings()).thenReturn(mock(WebSettings.class));
+    testRecovery =
+        new WebViewRecovery(
+            testInstanceManager,
+            mockWebViewFactory,
+            mockWebViewPool,
+            mockWebViewSuspender,
+            mockJavaScriptEvaluationQueue);
+    testRecovery.setFlutterApi(mockFlutterApi);
+  }
+
+  @Test
+  public void replacesWebViewWithSameInstanceId() {
+    final WebView mockWebView = mockRecoverableWebView();
+    final WebSettings mockWebSettings = mock(WebSettings.class);
+    when(mockWebView.getSettings()).thenReturn(mockWebSettings);
+    when(mockWebView.saveState(any())).thenReturn(mock(WebBackForwardList.class));
+    when(mockReplacement.restoreState(any())).thenReturn(mock(WebBackForwardList.class));
+    testInstanceManager.addInstance(mockWebView, 0);
+    testInstanceManager.addWeakInstance(mockWebSettings, 1);
+
+    assertTrue(WebViewRecovery.onRenderProcessGone(mockWebView, true));
+
+    assertEquals(mockReplacement, testInstanceManager.getInstance(0));
+    assertEquals(mockReplacement.getSettings(), testInstanceManager.getInstance(1));
+    verify((WebViewRecovery.Recoverable) mockWebView).moveStateTo(mockReplacement);
+    verify(mockWebViewSuspender).replace(mockWebView, mockReplacement);
+    verify(mockJavaScriptEvaluationQueue).cancel(mockWebView);
+    verify(mockReplacement).restoreState(any());
+    verify(mockFlutterApi).onRenderProcessGone(eq(0L), eq(true), eq(true), any());
+  }
+
+  @Test
+  public void discardsWebViewThatIsNotPaired() {
+    final WebView mockWebView = mockRecoverableWebView();
+
+    assertTrue(WebViewRecovery.onRenderProcessGone(mockWebView, false));
+
+    verify(mockWebViewPool).discard(mockWebView);
+    verify(mockWebViewFactory, never()).createWebView(anyBoolean());
+    verify(mockFlutterApi, never()).onRenderProcessGone(any(), any(), any(), any());
+  }
+
+  @Test
+  public void webViewWithoutRecoveryIsNotHandled() {
+    assertFalse(WebViewRecovery.onRenderProcessGone(mock(WebView.class), true));
+  }
+
+  private WebView mockRecoverableWebView() {
+    final WebView webView = mock(WebViewPlatformView.class);
+    when(((WebViewRecovery.Recoverable) webView).getRecovery()).thenReturn(testRecovery);
+    return webView;
+  }
+}
@@ -0,0 +1,192 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.BadParcelableException;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Parcel;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewStateStoreTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock public Handler mockMainThreadHandler;
+
+  @Mock public Parcel mockParcel;
+
+  final byte[] testBytes = new byte[1024];
+  final List<Runnable> backgroundTasks = new ArrayList<>();
+
+  MockedStatic<Parcel> staticMockParcel;
+  WebViewStateStore testStateStore;
+
+  @Before
+  public void setUp() {
+    new Random(0).nextBytes(testBytes);
+    staticMockParcel = mockStatic(Parcel.class);
+    staticMockParcel.when(Parcel::obtain).thenReturn(mockParcel);
+    when(mockParcel.marshall()).thenReturn(testBytes);
+    when(mockMainThreadHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    testStateStore = createStateStore("version");
+  }
+
+  @After
+  public void tearDown() {
+    staticMockParcel.close();
+  }
+
+  @Test
+  public void savedStateIsRestored() {
+    final Bundle mockState = mock(Bundle.class);
+    final Bundle mockRestoredState = mock(Bundle.class);
+    when(mockParcel.readBundle(any())).thenReturn(mockRestoredState);
+
+    testStateStore.save("tab", mockState);
+    assertFalse(testStateStore.getFile("tab").exists());
+    runBackgroundTasks();
+    verify(mockParcel).writeBundle(mockState);
+    assertTrue(testStateStore.getFile("tab").exists());
+
+    @SuppressWarnings("unchecked")
+    final Result<Bundle> mockResult = mock(Result.class);
+    testStateStore.restore("tab", mockResult);
+    verify(mockResult, never()).success(any());
+    runBackgroundTasks();
+
+    verify(mockParcel).unmarshall(aryEq(testBytes), eq(0), eq(testBytes.length));
+    verify(mockResult).success(mockRestoredState);
+  }
+
+  @Test
+  public void restoreWithoutSnapshotReturnsNull() {
+    @SuppressWarnings("unchecked")
+    final Result<Bundle> mockResult = mock(Result.class);
+    testStateStore.restore("tab", mockResult);
+    runBackgroundTasks();
+
+    verify(mockResult).success(null);
+  }
+
+  @Test
+  public void snapshotOfOtherVersionIsDeleted() {
+    testStateStore.save("tab", mock(Bundle.class));
+    runBackgroundTasks();
+
+    @SuppressWarnings("unchecked")
+    final Result<Bundle> mockResult = mock(Result.class);
+    final WebViewStateStore updatedStateStore = createStateStore("updated version");
+    updatedStateStore.restore("tab", mockResult);
+    runBackgroundTasks();
+
+    verify(mockParcel, never()).unmarshall(any(), anyInt(), anyInt());
+    verify(mockResult).success(null);
+    assertFalse(updatedStateStore.getFile("tab").exists());
+  }
+
+  @Test
+  public void snapshotThatCannotBeUnparceledIsDeleted() {
+    final Bundle mockRestoredState = mock(Bundle.class);
+    when(mockRestoredState.size()).thenThrow(new BadParcelableException("ClassNotFound"));
+    when(mockParcel.readBundle(any())).thenReturn(mockRestoredState);
+    testStateStore.save("tab", mock(Bundle.class));
+    runBackgroundTasks();
+
+    @SuppressWarnings("unchecked")
+    final Result<Bundle> mockResult = mock(Result.class);
+    testStateStore.restore("tab", mockResult);
+    runBackgroundTasks();
+
+    verify(mockResult).success(null);
+    assertFalse(testStateStore.getFile("tab").exists());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedSnapshots() {
+    testStateStore.save("first", mock(Bundle.class));
+    testStateStore.save("second", mock(Bundle.class));
+    testStateStore.save("third", mock(Bundle.class));
+    runBackgroundTasks();
+    final File first = testStateStore.getFile("first");
+    final File second = testStateStore.getFile("second");
+    final File third = testStateStore.getFile("third");
+    assertTrue(first.setLastModified(1000));
+    assertTrue(second.setLastModified(2000));
+    assertTrue(third.setLastModified(3000));
+
+    // Restoring the oldest snapshot makes it the most recently used one.
+    @SuppressWarnings("unchecked")
+    final Result<Bundle> mockResult = mock(Result.class);
+    testStateStore.restore("first", mockResult);
+    runBackgroundTasks();
+
+    testStateStore.setMaxSize(first.length() + third.length());
+    runBackgroundTasks();
+
+    assertTrue(first.exists());
+    assertFalse(second.exists());
+    assertTrue(third.exists());
+  }
+
+  @Test
+  public void removeAndClearDeleteSnapshots() {
+    testStateStore.save("first", mock(Bundle.class));
+    testStateStore.save("second", mock(Bundle.class));
+    testStateStore.remove("first");
+    runBackgroundTasks();
+    assertFalse(testStateStore.getFile("first").exists());
+    assertTrue(testStateStore.getFile("second").exists());
+
+    testStateStore.clear();
+    runBackgroundTasks();
+    assertFalse(testStateStore.getFile("second").exists());
+  }
+
+  private WebViewStateStore createStateStore(String snapshotVersion) {
+    return new WebViewStateStore(
+        new File(temporaryFolder.getRoot(), "state"),
+        snapshotVersion,
+        backgroundTasks::add,
+        mockMainThreadHandler);
+  }
+
+  private void runBackgroundTasks() {
+    while (!backgroundTasks.isEmpty()) {
+      backgroundTasks.remove(0).run();
+    }
+  }
+}
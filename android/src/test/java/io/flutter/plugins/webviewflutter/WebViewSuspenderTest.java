@@ -0,0 +1,222 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Build;
+import android.os.Handler;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import io.flutter.plugins.webviewflutter.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewSuspenderTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Handler mockHandler;
+
+  final List<Runnable> pendingSuspensions = new ArrayList<>();
+
+  WebViewSuspender testSuspender;
+
+  @Before
+  public void setUp() {
+    when(mockHandler.postDelayed(any(), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              pendingSuspensions.add(invocation.getArgument(0));
+              return true;
+            });
+    doAnswer(invocation -> pendingSuspensions.remove((Runnable) invocation.getArgument(0)))
+        .when(mockHandler)
+        .removeCallbacks(any());
+    testSuspender = new WebViewSuspender(mockHandler);
+    testSuspender.setPolicy(true, 500, true);
+  }
+
+  @After
+  public void tearDown() {
+    testSuspender.release();
+  }
+
+  @Test
+  public void suspendsHiddenWebViewAfterGracePeriod() {
+    final WebView mockWebView = mockObservableWebView();
+    testSuspender.add(mockWebView);
+    final WebViewSuspender.Observer observer = captureObserver(mockWebView);
+
+    observer.onVisibilityChanged(mockWebView, true);
+    observer.onVisibilityChanged(mockWebView, false);
+    verify(mockHandler).postDelayed(any(), eq(500L));
+    verify(mockWebView, never()).onPause();
+
+    runPendingSuspensions();
+    verify(mockWebView).onPause();
+    verify(mockWebView).pauseTimers();
+
+    observer.onVisibilityChanged(mockWebView, true);
+    verify(mockWebView).onResume();
+    verify(mockWebView).resumeTimers();
+  }
+
+  @Test
+  public void showingWebViewCancelsSuspension() {
+    final WebView mockWebView = mockObservableWebView();
+    testSuspender.add(mockWebView);
+    final WebViewSuspender.Observer observer = captureObserver(mockWebView);
+
+    observer.onVisibilityChanged(mockWebView, true);
+    observer.onVisibilityChanged(mockWebView, false);
+    observer.onVisibilityChanged(mockWebView, true);
+
+    assertTrue(pendingSuspensions.isEmpty());
+    verify(mockWebView, never()).onPause();
+  }
+
+  @Test
+  public void suspendsWebViewsWhileActivityIsStopped() {
+    final WebView mockWebView = mock(WebView.class);
+    testSuspender.add(mockWebView);
+    assertTrue(pendingSuspensions.isEmpty());
+
+    testSuspender.setActivityStarted(false);
+    runPendingSuspensions();
+    verify(mockWebView).onPause();
+
+    testSuspender.setActivityStarted(true);
+    verify(mockWebView).onResume();
+  }
+
+  @Test
+  public void excludedWebViewKeepsTimersRunning() {
+    final WebView mockWebView = mock(WebView.class);
+    final WebView excludedWebView = mock(WebView.class);
+    testSuspender.add(mockWebView);
+    testSuspender.add(excludedWebView);
+    testSuspender.setExcluded(excludedWebView, true);
+
+    testSuspender.setActivityStarted(false);
+    assertEquals(1, pendingSuspensions.size());
+    runPendingSuspensions();
+
+    verify(mockWebView).onPause();
+    verify(excludedWebView, never()).onPause();
+    verify(mockWebView, never()).pauseTimers();
+    verify(excludedWebView, never()).pauseTimers();
+  }
+
+  @Test
+  public void keepsTimersRunningUnlessPausingTimers() {
+    testSuspender.setPolicy(true, 500, false);
+    final WebView mockWebView = mock(WebView.class);
+    testSuspender.add(mockWebView);
+
+    testSuspender.setActivityStarted(false);
+    runPendingSuspensions();
+    verify(mockWebView).onPause();
+    verify(mockWebView, never()).pauseTimers();
+
+    testSuspender.setPolicy(true, 500, true);
+    verify(mockWebView).pauseTimers();
+
+    testSuspender.setPolicy(true, 500, false);
+    verify(mockWebView).resumeTimers();
+    verify(mockWebView, never()).onResume();
+  }
+
+  @Test
+  public void suspendHiddenSkipsGracePeriodUntilShown() {
+    testSuspender.setPolicy(false, 500, true);
+    final WebView mockWebView = mockObservableWebView();
+    testSuspender.add(mockWebView);
+    final WebViewSuspender.Observer observer = captureObserver(mockWebView);
+    observer.onVisibilityChanged(mockWebView, true);
+    observer.onVisibilityChanged(mockWebView, false);
+
+    assertEquals(1, testSuspender.suspendHidden());
+    verify(mockWebView).onPause();
+
+    testSuspender.setActivityStarted(true);
+    verify(mockWebView, never()).onResume();
+    observer.onVisibilityChanged(mockWebView, true);
+    verify(mockWebView).onResume();
+  }
+
+  @Test
+  public void disposedWebViewIsResumed() {
+    final WebView mockWebView = mockObservableWebView();
+    testSuspender.add(mockWebView);
+    final WebViewSuspender.Observer observer = captureObserver(mockWebView);
+    testSuspender.setActivityStarted(false);
+    runPendingSuspensions();
+
+    observer.onDisposed(mockWebView);
+
+    verify(mockWebView).onResume();
+    verify(mockWebView).resumeTimers();
+    verify((WebViewSuspender.Observable) mockWebView).setSuspenderObserver(null);
+  }
+
+  @Test
+  public void managesRendererPriorityByVisibility() {
+    final int sdkInt = Build.VERSION.SDK_INT;
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", Build.VERSION_CODES.O);
+    try {
+      final WebView mockWebView = mockObservableWebView();
+      testSuspender.add(mockWebView);
+      final WebViewSuspender.Observer observer = captureObserver(mockWebView);
+      testSuspender.setManagesRendererPriority(true);
+      verify(mockWebView).setRendererPriorityPolicy(WebView.RENDERER_PRIORITY_IMPORTANT, true);
+
+      observer.onVisibilityChanged(mockWebView, true);
+      observer.onVisibilityChanged(mockWebView, false);
+      verify(mockWebView).setRendererPriorityPolicy(WebView.RENDERER_PRIORITY_WAIVED, true);
+
+      testSuspender.setManagesRendererPriority(false);
+      verify(mockWebView).setRendererPriorityPolicy(WebView.RENDERER_PRIORITY_IMPORTANT, false);
+    } finally {
+      // Other tests depend on the SDK version of the test environment.
+      TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", sdkInt);
+    }
+  }
+
+  private static WebView mockObservableWebView() {
+    return mock(WebViewPlatformView.class);
+  }
+
+  private static WebViewSuspender.Observer captureObserver(WebView webView) {
+    final ArgumentCaptor<WebViewSuspender.Observer> observerCaptor =
+        ArgumentCaptor.forClass(WebViewSuspender.Observer.class);
+    verify((WebViewSuspender.Observable) webView).setSuspenderObserver(observerCaptor.capture());
+    return observerCaptor.getValue();
+  }
+
+  private void runPendingSuspensions() {
+    final List<Runnable> suspensions = new ArrayList<>(pendingSuspensions);
+    pendingSuspensions.clear();
+    for (Runnable suspension : suspensions) {
+      suspension.run();
+    }
+  }
+}
@@ -5,21 +5,34 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.content.Context;
+import android.os.Build;
+import android.os.Handler;
+import android.view.Choreographer;
 import android.webkit.DownloadListener;
 import android.webkit.ValueCallback;
 import android.webkit.WebChromeClient;
+import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerImpl;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerFlutterApi;
+import io.flutter.plugins.webviewflutter.InstanceManager.TypeTag;
 import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeClientImpl;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientImpl;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.InputAwareWebViewPlatformView;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import io.flutter.plugins.webviewflutter.utils.TestUtils;
+import java.util.Collections;
 import java.util.HashMap;
 import org.junit.Before;
 import org.junit.Rule;
@@ -38,15 +51,27 @@ public class WebViewTest {
 
   @Mock Context mockContext;
 
+  @Mock Choreographer mockChoreographer;
+
+  @Mock Handler mockHandler;
+
   InstanceManager testInstanceManager;
+  JavaScriptEvaluationQueue testJavaScriptEvaluationQueue;
   WebViewHostApiImpl testHostApiImpl;
 
   @Before
   public void setUp() {
     testInstanceManager = new InstanceManager();
     when(mockWebViewProxy.createWebView(mockContext)).thenReturn(mockWebView);
+    testJavaScriptEvaluationQueue = new JavaScriptEvaluationQueue(mockChoreographer, mockHandler);
     testHostApiImpl =
-        new WebViewHostApiImpl(testInstanceManager, mockWebViewProxy, mockContext, null);
+        new WebViewHostApiImpl(
+            testInstanceManager,
+            mockWebViewProxy,
+            mockContext,
+            null,
+            null,
+            testJavaScriptEvaluationQueue);
     testHostApiImpl.create(0L, true);
   }
 
@@ -208,6 +233,43 @@ public class WebViewTest {
     verify(mockWebView).postUrl("https://www.google.com", new byte[] {0x01, 0x02});
   }
 
+  @Test
+  public void loadHtmlBytes() {
+    final byte[] html = new byte[] {0x3c, 0x70, 0x3e};
+    testHostApiImpl.loadHtmlBytes(0L, html, null);
+
+    final ArgumentCaptor<LocalDocument> documentCaptor =
+        ArgumentCaptor.forClass(LocalDocument.class);
+    verify(mockWebView).setLocalDocument(documentCaptor.capture());
+    assertEquals(LocalDocument.DEFAULT_URL, documentCaptor.getValue().url);
+    verify(mockWebView).loadUrl(LocalDocument.DEFAULT_URL);
+  }
+
+  @Test
+  public void loadHtmlBytesWithBaseUrl() {
+    testHostApiImpl.loadHtmlBytes(0L, new byte[] {0x3c}, "https://www.google.com");
+    verify(mockWebView).loadUrl("https://www.google.com");
+  }
+
+  @Test
+  public void loadUrlClearsLocalDocument() {
+    testHostApiImpl.loadUrl(0L, "https://www.google.com", new HashMap<>());
+    verify(mockWebView).setLocalDocument(null);
+  }
+
+  @Test
+  public void interceptLocalDocument() {
+    final WebViewPlatformView webView = new WebViewPlatformView(mockContext);
+    webView.setLocalDocument(LocalDocument.fromBytes("https://www.google.com", new byte[] {0x3c}));
+
+    assertNotNull(LocalDocument.intercept(webView, "https://www.google.com"));
+    assertNotNull(LocalDocument.intercept(webView, "https://www.google.com/"));
+    assertNull(LocalDocument.intercept(webView, "https://www.google.com/image.png"));
+
+    webView.setLocalDocument(null);
+    assertNull(LocalDocument.intercept(webView, "https://www.google.com"));
+  }
+
   @Test
   public void getUrl() {
     when(mockWebView.getUrl()).thenReturn("https://www.google.com");
@@ -275,6 +337,33 @@ public class WebViewTest {
     assertEquals(successValue[0], "da result");
   }
 
+  @Test
+  public void evaluateJavaScriptBatched() {
+    final String[] successValue = new String[1];
+    testHostApiImpl.evaluateJavascriptBatched(
+        0L,
+        "2 + 2",
+        new GeneratedAndroidWebView.Result<String>() {
+          @Override
+          public void success(String result) {
+            successValue[0] = result;
+          }
+
+          @Override
+          public void error(Throwable error) {}
+        });
+    verify(mockWebView, never()).evaluateJavascript(anyString(), any());
+    testJavaScriptEvaluationQueue.flush();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("2 + 2"), callbackCaptor.capture());
+
+    callbackCaptor.getValue().onReceiveValue("da result");
+    assertEquals(successValue[0], "da result");
+  }
+
   @Test
   public void getTitle() {
     when(mockWebView.getTitle()).thenReturn("My title");
@@ -351,4 +440,76 @@ public class WebViewTest {
     testHostApiImpl.setWebChromeClient(0L, 1L);
     verify(mockWebView).setWebChromeClient(mockWebChromeClient);
   }
+
+  @Test
+  public void setRendererPriorityPolicy() {
+    final int sdkInt = Build.VERSION.SDK_INT;
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", Build.VERSION_CODES.O);
+    try {
+      testHostApiImpl.setRendererPriorityPolicy(0L, (long) WebView.RENDERER_PRIORITY_WAIVED, true);
+      verify(mockWebView).setRendererPriorityPolicy(WebView.RENDERER_PRIORITY_WAIVED, true);
+    } finally {
+      // Other tests depend on the SDK version of the test environment.
+      TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", sdkInt);
+    }
+  }
+
+  @Test
+  public void disposeAllRecyclesWebView() {
+    final WebViewPlatformView recyclableWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewProxy.createWebView(mockContext)).thenReturn(recyclableWebView);
+    when(recyclableWebView.isRecyclable()).thenReturn(true);
+    when(recyclableWebView.getContext()).thenReturn(mockContext);
+    testHostApiImpl.getWebViewPool().setRecycleCapacity(1);
+    final long instanceId = (long) TypeTag.WEB_VIEW.value << 24;
+    testHostApiImpl.create(instanceId, true);
+
+    final InstanceManagerHostApiImpl instanceManagerHostApi =
+        new InstanceManagerHostApiImpl(
+            testInstanceManager, mock(InstanceManagerFlutterApi.class), mockHandler);
+    instanceManagerHostApi.setDisposeHandler(
+        TypeTag.WEB_VIEW, instance -> testHostApiImpl.disposeWebView((WebView) instance));
+    instanceManagerHostApi.disposeAll(Collections.singletonList(instanceId));
+
+    verify(recyclableWebView).recycle();
+    verify(recyclableWebView, never()).destroy();
+    assertEquals(1, testHostApiImpl.getWebViewPool().getRecycleCount());
+  }
+
+  @Test
+  public void createRightAfterDisposeDoesNotReusePreviousPage() {
+    final WebViewPlatformView previousWebView = mock(WebViewPlatformView.class);
+    final WebViewPlatformView nextWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewProxy.createWebView(mockContext)).thenReturn(previousWebView, nextWebView);
+    when(previousWebView.isRecyclable()).thenReturn(true);
+    when(previousWebView.getContext()).thenReturn(mockContext);
+    // The blank page that recycling loads hasn't committed yet.
+    WebViewPoolTest.mockHistory(previousWebView, "https://www.google.com");
+    testHostApiImpl.getWebViewPool().setRecycleCapacity(1);
+
+    testHostApiImpl.create(1L, true);
+    testHostApiImpl.dispose(1L);
+    testHostApiImpl.create(2L, true);
+
+    verify(previousWebView).recycle();
+    verify(previousWebView).destroy();
+    assertEquals(nextWebView, testInstanceManager.getInstance(2L));
+  }
+
+  @Test
+  public void disposeFailsQueuedScripts() {
+    final WebViewPlatformView webView = mock(WebViewPlatformView.class);
+    when(mockWebViewProxy.createWebView(mockContext)).thenReturn(webView);
+    testHostApiImpl.create(1L, true);
+    @SuppressWarnings("unchecked")
+    final GeneratedAndroidWebView.Result<String> mockResult =
+        mock(GeneratedAndroidWebView.Result.class);
+    testHostApiImpl.evaluateJavascriptBatched(1L, "2 + 2", mockResult);
+
+    testHostApiImpl.dispose(1L);
+    testJavaScriptEvaluationQueue.flush();
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    verify(webView, never()).evaluateJavascript(anyString(), any());
+  }
 }
@@ -12,6 +12,7 @@ import 'package:flutter/widgets.dart' show AndroidViewSurface;
 
 import 'android_webview.pigeon.dart';
 import 'android_webview_api_impls.dart';
+import 'command_batch_binary_messenger.dart';
 
 /// An Android View that displays web pages.
 ///
@@ -40,9 +41,31 @@ class WebView {
 
   /// Pigeon Host Api implementation for [WebView].
   @visibleForTesting
-  static WebViewHostApiImpl api = WebViewHostApiImpl();
+  static WebViewHostApiImpl api = WebViewHostApiImpl(
+    binaryMessenger: CommandBatchBinaryMessenger.instance,
+  );
+
+  /// The renderer is bound with the lowest priority and is the first to be
+  /// killed when memory is low.
+  ///
+  /// See https://developer.android.com/reference/android/webkit/WebView#RENDERER_PRIORITY_WAIVED
+  static const int rendererPriorityWaived = 0;
+
+  /// The renderer is bound with the same priority as a bound service.
+  ///
+  /// See https://developer.android.com/reference/android/webkit/WebView#RENDERER_PRIORITY_BOUND
+  static const int rendererPriorityBound = 1;
+
+  /// The renderer is bound with the same priority as the app, which is the
+  /// default.
+  ///
+  /// See https://developer.android.com/reference/android/webkit/WebView#RENDERER_PRIORITY_IMPORTANT
+  static const int rendererPriorityImportant = 2;
 
   WebViewClient? _currentWebViewClient;
+  DownloadListener? _currentDownloadListener;
+  WebChromeClient? _currentWebChromeClient;
+  final Set<JavaScriptChannel> _javaScriptChannels = <JavaScriptChannel>{};
 
   /// Whether the [WebView] will be rendered with an [AndroidViewSurface].
   ///
@@ -174,6 +197,32 @@ class WebView {
     return api.postUrlFromInstance(this, url, data);
   }
 
+  /// Loads an HTML document from UTF-8 encoded bytes into this WebView.
+  ///
+  /// Unlike [loadDataWithBaseUrl], the document is never converted to a
+  /// string on either side, so this is better suited for large documents.
+  ///
+  /// The document is served as the response for [baseUrl], so it has the
+  /// origin of [baseUrl] and is served again when the page is reloaded. When
+  /// [baseUrl] is null, `https://appassets.androidplatform.net/` is used. The
+  /// document is served until another document is loaded with this WebView.
+  ///
+  /// This requires the [WebViewClient] set with [setWebViewClient].
+  Future<void> loadHtmlBytes(Uint8List html, {String? baseUrl}) {
+    return api.loadHtmlBytesFromInstance(this, html, baseUrl);
+  }
+
+  /// Loads an HTML document from a UTF-8 encoded file into this WebView.
+  ///
+  /// The file is streamed to the WebView each time the document is loaded, so
+  /// it is never read into memory at once. Unlike loading a `file://` URL,
+  /// this doesn't depend on [WebSettings.setAllowFileAccess].
+  ///
+  /// See [loadHtmlBytes] for how [baseUrl] is used.
+  Future<void> loadHtmlFile(String path, {String? baseUrl}) {
+    return api.loadHtmlFileFromInstance(this, path, baseUrl);
+  }
+
   /// Gets the URL for the current page.
   ///
   /// This is not always the same as the URL passed to
@@ -235,6 +284,33 @@ class WebView {
     );
   }
 
+  /// Evaluates JavaScript like [evaluateJavascript], but on the next frame
+  /// together with the other scripts evaluated by this WebView during the
+  /// frame.
+  ///
+  /// This saves a round trip to the renderer for each script when many small
+  /// scripts are evaluated at once. Scripts are evaluated at most 100
+  /// milliseconds later when no frame is drawn, and before the WebView
+  /// navigates.
+  ///
+  /// Scripts that are sent together are each evaluated with an indirect
+  /// `eval`, so declarations made with `let`, `const` or `class` are only
+  /// visible to their own script. Their results are serialized with
+  /// `JSON.stringify`, which differs from [evaluateJavascript] for values such
+  /// as dates, `NaN` and cyclic objects. A script that throws completes with
+  /// null without affecting the others.
+  ///
+  /// Scripts that are still waiting when the WebView is disposed or its
+  /// renderer is gone complete with an error. So do scripts that were sent
+  /// together if the WebView doesn't return their results, e.g. because the
+  /// page navigated away while they ran.
+  Future<String?> evaluateJavascriptBatched(String javascriptString) {
+    return api.evaluateJavascriptBatchedFromInstance(
+      this,
+      javascriptString,
+    );
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -306,6 +382,7 @@ class WebView {
   /// the caller is trustworthy unless the app can guarantee that no third party
   /// content is ever loaded into the WebView even inside an iframe.
   Future<void> addJavaScriptChannel(JavaScriptChannel javaScriptChannel) {
+    _javaScriptChannels.add(javaScriptChannel);
     JavaScriptChannel.api.createFromInstance(javaScriptChannel);
     return api.addJavaScriptChannelFromInstance(this, javaScriptChannel);
   }
@@ -323,6 +400,7 @@ class WebView {
   ///
   /// This will replace the current handler.
   Future<void> setDownloadListener(DownloadListener? listener) async {
+    _currentDownloadListener = listener;
     await Future.wait(<Future<void>>[
       if (listener != null) DownloadListener.api.createFromInstance(listener),
       api.setDownloadListenerFromInstance(this, listener)
@@ -343,6 +421,7 @@ class WebView {
       _currentWebViewClient != null,
       "Can't set a WebChromeClient without setting a WebViewClient first.",
     );
+    _currentWebChromeClient = client;
     await Future.wait(<Future<void>>[
       if (client != null)
         WebChromeClient.api.createFromInstance(client, _currentWebViewClient!),
@@ -355,13 +434,46 @@ class WebView {
     return api.setBackgroundColorFromInstance(this, color.value);
   }
 
+  /// Sets the priority of the renderer process of this WebView.
+  ///
+  /// [rendererRequestedPriority] is one of [rendererPriorityWaived],
+  /// [rendererPriorityBound] or [rendererPriorityImportant]. If
+  /// [waivedWhenNotVisible] is true, the priority is waived while this WebView
+  /// isn't visible. WebViews that share a renderer get the highest priority
+  /// any of them requests.
+  ///
+  /// This does nothing below Android O.
+  Future<void> setRendererPriorityPolicy(
+    int rendererRequestedPriority, {
+    bool waivedWhenNotVisible = false,
+  }) {
+    return api.setRendererPriorityPolicyFromInstance(
+      this,
+      rendererRequestedPriority,
+      waivedWhenNotVisible,
+    );
+  }
+
   /// Releases all resources used by the [WebView].
   ///
   /// Any methods called after [release] will throw an exception.
+  ///
+  /// The [settings], the clients and listeners set on this WebView and its
+  /// [JavaScriptChannel]s are released along with it in a single message.
   Future<void> release() {
+    final List<Object> instances = <Object>[
+      settings,
+      if (_currentWebViewClient != null) _currentWebViewClient!,
+      if (_currentDownloadListener != null) _currentDownloadListener!,
+      if (_currentWebChromeClient != null) _currentWebChromeClient!,
+      ..._javaScriptChannels,
+      this,
+    ];
     _currentWebViewClient = null;
-    WebSettings.api.disposeFromInstance(settings);
-    return api.disposeFromInstance(this);
+    _currentDownloadListener = null;
+    _currentWebChromeClient = null;
+    _javaScriptChannels.clear();
+    return NativeInstanceRetention.api.disposeAllFromInstances(instances);
   }
 }
 
@@ -427,7 +539,9 @@ class WebSettings {
 
   /// Pigeon Host Api implementation for [WebSettings].
   @visibleForTesting
-  static WebSettingsHostApiImpl api = WebSettingsHostApiImpl();
+  static WebSettingsHostApiImpl api = WebSettingsHostApiImpl(
+    binaryMessenger: CommandBatchBinaryMessenger.instance,
+  );
 
   /// Sets whether the DOM storage API is enabled.
   ///
@@ -546,6 +660,48 @@ class WebSettings {
   Future<void> setAllowFileAccess(bool enabled) {
     return api.setAllowFileAccessFromInstance(this, enabled);
   }
+
+  /// Applies several settings with a single call.
+  ///
+  /// Each setting that is not null is applied as if its setter had been
+  /// called. The other settings are left unchanged, so pass an empty
+  /// [userAgentString] to use the system default user-agent.
+  ///
+  /// Like the setters, this only changes settings whose value differs from the
+  /// value that was last applied, so it can cheaply be called with every
+  /// setting whenever one of them may have changed.
+  Future<void> applySettings({
+    bool? domStorageEnabled,
+    bool? javaScriptCanOpenWindowsAutomatically,
+    bool? supportMultipleWindows,
+    bool? javaScriptEnabled,
+    String? userAgentString,
+    bool? mediaPlaybackRequiresUserGesture,
+    bool? supportZoom,
+    bool? loadWithOverviewMode,
+    bool? useWideViewPort,
+    bool? displayZoomControls,
+    bool? builtInZoomControls,
+    bool? allowFileAccess,
+  }) {
+    return api.applySettingsFromInstance(
+      this,
+      WebSettingsData(
+        domStorageEnabled: domStorageEnabled,
+        javaScriptCanOpenWindowsAutomatically: javaScriptCanOpenWindowsAutomatically,
+        supportMultipleWindows: supportMultipleWindows,
+        javaScriptEnabled: javaScriptEnabled,
+        userAgentString: userAgentString,
+        mediaPlaybackRequiresUserGesture: mediaPlaybackRequiresUserGesture,
+        supportZoom: supportZoom,
+        loadWithOverviewMode: loadWithOverviewMode,
+        useWideViewPort: useWideViewPort,
+        displayZoomControls: displayZoomControls,
+        builtInZoomControls: builtInZoomControls,
+        allowFileAccess: allowFileAccess,
+      ),
+    );
+  }
 }
 
 /// Exposes a channel to receive calls from javaScript.
@@ -559,7 +715,9 @@ abstract class JavaScriptChannel {
 
   /// Pigeon Host Api implementation for [JavaScriptChannel].
   @visibleForTesting
-  static JavaScriptChannelHostApiImpl api = JavaScriptChannelHostApiImpl();
+  static JavaScriptChannelHostApiImpl api = JavaScriptChannelHostApiImpl(
+    binaryMessenger: CommandBatchBinaryMessenger.instance,
+  );
 
   /// Used to identify this object to receive messages from javaScript.
   final String channelName;
@@ -568,10 +726,36 @@ abstract class JavaScriptChannel {
   void postMessage(String message);
 }
 
+/// Callbacks of a [WebViewClient] that Java can be told to skip.
+///
+/// See [WebViewClient.setSubscribedCallbacks].
+enum WebViewClientCallback {
+  /// [WebViewClient.onPageStarted].
+  onPageStarted,
+
+  /// [WebViewClient.onPageFinished].
+  onPageFinished,
+
+  /// [WebViewClient.onReceivedRequestError].
+  onReceivedRequestError,
+
+  /// [WebViewClient.onReceivedError].
+  onReceivedError,
+
+  /// [WebViewClient.requestLoading].
+  requestLoading,
+
+  /// [WebViewClient.urlLoading].
+  urlLoading,
+}
+
 /// Receive various notifications and requests for [WebView].
 abstract class WebViewClient {
   /// Constructs a [WebViewClient].
-  WebViewClient({this.shouldOverrideUrlLoading = true}) {
+  WebViewClient({
+    this.shouldOverrideUrlLoading = true,
+    this.includesRequestHeaders = true,
+  }) {
     AndroidWebViewFlutterApis.instance.ensureSetUp();
   }
 
@@ -657,7 +841,9 @@ abstract class WebViewClient {
 
   /// Pigeon Host Api implementation for [WebViewClient].
   @visibleForTesting
-  static WebViewClientHostApiImpl api = WebViewClientHostApiImpl();
+  static WebViewClientHostApiImpl api = WebViewClientHostApiImpl(
+    binaryMessenger: CommandBatchBinaryMessenger.instance,
+  );
 
   /// Whether loading a url should be overridden.
   ///
@@ -673,6 +859,23 @@ abstract class WebViewClient {
   /// Defaults to true.
   final bool shouldOverrideUrlLoading;
 
+  /// Whether Java sends [WebResourceRequest.requestHeaders] to this client.
+  ///
+  /// When false, the requests passed to [requestLoading] and
+  /// [onReceivedRequestError] have empty headers, which saves copying and
+  /// encoding the headers of every request. Only this client is affected.
+  ///
+  /// Defaults to true.
+  final bool includesRequestHeaders;
+
+  /// Sets the callbacks that Java sends to this client.
+  ///
+  /// Java neither builds the arguments of the other callbacks nor sends them,
+  /// so they are never called. Every callback is sent by default.
+  Future<void> setSubscribedCallbacks(Set<WebViewClientCallback> callbacks) {
+    return api.setSubscribedCallbacksFromInstance(this, callbacks);
+  }
+
   /// Notify the host application that a page has started loading.
   ///
   /// This method is called once for each main frame load so a page with iframes
@@ -746,7 +949,9 @@ abstract class DownloadListener {
 
   /// Pigeon Host Api implementation for [DownloadListener].
   @visibleForTesting
-  static DownloadListenerHostApiImpl api = DownloadListenerHostApiImpl();
+  static DownloadListenerHostApiImpl api = DownloadListenerHostApiImpl(
+    binaryMessenger: CommandBatchBinaryMessenger.instance,
+  );
 
   /// Notify the host application that a file should be downloaded.
   void onDownloadStart(
@@ -758,6 +963,14 @@ abstract class DownloadListener {
   );
 }
 
+/// Callbacks of a [WebChromeClient] that Java can be told to skip.
+///
+/// See [WebChromeClient.setSubscribedCallbacks].
+enum WebChromeClientCallback {
+  /// [WebChromeClient.onProgressChanged].
+  onProgressChanged,
+}
+
 /// Handles JavaScript dialogs, favicons, titles, and the progress for [WebView].
 abstract class WebChromeClient {
   /// Constructs a [WebChromeClient].
@@ -767,7 +980,17 @@ abstract class WebChromeClient {
 
   /// Pigeon Host Api implementation for [WebChromeClient].
   @visibleForTesting
-  static WebChromeClientHostApiImpl api = WebChromeClientHostApiImpl();
+  static WebChromeClientHostApiImpl api = WebChromeClientHostApiImpl(
+    binaryMessenger: CommandBatchBinaryMessenger.instance,
+  );
+
+  /// Sets the callbacks that Java sends to this client.
+  ///
+  /// Java doesn't send the other callbacks, so they are never called. Every
+  /// callback is sent by default.
+  Future<void> setSubscribedCallbacks(Set<WebChromeClientCallback> callbacks) {
+    return api.setSubscribedCallbacksFromInstance(this, callbacks);
+  }
 
   /// Notify the host application that a file should be downloaded.
   void onProgressChanged(WebView webView, int progress) {}
@@ -803,6 +1026,9 @@ class WebResourceRequest {
   final String method;
 
   /// The headers associated with the request.
+  ///
+  /// Empty if the [WebViewClient] doesn't
+  /// [WebViewClient.includesRequestHeaders].
   final Map<String, String> requestHeaders;
 }
 
@@ -869,3 +1095,600 @@ class WebStorage {
     return api.deleteAllDataFromInstance(this);
   }
 }
+
+/// Configures how the native side retains objects paired with Dart objects.
+class NativeInstanceRetention {
+  NativeInstanceRetention._();
+
+  /// Pigeon Host Api implementation for [NativeInstanceRetention].
+  @visibleForTesting
+  static InstanceManagerHostApiImpl api = InstanceManagerHostApiImpl();
+
+  /// Sets whether native objects that are owned by another native object are
+  /// weakly referenced.
+  ///
+  /// When enabled, [WebSettings] and [WebStorage] objects created afterwards do
+  /// not keep their native counterpart alive. Once the native object is
+  /// garbage collected, the Dart object is removed from the instance manager
+  /// along with any other collected objects in a single message. Defaults to
+  /// false.
+  static Future<void> setWeakReferencesEnabled(bool enabled) {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    return api.setWeakReferencesEnabled(enabled);
+  }
+
+  /// Retrieves how many native objects of each type are retained.
+  ///
+  /// Only types that have had at least one native object are included. This is
+  /// cheap enough to be polled periodically.
+  static Future<List<InstanceTypeStatistics>> getStatistics() {
+    return api.getStatisticsFromInstanceManager();
+  }
+
+  /// Retrieves the native objects that are still retained after the
+  /// [WebView] they were attached to was disposed.
+  ///
+  /// This is intended for debugging. Objects that are reported here are
+  /// usually Dart objects that were never released.
+  static Future<List<LeakedInstance>> getLeakedInstances() {
+    return api.getLeakedInstancesFromInstanceManager();
+  }
+}
+
+/// Describes the native objects with the same type tag that are retained.
+///
+/// See [NativeInstanceRetention.getStatistics].
+class InstanceTypeStatistics {
+  /// Constructs an [InstanceTypeStatistics].
+  InstanceTypeStatistics({
+    required this.typeTag,
+    required this.liveCount,
+    required this.highWaterMark,
+    required this.ageHistogram,
+  });
+
+  /// Upper bounds of the buckets of [ageHistogram].
+  ///
+  /// The last bucket of [ageHistogram] has no upper bound.
+  static const List<Duration> ageHistogramBounds = <Duration>[
+    Duration(seconds: 1),
+    Duration(seconds: 10),
+    Duration(minutes: 1),
+    Duration(minutes: 10),
+    Duration(hours: 1),
+  ];
+
+  /// The type of the native objects, as one of the values of
+  /// `InstanceTypeTag`.
+  final int typeTag;
+
+  /// The number of native objects that are currently retained.
+  final int liveCount;
+
+  /// The largest number of native objects that were retained at the same time.
+  final int highWaterMark;
+
+  /// The number of retained native objects by how long ago they were created.
+  ///
+  /// Bucket `i` counts objects younger than `ageHistogramBounds[i]` and older
+  /// than the bound before it.
+  final List<int> ageHistogram;
+}
+
+/// A native object that is still retained after the object it was attached to
+/// was disposed.
+///
+/// See [NativeInstanceRetention.getLeakedInstances].
+class LeakedInstance {
+  /// Constructs a [LeakedInstance].
+  LeakedInstance({
+    required this.instanceId,
+    required this.ownerInstanceId,
+    required this.age,
+  });
+
+  /// The instance id of the retained object.
+  final int instanceId;
+
+  /// The instance id of the disposed object it was attached to.
+  final int ownerInstanceId;
+
+  /// How long ago the retained object was created.
+  final Duration age;
+}
+
+/// Records the traffic of each channel between Dart and the native side.
+///
+/// This is intended for finding the messages that cost frame time. Nothing is
+/// recorded until recording is enabled, and recording only costs a check per
+/// message while it is disabled.
+class ChannelInstrumentation {
+  ChannelInstrumentation._();
+
+  /// Pigeon Host Api implementation for [ChannelInstrumentation].
+  @visibleForTesting
+  static ChannelStatisticsHostApiImpl api = ChannelStatisticsHostApiImpl();
+
+  /// Sets whether the traffic of each channel is recorded.
+  ///
+  /// Disabling recording keeps the traffic that has already been recorded.
+  /// Defaults to false.
+  static Future<void> setEnabled(bool enabled) {
+    return api.setEnabled(enabled);
+  }
+
+  /// Retrieves the traffic of each channel that had a message since recording
+  /// was enabled or [reset].
+  ///
+  /// Callbacks that are sent to Dart once per frame are reported both on their
+  /// own channel and as part of the batch channel that delivers them.
+  static Future<List<ChannelStatistics>> getStatistics() {
+    return api.getStatisticsFromChannels();
+  }
+
+  /// Removes the traffic that has been recorded.
+  static Future<void> reset() {
+    return api.reset();
+  }
+
+  /// Writes the traffic of each channel to the native log, one line per
+  /// channel.
+  static Future<void> dumpToLog() {
+    return api.dumpToLog();
+  }
+}
+
+/// Describes the traffic of a single channel.
+///
+/// See [ChannelInstrumentation.getStatistics].
+class ChannelStatistics {
+  /// Constructs a [ChannelStatistics].
+  ChannelStatistics({
+    required this.channel,
+    required this.messageCount,
+    required this.messageBytes,
+    required this.messageSizeHistogram,
+    required this.handlerTimeHistogram,
+    required this.replyLatencyHistogram,
+  });
+
+  /// Upper bounds of the buckets of [messageSizeHistogram], in bytes.
+  ///
+  /// The last bucket of [messageSizeHistogram] has no upper bound.
+  static const List<int> messageSizeHistogramBounds = <int>[
+    64,
+    256,
+    1024,
+    4096,
+    16384,
+    65536,
+  ];
+
+  /// Upper bounds of the buckets of [handlerTimeHistogram] and
+  /// [replyLatencyHistogram].
+  ///
+  /// The last bucket of each histogram has no upper bound.
+  static const List<Duration> durationHistogramBounds = <Duration>[
+    Duration(microseconds: 100),
+    Duration(microseconds: 500),
+    Duration(milliseconds: 1),
+    Duration(milliseconds: 4),
+    Duration(milliseconds: 16),
+    Duration(milliseconds: 64),
+  ];
+
+  /// The name of the channel.
+  final String channel;
+
+  /// The number of messages sent or received on the channel.
+  final int messageCount;
+
+  /// The total encoded size of the messages, in bytes.
+  final int messageBytes;
+
+  /// The number of messages by encoded size.
+  ///
+  /// Bucket `i` counts messages smaller than `messageSizeHistogramBounds[i]`
+  /// and at least as large as the bound before it.
+  final List<int> messageSizeHistogram;
+
+  /// The number of messages from Dart by how long their native handler ran.
+  ///
+  /// Handlers that reply asynchronously are only timed until they return.
+  /// Buckets are bounded by [durationHistogramBounds].
+  final List<int> handlerTimeHistogram;
+
+  /// The number of messages to Dart by how long it took until Dart replied.
+  ///
+  /// Buckets are bounded by [durationHistogramBounds].
+  final List<int> replyLatencyHistogram;
+}
+
+/// Keeps native WebViews that are constructed ahead of time.
+///
+/// Constructing the first WebView of a process initializes the WebView
+/// provider, which can block the platform thread for hundreds of milliseconds.
+/// A pool constructs its WebViews while the platform thread is idle, so
+/// creating a [WebView] usually only takes one from the pool. Pooled WebViews
+/// use memory whether or not they are ever used.
+///
+/// The pool can also keep the WebViews of disposed [WebView]s instead of
+/// destroying them. See [setRecycleCapacity].
+class WebViewPool {
+  WebViewPool._();
+
+  /// Pigeon Host Api implementation for [WebViewPool].
+  @visibleForTesting
+  static WebViewPoolHostApiImpl api = WebViewPoolHostApiImpl();
+
+  /// Sets how many WebViews the pool keeps.
+  ///
+  /// The pool only keeps WebViews for [WebView]s that are created with the
+  /// same value of `useHybridComposition`. A [capacity] of 0 disables the pool,
+  /// which is the default.
+  static Future<void> setCapacity(
+    int capacity, {
+    bool useHybridComposition = false,
+  }) {
+    return api.setCapacity(capacity, useHybridComposition);
+  }
+
+  /// Sets how many WebViews of disposed [WebView]s the pool keeps for reuse.
+  ///
+  /// When a [WebView] is disposed, its WebView is reset instead of destroyed:
+  /// it loads `about:blank`, its history is cleared, its clients and
+  /// JavaScript channels are removed and its settings are restored to their
+  /// defaults. The next [WebView] created with the same value of
+  /// `useHybridComposition` reuses it before any WebView constructed ahead of
+  /// time. Recycled WebViews still share the process of the WebView provider
+  /// with the pages they showed before, such as cookies and web storage.
+  ///
+  /// Only [WebView]s created while recycling is enabled are recycled. A
+  /// [recycleCapacity] of 0 disables recycling, which is the default.
+  static Future<void> setRecycleCapacity(int recycleCapacity) {
+    return api.setRecycleCapacity(recycleCapacity);
+  }
+
+  /// Retrieves the size of the pool, how often it had a WebView ready and how
+  /// long constructing WebViews took.
+  static Future<WebViewPoolStatistics> getStatistics() {
+    return api.getStatisticsFromPool();
+  }
+
+  /// Resets the hit, miss and recycle counts and the construction times of the
+  /// pool.
+  static Future<void> resetStatistics() {
+    return api.resetStatistics();
+  }
+}
+
+/// Describes the use of the [WebViewPool].
+///
+/// See [WebViewPool.getStatistics].
+class WebViewPoolStatistics {
+  /// Constructs a [WebViewPoolStatistics].
+  WebViewPoolStatistics({
+    required this.capacity,
+    required this.size,
+    required this.hitCount,
+    required this.missCount,
+    required this.recycleCount,
+    required this.constructionCount,
+    required this.totalConstructionTime,
+    required this.maxConstructionTime,
+  });
+
+  /// The number of WebViews the pool keeps.
+  final int capacity;
+
+  /// The number of WebViews that are currently in the pool, including recycled
+  /// ones.
+  final int size;
+
+  /// The number of [WebView]s that were created with a WebView of the pool.
+  final int hitCount;
+
+  /// The number of [WebView]s that had to construct a WebView while the pool
+  /// was enabled.
+  final int missCount;
+
+  /// The number of WebViews of disposed [WebView]s that were kept for reuse.
+  final int recycleCount;
+
+  /// The number of WebViews that have been constructed, whether for the pool or
+  /// on a miss.
+  ///
+  /// This also counts WebViews that were constructed while the pool was
+  /// disabled.
+  final int constructionCount;
+
+  /// The total time it took to construct [constructionCount] WebViews.
+  ///
+  /// On Android versions before P, constructing the first WebView of a process
+  /// also includes working around a bug of older WebView versions.
+  final Duration totalConstructionTime;
+
+  /// The longest time it took to construct a WebView.
+  final Duration maxConstructionTime;
+}
+
+/// Loads the native WebView provider ahead of time.
+///
+/// The first WebView constructed in a process loads the WebView provider,
+/// which is the slowest part of showing the first [WebView]. Loading it on a
+/// background thread beforehand keeps that cost off the platform thread.
+///
+/// Loading can also start as soon as the plugin is attached, before any Dart
+/// code runs, with `WebViewFlutterPlugin.setWarmUpProviderOnAttach` in Java.
+class WebViewProvider {
+  WebViewProvider._();
+
+  /// Pigeon Host Api implementation for [WebViewProvider].
+  @visibleForTesting
+  static WebViewProviderHostApiImpl api = WebViewProviderHostApiImpl();
+
+  /// Starts loading the WebView provider unless loading it has already
+  /// started.
+  ///
+  /// Completes with how long loading the provider took once it's loaded. The
+  /// provider is loaded at most once per process, so later calls complete with
+  /// the duration of the first load.
+  static Future<Duration> warmUp() {
+    return api.warmUpFromProvider();
+  }
+}
+
+/// Suspends native WebViews while they can't be seen.
+///
+/// A [WebView] that is covered by another route or scrolled out of a
+/// `PageView` keeps running timers, animations and JavaScript. Once enabled,
+/// the WebView of a [WebView] that has been hidden for the grace period of the
+/// [WebViewSuspensionPolicy] is paused, and it's resumed as soon as it's shown
+/// again. Every WebView is also paused while the activity is stopped.
+/// JavaScript timers are only paused when
+/// [WebViewSuspensionPolicy.pausesTimers] is set.
+///
+/// Hidden WebViews are only detected with Hybrid Composition. With virtual
+/// displays, WebViews are only paused while the activity is stopped.
+class WebViewSuspension {
+  WebViewSuspension._();
+
+  /// Pigeon Host Api implementation for [WebViewSuspension].
+  @visibleForTesting
+  static WebViewSuspensionHostApiImpl api = WebViewSuspensionHostApiImpl();
+
+  /// Sets when WebViews are paused.
+  ///
+  /// Suspension is disabled by default.
+  static Future<void> setPolicy(WebViewSuspensionPolicy policy) {
+    return api.setPolicyFromValue(policy);
+  }
+
+  /// Sets whether the WebView of [webView] is never paused.
+  ///
+  /// Exclude a [WebView] that has to keep running while it's hidden, e.g.
+  /// while it plays audio. A paused WebView is resumed when it's excluded.
+  static Future<void> setExcluded(WebView webView, bool excluded) {
+    return api.setExcludedFromInstance(webView, excluded);
+  }
+
+  /// Sets whether the renderer priority of WebViews follows their visibility.
+  ///
+  /// Managed WebViews that aren't excluded request
+  /// [WebView.rendererPriorityImportant] while they're shown and
+  /// [WebView.rendererPriorityWaived] while they're hidden, so Android kills
+  /// the renderers of hidden WebViews first when memory is low. WebViews get
+  /// the default priority back when management is disabled, which is the
+  /// default.
+  ///
+  /// This does nothing below Android O.
+  static Future<void> setRendererPriorityManaged(bool managed) {
+    return api.setRendererPriorityManaged(managed);
+  }
+}
+
+/// Describes when [WebViewSuspension] pauses WebViews.
+class WebViewSuspensionPolicy {
+  /// Constructs a [WebViewSuspensionPolicy].
+  const WebViewSuspensionPolicy({
+    this.enabled = true,
+    this.gracePeriod = const Duration(seconds: 1),
+    this.pausesTimers = false,
+  });
+
+  /// A policy that never pauses WebViews, which is the default.
+  static const WebViewSuspensionPolicy disabled =
+      WebViewSuspensionPolicy(enabled: false);
+
+  /// Whether hidden WebViews are paused.
+  final bool enabled;
+
+  /// How long a WebView has to be hidden before it's paused.
+  ///
+  /// A short grace period keeps WebViews that are only hidden during a route
+  /// transition from being paused and resumed.
+  final Duration gracePeriod;
+
+  /// Whether JavaScript timers are paused while every WebView is paused.
+  ///
+  /// Android pauses timers for the whole process, so this also pauses the
+  /// timers of WebViews that aren't created by this plugin, e.g. those of
+  /// other activities. Timers are only paused while every engine that shows
+  /// WebViews sets this and all of its WebViews are paused.
+  final bool pausesTimers;
+}
+
+/// Reports how native WebViews free memory when Android reports memory
+/// pressure.
+///
+/// The more severe the trim level, the more is freed. From
+/// [MemoryTrimReport.runningModerate] and [MemoryTrimReport.background], the
+/// WebViews of the [WebViewPool] are destroyed. From
+/// [MemoryTrimReport.runningLow] and [MemoryTrimReport.moderate], the in-memory
+/// resource cache that all WebViews share is also cleared if a [WebView] is
+/// hidden. From [MemoryTrimReport.runningCritical] and
+/// [MemoryTrimReport.complete], hidden WebViews are also paused right away,
+/// even if [WebViewSuspension] is disabled, until they are shown again.
+///
+/// [MemoryTrimReport.uiHidden] only means that the app isn't visible anymore,
+/// so nothing is freed.
+class WebViewMemory {
+  WebViewMemory._();
+
+  /// Emits a report each time Android asks the app to trim its memory.
+  static Stream<MemoryTrimReport> get onTrimMemory {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    return AndroidWebViewFlutterApis
+        .instance.webViewMemoryFlutterApi.onTrimMemoryReports;
+  }
+}
+
+/// Describes a memory trim and what was freed.
+///
+/// See [WebViewMemory.onTrimMemory].
+class MemoryTrimReport {
+  /// Constructs a [MemoryTrimReport].
+  MemoryTrimReport({
+    required this.level,
+    required this.droppedWebViewCount,
+    required this.clearedCache,
+    required this.pausedWebViewCount,
+  });
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE`.
+  static const int runningModerate = 5;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW`.
+  static const int runningLow = 10;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL`.
+  static const int runningCritical = 15;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN`.
+  static const int uiHidden = 20;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_BACKGROUND`.
+  static const int background = 40;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_MODERATE`.
+  static const int moderate = 60;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_COMPLETE`, which is also reported for
+  /// `onLowMemory`.
+  static const int complete = 80;
+
+  /// The trim level reported by Android.
+  ///
+  /// See https://developer.android.com/reference/android/content/ComponentCallbacks2.
+  final int level;
+
+  /// The number of WebViews of the [WebViewPool] that were destroyed.
+  final int droppedWebViewCount;
+
+  /// Whether the in-memory resource cache of WebViews was cleared.
+  final bool clearedCache;
+
+  /// The number of hidden WebViews that were paused.
+  final int pausedWebViewCount;
+}
+
+/// Reports native WebViews that were replaced because their renderer process
+/// is gone.
+///
+/// When the renderer of a WebView crashes or is killed by Android to free
+/// memory, the native WebView can't be used anymore. It is replaced by a new
+/// one that keeps the clients, JavaScript channels and settings of the
+/// [WebView] and restores its navigation history. The replacement is only
+/// displayed once a new platform view is created for the [WebView], e.g. by
+/// rebuilding the widget that displays it with a new key.
+///
+/// Renderers are only reported on Android O and above.
+class WebViewRecovery {
+  WebViewRecovery._();
+
+  /// Emits an event each time the native WebView of a [WebView] is replaced.
+  static Stream<RenderProcessGoneEvent> get onRenderProcessGone {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    return AndroidWebViewFlutterApis
+        .instance.webViewRecoveryFlutterApi.onRenderProcessGoneEvents;
+  }
+}
+
+/// Describes a [WebView] whose native WebView was replaced.
+///
+/// See [WebViewRecovery.onRenderProcessGone].
+class RenderProcessGoneEvent {
+  /// Constructs a [RenderProcessGoneEvent].
+  RenderProcessGoneEvent({
+    required this.webView,
+    required this.didCrash,
+    required this.stateRestored,
+  });
+
+  /// The [WebView] whose platform view has to be created again.
+  final WebView webView;
+
+  /// Whether the renderer crashed instead of being killed by Android.
+  final bool didCrash;
+
+  /// Whether the navigation history was restored in the replacement.
+  ///
+  /// Otherwise the replacement is blank and the page has to be loaded again.
+  final bool stateRestored;
+}
+
+/// Keeps the state of native WebViews on disk so it survives the process.
+///
+/// The saved state of a [WebView] holds its back/forward list and the page
+/// state of each entry, including its scroll position. It's kept in a file of
+/// the app's cache directory under a key, such as the id of a tab. Restoring
+/// it into a new [WebView] brings the history back and reloads the current
+/// page at its previous scroll position, so an app whose process was killed
+/// doesn't have to load every tab from scratch.
+///
+/// Files are written and read on a background thread. The least recently
+/// saved or restored states are deleted once their files take more than the
+/// size set with [setMaxSize].
+class WebViewStateStore {
+  WebViewStateStore._();
+
+  /// Pigeon Host Api implementation for [WebViewStateStore].
+  @visibleForTesting
+  static WebViewStateStoreHostApiImpl api = WebViewStateStoreHostApiImpl();
+
+  /// Sets the number of bytes the saved states may take on disk.
+  ///
+  /// Defaults to 4 MiB.
+  static Future<void> setMaxSize(int maxBytes) {
+    return api.setMaxSize(maxBytes);
+  }
+
+  /// Saves the state of [webView] under [key], replacing the previous state.
+  ///
+  /// A [WebView] that hasn't loaded anything has no state, so the previous
+  /// state of [key] is deleted instead.
+  static Future<void> saveState(WebView webView, String key) {
+    return api.saveStateFromInstance(webView, key);
+  }
+
+  /// Restores the state saved under [key] into [webView].
+  ///
+  /// This has to be called right after [webView] is created, before it loads
+  /// anything. Completes with whether a state was restored. Otherwise the
+  /// [WebView] is still blank and its first page has to be loaded.
+  ///
+  /// `WebViewAndroidWidget.stateKey` does this for the [WebView] of a widget.
+  static Future<bool> restoreState(WebView webView, String key) {
+    return api.restoreStateFromInstance(webView, key);
+  }
+
+  /// Deletes the state saved under [key], e.g. when its tab is closed.
+  static Future<void> remove(String key) {
+    return api.remove(key);
+  }
+
+  /// Deletes every saved state.
+  static Future<void> clear() {
+    return api.clear();
+  }
+}
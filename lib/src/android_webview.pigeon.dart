@@ -78,6 +78,267 @@ class WebResourceErrorData {
   }
 }
 
+class InstanceTypeStatisticsData {
+  InstanceTypeStatisticsData({
+    required this.typeTag,
+    required this.liveCount,
+    required this.highWaterMark,
+    required this.ageHistogram,
+  });
+
+  int typeTag;
+  int liveCount;
+  int highWaterMark;
+  List<int?> ageHistogram;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['typeTag'] = typeTag;
+    pigeonMap['liveCount'] = liveCount;
+    pigeonMap['highWaterMark'] = highWaterMark;
+    pigeonMap['ageHistogram'] = ageHistogram;
+    return pigeonMap;
+  }
+
+  static InstanceTypeStatisticsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return InstanceTypeStatisticsData(
+      typeTag: pigeonMap['typeTag']! as int,
+      liveCount: pigeonMap['liveCount']! as int,
+      highWaterMark: pigeonMap['highWaterMark']! as int,
+      ageHistogram: (pigeonMap['ageHistogram'] as List<Object?>?)!.cast<int?>(),
+    );
+  }
+}
+
+class LeakedInstanceData {
+  LeakedInstanceData({
+    required this.instanceId,
+    required this.ownerInstanceId,
+    required this.ageMillis,
+  });
+
+  int instanceId;
+  int ownerInstanceId;
+  int ageMillis;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['instanceId'] = instanceId;
+    pigeonMap['ownerInstanceId'] = ownerInstanceId;
+    pigeonMap['ageMillis'] = ageMillis;
+    return pigeonMap;
+  }
+
+  static LeakedInstanceData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return LeakedInstanceData(
+      instanceId: pigeonMap['instanceId']! as int,
+      ownerInstanceId: pigeonMap['ownerInstanceId']! as int,
+      ageMillis: pigeonMap['ageMillis']! as int,
+    );
+  }
+}
+
+class InstanceCreationData {
+  InstanceCreationData({
+    required this.instanceId,
+    this.referencedInstanceId,
+    this.flag,
+    this.secondaryFlag,
+    this.name,
+  });
+
+  int instanceId;
+  int? referencedInstanceId;
+  bool? flag;
+  bool? secondaryFlag;
+  String? name;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['instanceId'] = instanceId;
+    pigeonMap['referencedInstanceId'] = referencedInstanceId;
+    pigeonMap['flag'] = flag;
+    pigeonMap['secondaryFlag'] = secondaryFlag;
+    pigeonMap['name'] = name;
+    return pigeonMap;
+  }
+
+  static InstanceCreationData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return InstanceCreationData(
+      instanceId: pigeonMap['instanceId']! as int,
+      referencedInstanceId: pigeonMap['referencedInstanceId'] as int?,
+      flag: pigeonMap['flag'] as bool?,
+      secondaryFlag: pigeonMap['secondaryFlag'] as bool?,
+      name: pigeonMap['name'] as String?,
+    );
+  }
+}
+
+class ChannelStatisticsData {
+  ChannelStatisticsData({
+    required this.channel,
+    required this.messageCount,
+    required this.messageBytes,
+    required this.messageSizeHistogram,
+    required this.handlerTimeHistogram,
+    required this.replyLatencyHistogram,
+  });
+
+  String channel;
+  int messageCount;
+  int messageBytes;
+  List<int?> messageSizeHistogram;
+  List<int?> handlerTimeHistogram;
+  List<int?> replyLatencyHistogram;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['channel'] = channel;
+    pigeonMap['messageCount'] = messageCount;
+    pigeonMap['messageBytes'] = messageBytes;
+    pigeonMap['messageSizeHistogram'] = messageSizeHistogram;
+    pigeonMap['handlerTimeHistogram'] = handlerTimeHistogram;
+    pigeonMap['replyLatencyHistogram'] = replyLatencyHistogram;
+    return pigeonMap;
+  }
+
+  static ChannelStatisticsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return ChannelStatisticsData(
+      channel: pigeonMap['channel']! as String,
+      messageCount: pigeonMap['messageCount']! as int,
+      messageBytes: pigeonMap['messageBytes']! as int,
+      messageSizeHistogram:
+          (pigeonMap['messageSizeHistogram'] as List<Object?>?)!.cast<int?>(),
+      handlerTimeHistogram:
+          (pigeonMap['handlerTimeHistogram'] as List<Object?>?)!.cast<int?>(),
+      replyLatencyHistogram:
+          (pigeonMap['replyLatencyHistogram'] as List<Object?>?)!.cast<int?>(),
+    );
+  }
+}
+
+class WebSettingsData {
+  WebSettingsData({
+    this.domStorageEnabled,
+    this.javaScriptCanOpenWindowsAutomatically,
+    this.supportMultipleWindows,
+    this.javaScriptEnabled,
+    this.userAgentString,
+    this.mediaPlaybackRequiresUserGesture,
+    this.supportZoom,
+    this.loadWithOverviewMode,
+    this.useWideViewPort,
+    this.displayZoomControls,
+    this.builtInZoomControls,
+    this.allowFileAccess,
+  });
+
+  bool? domStorageEnabled;
+  bool? javaScriptCanOpenWindowsAutomatically;
+  bool? supportMultipleWindows;
+  bool? javaScriptEnabled;
+  String? userAgentString;
+  bool? mediaPlaybackRequiresUserGesture;
+  bool? supportZoom;
+  bool? loadWithOverviewMode;
+  bool? useWideViewPort;
+  bool? displayZoomControls;
+  bool? builtInZoomControls;
+  bool? allowFileAccess;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['domStorageEnabled'] = domStorageEnabled;
+    pigeonMap['javaScriptCanOpenWindowsAutomatically'] =
+        javaScriptCanOpenWindowsAutomatically;
+    pigeonMap['supportMultipleWindows'] = supportMultipleWindows;
+    pigeonMap['javaScriptEnabled'] = javaScriptEnabled;
+    pigeonMap['userAgentString'] = userAgentString;
+    pigeonMap['mediaPlaybackRequiresUserGesture'] =
+        mediaPlaybackRequiresUserGesture;
+    pigeonMap['supportZoom'] = supportZoom;
+    pigeonMap['loadWithOverviewMode'] = loadWithOverviewMode;
+    pigeonMap['useWideViewPort'] = useWideViewPort;
+    pigeonMap['displayZoomControls'] = displayZoomControls;
+    pigeonMap['builtInZoomControls'] = builtInZoomControls;
+    pigeonMap['allowFileAccess'] = allowFileAccess;
+    return pigeonMap;
+  }
+
+  static WebSettingsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return WebSettingsData(
+      domStorageEnabled: pigeonMap['domStorageEnabled'] as bool?,
+      javaScriptCanOpenWindowsAutomatically:
+          pigeonMap['javaScriptCanOpenWindowsAutomatically'] as bool?,
+      supportMultipleWindows: pigeonMap['supportMultipleWindows'] as bool?,
+      javaScriptEnabled: pigeonMap['javaScriptEnabled'] as bool?,
+      userAgentString: pigeonMap['userAgentString'] as String?,
+      mediaPlaybackRequiresUserGesture:
+          pigeonMap['mediaPlaybackRequiresUserGesture'] as bool?,
+      supportZoom: pigeonMap['supportZoom'] as bool?,
+      loadWithOverviewMode: pigeonMap['loadWithOverviewMode'] as bool?,
+      useWideViewPort: pigeonMap['useWideViewPort'] as bool?,
+      displayZoomControls: pigeonMap['displayZoomControls'] as bool?,
+      builtInZoomControls: pigeonMap['builtInZoomControls'] as bool?,
+      allowFileAccess: pigeonMap['allowFileAccess'] as bool?,
+    );
+  }
+}
+
+class WebViewPoolStatisticsData {
+  WebViewPoolStatisticsData({
+    required this.capacity,
+    required this.size,
+    required this.hitCount,
+    required this.missCount,
+    required this.recycleCount,
+    required this.constructionCount,
+    required this.totalConstructionMicros,
+    required this.maxConstructionMicros,
+  });
+
+  int capacity;
+  int size;
+  int hitCount;
+  int missCount;
+  int recycleCount;
+  int constructionCount;
+  int totalConstructionMicros;
+  int maxConstructionMicros;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['capacity'] = capacity;
+    pigeonMap['size'] = size;
+    pigeonMap['hitCount'] = hitCount;
+    pigeonMap['missCount'] = missCount;
+    pigeonMap['recycleCount'] = recycleCount;
+    pigeonMap['constructionCount'] = constructionCount;
+    pigeonMap['totalConstructionMicros'] = totalConstructionMicros;
+    pigeonMap['maxConstructionMicros'] = maxConstructionMicros;
+    return pigeonMap;
+  }
+
+  static WebViewPoolStatisticsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return WebViewPoolStatisticsData(
+      capacity: pigeonMap['capacity']! as int,
+      size: pigeonMap['size']! as int,
+      hitCount: pigeonMap['hitCount']! as int,
+      missCount: pigeonMap['missCount']! as int,
+      recycleCount: pigeonMap['recycleCount']! as int,
+      constructionCount: pigeonMap['constructionCount']! as int,
+      totalConstructionMicros: pigeonMap['totalConstructionMicros']! as int,
+      maxConstructionMicros: pigeonMap['maxConstructionMicros']! as int,
+    );
+  }
+}
+
 class _CookieManagerHostApiCodec extends StandardMessageCodec {
   const _CookieManagerHostApiCodec();
 }
@@ -325,6 +586,58 @@ class WebViewHostApi {
     }
   }
 
+  Future<void> loadHtmlBytes(
+      int arg_instanceId, Uint8List arg_html, String? arg_baseUrl) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.loadHtmlBytes', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instanceId, arg_html, arg_baseUrl])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> loadHtmlFile(
+      int arg_instanceId, String arg_path, String? arg_baseUrl) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.loadHtmlFile', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instanceId, arg_path, arg_baseUrl])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<String?> getUrl(int arg_instanceId) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.WebViewHostApi.getUrl', codec,
@@ -530,6 +843,32 @@ class WebViewHostApi {
     }
   }
 
+  Future<String?> evaluateJavascriptBatched(
+      int arg_instanceId, String arg_javascriptString) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instanceId, arg_javascriptString])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as String?);
+    }
+  }
+
   Future<String?> getTitle(int arg_instanceId) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,
@@ -840,10 +1179,58 @@ class WebViewHostApi {
       return;
     }
   }
+
+  Future<void> setRendererPriorityPolicy(int arg_instanceId,
+      int arg_rendererRequestedPriority, bool arg_waivedWhenNotVisible) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_rendererRequestedPriority,
+      arg_waivedWhenNotVisible
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _WebSettingsHostApiCodec extends StandardMessageCodec {
   const _WebSettingsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebSettingsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebSettingsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 class WebSettingsHostApi {
@@ -1205,6 +1592,32 @@ class WebSettingsHostApi {
       return;
     }
   }
+
+  Future<void> applySettings(
+      int arg_instanceId, WebSettingsData arg_settings) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebSettingsHostApi.applySettings', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instanceId, arg_settings])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _JavaScriptChannelHostApiCodec extends StandardMessageCodec {
@@ -1319,14 +1732,42 @@ class WebViewClientHostApi {
 
   static const MessageCodec<Object?> codec = _WebViewClientHostApiCodec();
 
-  Future<void> create(
-      int arg_instanceId, bool arg_shouldOverrideUrlLoading) async {
+  Future<void> create(int arg_instanceId, bool arg_shouldOverrideUrlLoading,
+      bool arg_includesRequestHeaders) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.WebViewClientHostApi.create', codec,
         binaryMessenger: _binaryMessenger);
-    final Map<Object?, Object?>? replyMap = await channel
-            .send(<Object?>[arg_instanceId, arg_shouldOverrideUrlLoading])
-        as Map<Object?, Object?>?;
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_shouldOverrideUrlLoading,
+      arg_includesRequestHeaders
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setSubscribedCallbacks(
+      int arg_instanceId, int arg_callbacks) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewClientHostApi.setSubscribedCallbacks', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instanceId, arg_callbacks])
+            as Map<Object?, Object?>?;
     if (replyMap == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -1729,26 +2170,53 @@ class WebChromeClientHostApi {
       return;
     }
   }
-}
-
-class _FlutterAssetManagerHostApiCodec extends StandardMessageCodec {
-  const _FlutterAssetManagerHostApiCodec();
-}
-
-class FlutterAssetManagerHostApi {
-  /// Constructor for [FlutterAssetManagerHostApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  FlutterAssetManagerHostApi({BinaryMessenger? binaryMessenger})
-      : _binaryMessenger = binaryMessenger;
-
-  final BinaryMessenger? _binaryMessenger;
-
-  static const MessageCodec<Object?> codec = _FlutterAssetManagerHostApiCodec();
 
-  Future<List<String?>> list(String arg_path) async {
+  Future<void> setSubscribedCallbacks(
+      int arg_instanceId, int arg_callbacks) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.FlutterAssetManagerHostApi.list', codec,
+        'dev.flutter.pigeon.WebChromeClientHostApi.setSubscribedCallbacks',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instanceId, arg_callbacks])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _FlutterAssetManagerHostApiCodec extends StandardMessageCodec {
+  const _FlutterAssetManagerHostApiCodec();
+}
+
+class FlutterAssetManagerHostApi {
+  /// Constructor for [FlutterAssetManagerHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  FlutterAssetManagerHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _FlutterAssetManagerHostApiCodec();
+
+  Future<List<String?>> list(String arg_path) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.FlutterAssetManagerHostApi.list', codec,
         binaryMessenger: _binaryMessenger);
     final Map<Object?, Object?>? replyMap =
         await channel.send(<Object?>[arg_path]) as Map<Object?, Object?>?;
@@ -1929,3 +2397,900 @@ class WebStorageHostApi {
     }
   }
 }
+
+class _InstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _InstanceManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is InstanceCreationData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is InstanceTypeStatisticsData) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is LeakedInstanceData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return InstanceCreationData.decode(readValue(buffer)!);
+
+      case 129:
+        return InstanceTypeStatisticsData.decode(readValue(buffer)!);
+
+      case 130:
+        return LeakedInstanceData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class InstanceManagerHostApi {
+  /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  InstanceManagerHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _InstanceManagerHostApiCodec();
+
+  Future<void> setWeakReferencesEnabled(bool arg_enabled) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.setWeakReferencesEnabled',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_enabled]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<InstanceTypeStatisticsData?>> getStatistics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.getStatistics', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as List<Object?>?)!.cast<InstanceTypeStatisticsData?>();
+    }
+  }
+
+  Future<List<LeakedInstanceData?>> getLeakedInstances() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.getLeakedInstances', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as List<Object?>?)!.cast<LeakedInstanceData?>();
+    }
+  }
+
+  Future<void> createAll(List<InstanceCreationData?> arg_instances) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.createAll', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_instances]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> disposeAll(List<int?> arg_instanceIds) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.disposeAll', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel
+        .send(<Object?>[arg_instanceIds]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _InstanceManagerFlutterApiCodec extends StandardMessageCodec {
+  const _InstanceManagerFlutterApiCodec();
+}
+
+abstract class InstanceManagerFlutterApi {
+  static const MessageCodec<Object?> codec = _InstanceManagerFlutterApiCodec();
+
+  void disposeAll(List<int?> instanceIds);
+  static void setup(InstanceManagerFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerFlutterApi.disposeAll', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerFlutterApi.disposeAll was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<int?>? arg_instanceIds =
+              (args[0] as List<Object?>?)?.cast<int?>();
+          assert(arg_instanceIds != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerFlutterApi.disposeAll was null, expected non-null List<int?>.');
+          api.disposeAll(arg_instanceIds!);
+          return;
+        });
+      }
+    }
+  }
+}
+
+class _ChannelStatisticsHostApiCodec extends StandardMessageCodec {
+  const _ChannelStatisticsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ChannelStatisticsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ChannelStatisticsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class ChannelStatisticsHostApi {
+  /// Constructor for [ChannelStatisticsHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  ChannelStatisticsHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _ChannelStatisticsHostApiCodec();
+
+  Future<void> setEnabled(bool arg_enabled) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ChannelStatisticsHostApi.setEnabled', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_enabled]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<ChannelStatisticsData?>> getStatistics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ChannelStatisticsHostApi.getStatistics', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as List<Object?>?)!.cast<ChannelStatisticsData?>();
+    }
+  }
+
+  Future<void> reset() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ChannelStatisticsHostApi.reset', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> dumpToLog() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ChannelStatisticsHostApi.dumpToLog', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _CommandBatchHostApiCodec extends StandardMessageCodec {
+  const _CommandBatchHostApiCodec();
+}
+
+class CommandBatchHostApi {
+  /// Constructor for [CommandBatchHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  CommandBatchHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _CommandBatchHostApiCodec();
+
+  Future<List<Uint8List?>> executeBatch(List<Object?> arg_batch) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.CommandBatchHostApi.executeBatch', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_batch]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as List<Object?>?)!.cast<Uint8List?>();
+    }
+  }
+}
+
+class _WebViewPoolHostApiCodec extends StandardMessageCodec {
+  const _WebViewPoolHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebViewPoolStatisticsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebViewPoolStatisticsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class WebViewPoolHostApi {
+  /// Constructor for [WebViewPoolHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebViewPoolHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _WebViewPoolHostApiCodec();
+
+  Future<void> setCapacity(
+      int arg_capacity, bool arg_useHybridComposition) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewPoolHostApi.setCapacity', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_capacity, arg_useHybridComposition])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setRecycleCapacity(int arg_recycleCapacity) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewPoolHostApi.setRecycleCapacity', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel
+        .send(<Object?>[arg_recycleCapacity]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<WebViewPoolStatisticsData> getStatistics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewPoolHostApi.getStatistics', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as WebViewPoolStatisticsData?)!;
+    }
+  }
+
+  Future<void> resetStatistics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewPoolHostApi.resetStatistics', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _WebViewProviderHostApiCodec extends StandardMessageCodec {
+  const _WebViewProviderHostApiCodec();
+}
+
+class WebViewProviderHostApi {
+  /// Constructor for [WebViewProviderHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebViewProviderHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _WebViewProviderHostApiCodec();
+
+  Future<int> warmUp() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewProviderHostApi.warmUp', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as int?)!;
+    }
+  }
+}
+
+class _WebViewSuspensionHostApiCodec extends StandardMessageCodec {
+  const _WebViewSuspensionHostApiCodec();
+}
+
+class WebViewSuspensionHostApi {
+  /// Constructor for [WebViewSuspensionHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebViewSuspensionHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _WebViewSuspensionHostApiCodec();
+
+  Future<void> setPolicy(bool arg_enabled, int arg_gracePeriodMillis,
+      bool arg_pausesTimers) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(
+            <Object?>[arg_enabled, arg_gracePeriodMillis, arg_pausesTimers])
+        as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setExcluded(int arg_webViewInstanceId, bool arg_excluded) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewSuspensionHostApi.setExcluded', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_webViewInstanceId, arg_excluded])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setRendererPriorityManaged(bool arg_managed) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewSuspensionHostApi.setRendererPriorityManaged',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_managed]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _WebViewMemoryFlutterApiCodec extends StandardMessageCodec {
+  const _WebViewMemoryFlutterApiCodec();
+}
+
+abstract class WebViewMemoryFlutterApi {
+  static const MessageCodec<Object?> codec = _WebViewMemoryFlutterApiCodec();
+
+  void onTrimMemory(int level, int droppedWebViewCount, bool clearedCache,
+      int pausedWebViewCount);
+  static void setup(WebViewMemoryFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_level = (args[0] as int?);
+          assert(arg_level != null,
+              'Argument for dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory was null, expected non-null int.');
+          final int? arg_droppedWebViewCount = (args[1] as int?);
+          assert(arg_droppedWebViewCount != null,
+              'Argument for dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory was null, expected non-null int.');
+          final bool? arg_clearedCache = (args[2] as bool?);
+          assert(arg_clearedCache != null,
+              'Argument for dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory was null, expected non-null bool.');
+          final int? arg_pausedWebViewCount = (args[3] as int?);
+          assert(arg_pausedWebViewCount != null,
+              'Argument for dev.flutter.pigeon.WebViewMemoryFlutterApi.onTrimMemory was null, expected non-null int.');
+          api.onTrimMemory(arg_level!, arg_droppedWebViewCount!,
+              arg_clearedCache!, arg_pausedWebViewCount!);
+          return;
+        });
+      }
+    }
+  }
+}
+
+class _WebViewRecoveryFlutterApiCodec extends StandardMessageCodec {
+  const _WebViewRecoveryFlutterApiCodec();
+}
+
+abstract class WebViewRecoveryFlutterApi {
+  static const MessageCodec<Object?> codec = _WebViewRecoveryFlutterApiCodec();
+
+  void onRenderProcessGone(
+      int webViewInstanceId, bool didCrash, bool stateRestored);
+  static void setup(WebViewRecoveryFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_webViewInstanceId = (args[0] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone was null, expected non-null int.');
+          final bool? arg_didCrash = (args[1] as bool?);
+          assert(arg_didCrash != null,
+              'Argument for dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone was null, expected non-null bool.');
+          final bool? arg_stateRestored = (args[2] as bool?);
+          assert(arg_stateRestored != null,
+              'Argument for dev.flutter.pigeon.WebViewRecoveryFlutterApi.onRenderProcessGone was null, expected non-null bool.');
+          api.onRenderProcessGone(
+              arg_webViewInstanceId!, arg_didCrash!, arg_stateRestored!);
+          return;
+        });
+      }
+    }
+  }
+}
+
+class _WebViewStateStoreHostApiCodec extends StandardMessageCodec {
+  const _WebViewStateStoreHostApiCodec();
+}
+
+class WebViewStateStoreHostApi {
+  /// Constructor for [WebViewStateStoreHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebViewStateStoreHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _WebViewStateStoreHostApiCodec();
+
+  Future<void> setMaxSize(int arg_maxBytes) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewStateStoreHostApi.setMaxSize', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_maxBytes]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> saveState(int arg_webViewInstanceId, String arg_key) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewStateStoreHostApi.saveState', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_webViewInstanceId, arg_key])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<bool> restoreState(int arg_webViewInstanceId, String arg_key) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewStateStoreHostApi.restoreState', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_webViewInstanceId, arg_key])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as bool?)!;
+    }
+  }
+
+  Future<void> remove(String arg_key) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewStateStoreHostApi.remove', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_key]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> clear() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewStateStoreHostApi.clear', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
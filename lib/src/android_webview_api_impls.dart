@@ -2,13 +2,17 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
 import 'dart:typed_data';
+import 'dart:ui' as ui;
 
+import 'package:flutter/foundation.dart' show visibleForTesting;
 import 'package:flutter/services.dart';
 
 import 'android_webview.dart';
 import 'android_webview.pigeon.dart';
 import 'instance_manager.dart';
+import 'web_resource_data_codec.dart';
 
 /// Converts [WebResourceRequestData] to [WebResourceRequest]
 WebResourceRequest _toWebResourceRequest(WebResourceRequestData data) {
@@ -30,6 +34,82 @@ WebResourceError _toWebResourceError(WebResourceErrorData data) {
   );
 }
 
+/// Converts [InstanceTypeStatisticsData] to [InstanceTypeStatistics].
+InstanceTypeStatistics _toInstanceTypeStatistics(
+  InstanceTypeStatisticsData data,
+) {
+  return InstanceTypeStatistics(
+    typeTag: data.typeTag,
+    liveCount: data.liveCount,
+    highWaterMark: data.highWaterMark,
+    ageHistogram: data.ageHistogram.cast<int>(),
+  );
+}
+
+/// Converts [LeakedInstanceData] to [LeakedInstance].
+LeakedInstance _toLeakedInstance(LeakedInstanceData data) {
+  return LeakedInstance(
+    instanceId: data.instanceId,
+    ownerInstanceId: data.ownerInstanceId,
+    age: Duration(milliseconds: data.ageMillis),
+  );
+}
+
+/// Converts [ChannelStatisticsData] to [ChannelStatistics].
+ChannelStatistics _toChannelStatistics(ChannelStatisticsData data) {
+  return ChannelStatistics(
+    channel: data.channel,
+    messageCount: data.messageCount,
+    messageBytes: data.messageBytes,
+    messageSizeHistogram: data.messageSizeHistogram.cast<int>(),
+    handlerTimeHistogram: data.handlerTimeHistogram.cast<int>(),
+    replyLatencyHistogram: data.replyLatencyHistogram.cast<int>(),
+  );
+}
+
+/// Converts [WebViewPoolStatisticsData] to [WebViewPoolStatistics].
+WebViewPoolStatistics _toWebViewPoolStatistics(WebViewPoolStatisticsData data) {
+  return WebViewPoolStatistics(
+    capacity: data.capacity,
+    size: data.size,
+    hitCount: data.hitCount,
+    missCount: data.missCount,
+    recycleCount: data.recycleCount,
+    constructionCount: data.constructionCount,
+    totalConstructionTime: Duration(
+      microseconds: data.totalConstructionMicros,
+    ),
+    maxConstructionTime: Duration(microseconds: data.maxConstructionMicros),
+  );
+}
+
+/// Converts callbacks to the bitmask that Java checks before sending one.
+int _toCallbackBits(Set<Enum> callbacks) {
+  return callbacks.fold(
+    0,
+    (int bits, Enum callback) => bits | (1 << callback.index),
+  );
+}
+
+/// Returns the [InstanceTypeTag] of an instance that can be created with
+/// [InstanceManagerHostApiImpl.createAllFromInstances].
+int _bulkCreationTypeTag(Object instance) {
+  if (instance is WebView) {
+    return InstanceTypeTag.webView;
+  } else if (instance is WebViewClient) {
+    return InstanceTypeTag.webViewClient;
+  } else if (instance is DownloadListener) {
+    return InstanceTypeTag.downloadListener;
+  } else if (instance is JavaScriptChannel) {
+    return InstanceTypeTag.javaScriptChannel;
+  }
+  throw ArgumentError.value(
+    instance,
+    'instances',
+    "Instances of this type can't be created in bulk.",
+  );
+}
+
 /// Handles initialization of Flutter APIs for Android WebView.
 class AndroidWebViewFlutterApis {
   /// Creates a [AndroidWebViewFlutterApis].
@@ -38,6 +118,9 @@ class AndroidWebViewFlutterApis {
     WebViewClientFlutterApiImpl? webViewClientFlutterApi,
     WebChromeClientFlutterApiImpl? webChromeClientFlutterApi,
     JavaScriptChannelFlutterApiImpl? javaScriptChannelFlutterApi,
+    InstanceManagerFlutterApiImpl? instanceManagerFlutterApi,
+    WebViewMemoryFlutterApiImpl? webViewMemoryFlutterApi,
+    WebViewRecoveryFlutterApiImpl? webViewRecoveryFlutterApi,
   }) {
     this.downloadListenerFlutterApi =
         downloadListenerFlutterApi ?? DownloadListenerFlutterApiImpl();
@@ -47,10 +130,23 @@ class AndroidWebViewFlutterApis {
         webChromeClientFlutterApi ?? WebChromeClientFlutterApiImpl();
     this.javaScriptChannelFlutterApi =
         javaScriptChannelFlutterApi ?? JavaScriptChannelFlutterApiImpl();
+    this.instanceManagerFlutterApi =
+        instanceManagerFlutterApi ?? InstanceManagerFlutterApiImpl();
+    this.webViewMemoryFlutterApi =
+        webViewMemoryFlutterApi ?? WebViewMemoryFlutterApiImpl();
+    this.webViewRecoveryFlutterApi =
+        webViewRecoveryFlutterApi ?? WebViewRecoveryFlutterApiImpl();
   }
 
   static bool _haveBeenSetUp = false;
 
+  /// Channel of the messages that native code batches per frame.
+  ///
+  /// Must match `FrameBatchingBinaryMessenger.BATCH_CHANNEL` in the Java
+  /// implementation.
+  static const String frameBatchChannelName =
+      'plugins.flutter.io/webview/frame_batch';
+
   /// Mutable instance containing all Flutter Apis for Android WebView.
   ///
   /// This should only be changed for testing purposes.
@@ -68,16 +164,59 @@ class AndroidWebViewFlutterApis {
   /// Flutter Api for [JavaScriptChannel].
   late final JavaScriptChannelFlutterApiImpl javaScriptChannelFlutterApi;
 
+  /// Flutter Api for [InstanceManager].
+  late final InstanceManagerFlutterApiImpl instanceManagerFlutterApi;
+
+  /// Flutter Api for [WebViewMemory].
+  late final WebViewMemoryFlutterApiImpl webViewMemoryFlutterApi;
+
+  /// Flutter Api for [WebViewRecovery].
+  late final WebViewRecoveryFlutterApiImpl webViewRecoveryFlutterApi;
+
   /// Ensures all the Flutter APIs have been setup to receive calls from native code.
   void ensureSetUp() {
     if (!_haveBeenSetUp) {
       DownloadListenerFlutterApi.setup(downloadListenerFlutterApi);
       WebViewClientFlutterApi.setup(webViewClientFlutterApi);
+      WebViewClientFlutterApiImpl.setUpWebResourceDataChannels(
+        webViewClientFlutterApi,
+      );
       WebChromeClientFlutterApi.setup(webChromeClientFlutterApi);
       JavaScriptChannelFlutterApi.setup(javaScriptChannelFlutterApi);
+      InstanceManagerFlutterApi.setup(instanceManagerFlutterApi);
+      WebViewMemoryFlutterApi.setup(webViewMemoryFlutterApi);
+      WebViewRecoveryFlutterApi.setup(webViewRecoveryFlutterApi);
+      const BasicMessageChannel<Object?>(
+        frameBatchChannelName,
+        StandardMessageCodec(),
+      ).setMessageHandler(handleFrameBatch);
       _haveBeenSetUp = true;
     }
   }
+
+  /// Delivers each message of a batch to the handler of its channel, in order.
+  ///
+  /// A batch is a list of alternating channel names and encoded messages. The
+  /// handlers are invoked synchronously, as if each message had been sent on
+  /// its own. Completes with the encoded replies of the handlers once they
+  /// have all replied.
+  @visibleForTesting
+  static Future<Object?> handleFrameBatch(Object? batch) {
+    final List<Object?> messages = batch! as List<Object?>;
+    final List<Future<Uint8List?>> replies = <Future<Uint8List?>>[];
+    for (int i = 0; i < messages.length; i += 2) {
+      final Completer<Uint8List?> reply = Completer<Uint8List?>();
+      ui.channelBuffers.push(
+        messages[i]! as String,
+        ByteData.sublistView(messages[i + 1]! as Uint8List),
+        (ByteData? data) {
+          reply.complete(data != null ? Uint8List.sublistView(data) : null);
+        },
+      );
+      replies.add(reply.future);
+    }
+    return Future.wait(replies);
+  }
 }
 
 /// Host api implementation for [WebView].
@@ -95,7 +234,10 @@ class WebViewHostApiImpl extends WebViewHostApi {
 
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(WebView instance) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.webView,
+    );
     if (instanceId != null) {
       return create(instanceId, instance.useHybridComposition);
     }
@@ -162,6 +304,32 @@ class WebViewHostApiImpl extends WebViewHostApi {
     return postUrl(instanceManager.getInstanceId(instance)!, url, data);
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<void> loadHtmlBytesFromInstance(
+    WebView instance,
+    Uint8List html,
+    String? baseUrl,
+  ) {
+    return loadHtmlBytes(
+      instanceManager.getInstanceId(instance)!,
+      html,
+      baseUrl,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> loadHtmlFileFromInstance(
+    WebView instance,
+    String path,
+    String? baseUrl,
+  ) {
+    return loadHtmlFile(
+      instanceManager.getInstanceId(instance)!,
+      path,
+      baseUrl,
+    );
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getUrlFromInstance(WebView instance) {
     return getUrl(instanceManager.getInstanceId(instance)!);
@@ -211,6 +379,17 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<String?> evaluateJavascriptBatchedFromInstance(
+    WebView instance,
+    String javascriptString,
+  ) {
+    return evaluateJavascriptBatched(
+      instanceManager.getInstanceId(instance)!,
+      javascriptString,
+    );
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getInstanceId(instance)!);
@@ -295,6 +474,19 @@ class WebViewHostApiImpl extends WebViewHostApi {
   Future<void> setBackgroundColorFromInstance(WebView instance, int color) {
     return setBackgroundColor(instanceManager.getInstanceId(instance)!, color);
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setRendererPriorityPolicyFromInstance(
+    WebView instance,
+    int rendererRequestedPriority,
+    bool waivedWhenNotVisible,
+  ) {
+    return setRendererPriorityPolicy(
+      instanceManager.getInstanceId(instance)!,
+      rendererRequestedPriority,
+      waivedWhenNotVisible,
+    );
+  }
 }
 
 /// Host api implementation for [WebSettings].
@@ -312,7 +504,10 @@ class WebSettingsHostApiImpl extends WebSettingsHostApi {
 
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(WebSettings instance, WebView webView) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.webSettings,
+    );
     if (instanceId != null) {
       return create(
         instanceId,
@@ -449,6 +644,14 @@ class WebSettingsHostApiImpl extends WebSettingsHostApi {
       enabled,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> applySettingsFromInstance(
+    WebSettings instance,
+    WebSettingsData settings,
+  ) {
+    return applySettings(instanceManager.getInstanceId(instance)!, settings);
+  }
 }
 
 /// Host api implementation for [JavaScriptChannel].
@@ -466,7 +669,10 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
 
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(JavaScriptChannel instance) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.javaScriptChannel,
+    );
     if (instanceId != null) {
       return create(instanceId, instance.channelName);
     }
@@ -485,7 +691,7 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -513,11 +719,49 @@ class WebViewClientHostApiImpl extends WebViewClientHostApi {
   /// Maintains instances stored to communicate with java objects.
   late final InstanceManager instanceManager;
 
+  // Callbacks that are sent once the Java object is created.
+  final Expando<int> _pendingCallbacks = Expando<int>();
+
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(WebViewClient instance) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.webViewClient,
+    );
+    if (instanceId != null) {
+      await Future.wait(<Future<void>>[
+        create(
+          instanceId,
+          instance.shouldOverrideUrlLoading,
+          instance.includesRequestHeaders,
+        ),
+        _sendPendingCallbacks(instance),
+      ]);
+    }
+  }
+
+  /// Helper method to convert instances ids to objects.
+  ///
+  /// If [instance] hasn't been created yet, [callbacks] are sent when it is.
+  Future<void> setSubscribedCallbacksFromInstance(
+    WebViewClient instance,
+    Set<WebViewClientCallback> callbacks,
+  ) async {
+    final int? instanceId = instanceManager.getInstanceId(instance);
     if (instanceId != null) {
-      return create(instanceId, instance.shouldOverrideUrlLoading);
+      return setSubscribedCallbacks(instanceId, _toCallbackBits(callbacks));
+    }
+    _pendingCallbacks[instance] = _toCallbackBits(callbacks);
+  }
+
+  Future<void> _sendPendingCallbacks(WebViewClient instance) async {
+    final int? callbacks = _pendingCallbacks[instance];
+    if (callbacks != null) {
+      _pendingCallbacks[instance] = null;
+      return setSubscribedCallbacks(
+        instanceManager.getInstanceId(instance)!,
+        callbacks,
+      );
     }
   }
 }
@@ -532,9 +776,41 @@ class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
   /// Maintains instances stored to communicate with java objects.
   late final InstanceManager instanceManager;
 
+  /// Replaces the handlers of the callbacks that Java sends with
+  /// [WebResourceDataCodec] instead of the generated codec.
+  ///
+  /// Must be called after [WebViewClientFlutterApi.setup].
+  static void setUpWebResourceDataChannels(WebViewClientFlutterApi api) {
+    const BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.WebViewClientFlutterApi.onReceivedRequestError',
+      WebResourceDataCodec(),
+    ).setMessageHandler((Object? message) async {
+      final List<Object?> args = message! as List<Object?>;
+      api.onReceivedRequestError(
+        args[0]! as int,
+        args[1]! as int,
+        args[2]! as WebResourceRequestData,
+        args[3]! as WebResourceErrorData,
+      );
+      return null;
+    });
+    const BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.WebViewClientFlutterApi.requestLoading',
+      WebResourceDataCodec(),
+    ).setMessageHandler((Object? message) async {
+      final List<Object?> args = message! as List<Object?>;
+      api.requestLoading(
+        args[0]! as int,
+        args[1]! as int,
+        args[2]! as WebResourceRequestData,
+      );
+      return null;
+    });
+  }
+
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -684,7 +960,10 @@ class DownloadListenerHostApiImpl extends DownloadListenerHostApi {
 
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(DownloadListener instance) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.downloadListener,
+    );
     if (instanceId != null) {
       return create(instanceId);
     }
@@ -703,7 +982,7 @@ class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -744,16 +1023,41 @@ class WebChromeClientHostApiImpl extends WebChromeClientHostApi {
   /// Maintains instances stored to communicate with java objects.
   late final InstanceManager instanceManager;
 
+  // Callbacks that are sent once the Java object is created.
+  final Expando<int> _pendingCallbacks = Expando<int>();
+
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(
     WebChromeClient instance,
     WebViewClient webViewClient,
   ) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.webChromeClient,
+    );
     if (instanceId != null) {
-      return create(instanceId, instanceManager.getInstanceId(webViewClient)!);
+      final int? callbacks = _pendingCallbacks[instance];
+      _pendingCallbacks[instance] = null;
+      await Future.wait(<Future<void>>[
+        create(instanceId, instanceManager.getInstanceId(webViewClient)!),
+        if (callbacks != null) setSubscribedCallbacks(instanceId, callbacks),
+      ]);
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  ///
+  /// If [instance] hasn't been created yet, [callbacks] are sent when it is.
+  Future<void> setSubscribedCallbacksFromInstance(
+    WebChromeClient instance,
+    Set<WebChromeClientCallback> callbacks,
+  ) async {
+    final int? instanceId = instanceManager.getInstanceId(instance);
+    if (instanceId != null) {
+      return setSubscribedCallbacks(instanceId, _toCallbackBits(callbacks));
+    }
+    _pendingCallbacks[instance] = _toCallbackBits(callbacks);
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
@@ -768,7 +1072,7 @@ class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -804,7 +1108,10 @@ class WebStorageHostApiImpl extends WebStorageHostApi {
 
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(WebStorage instance) async {
-    final int? instanceId = instanceManager.tryAddInstance(instance);
+    final int? instanceId = instanceManager.tryAddInstance(
+      instance,
+      typeTag: InstanceTypeTag.webStorage,
+    );
     if (instanceId != null) {
       return create(instanceId);
     }
@@ -815,3 +1122,265 @@ class WebStorageHostApiImpl extends WebStorageHostApi {
     return deleteAllData(instanceManager.getInstanceId(instance)!);
   }
 }
+
+/// Host api implementation for the native [InstanceManager].
+class InstanceManagerHostApiImpl extends InstanceManagerHostApi {
+  /// Constructs a [InstanceManagerHostApiImpl].
+  InstanceManagerHostApiImpl({
+    BinaryMessenger? binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  /// Helper method to create the native objects of several instances in one
+  /// message.
+  ///
+  /// Supports [WebView], [WebViewClient], [DownloadListener] and
+  /// [JavaScriptChannel]. Instances that have already been created are
+  /// skipped.
+  Future<void> createAllFromInstances(List<Object> instances) async {
+    final List<int> typeTags = instances.map(_bulkCreationTypeTag).toList();
+    final List<InstanceCreationData> data = <InstanceCreationData>[];
+    for (int i = 0; i < instances.length; i++) {
+      final Object instance = instances[i];
+      final int? instanceId = instanceManager.tryAddInstance(
+        instance,
+        typeTag: typeTags[i],
+      );
+      if (instanceId == null) {
+        continue;
+      }
+      data.add(InstanceCreationData(
+        instanceId: instanceId,
+        flag: instance is WebView
+            ? instance.useHybridComposition
+            : instance is WebViewClient
+                ? instance.shouldOverrideUrlLoading
+                : null,
+        secondaryFlag:
+            instance is WebViewClient ? instance.includesRequestHeaders : null,
+        name: instance is JavaScriptChannel ? instance.channelName : null,
+      ));
+    }
+    if (data.isNotEmpty) {
+      await Future.wait(<Future<void>>[
+        createAll(data),
+        for (final Object instance in instances)
+          if (instance is WebViewClient)
+            WebViewClient.api._sendPendingCallbacks(instance),
+      ]);
+    }
+  }
+
+  /// Helper method to dispose the native objects of several instances in one
+  /// message.
+  ///
+  /// Instances that aren't in the [InstanceManager] are skipped.
+  Future<void> disposeAllFromInstances(List<Object> instances) async {
+    final List<int> instanceIds = <int>[];
+    for (final Object instance in instances) {
+      final int? instanceId = instanceManager.removeInstance(instance);
+      if (instanceId != null) {
+        instanceIds.add(instanceId);
+      }
+    }
+    if (instanceIds.isNotEmpty) {
+      return disposeAll(instanceIds);
+    }
+  }
+
+  /// Helper method to convert the returned data to [InstanceTypeStatistics].
+  Future<List<InstanceTypeStatistics>>
+      getStatisticsFromInstanceManager() async {
+    final List<InstanceTypeStatisticsData?> data = await getStatistics();
+    return data
+        .whereType<InstanceTypeStatisticsData>()
+        .map(_toInstanceTypeStatistics)
+        .toList();
+  }
+
+  /// Helper method to convert the returned data to [LeakedInstance]s.
+  Future<List<LeakedInstance>> getLeakedInstancesFromInstanceManager() async {
+    final List<LeakedInstanceData?> data = await getLeakedInstances();
+    return data.whereType<LeakedInstanceData>().map(_toLeakedInstance).toList();
+  }
+}
+
+/// Flutter api implementation for the native [InstanceManager].
+class InstanceManagerFlutterApiImpl extends InstanceManagerFlutterApi {
+  /// Constructs a [InstanceManagerFlutterApiImpl].
+  InstanceManagerFlutterApiImpl({InstanceManager? instanceManager}) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  @override
+  void disposeAll(List<int?> instanceIds) {
+    for (final int? instanceId in instanceIds) {
+      if (instanceId != null) {
+        instanceManager.removeInstanceWithId(instanceId);
+      }
+    }
+  }
+}
+
+/// Host api implementation for [ChannelInstrumentation].
+class ChannelStatisticsHostApiImpl extends ChannelStatisticsHostApi {
+  /// Constructs a [ChannelStatisticsHostApiImpl].
+  ChannelStatisticsHostApiImpl({BinaryMessenger? binaryMessenger})
+      : super(binaryMessenger: binaryMessenger);
+
+  /// Helper method to convert the returned data to [ChannelStatistics].
+  Future<List<ChannelStatistics>> getStatisticsFromChannels() async {
+    final List<ChannelStatisticsData?> data = await getStatistics();
+    return data
+        .whereType<ChannelStatisticsData>()
+        .map(_toChannelStatistics)
+        .toList();
+  }
+}
+
+/// Host api implementation for [WebViewPool].
+class WebViewPoolHostApiImpl extends WebViewPoolHostApi {
+  /// Constructs a [WebViewPoolHostApiImpl].
+  WebViewPoolHostApiImpl({BinaryMessenger? binaryMessenger})
+      : super(binaryMessenger: binaryMessenger);
+
+  /// Helper method to convert the returned data to [WebViewPoolStatistics].
+  Future<WebViewPoolStatistics> getStatisticsFromPool() async {
+    return _toWebViewPoolStatistics(await getStatistics());
+  }
+}
+
+/// Host api implementation for [WebViewProvider].
+class WebViewProviderHostApiImpl extends WebViewProviderHostApi {
+  /// Constructs a [WebViewProviderHostApiImpl].
+  WebViewProviderHostApiImpl({BinaryMessenger? binaryMessenger})
+      : super(binaryMessenger: binaryMessenger);
+
+  /// Helper method to convert the returned milliseconds to a [Duration].
+  Future<Duration> warmUpFromProvider() async {
+    return Duration(milliseconds: await warmUp());
+  }
+}
+
+/// Flutter api implementation for [WebViewMemory].
+class WebViewMemoryFlutterApiImpl extends WebViewMemoryFlutterApi {
+  final StreamController<MemoryTrimReport> _onTrimMemoryController =
+      StreamController<MemoryTrimReport>.broadcast();
+
+  /// Reports of every memory trim after they are listened to.
+  Stream<MemoryTrimReport> get onTrimMemoryReports =>
+      _onTrimMemoryController.stream;
+
+  @override
+  void onTrimMemory(
+    int level,
+    int droppedWebViewCount,
+    bool clearedCache,
+    int pausedWebViewCount,
+  ) {
+    _onTrimMemoryController.add(MemoryTrimReport(
+      level: level,
+      droppedWebViewCount: droppedWebViewCount,
+      clearedCache: clearedCache,
+      pausedWebViewCount: pausedWebViewCount,
+    ));
+  }
+}
+
+/// Flutter api implementation for [WebViewRecovery].
+class WebViewRecoveryFlutterApiImpl extends WebViewRecoveryFlutterApi {
+  /// Constructs a [WebViewRecoveryFlutterApiImpl].
+  WebViewRecoveryFlutterApiImpl({InstanceManager? instanceManager}) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  final StreamController<RenderProcessGoneEvent> _eventController =
+      StreamController<RenderProcessGoneEvent>.broadcast();
+
+  /// Events of every replaced WebView after they are listened to.
+  Stream<RenderProcessGoneEvent> get onRenderProcessGoneEvents =>
+      _eventController.stream;
+
+  @override
+  void onRenderProcessGone(
+    int webViewInstanceId,
+    bool didCrash,
+    bool stateRestored,
+  ) {
+    final WebView? webViewInstance =
+        instanceManager.getInstance(webViewInstanceId) as WebView?;
+    // The event waits for the next frame batch, so the WebView may have been
+    // disposed since it was sent.
+    if (webViewInstance == null) {
+      return;
+    }
+    _eventController.add(RenderProcessGoneEvent(
+      webView: webViewInstance,
+      didCrash: didCrash,
+      stateRestored: stateRestored,
+    ));
+  }
+}
+
+/// Host api implementation for [WebViewSuspension].
+class WebViewSuspensionHostApiImpl extends WebViewSuspensionHostApi {
+  /// Constructs a [WebViewSuspensionHostApiImpl].
+  WebViewSuspensionHostApiImpl({
+    BinaryMessenger? binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  /// Helper method to convert a [WebViewSuspensionPolicy] to its values.
+  Future<void> setPolicyFromValue(WebViewSuspensionPolicy policy) {
+    return setPolicy(
+      policy.enabled,
+      policy.gracePeriod.inMilliseconds,
+      policy.pausesTimers,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setExcludedFromInstance(WebView webView, bool excluded) {
+    return setExcluded(instanceManager.getInstanceId(webView)!, excluded);
+  }
+}
+
+/// Host api implementation for [WebViewStateStore].
+class WebViewStateStoreHostApiImpl extends WebViewStateStoreHostApi {
+  /// Constructs a [WebViewStateStoreHostApiImpl].
+  WebViewStateStoreHostApiImpl({
+    BinaryMessenger? binaryMessenger,
+    InstanceManager? instanceManager,
+  }) : super(binaryMessenger: binaryMessenger) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> saveStateFromInstance(WebView webView, String key) {
+    return saveState(instanceManager.getInstanceId(webView)!, key);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<bool> restoreStateFromInstance(WebView webView, String key) {
+    return restoreState(instanceManager.getInstanceId(webView)!, key);
+  }
+}
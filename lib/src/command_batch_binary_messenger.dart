@@ -0,0 +1,155 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:async';
+import 'dart:typed_data';
+import 'dart:ui' as ui;
+
+import 'package:flutter/services.dart';
+
+import 'android_webview.pigeon.dart';
+
+/// A message that is sent with the next batch.
+class _QueuedMessage {
+  _QueuedMessage(this.channel, this.message);
+
+  final String channel;
+  final ByteData? message;
+  final Completer<ByteData?> reply = Completer<ByteData?>();
+}
+
+/// [BinaryMessenger] that can send the messages of several host api calls to
+/// native code as a single message.
+///
+/// Messages sent while [batch] runs are queued and sent with
+/// [CommandBatchHostApi.executeBatch] when it returns. Native code handles
+/// them in order and each reply completes the future of its message. Messages
+/// sent outside of [batch] are sent on their own.
+///
+/// Native code replies to a batch once it has handled every message, so only
+/// host api methods that reply before their handler returns can be batched.
+/// Messages of `@async` methods, listed in [asyncChannels], are sent on their
+/// own even while [batch] runs, after the messages queued before them.
+/// Native code fails any other batched message whose handler doesn't reply
+/// in time.
+///
+/// Only the host apis that native code sets up with
+/// `CommandBatchBinaryMessenger` can be called in a batch. A batched message
+/// on any other channel fails as if the channel had no handler.
+class CommandBatchBinaryMessenger extends BinaryMessenger {
+  /// Constructs a [CommandBatchBinaryMessenger].
+  ///
+  /// Messages are sent with [binaryMessenger], or the default
+  /// [BinaryMessenger] if it is null.
+  CommandBatchBinaryMessenger({
+    BinaryMessenger? binaryMessenger,
+    CommandBatchHostApi? api,
+  })  : _binaryMessenger = binaryMessenger,
+        _api = api ?? CommandBatchHostApi(binaryMessenger: binaryMessenger);
+
+  /// Messenger of the host apis of WebViews and the objects they depend on.
+  static CommandBatchBinaryMessenger instance = CommandBatchBinaryMessenger();
+
+  /// The channels of the `@async` host api methods that are set up with
+  /// `CommandBatchBinaryMessenger` in native code.
+  static const Set<String> asyncChannels = <String>{
+    'dev.flutter.pigeon.WebViewHostApi.evaluateJavascript',
+    'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched',
+  };
+
+  final BinaryMessenger? _binaryMessenger;
+  final CommandBatchHostApi _api;
+  List<_QueuedMessage>? _queue;
+
+  BinaryMessenger get _messenger {
+    return _binaryMessenger ?? ServicesBinding.instance!.defaultBinaryMessenger;
+  }
+
+  /// Sends the messages of the host api calls that [body] makes as a single
+  /// message.
+  ///
+  /// Only calls that send their message before [body] returns are batched,
+  /// which excludes calls that are made after an `await`. Messages of a nested
+  /// batch are sent with the outermost batch.
+  T batch<T>(T Function() body) {
+    if (_queue != null) {
+      return body();
+    }
+
+    final List<_QueuedMessage> queue = <_QueuedMessage>[];
+    _queue = queue;
+    try {
+      return body();
+    } finally {
+      _queue = null;
+      _sendBatch(queue);
+    }
+  }
+
+  @override
+  Future<ByteData?>? send(String channel, ByteData? message) {
+    final List<_QueuedMessage>? queue = _queue;
+    if (queue == null) {
+      return _messenger.send(channel, message);
+    } else if (asyncChannels.contains(channel)) {
+      _sendBatch(List<_QueuedMessage>.of(queue));
+      queue.clear();
+      return _messenger.send(channel, message);
+    }
+
+    final _QueuedMessage queuedMessage = _QueuedMessage(channel, message);
+    queue.add(queuedMessage);
+    return queuedMessage.reply.future;
+  }
+
+  @override
+  Future<void> handlePlatformMessage(
+    String channel,
+    ByteData? data,
+    ui.PlatformMessageResponseCallback? callback,
+  ) {
+    return _messenger.handlePlatformMessage(channel, data, callback);
+  }
+
+  @override
+  void setMessageHandler(String channel, MessageHandler? handler) {
+    _messenger.setMessageHandler(channel, handler);
+  }
+
+  void _sendBatch(List<_QueuedMessage> queue) {
+    if (queue.isEmpty) {
+      return;
+    } else if (queue.length == 1) {
+      queue.single.reply.complete(
+        _messenger.send(queue.single.channel, queue.single.message),
+      );
+      return;
+    }
+
+    // A batch is a list of alternating channel names and encoded messages.
+    final List<Object?> batch = <Object?>[];
+    for (final _QueuedMessage queuedMessage in queue) {
+      final ByteData? message = queuedMessage.message;
+      batch
+        ..add(queuedMessage.channel)
+        ..add(message != null ? Uint8List.sublistView(message) : null);
+    }
+
+    _api.executeBatch(batch).then(
+      (List<Uint8List?> replies) {
+        for (int i = 0; i < queue.length; i++) {
+          final Uint8List? reply = replies[i];
+          queue[i].reply.complete(
+                reply != null ? ByteData.sublistView(reply) : null,
+              );
+        }
+      },
+      onError: (Object error, StackTrace stackTrace) {
+        for (final _QueuedMessage queuedMessage in queue) {
+          queuedMessage.reply.completeError(error, stackTrace);
+        }
+      },
+    );
+  }
+}
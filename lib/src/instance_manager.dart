@@ -2,12 +2,56 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+/// Type tags encoded in instance ids.
+///
+/// These must match `InstanceManager.TypeTag` in the Java implementation.
+class InstanceTypeTag {
+  InstanceTypeTag._();
+
+  /// Tag for instances without a declared type.
+  static const int untagged = 0;
+
+  /// Tag for `WebView`.
+  static const int webView = 1;
+
+  /// Tag for `WebSettings`.
+  static const int webSettings = 2;
+
+  /// Tag for `JavaScriptChannel`.
+  static const int javaScriptChannel = 3;
+
+  /// Tag for `WebViewClient`.
+  static const int webViewClient = 4;
+
+  /// Tag for `DownloadListener`.
+  static const int downloadListener = 5;
+
+  /// Tag for `WebChromeClient`.
+  static const int webChromeClient = 6;
+
+  /// Tag for `WebStorage`.
+  static const int webStorage = 7;
+}
+
 /// Maintains instances stored to communicate with java objects.
+///
+/// Instance ids are handles. Bits 0-23 hold a slot that is reused after its
+/// instance is removed, bits 24-31 hold an [InstanceTypeTag] and the remaining
+/// bits hold a generation that is incremented each time the slot is reused. The
+/// Java side indexes an array with the slot and rejects ids of removed
+/// instances by comparing the generation.
 class InstanceManager {
+  static const int _slotBits = 24;
+  static const int _slotMask = (1 << _slotBits) - 1;
+  static const int _typeTagBits = 8;
+  static const int _generationMask = 0x7FFFFFFF;
+
   final Map<int, Object> _instanceIdsToInstances = <int, Object>{};
   final Map<Object, int> _instancesToInstanceIds = <Object, int>{};
 
-  int _nextInstanceId = 0;
+  // Generation of each slot that has been allocated, indexed by slot.
+  final List<int> _generations = <int>[];
+  final List<int> _freeSlots = <int>[];
 
   /// Global instance of [InstanceManager].
   static final InstanceManager instance = InstanceManager();
@@ -15,13 +59,25 @@ class InstanceManager {
   /// Attempt to add a new instance.
   ///
   /// Returns new if [instance] has already been added. Otherwise, it is added
-  /// with a new instance id.
-  int? tryAddInstance(Object instance) {
+  /// with a new instance id that encodes [typeTag].
+  int? tryAddInstance(
+    Object instance, {
+    int typeTag = InstanceTypeTag.untagged,
+  }) {
     if (_instancesToInstanceIds.containsKey(instance)) {
       return null;
     }
 
-    final int instanceId = _nextInstanceId++;
+    final int slot;
+    if (_freeSlots.isNotEmpty) {
+      slot = _freeSlots.removeLast();
+    } else {
+      slot = _generations.length;
+      _generations.add(0);
+    }
+    final int instanceId = (_generations[slot] << (_slotBits + _typeTagBits)) |
+        (typeTag << _slotBits) |
+        slot;
     _instancesToInstanceIds[instance] = instanceId;
     _instanceIdsToInstances[instanceId] = instance;
     return instanceId;
@@ -36,10 +92,24 @@ class InstanceManager {
     if (instanceId != null) {
       _instancesToInstanceIds.remove(instance);
       _instanceIdsToInstances.remove(instanceId);
+      _freeSlot(instanceId);
     }
     return instanceId;
   }
 
+  /// Remove the instance with instanceId from the manager.
+  ///
+  /// Returns the removed instance if the manager contains the instanceId.
+  /// Otherwise, returns null.
+  Object? removeInstanceWithId(int instanceId) {
+    final Object? instance = _instanceIdsToInstances.remove(instanceId);
+    if (instance != null) {
+      _instancesToInstanceIds.remove(instance);
+      _freeSlot(instanceId);
+    }
+    return instance;
+  }
+
   /// Retrieve the Object paired with instanceId.
   Object? getInstance(int instanceId) {
     return _instanceIdsToInstances[instanceId];
@@ -49,4 +119,10 @@ class InstanceManager {
   int? getInstanceId(Object instance) {
     return _instancesToInstanceIds[instance];
   }
+
+  void _freeSlot(int instanceId) {
+    final int slot = instanceId & _slotMask;
+    _generations[slot] = (_generations[slot] + 1) & _generationMask;
+    _freeSlots.add(slot);
+  }
 }
@@ -0,0 +1,175 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:convert';
+import 'dart:typed_data';
+
+import 'package:flutter/foundation.dart' show ReadBuffer, WriteBuffer;
+import 'package:flutter/services.dart';
+
+import 'android_webview.pigeon.dart';
+
+/// Codec that reads [WebResourceRequestData] and [WebResourceErrorData] with a
+/// fixed field layout instead of as maps.
+///
+/// A request whose headers were omitted is written with no headers and a flag,
+/// and is read with [omittedRequestHeaders].
+///
+/// The layout must match `WebResourceDataCodec` in the Java implementation.
+class WebResourceDataCodec extends StandardMessageCodec {
+  /// Constructs a [WebResourceDataCodec].
+  const WebResourceDataCodec();
+
+  /// Type of [WebResourceErrorData], in the order Pigeon assigns types.
+  static const int webResourceErrorDataType = 128;
+
+  /// Type of [WebResourceRequestData], in the order Pigeon assigns types.
+  static const int webResourceRequestDataType = 129;
+
+  /// Request header names that are written as their index plus one.
+  ///
+  /// A header name written as 0 is followed by the name itself.
+  static const List<String> headerNames = <String>[
+    'Accept',
+    'Accept-Encoding',
+    'Accept-Language',
+    'Authorization',
+    'Cache-Control',
+    'Connection',
+    'Content-Length',
+    'Content-Type',
+    'Cookie',
+    'DNT',
+    'Host',
+    'If-Modified-Since',
+    'If-None-Match',
+    'Origin',
+    'Pragma',
+    'Range',
+    'Referer',
+    'Save-Data',
+    'Sec-CH-UA',
+    'Sec-CH-UA-Mobile',
+    'Sec-CH-UA-Platform',
+    'Sec-Fetch-Dest',
+    'Sec-Fetch-Mode',
+    'Sec-Fetch-Site',
+    'Sec-Fetch-User',
+    'Upgrade-Insecure-Requests',
+    'User-Agent',
+    'X-Requested-With',
+  ];
+
+  /// Headers of a request whose headers weren't included.
+  ///
+  /// Compared by identity, so a request without headers isn't mistaken for one
+  /// whose headers were omitted.
+  static final Map<String?, String?> omittedRequestHeaders =
+      Map<String?, String?>.unmodifiable(<String?, String?>{});
+
+  static const int _isForMainFrame = 1;
+  static const int _hasGesture = 1 << 1;
+  static const int _hasIsRedirect = 1 << 2;
+  static const int _isRedirect = 1 << 3;
+  static const int _headersOmitted = 1 << 4;
+
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebResourceErrorData) {
+      buffer.putUint8(webResourceErrorDataType);
+      buffer.putInt32(value.errorCode);
+      _writeString(buffer, value.description);
+    } else if (value is WebResourceRequestData) {
+      buffer.putUint8(webResourceRequestDataType);
+      _writeRequest(buffer, value);
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case webResourceErrorDataType:
+        return WebResourceErrorData(
+          errorCode: buffer.getInt32(),
+          description: _readString(buffer),
+        );
+      case webResourceRequestDataType:
+        return _readRequest(buffer);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+
+  void _writeRequest(WriteBuffer buffer, WebResourceRequestData request) {
+    int flags = 0;
+    if (request.isForMainFrame) {
+      flags |= _isForMainFrame;
+    }
+    if (request.hasGesture) {
+      flags |= _hasGesture;
+    }
+    final bool? isRedirect = request.isRedirect;
+    if (isRedirect != null) {
+      flags |= _hasIsRedirect;
+      if (isRedirect) {
+        flags |= _isRedirect;
+      }
+    }
+    if (identical(request.requestHeaders, omittedRequestHeaders)) {
+      flags |= _headersOmitted;
+    }
+    buffer.putUint8(flags);
+    _writeString(buffer, request.url);
+    _writeString(buffer, request.method);
+
+    writeSize(buffer, request.requestHeaders.length);
+    request.requestHeaders.forEach((String? name, String? value) {
+      final int nameIndex = headerNames.indexOf(name!);
+      buffer.putUint8(nameIndex + 1);
+      if (nameIndex < 0) {
+        _writeString(buffer, name);
+      }
+      _writeString(buffer, value!);
+    });
+  }
+
+  WebResourceRequestData _readRequest(ReadBuffer buffer) {
+    final int flags = buffer.getUint8();
+    final String url = _readString(buffer);
+    final String method = _readString(buffer);
+
+    final int headerCount = readSize(buffer);
+    final Map<String?, String?> requestHeaders = (flags & _headersOmitted) != 0
+        ? omittedRequestHeaders
+        : <String?, String?>{};
+    for (int i = 0; i < headerCount; i++) {
+      final int nameIndex = buffer.getUint8();
+      final String name =
+          nameIndex != 0 ? headerNames[nameIndex - 1] : _readString(buffer);
+      requestHeaders[name] = _readString(buffer);
+    }
+
+    return WebResourceRequestData(
+      url: url,
+      isForMainFrame: (flags & _isForMainFrame) != 0,
+      isRedirect:
+          (flags & _hasIsRedirect) != 0 ? (flags & _isRedirect) != 0 : null,
+      hasGesture: (flags & _hasGesture) != 0,
+      method: method,
+      requestHeaders: requestHeaders,
+    );
+  }
+
+  void _writeString(WriteBuffer buffer, String value) {
+    final Uint8List bytes = utf8.encoder.convert(value);
+    writeSize(buffer, bytes.length);
+    buffer.putUint8List(bytes);
+  }
+
+  String _readString(ReadBuffer buffer) {
+    return utf8.decoder.convert(buffer.getUint8List(readSize(buffer)));
+  }
+}
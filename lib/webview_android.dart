@@ -48,9 +48,7 @@ class AndroidWebView implements WebViewPlatform {
           child: AndroidView(
             viewType: 'plugins.flutter.io/webview',
             onPlatformViewCreated: (int id) {
-              if (onWebViewPlatformCreated != null) {
-                onWebViewPlatformCreated(controller);
-              }
+              controller.onPlatformViewCreated(onWebViewPlatformCreated);
             },
             gestureRecognizers: gestureRecognizers,
             layoutDirection:
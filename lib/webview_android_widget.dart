@@ -10,6 +10,7 @@ import 'package:webview_flutter_android/webview_android_cookie_manager.dart';
 import 'package:webview_flutter_platform_interface/webview_flutter_platform_interface.dart';
 
 import 'src/android_webview.dart' as android_webview;
+import 'src/command_batch_binary_messenger.dart';
 
 /// Creates a [Widget] with a [android_webview.WebView].
 class WebViewAndroidWidget extends StatefulWidget {
@@ -25,6 +26,7 @@ class WebViewAndroidWidget extends StatefulWidget {
     @visibleForTesting
         this.flutterAssetManager = const android_webview.FlutterAssetManager(),
     @visibleForTesting this.webStorage,
+    this.stateKey,
   }) : super(key: key);
 
   /// Initial parameters used to setup the WebView.
@@ -64,12 +66,27 @@ class WebViewAndroidWidget extends StatefulWidget {
   /// Manages the JavaScript storage APIs.
   final android_webview.WebStorage? webStorage;
 
+  /// The key of a state saved with
+  /// [android_webview.WebViewStateStore.saveState] to restore into the new
+  /// [android_webview.WebView].
+  ///
+  /// The state is restored before the [android_webview.WebView] loads
+  /// anything, and [CreationParams.initialUrl] is only loaded if no state was
+  /// restored.
+  final String? stateKey;
+
   @override
   State<StatefulWidget> createState() => _WebViewAndroidWidgetState();
 }
 
 class _WebViewAndroidWidgetState extends State<WebViewAndroidWidget> {
   late final WebViewAndroidPlatformController controller;
+  late final StreamSubscription<android_webview.RenderProcessGoneEvent>
+      _renderProcessGoneSubscription;
+
+  // Changes each time the native WebView is replaced, so that a platform view
+  // is created for the replacement.
+  int _platformViewGeneration = 0;
 
   @override
   void initState() {
@@ -82,18 +99,28 @@ class _WebViewAndroidWidgetState extends State<WebViewAndroidWidget> {
       webViewProxy: widget.webViewProxy,
       flutterAssetManager: widget.flutterAssetManager,
       webStorage: widget.webStorage,
+      stateKey: widget.stateKey,
     );
+    _renderProcessGoneSubscription = android_webview
+        .WebViewRecovery.onRenderProcessGone
+        .where((android_webview.RenderProcessGoneEvent event) =>
+            event.webView == controller.webView)
+        .listen((_) => setState(() => _platformViewGeneration++));
   }
 
   @override
   void dispose() {
     super.dispose();
+    _renderProcessGoneSubscription.cancel();
     controller._dispose();
   }
 
   @override
   Widget build(BuildContext context) {
-    return widget.onBuildWidget(controller);
+    return KeyedSubtree(
+      key: ValueKey<int>(_platformViewGeneration),
+      child: widget.onBuildWidget(controller),
+    );
   }
 }
 
@@ -109,28 +136,41 @@ class WebViewAndroidPlatformController extends WebViewPlatformController {
     @visibleForTesting
         this.flutterAssetManager = const android_webview.FlutterAssetManager(),
     @visibleForTesting android_webview.WebStorage? webStorage,
+    String? stateKey,
   })  : webStorage = webStorage ?? android_webview.WebStorage.instance,
         assert(creationParams.webSettings?.hasNavigationDelegate != null),
         super(callbacksHandler) {
-    webView = webViewProxy.createWebView(
-      useHybridComposition: useHybridComposition,
-    );
+    // The WebView is created, set up and starts loading with a single platform
+    // message.
+    CommandBatchBinaryMessenger.instance.batch(() {
+      webView = webViewProxy.createWebView(
+        useHybridComposition: useHybridComposition,
+      );
 
-    webView.settings.setDomStorageEnabled(true);
-    webView.settings.setJavaScriptCanOpenWindowsAutomatically(true);
-    webView.settings.setSupportMultipleWindows(true);
-    webView.settings.setLoadWithOverviewMode(true);
-    webView.settings.setUseWideViewPort(true);
-    webView.settings.setDisplayZoomControls(false);
-    webView.settings.setBuiltInZoomControls(true);
-
-    _setCreationParams(creationParams);
-    webView.setDownloadListener(downloadListener);
-    webView.setWebChromeClient(webChromeClient);
-
-    final String? initialUrl = creationParams.initialUrl;
-    if (initialUrl != null) {
-      loadUrl(initialUrl, <String, String>{});
+      webView.settings.applySettings(
+        domStorageEnabled: true,
+        javaScriptCanOpenWindowsAutomatically: true,
+        supportMultipleWindows: true,
+        loadWithOverviewMode: true,
+        useWideViewPort: true,
+        displayZoomControls: false,
+        builtInZoomControls: true,
+      );
+
+      _setCreationParams(creationParams);
+      webView.setDownloadListener(downloadListener);
+      webView.setWebChromeClient(webChromeClient);
+
+      final String? initialUrl = creationParams.initialUrl;
+      if (initialUrl != null && stateKey == null) {
+        loadUrl(initialUrl, <String, String>{});
+      }
+    });
+
+    // The state can only be restored before the first navigation, so the
+    // initial URL waits until it's known whether the state was restored.
+    if (stateKey != null) {
+      _restoreStateOrLoad(stateKey, creationParams.initialUrl);
     }
   }
 
@@ -139,6 +179,10 @@ class WebViewAndroidPlatformController extends WebViewPlatformController {
 
   late WebViewAndroidWebViewClient _webViewClient;
 
+  bool _platformViewCreated = false;
+
+  bool _disposed = false;
+
   /// Represents the WebView maintained by platform code.
   late final android_webview.WebView webView;
 
@@ -355,7 +399,29 @@ class WebViewAndroidPlatformController extends WebViewPlatformController {
   @override
   Future<int> getScrollY() => webView.getScrollY();
 
-  Future<void> _dispose() => webView.release();
+  Future<void> _dispose() {
+    _disposed = true;
+    return webView.release();
+  }
+
+  Future<void> _restoreStateOrLoad(String stateKey, String? initialUrl) async {
+    final bool restored = await webViewProxy.restoreState(webView, stateKey);
+    if (!restored && initialUrl != null && !_disposed) {
+      await loadUrl(initialUrl, <String, String>{});
+    }
+  }
+
+  /// Passes this controller to [onCreated] once the first platform view of
+  /// [webView] is created.
+  ///
+  /// A platform view is created again when the native WebView is replaced
+  /// after its renderer process is gone, which isn't reported.
+  void onPlatformViewCreated(WebViewPlatformCreatedCallback? onCreated) {
+    if (!_platformViewCreated) {
+      _platformViewCreated = true;
+      onCreated?.call(this);
+    }
+  }
 
   void _setCreationParams(CreationParams creationParams) {
     final WebSettings? webSettings = creationParams.webSettings;
@@ -389,12 +455,18 @@ class WebViewAndroidPlatformController extends WebViewPlatformController {
         .forEach(WebViewCookieManagerPlatform.instance!.setCookie);
   }
 
-  Future<void> _setHasProgressTracking(bool hasProgressTracking) async {
+  Future<void> _setHasProgressTracking(bool hasProgressTracking) {
     if (hasProgressTracking) {
       webChromeClient._onProgress = callbacksHandler.onProgress;
     } else {
       webChromeClient._onProgress = null;
     }
+    return webChromeClient.setSubscribedCallbacks(
+      <android_webview.WebChromeClientCallback>{
+        if (hasProgressTracking)
+          android_webview.WebChromeClientCallback.onProgressChanged,
+      },
+    );
   }
 
   Future<void> _setHasNavigationDelegate(bool hasNavigationDelegate) {
@@ -415,6 +487,15 @@ class WebViewAndroidPlatformController extends WebViewPlatformController {
         onPageFinishedCallback: callbacksHandler.onPageFinished,
         onWebResourceErrorCallback: callbacksHandler.onWebResourceError,
       );
+      // Navigation requests are ignored without a navigation delegate.
+      _webViewClient.setSubscribedCallbacks(
+        <android_webview.WebViewClientCallback>{
+          android_webview.WebViewClientCallback.onPageStarted,
+          android_webview.WebViewClientCallback.onPageFinished,
+          android_webview.WebViewClientCallback.onReceivedRequestError,
+          android_webview.WebViewClientCallback.onReceivedError,
+        },
+      );
     }
     return webView.setWebViewClient(_webViewClient);
   }
@@ -523,7 +604,7 @@ class WebViewAndroidWebViewClient extends android_webview.WebViewClient {
     required this.onWebResourceErrorCallback,
   })  : loadUrl = null,
         onNavigationRequestCallback = null,
-        super(shouldOverrideUrlLoading: false);
+        super(shouldOverrideUrlLoading: false, includesRequestHeaders: false);
 
   /// Creates a [WebViewAndroidWebViewClient] that handles navigation requests.
   WebViewAndroidWebViewClient.handlesNavigation({
@@ -532,7 +613,7 @@ class WebViewAndroidWebViewClient extends android_webview.WebViewClient {
     required this.onWebResourceErrorCallback,
     required this.onNavigationRequestCallback,
     required this.loadUrl,
-  }) : super(shouldOverrideUrlLoading: true);
+  }) : super(shouldOverrideUrlLoading: true, includesRequestHeaders: false);
 
   /// Callback when [android_webview.WebViewClient] receives a callback from [android_webview.WebViewClient].onPageStarted.
   final void Function(String url) onPageStartedCallback;
@@ -713,6 +794,13 @@ class WebViewProxy {
     return android_webview.WebView(useHybridComposition: useHybridComposition);
   }
 
+  /// Restores the state saved under [key] into [webView].
+  ///
+  /// See [android_webview.WebViewStateStore.restoreState].
+  Future<bool> restoreState(android_webview.WebView webView, String key) {
+    return android_webview.WebViewStateStore.restoreState(webView, key);
+  }
+
   /// Enables debugging of web contents (HTML / CSS / JavaScript) loaded into any WebViews of this application.
   ///
   /// This flag can be enabled in order to facilitate debugging of web layouts
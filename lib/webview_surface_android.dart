@@ -66,9 +66,7 @@ class SurfaceAndroidWebView extends AndroidWebView {
             )
               ..addOnPlatformViewCreatedListener(params.onPlatformViewCreated)
               ..addOnPlatformViewCreatedListener((int id) {
-                if (onWebViewPlatformCreated != null) {
-                  onWebViewPlatformCreated(controller);
-                }
+                controller.onPlatformViewCreated(onWebViewPlatformCreated);
               })
               ..create();
           },
@@ -51,6 +51,114 @@ class WebResourceErrorData {
   String description;
 }
 
+class InstanceTypeStatisticsData {
+  InstanceTypeStatisticsData(
+    this.typeTag,
+    this.liveCount,
+    this.highWaterMark,
+    this.ageHistogram,
+  );
+
+  int typeTag;
+  int liveCount;
+  int highWaterMark;
+  List<int?> ageHistogram;
+}
+
+class LeakedInstanceData {
+  LeakedInstanceData(this.instanceId, this.ownerInstanceId, this.ageMillis);
+
+  int instanceId;
+  int ownerInstanceId;
+  int ageMillis;
+}
+
+class InstanceCreationData {
+  InstanceCreationData(
+    this.instanceId,
+    this.referencedInstanceId,
+    this.flag,
+    this.secondaryFlag,
+    this.name,
+  );
+
+  int instanceId;
+  int? referencedInstanceId;
+  bool? flag;
+  bool? secondaryFlag;
+  String? name;
+}
+
+class ChannelStatisticsData {
+  ChannelStatisticsData(
+    this.channel,
+    this.messageCount,
+    this.messageBytes,
+    this.messageSizeHistogram,
+    this.handlerTimeHistogram,
+    this.replyLatencyHistogram,
+  );
+
+  String channel;
+  int messageCount;
+  int messageBytes;
+  List<int?> messageSizeHistogram;
+  List<int?> handlerTimeHistogram;
+  List<int?> replyLatencyHistogram;
+}
+
+class WebSettingsData {
+  WebSettingsData(
+    this.domStorageEnabled,
+    this.javaScriptCanOpenWindowsAutomatically,
+    this.supportMultipleWindows,
+    this.javaScriptEnabled,
+    this.userAgentString,
+    this.mediaPlaybackRequiresUserGesture,
+    this.supportZoom,
+    this.loadWithOverviewMode,
+    this.useWideViewPort,
+    this.displayZoomControls,
+    this.builtInZoomControls,
+    this.allowFileAccess,
+  );
+
+  bool? domStorageEnabled;
+  bool? javaScriptCanOpenWindowsAutomatically;
+  bool? supportMultipleWindows;
+  bool? javaScriptEnabled;
+  String? userAgentString;
+  bool? mediaPlaybackRequiresUserGesture;
+  bool? supportZoom;
+  bool? loadWithOverviewMode;
+  bool? useWideViewPort;
+  bool? displayZoomControls;
+  bool? builtInZoomControls;
+  bool? allowFileAccess;
+}
+
+class WebViewPoolStatisticsData {
+  WebViewPoolStatisticsData(
+    this.capacity,
+    this.size,
+    this.hitCount,
+    this.missCount,
+    this.recycleCount,
+    this.constructionCount,
+    this.totalConstructionMicros,
+    this.maxConstructionMicros,
+  );
+
+  int capacity;
+  int size;
+  int hitCount;
+  int missCount;
+  int recycleCount;
+  int constructionCount;
+  int totalConstructionMicros;
+  int maxConstructionMicros;
+}
+
 @HostApi()
 abstract class CookieManagerHostApi {
   @async
@@ -93,6 +201,10 @@ abstract class WebViewHostApi {
     Uint8List data,
   );
 
+  void loadHtmlBytes(int instanceId, Uint8List html, String? baseUrl);
+
+  void loadHtmlFile(int instanceId, String path, String? baseUrl);
+
   String? getUrl(int instanceId);
 
   bool canGoBack(int instanceId);
@@ -113,6 +225,12 @@ abstract class WebViewHostApi {
     String javascriptString,
   );
 
+  @async
+  String? evaluateJavascriptBatched(
+    int instanceId,
+    String javascriptString,
+  );
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -136,6 +254,12 @@ abstract class WebViewHostApi {
   void setWebChromeClient(int instanceId, int? clientInstanceId);
 
   void setBackgroundColor(int instanceId, int color);
+
+  void setRendererPriorityPolicy(
+    int instanceId,
+    int rendererRequestedPriority,
+    bool waivedWhenNotVisible,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestWebSettingsHostApi')
@@ -167,6 +291,8 @@ abstract class WebSettingsHostApi {
   void setBuiltInZoomControls(int instanceId, bool enabled);
 
   void setAllowFileAccess(int instanceId, bool enabled);
+
+  void applySettings(int instanceId, WebSettingsData settings);
 }
 
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
@@ -183,9 +309,17 @@ abstract class JavaScriptChannelFlutterApi {
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
 abstract class WebViewClientHostApi {
-  void create(int instanceId, bool shouldOverrideUrlLoading);
+  void create(
+    int instanceId,
+    bool shouldOverrideUrlLoading,
+    bool includesRequestHeaders,
+  );
+
+  void setSubscribedCallbacks(int instanceId, int callbacks);
 }
 
+// onReceivedRequestError and requestLoading are sent and handled with
+// WebResourceDataCodec by the implementations of this API on both platforms.
 @FlutterApi()
 abstract class WebViewClientFlutterApi {
   void dispose(int instanceId);
@@ -240,6 +374,8 @@ abstract class DownloadListenerFlutterApi {
 @HostApi(dartHostTestHandler: 'TestWebChromeClientHostApi')
 abstract class WebChromeClientHostApi {
   void create(int instanceId, int webViewClientInstanceId);
+
+  void setSubscribedCallbacks(int instanceId, int callbacks);
 }
 
 @HostApi(dartHostTestHandler: 'TestAssetManagerHostApi')
@@ -262,3 +398,96 @@ abstract class WebStorageHostApi {
 
   void deleteAllData(int instanceId);
 }
+
+@HostApi(dartHostTestHandler: 'TestInstanceManagerHostApi')
+abstract class InstanceManagerHostApi {
+  void setWeakReferencesEnabled(bool enabled);
+
+  List<InstanceTypeStatisticsData> getStatistics();
+
+  List<LeakedInstanceData> getLeakedInstances();
+
+  void createAll(List<InstanceCreationData?> instances);
+
+  void disposeAll(List<int?> instanceIds);
+}
+
+@FlutterApi()
+abstract class InstanceManagerFlutterApi {
+  void disposeAll(List<int?> instanceIds);
+}
+
+@HostApi(dartHostTestHandler: 'TestChannelStatisticsHostApi')
+abstract class ChannelStatisticsHostApi {
+  void setEnabled(bool enabled);
+
+  List<ChannelStatisticsData> getStatistics();
+
+  void reset();
+
+  void dumpToLog();
+}
+
+@HostApi(dartHostTestHandler: 'TestCommandBatchHostApi')
+abstract class CommandBatchHostApi {
+  List<Uint8List?> executeBatch(List<Object?> batch);
+}
+
+@HostApi(dartHostTestHandler: 'TestWebViewPoolHostApi')
+abstract class WebViewPoolHostApi {
+  void setCapacity(int capacity, bool useHybridComposition);
+
+  void setRecycleCapacity(int recycleCapacity);
+
+  WebViewPoolStatisticsData getStatistics();
+
+  void resetStatistics();
+}
+
+@HostApi(dartHostTestHandler: 'TestWebViewProviderHostApi')
+abstract class WebViewProviderHostApi {
+  @async
+  int warmUp();
+}
+
+@HostApi(dartHostTestHandler: 'TestWebViewSuspensionHostApi')
+abstract class WebViewSuspensionHostApi {
+  void setPolicy(bool enabled, int gracePeriodMillis, bool pausesTimers);
+
+  void setExcluded(int webViewInstanceId, bool excluded);
+
+  void setRendererPriorityManaged(bool managed);
+}
+
+@FlutterApi()
+abstract class WebViewMemoryFlutterApi {
+  void onTrimMemory(
+    int level,
+    int droppedWebViewCount,
+    bool clearedCache,
+    int pausedWebViewCount,
+  );
+}
+
+@FlutterApi()
+abstract class WebViewRecoveryFlutterApi {
+  void onRenderProcessGone(
+    int webViewInstanceId,
+    bool didCrash,
+    bool stateRestored,
+  );
+}
+
+@HostApi(dartHostTestHandler: 'TestWebViewStateStoreHostApi')
+abstract class WebViewStateStoreHostApi {
+  void setMaxSize(int maxBytes);
+
+  void saveState(int webViewInstanceId, String key);
+
+  @async
+  bool restoreState(int webViewInstanceId, String key);
+
+  void remove(String key);
+
+  void clear();
+}
@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
+import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -9,6 +12,7 @@ import 'package:webview_flutter_android/src/android_webview.dart';
 import 'package:webview_flutter_android/src/android_webview.pigeon.dart';
 import 'package:webview_flutter_android/src/android_webview_api_impls.dart';
 import 'package:webview_flutter_android/src/instance_manager.dart';
+import 'package:webview_flutter_android/src/web_resource_data_codec.dart';
 
 import 'android_webview_test.mocks.dart';
 import 'test_android_webview.pigeon.dart';
@@ -17,13 +21,19 @@ import 'test_android_webview.pigeon.dart';
   CookieManagerHostApi,
   DownloadListener,
   JavaScriptChannel,
+  TestChannelStatisticsHostApi,
   TestDownloadListenerHostApi,
+  TestInstanceManagerHostApi,
   TestJavaScriptChannelHostApi,
   TestWebChromeClientHostApi,
   TestWebSettingsHostApi,
   TestWebStorageHostApi,
   TestWebViewClientHostApi,
   TestWebViewHostApi,
+  TestWebViewPoolHostApi,
+  TestWebViewProviderHostApi,
+  TestWebViewStateStoreHostApi,
+  TestWebViewSuspensionHostApi,
   TestAssetManagerHostApi,
   WebChromeClient,
   WebView,
@@ -121,6 +131,18 @@ void main() {
         ));
       });
 
+      test('setRendererPriorityPolicy', () {
+        webView.setRendererPriorityPolicy(
+          WebView.rendererPriorityWaived,
+          waivedWhenNotVisible: true,
+        );
+        verify(mockPlatformHostApi.setRendererPriorityPolicy(
+          webViewInstanceId,
+          WebView.rendererPriorityWaived,
+          true,
+        ));
+      });
+
       test('loadUrl', () {
         webView.loadUrl('hello', <String, String>{'a': 'header'});
         verify(mockPlatformHostApi.loadUrl(
@@ -130,6 +152,25 @@ void main() {
         ));
       });
 
+      test('loadHtmlBytes', () {
+        final Uint8List html = Uint8List.fromList(<int>[60, 112, 62]);
+        webView.loadHtmlBytes(html, baseUrl: 'https://www.google.com');
+        verify(mockPlatformHostApi.loadHtmlBytes(
+          webViewInstanceId,
+          html,
+          'https://www.google.com',
+        ));
+      });
+
+      test('loadHtmlFile', () {
+        webView.loadHtmlFile('/data/index.html');
+        verify(mockPlatformHostApi.loadHtmlFile(
+          webViewInstanceId,
+          '/data/index.html',
+          null,
+        ));
+      });
+
       test('canGoBack', () {
         when(mockPlatformHostApi.canGoBack(webViewInstanceId))
             .thenReturn(false);
@@ -173,6 +214,17 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptBatched', () {
+        when(
+          mockPlatformHostApi.evaluateJavascriptBatched(
+              webViewInstanceId, 'runJavaScript'),
+        ).thenAnswer((_) => Future<String>.value('returnValue'));
+        expect(
+          webView.evaluateJavascriptBatched('runJavaScript'),
+          completion('returnValue'),
+        );
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -207,6 +259,7 @@ void main() {
 
         final WebViewClient mockWebViewClient = MockWebViewClient();
         when(mockWebViewClient.shouldOverrideUrlLoading).thenReturn(false);
+        when(mockWebViewClient.includesRequestHeaders).thenReturn(true);
         webView.setWebViewClient(mockWebViewClient);
 
         final int webViewClientInstanceId =
@@ -286,6 +339,7 @@ void main() {
         );
         final WebViewClient mockWebViewClient = MockWebViewClient();
         when(mockWebViewClient.shouldOverrideUrlLoading).thenReturn(false);
+        when(mockWebViewClient.includesRequestHeaders).thenReturn(true);
         webView.setWebViewClient(mockWebViewClient);
 
         TestWebChromeClientHostApi.setup(MockTestWebChromeClientHostApi());
@@ -314,9 +368,32 @@ void main() {
         final int webSettingsInstanceId =
             instanceManager.getInstanceId(webView.settings)!;
 
+        final MockTestInstanceManagerHostApi mockInstanceManagerHostApi =
+            MockTestInstanceManagerHostApi();
+        TestInstanceManagerHostApi.setup(mockInstanceManagerHostApi);
+        NativeInstanceRetention.api =
+            InstanceManagerHostApiImpl(instanceManager: instanceManager);
+
+        TestWebViewClientHostApi.setup(MockTestWebViewClientHostApi());
+        WebViewClient.api = WebViewClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+        final WebViewClient mockWebViewClient = MockWebViewClient();
+        when(mockWebViewClient.shouldOverrideUrlLoading).thenReturn(false);
+        when(mockWebViewClient.includesRequestHeaders).thenReturn(true);
+        webView.setWebViewClient(mockWebViewClient);
+        final int webViewClientInstanceId =
+            instanceManager.getInstanceId(mockWebViewClient)!;
+
         webView.release();
-        verify(mockWebSettingsPlatformHostApi.dispose(webSettingsInstanceId));
-        verify(mockPlatformHostApi.dispose(webViewInstanceId));
+        verify(mockInstanceManagerHostApi.disposeAll(<int?>[
+          webSettingsInstanceId,
+          webViewClientInstanceId,
+          webViewInstanceId,
+        ]));
+        verifyNever(mockPlatformHostApi.dispose(any));
+        expect(instanceManager.getInstanceId(webView), isNull);
+        expect(instanceManager.getInstanceId(mockWebViewClient), isNull);
       });
     });
 
@@ -444,6 +521,18 @@ void main() {
           true,
         ));
       });
+
+      test('applySettings', () {
+        webSettings.applySettings(javaScriptEnabled: true, userAgentString: '');
+
+        final WebSettingsData settings = verify(mockPlatformHostApi
+                .applySettings(webSettingsInstanceId, captureAny))
+            .captured
+            .single as WebSettingsData;
+        expect(settings.javaScriptEnabled, isTrue);
+        expect(settings.userAgentString, '');
+        expect(settings.supportZoom, isNull);
+      });
     });
 
     group('JavaScriptChannel', () {
@@ -582,6 +671,38 @@ void main() {
         ));
       });
 
+      test('requestLoading with WebResourceDataCodec', () async {
+        WebViewClientFlutterApi.setup(flutterApi);
+        WebViewClientFlutterApiImpl.setUpWebResourceDataChannels(flutterApi);
+        addTearDown(() => WebViewClientFlutterApi.setup(null));
+
+        final ByteData message = const WebResourceDataCodec().encodeMessage(
+          <Object>[
+            mockWebViewClientInstanceId,
+            mockWebViewInstanceId,
+            WebResourceRequestData(
+              url: 'https://www.google.com',
+              isForMainFrame: true,
+              hasGesture: true,
+              method: 'GET',
+              requestHeaders: <String?, String?>{},
+            ),
+          ],
+        )!;
+        await AndroidWebViewFlutterApis.handleFrameBatch(<Object>[
+          'dev.flutter.pigeon.WebViewClientFlutterApi.requestLoading',
+          message.buffer.asUint8List(
+            message.offsetInBytes,
+            message.lengthInBytes,
+          ),
+        ]);
+
+        verify(mockWebViewClient.requestLoading(
+          mockWebView,
+          argThat(isNotNull),
+        ));
+      });
+
       test('urlLoading', () {
         flutterApi.urlLoading(mockWebViewClientInstanceId,
             mockWebViewInstanceId, 'https://www.google.com');
@@ -591,6 +712,52 @@ void main() {
           'https://www.google.com',
         ));
       });
+
+      test('setSubscribedCallbacks', () async {
+        final MockTestWebViewClientHostApi mockHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockHostApi);
+        WebViewClient.api = WebViewClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        await WebViewClient.api.setSubscribedCallbacksFromInstance(
+          mockWebViewClient,
+          <WebViewClientCallback>{
+            WebViewClientCallback.onPageStarted,
+            WebViewClientCallback.urlLoading,
+          },
+        );
+        verify(mockHostApi.setSubscribedCallbacks(
+          mockWebViewClientInstanceId,
+          1 | 1 << 5,
+        ));
+      });
+
+      test('setSubscribedCallbacks before creation', () async {
+        final MockTestWebViewClientHostApi mockHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockHostApi);
+        WebViewClient.api = WebViewClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final MockWebViewClient webViewClient = MockWebViewClient();
+        when(webViewClient.shouldOverrideUrlLoading).thenReturn(false);
+        when(webViewClient.includesRequestHeaders).thenReturn(false);
+        await WebViewClient.api.setSubscribedCallbacksFromInstance(
+          webViewClient,
+          <WebViewClientCallback>{WebViewClientCallback.onPageFinished},
+        );
+        verifyNever(mockHostApi.setSubscribedCallbacks(any, any));
+
+        await WebViewClient.api.createFromInstance(webViewClient);
+        final int instanceId = instanceManager.getInstanceId(webViewClient)!;
+        verifyInOrder(<Object>[
+          mockHostApi.create(instanceId, false, false),
+          mockHostApi.setSubscribedCallbacks(instanceId, 1 << 1),
+        ]);
+      });
     });
 
     group('DownloadListener', () {
@@ -664,6 +831,78 @@ void main() {
         );
         verify(mockWebChromeClient.onProgressChanged(mockWebView, 76));
       });
+
+      test('handleFrameBatch delivers messages in order', () async {
+        WebChromeClientFlutterApi.setup(flutterApi);
+        addTearDown(() => WebChromeClientFlutterApi.setup(null));
+
+        Uint8List encode(int progress) {
+          final ByteData message = const StandardMessageCodec().encodeMessage(
+            <Object>[
+              mockWebChromeClientInstanceId,
+              mockWebViewInstanceId,
+              progress,
+            ],
+          )!;
+          return message.buffer.asUint8List(
+            message.offsetInBytes,
+            message.lengthInBytes,
+          );
+        }
+
+        const String channel =
+            'dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged';
+        expect(
+          await AndroidWebViewFlutterApis.handleFrameBatch(<Object>[
+            channel,
+            encode(10),
+            channel,
+            encode(100),
+          ]),
+          <Uint8List?>[null, null],
+        );
+
+        verifyInOrder(<Object>[
+          mockWebChromeClient.onProgressChanged(mockWebView, 10),
+          mockWebChromeClient.onProgressChanged(mockWebView, 100),
+        ]);
+      });
+
+      test('setSubscribedCallbacks before creation', () async {
+        final MockTestWebChromeClientHostApi mockHostApi =
+            MockTestWebChromeClientHostApi();
+        TestWebChromeClientHostApi.setup(mockHostApi);
+        WebChromeClient.api = WebChromeClientHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final MockWebViewClient mockWebViewClient = MockWebViewClient();
+        final int webViewClientInstanceId =
+            instanceManager.tryAddInstance(mockWebViewClient)!;
+        final MockWebChromeClient webChromeClient = MockWebChromeClient();
+
+        await WebChromeClient.api.setSubscribedCallbacksFromInstance(
+          webChromeClient,
+          <WebChromeClientCallback>{},
+        );
+        verifyNever(mockHostApi.setSubscribedCallbacks(any, any));
+
+        await WebChromeClient.api.createFromInstance(
+          webChromeClient,
+          mockWebViewClient,
+        );
+        final int instanceId = instanceManager.getInstanceId(webChromeClient)!;
+        verifyInOrder(<Object>[
+          mockHostApi.create(instanceId, webViewClientInstanceId),
+          mockHostApi.setSubscribedCallbacks(instanceId, 0),
+        ]);
+
+        await WebChromeClient.api.setSubscribedCallbacksFromInstance(
+          webChromeClient,
+          <WebChromeClientCallback>{WebChromeClientCallback.onProgressChanged},
+        );
+        verify(mockHostApi.setSubscribedCallbacks(instanceId, 1));
+      });
     });
   });
 
@@ -707,4 +946,386 @@ void main() {
       verify(mockPlatformHostApi.deleteAllData(webStorageInstanceId));
     });
   });
+
+  group('InstanceManager', () {
+    late InstanceManagerFlutterApiImpl flutterApi;
+    late InstanceManager instanceManager;
+
+    setUp(() {
+      instanceManager = InstanceManager();
+      flutterApi = InstanceManagerFlutterApiImpl(
+        instanceManager: instanceManager,
+      );
+    });
+
+    test('createAllFromInstances', () {
+      final MockTestInstanceManagerHostApi mockPlatformHostApi =
+          MockTestInstanceManagerHostApi();
+      TestInstanceManagerHostApi.setup(mockPlatformHostApi);
+      final InstanceManagerHostApiImpl hostApi = InstanceManagerHostApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      final JavaScriptChannel mockJavaScriptChannel = MockJavaScriptChannel();
+      when(mockJavaScriptChannel.channelName).thenReturn('channel');
+      final DownloadListener mockDownloadListener = MockDownloadListener();
+      hostApi.createAllFromInstances(<Object>[
+        mockJavaScriptChannel,
+        mockDownloadListener,
+      ]);
+
+      final int javaScriptChannelInstanceId =
+          instanceManager.getInstanceId(mockJavaScriptChannel)!;
+      final int downloadListenerInstanceId =
+          instanceManager.getInstanceId(mockDownloadListener)!;
+      final List<InstanceCreationData?> instances = verify(
+        mockPlatformHostApi.createAll(captureAny),
+      ).captured.single as List<InstanceCreationData?>;
+      expect(instances, hasLength(2));
+      expect(instances[0]!.instanceId, javaScriptChannelInstanceId);
+      expect(instances[0]!.name, 'channel');
+      expect(instances[1]!.instanceId, downloadListenerInstanceId);
+    });
+
+    test('createAllFromInstances with WebViewClient', () {
+      final MockTestInstanceManagerHostApi mockPlatformHostApi =
+          MockTestInstanceManagerHostApi();
+      TestInstanceManagerHostApi.setup(mockPlatformHostApi);
+      final InstanceManagerHostApiImpl hostApi = InstanceManagerHostApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      final MockWebViewClient mockWebViewClient = MockWebViewClient();
+      when(mockWebViewClient.shouldOverrideUrlLoading).thenReturn(true);
+      when(mockWebViewClient.includesRequestHeaders).thenReturn(false);
+      hostApi.createAllFromInstances(<Object>[mockWebViewClient]);
+
+      final List<InstanceCreationData?> instances = verify(
+        mockPlatformHostApi.createAll(captureAny),
+      ).captured.single as List<InstanceCreationData?>;
+      expect(instances.single!.flag, isTrue);
+      expect(instances.single!.secondaryFlag, isFalse);
+    });
+
+    test('disposeAll', () {
+      final Object first = Object();
+      final Object second = Object();
+      final Object third = Object();
+      final int firstInstanceId = instanceManager.tryAddInstance(first)!;
+      final int secondInstanceId = instanceManager.tryAddInstance(second)!;
+      final int thirdInstanceId = instanceManager.tryAddInstance(third)!;
+
+      flutterApi.disposeAll(<int?>[firstInstanceId, null, thirdInstanceId]);
+      expect(instanceManager.getInstance(firstInstanceId), isNull);
+      expect(instanceManager.getInstance(secondInstanceId), second);
+      expect(instanceManager.getInstance(thirdInstanceId), isNull);
+    });
+  });
+
+  group('ChannelInstrumentation', () {
+    late MockTestChannelStatisticsHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestChannelStatisticsHostApi();
+      TestChannelStatisticsHostApi.setup(mockPlatformHostApi);
+      ChannelInstrumentation.api = ChannelStatisticsHostApiImpl();
+    });
+
+    tearDown(() {
+      TestChannelStatisticsHostApi.setup(null);
+    });
+
+    test('setEnabled', () async {
+      await ChannelInstrumentation.setEnabled(true);
+      verify(mockPlatformHostApi.setEnabled(true));
+    });
+
+    test('getStatistics', () async {
+      when(mockPlatformHostApi.getStatistics()).thenReturn(
+        <ChannelStatisticsData?>[
+          ChannelStatisticsData(
+            channel: 'channel',
+            messageCount: 2,
+            messageBytes: 300,
+            messageSizeHistogram: <int?>[0, 1, 1, 0, 0, 0, 0],
+            handlerTimeHistogram: <int?>[2, 0, 0, 0, 0, 0, 0],
+            replyLatencyHistogram: <int?>[0, 0, 0, 0, 0, 0, 0],
+          ),
+        ],
+      );
+
+      final List<ChannelStatistics> statistics =
+          await ChannelInstrumentation.getStatistics();
+      expect(statistics, hasLength(1));
+      expect(statistics.single.channel, 'channel');
+      expect(statistics.single.messageCount, 2);
+      expect(statistics.single.messageBytes, 300);
+      expect(statistics.single.messageSizeHistogram, <int>[0, 1, 1, 0, 0, 0, 0]);
+      expect(
+        statistics.single.handlerTimeHistogram,
+        hasLength(ChannelStatistics.durationHistogramBounds.length + 1),
+      );
+    });
+
+    test('reset', () async {
+      await ChannelInstrumentation.reset();
+      verify(mockPlatformHostApi.reset());
+    });
+
+    test('dumpToLog', () async {
+      await ChannelInstrumentation.dumpToLog();
+      verify(mockPlatformHostApi.dumpToLog());
+    });
+  });
+
+  group('WebViewPool', () {
+    late MockTestWebViewPoolHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewPoolHostApi();
+      TestWebViewPoolHostApi.setup(mockPlatformHostApi);
+      WebViewPool.api = WebViewPoolHostApiImpl();
+    });
+
+    tearDown(() {
+      TestWebViewPoolHostApi.setup(null);
+    });
+
+    test('setCapacity', () async {
+      await WebViewPool.setCapacity(2, useHybridComposition: true);
+      verify(mockPlatformHostApi.setCapacity(2, true));
+    });
+
+    test('setRecycleCapacity', () async {
+      await WebViewPool.setRecycleCapacity(3);
+      verify(mockPlatformHostApi.setRecycleCapacity(3));
+    });
+
+    test('getStatistics', () async {
+      when(mockPlatformHostApi.getStatistics()).thenReturn(
+        WebViewPoolStatisticsData(
+          capacity: 2,
+          size: 1,
+          hitCount: 3,
+          missCount: 4,
+          recycleCount: 2,
+          constructionCount: 5,
+          totalConstructionMicros: 6000,
+          maxConstructionMicros: 3000,
+        ),
+      );
+
+      final WebViewPoolStatistics statistics =
+          await WebViewPool.getStatistics();
+      expect(statistics.capacity, 2);
+      expect(statistics.size, 1);
+      expect(statistics.hitCount, 3);
+      expect(statistics.missCount, 4);
+      expect(statistics.recycleCount, 2);
+      expect(statistics.constructionCount, 5);
+      expect(
+        statistics.totalConstructionTime,
+        const Duration(milliseconds: 6),
+      );
+      expect(statistics.maxConstructionTime, const Duration(milliseconds: 3));
+    });
+
+    test('resetStatistics', () async {
+      await WebViewPool.resetStatistics();
+      verify(mockPlatformHostApi.resetStatistics());
+    });
+  });
+
+  group('WebViewProvider', () {
+    late MockTestWebViewProviderHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewProviderHostApi();
+      TestWebViewProviderHostApi.setup(mockPlatformHostApi);
+      WebViewProvider.api = WebViewProviderHostApiImpl();
+    });
+
+    tearDown(() {
+      TestWebViewProviderHostApi.setup(null);
+    });
+
+    test('warmUp', () async {
+      when(mockPlatformHostApi.warmUp()).thenAnswer(
+        (_) => Future<int>.value(120),
+      );
+
+      expect(
+        await WebViewProvider.warmUp(),
+        const Duration(milliseconds: 120),
+      );
+    });
+  });
+
+  group('WebViewSuspension', () {
+    late MockTestWebViewSuspensionHostApi mockPlatformHostApi;
+
+    late InstanceManager instanceManager;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewSuspensionHostApi();
+      TestWebViewSuspensionHostApi.setup(mockPlatformHostApi);
+
+      instanceManager = InstanceManager();
+      WebViewSuspension.api = WebViewSuspensionHostApiImpl(
+        instanceManager: instanceManager,
+      );
+    });
+
+    tearDown(() {
+      TestWebViewSuspensionHostApi.setup(null);
+    });
+
+    test('setPolicy', () async {
+      await WebViewSuspension.setPolicy(
+        const WebViewSuspensionPolicy(gracePeriod: Duration(seconds: 2)),
+      );
+      verify(mockPlatformHostApi.setPolicy(true, 2000, false));
+
+      await WebViewSuspension.setPolicy(
+        const WebViewSuspensionPolicy(pausesTimers: true),
+      );
+      verify(mockPlatformHostApi.setPolicy(true, 1000, true));
+
+      await WebViewSuspension.setPolicy(WebViewSuspensionPolicy.disabled);
+      verify(mockPlatformHostApi.setPolicy(false, 1000, false));
+    });
+
+    test('setExcluded', () async {
+      TestWebViewHostApi.setup(MockTestWebViewHostApi());
+      WebView.api = WebViewHostApiImpl(instanceManager: instanceManager);
+      final WebView webView = WebView();
+
+      await WebViewSuspension.setExcluded(webView, true);
+      verify(mockPlatformHostApi.setExcluded(
+        instanceManager.getInstanceId(webView),
+        true,
+      ));
+
+      TestWebViewHostApi.setup(null);
+    });
+
+    test('setRendererPriorityManaged', () async {
+      await WebViewSuspension.setRendererPriorityManaged(true);
+      verify(mockPlatformHostApi.setRendererPriorityManaged(true));
+    });
+  });
+
+  group('WebViewMemory', () {
+    test('onTrimMemory', () async {
+      final WebViewMemoryFlutterApiImpl flutterApi =
+          WebViewMemoryFlutterApiImpl();
+      final Future<MemoryTrimReport> report =
+          flutterApi.onTrimMemoryReports.first;
+
+      flutterApi.onTrimMemory(MemoryTrimReport.runningCritical, 2, true, 1);
+
+      final MemoryTrimReport trimReport = await report;
+      expect(trimReport.level, MemoryTrimReport.runningCritical);
+      expect(trimReport.droppedWebViewCount, 2);
+      expect(trimReport.clearedCache, isTrue);
+      expect(trimReport.pausedWebViewCount, 1);
+    });
+  });
+
+  group('WebViewRecovery', () {
+    test('onRenderProcessGone', () async {
+      TestWebViewHostApi.setup(MockTestWebViewHostApi());
+      final InstanceManager instanceManager = InstanceManager();
+      WebView.api = WebViewHostApiImpl(instanceManager: instanceManager);
+      final WebView webView = WebView();
+
+      final WebViewRecoveryFlutterApiImpl flutterApi =
+          WebViewRecoveryFlutterApiImpl(instanceManager: instanceManager);
+      final Future<RenderProcessGoneEvent> event =
+          flutterApi.onRenderProcessGoneEvents.first;
+
+      flutterApi.onRenderProcessGone(
+        instanceManager.getInstanceId(webView)!,
+        false,
+        true,
+      );
+
+      final RenderProcessGoneEvent renderProcessGoneEvent = await event;
+      expect(renderProcessGoneEvent.webView, webView);
+      expect(renderProcessGoneEvent.didCrash, isFalse);
+      expect(renderProcessGoneEvent.stateRestored, isTrue);
+
+      TestWebViewHostApi.setup(null);
+    });
+
+    test('onRenderProcessGone ignores disposed WebView', () async {
+      final WebViewRecoveryFlutterApiImpl flutterApi =
+          WebViewRecoveryFlutterApiImpl(instanceManager: InstanceManager());
+      final List<RenderProcessGoneEvent> events = <RenderProcessGoneEvent>[];
+      flutterApi.onRenderProcessGoneEvents.listen(events.add);
+
+      flutterApi.onRenderProcessGone(0, true, false);
+      await Future<void>.delayed(Duration.zero);
+      expect(events, isEmpty);
+    });
+  });
+
+  group('WebViewStateStore', () {
+    late MockTestWebViewStateStoreHostApi mockPlatformHostApi;
+
+    late InstanceManager instanceManager;
+
+    late WebView webView;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewStateStoreHostApi();
+      TestWebViewStateStoreHostApi.setup(mockPlatformHostApi);
+
+      instanceManager = InstanceManager();
+      WebViewStateStore.api = WebViewStateStoreHostApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      TestWebViewHostApi.setup(MockTestWebViewHostApi());
+      WebView.api = WebViewHostApiImpl(instanceManager: instanceManager);
+      webView = WebView();
+    });
+
+    tearDown(() {
+      TestWebViewStateStoreHostApi.setup(null);
+      TestWebViewHostApi.setup(null);
+    });
+
+    test('setMaxSize', () async {
+      await WebViewStateStore.setMaxSize(1024);
+      verify(mockPlatformHostApi.setMaxSize(1024));
+    });
+
+    test('saveState', () async {
+      await WebViewStateStore.saveState(webView, 'tab');
+      verify(mockPlatformHostApi.saveState(
+        instanceManager.getInstanceId(webView),
+        'tab',
+      ));
+    });
+
+    test('restoreState', () async {
+      when(mockPlatformHostApi.restoreState(
+        instanceManager.getInstanceId(webView),
+        'tab',
+      )).thenAnswer((_) => Future<bool>.value(true));
+
+      expect(await WebViewStateStore.restoreState(webView, 'tab'), isTrue);
+    });
+
+    test('remove', () async {
+      await WebViewStateStore.remove('tab');
+      verify(mockPlatformHostApi.remove('tab'));
+    });
+
+    test('clear', () async {
+      await WebViewStateStore.clear();
+      verify(mockPlatformHostApi.clear());
+    });
+  });
 }
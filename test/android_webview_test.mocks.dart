@@ -22,7 +22,10 @@ import 'test_android_webview.pigeon.dart' as _i5;
 // ignore_for_file: unnecessary_parenthesis
 // ignore_for_file: camel_case_types
 
-class _FakeWebSettings_0 extends _i1.Fake implements _i2.WebSettings {}
+class _FakeWebViewPoolStatisticsData_0 extends _i1.Fake
+    implements _i3.WebViewPoolStatisticsData {}
+
+class _FakeWebSettings_1 extends _i1.Fake implements _i2.WebSettings {}
 
 /// A class which mocks [CookieManagerHostApi].
 ///
@@ -79,6 +82,32 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
           returnValueForMissingStub: null);
 }
 
+/// A class which mocks [TestChannelStatisticsHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestChannelStatisticsHostApi extends _i1.Mock
+    implements _i5.TestChannelStatisticsHostApi {
+  MockTestChannelStatisticsHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setEnabled(bool? enabled) =>
+      super.noSuchMethod(Invocation.method(#setEnabled, [enabled]),
+          returnValueForMissingStub: null);
+  @override
+  List<_i3.ChannelStatisticsData?> getStatistics() =>
+      (super.noSuchMethod(Invocation.method(#getStatistics, []),
+              returnValue: <_i3.ChannelStatisticsData?>[])
+          as List<_i3.ChannelStatisticsData?>);
+  @override
+  void reset() => super.noSuchMethod(Invocation.method(#reset, []),
+      returnValueForMissingStub: null);
+  @override
+  void dumpToLog() => super.noSuchMethod(Invocation.method(#dumpToLog, []),
+      returnValueForMissingStub: null);
+}
+
 /// A class which mocks [TestDownloadListenerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -94,6 +123,39 @@ class MockTestDownloadListenerHostApi extends _i1.Mock
           returnValueForMissingStub: null);
 }
 
+/// A class which mocks [TestInstanceManagerHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestInstanceManagerHostApi extends _i1.Mock
+    implements _i5.TestInstanceManagerHostApi {
+  MockTestInstanceManagerHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setWeakReferencesEnabled(bool? enabled) => super.noSuchMethod(
+      Invocation.method(#setWeakReferencesEnabled, [enabled]),
+      returnValueForMissingStub: null);
+  @override
+  List<_i3.InstanceTypeStatisticsData?> getStatistics() =>
+      (super.noSuchMethod(Invocation.method(#getStatistics, []),
+              returnValue: <_i3.InstanceTypeStatisticsData?>[])
+          as List<_i3.InstanceTypeStatisticsData?>);
+  @override
+  List<_i3.LeakedInstanceData?> getLeakedInstances() =>
+      (super.noSuchMethod(Invocation.method(#getLeakedInstances, []),
+              returnValue: <_i3.LeakedInstanceData?>[])
+          as List<_i3.LeakedInstanceData?>);
+  @override
+  void createAll(List<_i3.InstanceCreationData?>? instances) =>
+      super.noSuchMethod(Invocation.method(#createAll, [instances]),
+          returnValueForMissingStub: null);
+  @override
+  void disposeAll(List<int?>? instanceIds) =>
+      super.noSuchMethod(Invocation.method(#disposeAll, [instanceIds]),
+          returnValueForMissingStub: null);
+}
+
 /// A class which mocks [TestJavaScriptChannelHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -123,6 +185,11 @@ class MockTestWebChromeClientHostApi extends _i1.Mock
       super.noSuchMethod(
           Invocation.method(#create, [instanceId, webViewClientInstanceId]),
           returnValueForMissingStub: null);
+  @override
+  void setSubscribedCallbacks(int? instanceId, int? callbacks) =>
+      super.noSuchMethod(
+          Invocation.method(#setSubscribedCallbacks, [instanceId, callbacks]),
+          returnValueForMissingStub: null);
 }
 
 /// A class which mocks [TestWebSettingsHostApi].
@@ -199,6 +266,11 @@ class MockTestWebSettingsHostApi extends _i1.Mock
   void setAllowFileAccess(int? instanceId, bool? enabled) => super.noSuchMethod(
       Invocation.method(#setAllowFileAccess, [instanceId, enabled]),
       returnValueForMissingStub: null);
+  @override
+  void applySettings(int? instanceId, _i3.WebSettingsData? settings) =>
+      super.noSuchMethod(
+          Invocation.method(#applySettings, [instanceId, settings]),
+          returnValueForMissingStub: null);
 }
 
 /// A class which mocks [TestWebStorageHostApi].
@@ -230,9 +302,16 @@ class MockTestWebViewClientHostApi extends _i1.Mock
   }
 
   @override
-  void create(int? instanceId, bool? shouldOverrideUrlLoading) =>
+  void create(int? instanceId, bool? shouldOverrideUrlLoading,
+          bool? includesRequestHeaders) =>
+      super.noSuchMethod(
+          Invocation.method(#create,
+              [instanceId, shouldOverrideUrlLoading, includesRequestHeaders]),
+          returnValueForMissingStub: null);
+  @override
+  void setSubscribedCallbacks(int? instanceId, int? callbacks) =>
       super.noSuchMethod(
-          Invocation.method(#create, [instanceId, shouldOverrideUrlLoading]),
+          Invocation.method(#setSubscribedCallbacks, [instanceId, callbacks]),
           returnValueForMissingStub: null);
 }
 
@@ -277,6 +356,16 @@ class MockTestWebViewHostApi extends _i1.Mock
       super.noSuchMethod(Invocation.method(#postUrl, [instanceId, url, data]),
           returnValueForMissingStub: null);
   @override
+  void loadHtmlBytes(int? instanceId, _i6.Uint8List? html, String? baseUrl) =>
+      super.noSuchMethod(
+          Invocation.method(#loadHtmlBytes, [instanceId, html, baseUrl]),
+          returnValueForMissingStub: null);
+  @override
+  void loadHtmlFile(int? instanceId, String? path, String? baseUrl) =>
+      super.noSuchMethod(
+          Invocation.method(#loadHtmlFile, [instanceId, path, baseUrl]),
+          returnValueForMissingStub: null);
+  @override
   String? getUrl(int? instanceId) =>
       (super.noSuchMethod(Invocation.method(#getUrl, [instanceId])) as String?);
   @override
@@ -312,6 +401,13 @@ class MockTestWebViewHostApi extends _i1.Mock
               #evaluateJavascript, [instanceId, javascriptString]),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
   @override
+  _i4.Future<String?> evaluateJavascriptBatched(
+          int? instanceId, String? javascriptString) =>
+      (super.noSuchMethod(
+          Invocation.method(
+              #evaluateJavascriptBatched, [instanceId, javascriptString]),
+          returnValue: Future<String?>.value()) as _i4.Future<String?>);
+  @override
   String? getTitle(int? instanceId) =>
       (super.noSuchMethod(Invocation.method(#getTitle, [instanceId]))
           as String?);
@@ -371,6 +467,114 @@ class MockTestWebViewHostApi extends _i1.Mock
   void setBackgroundColor(int? instanceId, int? color) => super.noSuchMethod(
       Invocation.method(#setBackgroundColor, [instanceId, color]),
       returnValueForMissingStub: null);
+  @override
+  void setRendererPriorityPolicy(int? instanceId,
+          int? rendererRequestedPriority, bool? waivedWhenNotVisible) =>
+      super.noSuchMethod(
+          Invocation.method(#setRendererPriorityPolicy,
+              [instanceId, rendererRequestedPriority, waivedWhenNotVisible]),
+          returnValueForMissingStub: null);
+}
+
+/// A class which mocks [TestWebViewPoolHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewPoolHostApi extends _i1.Mock
+    implements _i5.TestWebViewPoolHostApi {
+  MockTestWebViewPoolHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setCapacity(int? capacity, bool? useHybridComposition) =>
+      super.noSuchMethod(
+          Invocation.method(#setCapacity, [capacity, useHybridComposition]),
+          returnValueForMissingStub: null);
+  @override
+  void setRecycleCapacity(int? recycleCapacity) => super.noSuchMethod(
+      Invocation.method(#setRecycleCapacity, [recycleCapacity]),
+      returnValueForMissingStub: null);
+  @override
+  _i3.WebViewPoolStatisticsData getStatistics() =>
+      (super.noSuchMethod(Invocation.method(#getStatistics, []),
+              returnValue: _FakeWebViewPoolStatisticsData_0())
+          as _i3.WebViewPoolStatisticsData);
+  @override
+  void resetStatistics() =>
+      super.noSuchMethod(Invocation.method(#resetStatistics, []),
+          returnValueForMissingStub: null);
+}
+
+/// A class which mocks [TestWebViewProviderHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewProviderHostApi extends _i1.Mock
+    implements _i5.TestWebViewProviderHostApi {
+  MockTestWebViewProviderHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  _i4.Future<int> warmUp() =>
+      (super.noSuchMethod(Invocation.method(#warmUp, []),
+          returnValue: Future<int>.value(0)) as _i4.Future<int>);
+}
+
+/// A class which mocks [TestWebViewSuspensionHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewSuspensionHostApi extends _i1.Mock
+    implements _i5.TestWebViewSuspensionHostApi {
+  MockTestWebViewSuspensionHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setPolicy(bool? enabled, int? gracePeriodMillis, bool? pausesTimers) =>
+      super.noSuchMethod(
+          Invocation.method(
+              #setPolicy, [enabled, gracePeriodMillis, pausesTimers]),
+          returnValueForMissingStub: null);
+  @override
+  void setExcluded(int? webViewInstanceId, bool? excluded) =>
+      super.noSuchMethod(
+          Invocation.method(#setExcluded, [webViewInstanceId, excluded]),
+          returnValueForMissingStub: null);
+  @override
+  void setRendererPriorityManaged(bool? managed) => super.noSuchMethod(
+      Invocation.method(#setRendererPriorityManaged, [managed]),
+      returnValueForMissingStub: null);
+}
+
+/// A class which mocks [TestWebViewStateStoreHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewStateStoreHostApi extends _i1.Mock
+    implements _i5.TestWebViewStateStoreHostApi {
+  MockTestWebViewStateStoreHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setMaxSize(int? maxBytes) =>
+      super.noSuchMethod(Invocation.method(#setMaxSize, [maxBytes]),
+          returnValueForMissingStub: null);
+  @override
+  void saveState(int? webViewInstanceId, String? key) => super.noSuchMethod(
+      Invocation.method(#saveState, [webViewInstanceId, key]),
+      returnValueForMissingStub: null);
+  @override
+  _i4.Future<bool> restoreState(int? webViewInstanceId, String? key) =>
+      (super.noSuchMethod(
+          Invocation.method(#restoreState, [webViewInstanceId, key]),
+          returnValue: Future<bool>.value(false)) as _i4.Future<bool>);
+  @override
+  void remove(String? key) =>
+      super.noSuchMethod(Invocation.method(#remove, [key]),
+          returnValueForMissingStub: null);
+  @override
+  void clear() => super.noSuchMethod(Invocation.method(#clear, []),
+      returnValueForMissingStub: null);
 }
 
 /// A class which mocks [TestAssetManagerHostApi].
@@ -400,6 +604,12 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
     _i1.throwOnMissingStub(this);
   }
 
+  @override
+  _i4.Future<void> setSubscribedCallbacks(
+          Set<_i2.WebChromeClientCallback>? callbacks) =>
+      (super.noSuchMethod(Invocation.method(#setSubscribedCallbacks, [callbacks]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
   void onProgressChanged(_i2.WebView? webView, int? progress) => super
       .noSuchMethod(Invocation.method(#onProgressChanged, [webView, progress]),
@@ -421,7 +631,7 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
   @override
   _i2.WebSettings get settings =>
       (super.noSuchMethod(Invocation.getter(#settings),
-          returnValue: _FakeWebSettings_0()) as _i2.WebSettings);
+          returnValue: _FakeWebSettings_1()) as _i2.WebSettings);
   @override
   _i4.Future<void> loadData(
           {String? data, String? mimeType, String? encoding}) =>
@@ -458,6 +668,18 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
           returnValue: Future<void>.value(),
           returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
+  _i4.Future<void> loadHtmlBytes(_i6.Uint8List? html, {String? baseUrl}) =>
+      (super.noSuchMethod(
+          Invocation.method(#loadHtmlBytes, [html], {#baseUrl: baseUrl}),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> loadHtmlFile(String? path, {String? baseUrl}) =>
+      (super.noSuchMethod(
+          Invocation.method(#loadHtmlFile, [path], {#baseUrl: baseUrl}),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   _i4.Future<String?> getUrl() =>
       (super.noSuchMethod(Invocation.method(#getUrl, []),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
@@ -494,6 +716,11 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       .noSuchMethod(Invocation.method(#evaluateJavascript, [javascriptString]),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
   @override
+  _i4.Future<String?> evaluateJavascriptBatched(String? javascriptString) =>
+      (super.noSuchMethod(
+          Invocation.method(#evaluateJavascriptBatched, [javascriptString]),
+          returnValue: Future<String?>.value()) as _i4.Future<String?>);
+  @override
   _i4.Future<String?> getTitle() =>
       (super.noSuchMethod(Invocation.method(#getTitle, []),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
@@ -550,6 +777,15 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
           returnValue: Future<void>.value(),
           returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
+  _i4.Future<void> setRendererPriorityPolicy(int? rendererRequestedPriority,
+          {bool? waivedWhenNotVisible = false}) =>
+      (super.noSuchMethod(
+          Invocation.method(#setRendererPriorityPolicy,
+              [rendererRequestedPriority],
+              {#waivedWhenNotVisible: waivedWhenNotVisible}),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   _i4.Future<void> release() =>
       (super.noSuchMethod(Invocation.method(#release, []),
           returnValue: Future<void>.value(),
@@ -569,6 +805,16 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
       (super.noSuchMethod(Invocation.getter(#shouldOverrideUrlLoading),
           returnValue: false) as bool);
   @override
+  bool get includesRequestHeaders =>
+      (super.noSuchMethod(Invocation.getter(#includesRequestHeaders),
+          returnValue: false) as bool);
+  @override
+  _i4.Future<void> setSubscribedCallbacks(
+          Set<_i2.WebViewClientCallback>? callbacks) =>
+      (super.noSuchMethod(Invocation.method(#setSubscribedCallbacks, [callbacks]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   void onPageStarted(_i2.WebView? webView, String? url) =>
       super.noSuchMethod(Invocation.method(#onPageStarted, [webView, url]),
           returnValueForMissingStub: null);
@@ -0,0 +1,173 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:flutter/services.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:webview_flutter_android/src/android_webview.pigeon.dart';
+import 'package:webview_flutter_android/src/command_batch_binary_messenger.dart';
+
+import 'test_android_webview.pigeon.dart';
+
+/// Replies to each message of a batch with the message followed by ' reply',
+/// except for messages on [missingChannel].
+class _FakeCommandBatchHostApi extends TestCommandBatchHostApi {
+  static const String missingChannel = 'missing';
+  static const StandardMessageCodec codec = StandardMessageCodec();
+
+  final List<List<Object?>> batches = <List<Object?>>[];
+
+  @override
+  List<Uint8List?> executeBatch(List<Object?> batch) {
+    batches.add(batch);
+    final List<Uint8List?> replies = <Uint8List?>[];
+    for (int i = 0; i < batch.length; i += 2) {
+      if (batch[i] == missingChannel) {
+        replies.add(null);
+        continue;
+      }
+      final Object? message = codec.decodeMessage(
+        ByteData.sublistView(batch[i + 1]! as Uint8List),
+      );
+      replies.add(
+        Uint8List.sublistView(codec.encodeMessage('$message reply')!),
+      );
+    }
+    return replies;
+  }
+}
+
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('CommandBatchBinaryMessenger', () {
+    late _FakeCommandBatchHostApi fakeHostApi;
+    late CommandBatchBinaryMessenger messenger;
+
+    setUp(() {
+      fakeHostApi = _FakeCommandBatchHostApi();
+      TestCommandBatchHostApi.setup(fakeHostApi);
+      messenger = CommandBatchBinaryMessenger();
+    });
+
+    tearDown(() {
+      TestCommandBatchHostApi.setup(null);
+    });
+
+    test('sends messages outside of a batch on their own', () async {
+      const BasicMessageChannel<Object?>(
+        'channel',
+        StandardMessageCodec(),
+      ).setMockMessageHandler((Object? message) async => message);
+
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'channel',
+        const StandardMessageCodec(),
+        binaryMessenger: messenger,
+      );
+      expect(await channel.send('hello'), 'hello');
+      expect(fakeHostApi.batches, isEmpty);
+
+      const BasicMessageChannel<Object?>(
+        'channel',
+        StandardMessageCodec(),
+      ).setMockMessageHandler(null);
+    });
+
+    test('sends messages of a batch as a single message', () async {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'channel',
+        const StandardMessageCodec(),
+        binaryMessenger: messenger,
+      );
+
+      late Future<Object?> first;
+      late Future<Object?> second;
+      late Future<Object?> nested;
+      messenger.batch(() {
+        first = channel.send('first');
+        messenger.batch(() {
+          nested = channel.send('nested');
+        });
+        second = channel.send('second');
+      });
+
+      expect(await first, 'first reply');
+      expect(await nested, 'nested reply');
+      expect(await second, 'second reply');
+      expect(fakeHostApi.batches, hasLength(1));
+      expect(fakeHostApi.batches.single, hasLength(6));
+      expect(fakeHostApi.batches.single[0], 'channel');
+    });
+
+    test('sends evaluateJavascript on its own after queued messages', () async {
+      const String evaluateJavascriptChannel =
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascript';
+      int batchCountAtEvaluation = -1;
+      const BasicMessageChannel<Object?>(
+        evaluateJavascriptChannel,
+        StandardMessageCodec(),
+      ).setMockMessageHandler((Object? message) async {
+        batchCountAtEvaluation = fakeHostApi.batches.length;
+        return <String, Object?>{'result': '4'};
+      });
+      addTearDown(() {
+        const BasicMessageChannel<Object?>(
+          evaluateJavascriptChannel,
+          StandardMessageCodec(),
+        ).setMockMessageHandler(null);
+      });
+
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'channel',
+        const StandardMessageCodec(),
+        binaryMessenger: messenger,
+      );
+      final WebViewHostApi webViewHostApi = WebViewHostApi(
+        binaryMessenger: messenger,
+      );
+
+      late Future<Object?> first;
+      late Future<Object?> second;
+      late Future<String?> result;
+      messenger.batch(() {
+        first = channel.send('first');
+        second = channel.send('second');
+        result = webViewHostApi.evaluateJavascript(0, '2 + 2');
+      });
+
+      expect(await result, '4');
+      expect(batchCountAtEvaluation, 1);
+      expect(await first, 'first reply');
+      expect(await second, 'second reply');
+      expect(fakeHostApi.batches, hasLength(1));
+      expect(fakeHostApi.batches.single, hasLength(4));
+    });
+
+    test('replies null to messages without a handler', () async {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'channel',
+        const StandardMessageCodec(),
+        binaryMessenger: messenger,
+      );
+      final BasicMessageChannel<Object?> missingChannel =
+          BasicMessageChannel<Object?>(
+        _FakeCommandBatchHostApi.missingChannel,
+        const StandardMessageCodec(),
+        binaryMessenger: messenger,
+      );
+
+      late Future<Object?> found;
+      late Future<Object?> missing;
+      messenger.batch(() {
+        found = channel.send('found');
+        missing = missingChannel.send('missing');
+      });
+
+      expect(await found, 'found reply');
+      expect(await missing, isNull);
+    });
+  });
+}
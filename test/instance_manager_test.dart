@@ -31,5 +31,40 @@ void main() {
       expect(testInstanceManager.getInstance(0), null);
       expect(testInstanceManager.removeInstance(object), null);
     });
+
+    test('removeInstanceWithId', () {
+      final Object object = Object();
+      testInstanceManager.tryAddInstance(object);
+
+      expect(testInstanceManager.removeInstanceWithId(0), object);
+      expect(testInstanceManager.getInstanceId(object), null);
+      expect(testInstanceManager.getInstance(0), null);
+      expect(testInstanceManager.removeInstanceWithId(0), null);
+    });
+
+    test('tryAddInstance encodes typeTag', () {
+      final Object object = Object();
+
+      final int instanceId = testInstanceManager.tryAddInstance(
+        object,
+        typeTag: InstanceTypeTag.webView,
+      )!;
+      expect(instanceId, InstanceTypeTag.webView << 24);
+      expect(testInstanceManager.getInstance(instanceId), object);
+    });
+
+    test('reused slots have a new generation', () {
+      final Object first = Object();
+      final Object second = Object();
+
+      final int firstInstanceId = testInstanceManager.tryAddInstance(first)!;
+      testInstanceManager.removeInstance(first);
+      final int secondInstanceId = testInstanceManager.tryAddInstance(second)!;
+
+      expect(secondInstanceId & 0xFFFFFF, firstInstanceId & 0xFFFFFF);
+      expect(secondInstanceId, 1 << 32);
+      expect(testInstanceManager.getInstance(firstInstanceId), null);
+      expect(testInstanceManager.getInstance(secondInstanceId), second);
+    });
   });
 }
@@ -29,6 +29,8 @@ abstract class TestWebViewHostApi {
       String? mimeType, String? encoding, String? historyUrl);
   void loadUrl(int instanceId, String url, Map<String?, String?> headers);
   void postUrl(int instanceId, String url, Uint8List data);
+  void loadHtmlBytes(int instanceId, Uint8List html, String? baseUrl);
+  void loadHtmlFile(int instanceId, String path, String? baseUrl);
   String? getUrl(int instanceId);
   bool canGoBack(int instanceId);
   bool canGoForward(int instanceId);
@@ -37,6 +39,8 @@ abstract class TestWebViewHostApi {
   void reload(int instanceId);
   void clearCache(int instanceId, bool includeDiskFiles);
   Future<String?> evaluateJavascript(int instanceId, String javascriptString);
+  Future<String?> evaluateJavascriptBatched(
+      int instanceId, String javascriptString);
   String? getTitle(int instanceId);
   void scrollTo(int instanceId, int x, int y);
   void scrollBy(int instanceId, int x, int y);
@@ -49,6 +53,8 @@ abstract class TestWebViewHostApi {
   void setDownloadListener(int instanceId, int? listenerInstanceId);
   void setWebChromeClient(int instanceId, int? clientInstanceId);
   void setBackgroundColor(int instanceId, int color);
+  void setRendererPriorityPolicy(
+      int instanceId, int rendererRequestedPriority, bool waivedWhenNotVisible);
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -194,6 +200,52 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.loadHtmlBytes', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.loadHtmlBytes was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.loadHtmlBytes was null, expected non-null int.');
+          final Uint8List? arg_html = (args[1] as Uint8List?);
+          assert(arg_html != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.loadHtmlBytes was null, expected non-null Uint8List.');
+          final String? arg_baseUrl = (args[2] as String?);
+          api.loadHtmlBytes(arg_instanceId!, arg_html!, arg_baseUrl);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.loadHtmlFile', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.loadHtmlFile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.loadHtmlFile was null, expected non-null int.');
+          final String? arg_path = (args[1] as String?);
+          assert(arg_path != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.loadHtmlFile was null, expected non-null String.');
+          final String? arg_baseUrl = (args[2] as String?);
+          api.loadHtmlFile(arg_instanceId!, arg_path!, arg_baseUrl);
+          return <Object?, Object?>{};
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.WebViewHostApi.getUrl', codec,
@@ -353,6 +405,29 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched was null, expected non-null int.');
+          final String? arg_javascriptString = (args[1] as String?);
+          assert(arg_javascriptString != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatched was null, expected non-null String.');
+          final String? output = await api.evaluateJavascriptBatched(
+              arg_instanceId!, arg_javascriptString!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,
@@ -610,11 +685,57 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null, expected non-null int.');
+          final int? arg_rendererRequestedPriority = (args[1] as int?);
+          assert(arg_rendererRequestedPriority != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null, expected non-null int.');
+          final bool? arg_waivedWhenNotVisible = (args[2] as bool?);
+          assert(arg_waivedWhenNotVisible != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setRendererPriorityPolicy was null, expected non-null bool.');
+          api.setRendererPriorityPolicy(arg_instanceId!,
+              arg_rendererRequestedPriority!, arg_waivedWhenNotVisible!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
 class _TestWebSettingsHostApiCodec extends StandardMessageCodec {
   const _TestWebSettingsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebSettingsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebSettingsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 abstract class TestWebSettingsHostApi {
@@ -634,6 +755,7 @@ abstract class TestWebSettingsHostApi {
   void setDisplayZoomControls(int instanceId, bool enabled);
   void setBuiltInZoomControls(int instanceId, bool enabled);
   void setAllowFileAccess(int instanceId, bool enabled);
+  void applySettings(int instanceId, WebSettingsData settings);
   static void setup(TestWebSettingsHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -945,6 +1067,28 @@ abstract class TestWebSettingsHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebSettingsHostApi.applySettings', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebSettingsHostApi.applySettings was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebSettingsHostApi.applySettings was null, expected non-null int.');
+          final WebSettingsData? arg_settings = (args[1] as WebSettingsData?);
+          assert(arg_settings != null,
+              'Argument for dev.flutter.pigeon.WebSettingsHostApi.applySettings was null, expected non-null WebSettingsData.');
+          api.applySettings(arg_instanceId!, arg_settings!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -991,7 +1135,9 @@ class _TestWebViewClientHostApiCodec extends StandardMessageCodec {
 abstract class TestWebViewClientHostApi {
   static const MessageCodec<Object?> codec = _TestWebViewClientHostApiCodec();
 
-  void create(int instanceId, bool shouldOverrideUrlLoading);
+  void create(int instanceId, bool shouldOverrideUrlLoading,
+      bool includesRequestHeaders);
+  void setSubscribedCallbacks(int instanceId, int callbacks);
   static void setup(TestWebViewClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1011,7 +1157,34 @@ abstract class TestWebViewClientHostApi {
           final bool? arg_shouldOverrideUrlLoading = (args[1] as bool?);
           assert(arg_shouldOverrideUrlLoading != null,
               'Argument for dev.flutter.pigeon.WebViewClientHostApi.create was null, expected non-null bool.');
-          api.create(arg_instanceId!, arg_shouldOverrideUrlLoading!);
+          final bool? arg_includesRequestHeaders = (args[2] as bool?);
+          assert(arg_includesRequestHeaders != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.create was null, expected non-null bool.');
+          api.create(arg_instanceId!, arg_shouldOverrideUrlLoading!,
+              arg_includesRequestHeaders!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setSubscribedCallbacks',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedCallbacks was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedCallbacks was null, expected non-null int.');
+          final int? arg_callbacks = (args[1] as int?);
+          assert(arg_callbacks != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setSubscribedCallbacks was null, expected non-null int.');
+          api.setSubscribedCallbacks(arg_instanceId!, arg_callbacks!);
           return <Object?, Object?>{};
         });
       }
@@ -1060,6 +1233,7 @@ abstract class TestWebChromeClientHostApi {
   static const MessageCodec<Object?> codec = _TestWebChromeClientHostApiCodec();
 
   void create(int instanceId, int webViewClientInstanceId);
+  void setSubscribedCallbacks(int instanceId, int callbacks);
   static void setup(TestWebChromeClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1084,6 +1258,29 @@ abstract class TestWebChromeClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebChromeClientHostApi.setSubscribedCallbacks',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setSubscribedCallbacks was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setSubscribedCallbacks was null, expected non-null int.');
+          final int? arg_callbacks = (args[1] as int?);
+          assert(arg_callbacks != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setSubscribedCallbacks was null, expected non-null int.');
+          api.setSubscribedCallbacks(arg_instanceId!, arg_callbacks!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -1191,3 +1388,602 @@ abstract class TestWebStorageHostApi {
     }
   }
 }
+
+class _TestInstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _TestInstanceManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is InstanceCreationData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is InstanceTypeStatisticsData) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is LeakedInstanceData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return InstanceCreationData.decode(readValue(buffer)!);
+
+      case 129:
+        return InstanceTypeStatisticsData.decode(readValue(buffer)!);
+
+      case 130:
+        return LeakedInstanceData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestInstanceManagerHostApi {
+  static const MessageCodec<Object?> codec = _TestInstanceManagerHostApiCodec();
+
+  void setWeakReferencesEnabled(bool enabled);
+  List<InstanceTypeStatisticsData?> getStatistics();
+  List<LeakedInstanceData?> getLeakedInstances();
+  void createAll(List<InstanceCreationData?> instances);
+  void disposeAll(List<int?> instanceIds);
+  static void setup(TestInstanceManagerHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.setWeakReferencesEnabled',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.setWeakReferencesEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_enabled = (args[0] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.setWeakReferencesEnabled was null, expected non-null bool.');
+          api.setWeakReferencesEnabled(arg_enabled!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.getStatistics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final List<InstanceTypeStatisticsData?> output = api.getStatistics();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.getLeakedInstances', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final List<LeakedInstanceData?> output = api.getLeakedInstances();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.createAll', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.createAll was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<InstanceCreationData?>? arg_instances =
+              (args[0] as List<Object?>?)?.cast<InstanceCreationData?>();
+          assert(arg_instances != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.createAll was null, expected non-null List<InstanceCreationData?>.');
+          api.createAll(arg_instances!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.disposeAll', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.disposeAll was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<int?>? arg_instanceIds =
+              (args[0] as List<Object?>?)?.cast<int?>();
+          assert(arg_instanceIds != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.disposeAll was null, expected non-null List<int?>.');
+          api.disposeAll(arg_instanceIds!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestChannelStatisticsHostApiCodec extends StandardMessageCodec {
+  const _TestChannelStatisticsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ChannelStatisticsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ChannelStatisticsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestChannelStatisticsHostApi {
+  static const MessageCodec<Object?> codec =
+      _TestChannelStatisticsHostApiCodec();
+
+  void setEnabled(bool enabled);
+  List<ChannelStatisticsData?> getStatistics();
+  void reset();
+  void dumpToLog();
+  static void setup(TestChannelStatisticsHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelStatisticsHostApi.setEnabled', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ChannelStatisticsHostApi.setEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_enabled = (args[0] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.ChannelStatisticsHostApi.setEnabled was null, expected non-null bool.');
+          api.setEnabled(arg_enabled!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelStatisticsHostApi.getStatistics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final List<ChannelStatisticsData?> output = api.getStatistics();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelStatisticsHostApi.reset', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          api.reset();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ChannelStatisticsHostApi.dumpToLog', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          api.dumpToLog();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestCommandBatchHostApiCodec extends StandardMessageCodec {
+  const _TestCommandBatchHostApiCodec();
+}
+
+abstract class TestCommandBatchHostApi {
+  static const MessageCodec<Object?> codec = _TestCommandBatchHostApiCodec();
+
+  List<Uint8List?> executeBatch(List<Object?> batch);
+  static void setup(TestCommandBatchHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.CommandBatchHostApi.executeBatch', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.CommandBatchHostApi.executeBatch was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<Object?>? arg_batch =
+              (args[0] as List<Object?>?)?.cast<Object?>();
+          assert(arg_batch != null,
+              'Argument for dev.flutter.pigeon.CommandBatchHostApi.executeBatch was null, expected non-null List<Object?>.');
+          final List<Uint8List?> output = api.executeBatch(arg_batch!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+  }
+}
+
+class _TestWebViewPoolHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewPoolHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is WebViewPoolStatisticsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return WebViewPoolStatisticsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class TestWebViewPoolHostApi {
+  static const MessageCodec<Object?> codec = _TestWebViewPoolHostApiCodec();
+
+  void setCapacity(int capacity, bool useHybridComposition);
+  void setRecycleCapacity(int recycleCapacity);
+  WebViewPoolStatisticsData getStatistics();
+  void resetStatistics();
+  static void setup(TestWebViewPoolHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.setCapacity', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setCapacity was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_capacity = (args[0] as int?);
+          assert(arg_capacity != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setCapacity was null, expected non-null int.');
+          final bool? arg_useHybridComposition = (args[1] as bool?);
+          assert(arg_useHybridComposition != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setCapacity was null, expected non-null bool.');
+          api.setCapacity(arg_capacity!, arg_useHybridComposition!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.setRecycleCapacity', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setRecycleCapacity was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_recycleCapacity = (args[0] as int?);
+          assert(arg_recycleCapacity != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setRecycleCapacity was null, expected non-null int.');
+          api.setRecycleCapacity(arg_recycleCapacity!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.getStatistics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final WebViewPoolStatisticsData output = api.getStatistics();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.resetStatistics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          api.resetStatistics();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestWebViewProviderHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewProviderHostApiCodec();
+}
+
+abstract class TestWebViewProviderHostApi {
+  static const MessageCodec<Object?> codec = _TestWebViewProviderHostApiCodec();
+
+  Future<int> warmUp();
+  static void setup(TestWebViewProviderHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewProviderHostApi.warmUp', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final int output = await api.warmUp();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+  }
+}
+
+class _TestWebViewSuspensionHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewSuspensionHostApiCodec();
+}
+
+abstract class TestWebViewSuspensionHostApi {
+  static const MessageCodec<Object?> codec =
+      _TestWebViewSuspensionHostApiCodec();
+
+  void setPolicy(bool enabled, int gracePeriodMillis, bool pausesTimers);
+  void setExcluded(int webViewInstanceId, bool excluded);
+  void setRendererPriorityManaged(bool managed);
+  static void setup(TestWebViewSuspensionHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_enabled = (args[0] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy was null, expected non-null bool.');
+          final int? arg_gracePeriodMillis = (args[1] as int?);
+          assert(arg_gracePeriodMillis != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy was null, expected non-null int.');
+          final bool? arg_pausesTimers = (args[2] as bool?);
+          assert(arg_pausesTimers != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setPolicy was null, expected non-null bool.');
+          api.setPolicy(
+              arg_enabled!, arg_gracePeriodMillis!, arg_pausesTimers!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewSuspensionHostApi.setExcluded', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setExcluded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_webViewInstanceId = (args[0] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setExcluded was null, expected non-null int.');
+          final bool? arg_excluded = (args[1] as bool?);
+          assert(arg_excluded != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setExcluded was null, expected non-null bool.');
+          api.setExcluded(arg_webViewInstanceId!, arg_excluded!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewSuspensionHostApi.setRendererPriorityManaged',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setRendererPriorityManaged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_managed = (args[0] as bool?);
+          assert(arg_managed != null,
+              'Argument for dev.flutter.pigeon.WebViewSuspensionHostApi.setRendererPriorityManaged was null, expected non-null bool.');
+          api.setRendererPriorityManaged(arg_managed!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestWebViewStateStoreHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewStateStoreHostApiCodec();
+}
+
+abstract class TestWebViewStateStoreHostApi {
+  static const MessageCodec<Object?> codec =
+      _TestWebViewStateStoreHostApiCodec();
+
+  void setMaxSize(int maxBytes);
+  void saveState(int webViewInstanceId, String key);
+  Future<bool> restoreState(int webViewInstanceId, String key);
+  void remove(String key);
+  void clear();
+  static void setup(TestWebViewStateStoreHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewStateStoreHostApi.setMaxSize', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.setMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxBytes = (args[0] as int?);
+          assert(arg_maxBytes != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.setMaxSize was null, expected non-null int.');
+          api.setMaxSize(arg_maxBytes!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewStateStoreHostApi.saveState', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.saveState was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_webViewInstanceId = (args[0] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.saveState was null, expected non-null int.');
+          final String? arg_key = (args[1] as String?);
+          assert(arg_key != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.saveState was null, expected non-null String.');
+          api.saveState(arg_webViewInstanceId!, arg_key!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewStateStoreHostApi.restoreState', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.restoreState was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_webViewInstanceId = (args[0] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.restoreState was null, expected non-null int.');
+          final String? arg_key = (args[1] as String?);
+          assert(arg_key != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.restoreState was null, expected non-null String.');
+          final bool output =
+              await api.restoreState(arg_webViewInstanceId!, arg_key!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewStateStoreHostApi.remove', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.remove was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_key = (args[0] as String?);
+          assert(arg_key != null,
+              'Argument for dev.flutter.pigeon.WebViewStateStoreHostApi.remove was null, expected non-null String.');
+          api.remove(arg_key!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewStateStoreHostApi.clear', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          api.clear();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
@@ -0,0 +1,117 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:webview_flutter_android/src/android_webview.pigeon.dart';
+import 'package:webview_flutter_android/src/web_resource_data_codec.dart';
+
+void main() {
+  group('WebResourceDataCodec', () {
+    const WebResourceDataCodec codec = WebResourceDataCodec();
+
+    test('decode request encoded by Java', () {
+      // Matches the bytes expected by WebResourceDataCodecTest in Java.
+      final Uint8List bytes = Uint8List.fromList(<int>[
+        129, 7, 12, 104, 116, 116, 112, 115, 58, 47, 47, 97, 46, 98, 47, 3, //
+        71, 69, 84, 2, 1, 3, 42, 47, 42, 0, 8, 88, 45, 67, 117, 115, 116, //
+        111, 109, 1, 97,
+      ]);
+
+      final WebResourceRequestData request = codec.decodeMessage(
+        ByteData.sublistView(bytes),
+      )! as WebResourceRequestData;
+      expect(request.url, 'https://a.b/');
+      expect(request.isForMainFrame, isTrue);
+      expect(request.isRedirect, isFalse);
+      expect(request.hasGesture, isTrue);
+      expect(request.method, 'GET');
+      expect(request.requestHeaders, <String, String>{
+        'Accept': '*/*',
+        'X-Custom': 'a',
+      });
+    });
+
+    test('decode request with omitted headers encoded by Java', () {
+      // Matches the bytes expected by WebResourceDataCodecTest in Java.
+      final Uint8List bytes = Uint8List.fromList(
+        <int>[129, 16, 1, 97, 3, 71, 69, 84, 0],
+      );
+
+      final WebResourceRequestData request = codec.decodeMessage(
+        ByteData.sublistView(bytes),
+      )! as WebResourceRequestData;
+      expect(request.url, 'a');
+      expect(request.isForMainFrame, isFalse);
+      expect(request.method, 'GET');
+      expect(
+        request.requestHeaders,
+        same(WebResourceDataCodec.omittedRequestHeaders),
+      );
+    });
+
+    test('encode request with omitted headers', () {
+      final ByteData message = codec.encodeMessage(WebResourceRequestData(
+        url: 'a',
+        isForMainFrame: false,
+        hasGesture: false,
+        method: 'GET',
+        requestHeaders: WebResourceDataCodec.omittedRequestHeaders,
+      ))!;
+      expect(
+        message.buffer.asUint8List(
+          message.offsetInBytes,
+          message.lengthInBytes,
+        ),
+        <int>[129, 16, 1, 97, 3, 71, 69, 84, 0],
+      );
+    });
+
+    test('decode error encoded by Java', () {
+      final Uint8List bytes = Uint8List.fromList(
+        <int>[128, 254, 255, 255, 255, 3, 101, 114, 114],
+      );
+
+      final WebResourceErrorData error =
+          codec.decodeMessage(ByteData.sublistView(bytes))!
+              as WebResourceErrorData;
+      expect(error.errorCode, -2);
+      expect(error.description, 'err');
+    });
+
+    test('decode encoded arguments', () {
+      final ByteData? message = codec.encodeMessage(<Object?>[
+        1,
+        WebResourceRequestData(
+          url: 'https://a.b/é',
+          isForMainFrame: false,
+          hasGesture: false,
+          method: 'POST',
+          requestHeaders: <String?, String?>{
+            'User-Agent': 'agent',
+            'X-Résumé': 'é',
+          },
+        ),
+        WebResourceErrorData(errorCode: -8, description: 'timeout'),
+      ]);
+
+      final List<Object?> arguments =
+          codec.decodeMessage(message)! as List<Object?>;
+      expect(arguments[0], 1);
+      final WebResourceRequestData request =
+          arguments[1]! as WebResourceRequestData;
+      expect(request.url, 'https://a.b/é');
+      expect(request.isRedirect, isNull);
+      expect(request.method, 'POST');
+      expect(request.requestHeaders, <String, String>{
+        'User-Agent': 'agent',
+        'X-Résumé': 'é',
+      });
+      final WebResourceErrorData error = arguments[2]! as WebResourceErrorData;
+      expect(error.errorCode, -8);
+      expect(error.description, 'timeout');
+    });
+  });
+}
@@ -17,6 +17,7 @@ import 'package:webview_flutter_platform_interface/webview_flutter_platform_inte
 
 import 'android_webview_test.mocks.dart' show MockTestWebViewHostApi;
 import 'test_android_webview.pigeon.dart';
+import 'webview_android_cookie_manager_test.mocks.dart' show MockCookieManager;
 import 'webview_android_widget_test.mocks.dart';
 
 @GenerateMocks(<Type>[
@@ -74,6 +75,7 @@ void main() {
       bool hasNavigationDelegate = false,
       bool hasProgressTracking = false,
       bool useHybridComposition = false,
+      String? stateKey,
     }) async {
       await tester.pumpWidget(WebViewAndroidWidget(
         useHybridComposition: useHybridComposition,
@@ -89,6 +91,7 @@ void main() {
         webViewProxy: mockWebViewProxy,
         flutterAssetManager: mockFlutterAssetManager,
         webStorage: mockWebStorage,
+        stateKey: stateKey,
         onBuildWidget: (WebViewAndroidPlatformController controller) {
           testController = controller;
           return Container();
@@ -103,13 +106,15 @@ void main() {
     testWidgets('WebViewAndroidWidget', (WidgetTester tester) async {
       await buildWidget(tester);
 
-      verify(mockWebSettings.setDomStorageEnabled(true));
-      verify(mockWebSettings.setJavaScriptCanOpenWindowsAutomatically(true));
-      verify(mockWebSettings.setSupportMultipleWindows(true));
-      verify(mockWebSettings.setLoadWithOverviewMode(true));
-      verify(mockWebSettings.setUseWideViewPort(true));
-      verify(mockWebSettings.setDisplayZoomControls(false));
-      verify(mockWebSettings.setBuiltInZoomControls(true));
+      verify(mockWebSettings.applySettings(
+        domStorageEnabled: true,
+        javaScriptCanOpenWindowsAutomatically: true,
+        supportMultipleWindows: true,
+        loadWithOverviewMode: true,
+        useWideViewPort: true,
+        displayZoomControls: false,
+        builtInZoomControls: true,
+      ));
 
       verifyInOrder(<Future<void>>[
         mockWebView.setWebViewClient(webViewClient),
@@ -144,6 +149,79 @@ void main() {
         ));
       });
 
+      testWidgets('cookies are set before initialUrl is loaded',
+          (WidgetTester tester) async {
+        final android_webview.CookieManager cookieManager =
+            android_webview.CookieManager.instance;
+        addTearDown(
+            () => android_webview.CookieManager.instance = cookieManager);
+        final MockCookieManager mockCookieManager = MockCookieManager();
+        android_webview.CookieManager.instance = mockCookieManager;
+
+        await buildWidget(
+          tester,
+          creationParams: CreationParams(
+            initialUrl: 'https://www.google.com',
+            cookies: const <WebViewCookie>[
+              WebViewCookie(name: 'foo', value: 'bar', domain: 'flutter.dev'),
+            ],
+            webSettings: WebSettings(
+              userAgent: const WebSetting<String?>.absent(),
+              hasNavigationDelegate: false,
+            ),
+          ),
+        );
+
+        verifyInOrder(<Future<void>>[
+          mockCookieManager.setCookie('flutter.dev', 'foo=bar; path=/'),
+          mockWebView.loadUrl('https://www.google.com', <String, String>{}),
+        ]);
+      });
+
+      testWidgets('initialUrl is not loaded when state is restored',
+          (WidgetTester tester) async {
+        when(mockWebViewProxy.restoreState(mockWebView, 'tab'))
+            .thenAnswer((_) => Future<bool>.value(true));
+
+        await buildWidget(
+          tester,
+          stateKey: 'tab',
+          creationParams: CreationParams(
+            initialUrl: 'https://www.google.com',
+            webSettings: WebSettings(
+              userAgent: const WebSetting<String?>.absent(),
+              hasNavigationDelegate: false,
+            ),
+          ),
+        );
+
+        verify(mockWebViewProxy.restoreState(mockWebView, 'tab'));
+        verifyNever(mockWebView.loadUrl(any, any));
+      });
+
+      testWidgets('initialUrl is loaded when no state is restored',
+          (WidgetTester tester) async {
+        when(mockWebViewProxy.restoreState(mockWebView, 'tab'))
+            .thenAnswer((_) => Future<bool>.value(false));
+
+        await buildWidget(
+          tester,
+          stateKey: 'tab',
+          creationParams: CreationParams(
+            initialUrl: 'https://www.google.com',
+            webSettings: WebSettings(
+              userAgent: const WebSetting<String?>.absent(),
+              hasNavigationDelegate: false,
+            ),
+          ),
+        );
+
+        verifyInOrder(<Object>[
+          mockWebViewProxy.restoreState(mockWebView, 'tab'),
+          mockWebView.loadUrl('https://www.google.com', <String, String>{}),
+        ]);
+      });
+
       testWidgets('userAgent', (WidgetTester tester) async {
         await buildWidget(
           tester,
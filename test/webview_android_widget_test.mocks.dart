@@ -119,6 +119,39 @@ class MockWebSettings extends _i1.Mock implements _i2.WebSettings {
       (super.noSuchMethod(Invocation.method(#setAllowFileAccess, [enabled]),
           returnValue: Future<void>.value(),
           returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> applySettings(
+          {bool? domStorageEnabled,
+          bool? javaScriptCanOpenWindowsAutomatically,
+          bool? supportMultipleWindows,
+          bool? javaScriptEnabled,
+          String? userAgentString,
+          bool? mediaPlaybackRequiresUserGesture,
+          bool? supportZoom,
+          bool? loadWithOverviewMode,
+          bool? useWideViewPort,
+          bool? displayZoomControls,
+          bool? builtInZoomControls,
+          bool? allowFileAccess}) =>
+      (super.noSuchMethod(
+          Invocation.method(#applySettings, [], {
+            #domStorageEnabled: domStorageEnabled,
+            #javaScriptCanOpenWindowsAutomatically:
+                javaScriptCanOpenWindowsAutomatically,
+            #supportMultipleWindows: supportMultipleWindows,
+            #javaScriptEnabled: javaScriptEnabled,
+            #userAgentString: userAgentString,
+            #mediaPlaybackRequiresUserGesture:
+                mediaPlaybackRequiresUserGesture,
+            #supportZoom: supportZoom,
+            #loadWithOverviewMode: loadWithOverviewMode,
+            #useWideViewPort: useWideViewPort,
+            #displayZoomControls: displayZoomControls,
+            #builtInZoomControls: builtInZoomControls,
+            #allowFileAccess: allowFileAccess,
+          }),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
 }
 
 /// A class which mocks [WebStorage].
@@ -188,6 +221,18 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
           returnValue: Future<void>.value(),
           returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
+  _i4.Future<void> loadHtmlBytes(_i5.Uint8List? html, {String? baseUrl}) =>
+      (super.noSuchMethod(
+          Invocation.method(#loadHtmlBytes, [html], {#baseUrl: baseUrl}),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> loadHtmlFile(String? path, {String? baseUrl}) =>
+      (super.noSuchMethod(
+          Invocation.method(#loadHtmlFile, [path], {#baseUrl: baseUrl}),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   _i4.Future<String?> getUrl() =>
       (super.noSuchMethod(Invocation.method(#getUrl, []),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
@@ -224,6 +269,11 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       .noSuchMethod(Invocation.method(#evaluateJavascript, [javascriptString]),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
   @override
+  _i4.Future<String?> evaluateJavascriptBatched(String? javascriptString) =>
+      (super.noSuchMethod(
+          Invocation.method(#evaluateJavascriptBatched, [javascriptString]),
+          returnValue: Future<String?>.value()) as _i4.Future<String?>);
+  @override
   _i4.Future<String?> getTitle() =>
       (super.noSuchMethod(Invocation.method(#getTitle, []),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
@@ -280,6 +330,15 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
           returnValue: Future<void>.value(),
           returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
+  _i4.Future<void> setRendererPriorityPolicy(int? rendererRequestedPriority,
+          {bool? waivedWhenNotVisible = false}) =>
+      (super.noSuchMethod(
+          Invocation.method(#setRendererPriorityPolicy,
+              [rendererRequestedPriority],
+              {#waivedWhenNotVisible: waivedWhenNotVisible}),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   _i4.Future<void> release() =>
       (super.noSuchMethod(Invocation.method(#release, []),
           returnValue: Future<void>.value(),
@@ -343,6 +402,12 @@ class MockWebViewAndroidWebChromeClient extends _i1.Mock
     _i1.throwOnMissingStub(this);
   }
 
+  @override
+  _i4.Future<void> setSubscribedCallbacks(
+          Set<_i2.WebChromeClientCallback>? callbacks) =>
+      (super.noSuchMethod(Invocation.method(#setSubscribedCallbacks, [callbacks]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
   @override
   void onProgressChanged(_i2.WebView? webView, int? progress) => super
       .noSuchMethod(Invocation.method(#onProgressChanged, [webView, progress]),
@@ -387,6 +452,16 @@ class MockWebViewAndroidWebViewClient extends _i1.Mock
       (super.noSuchMethod(Invocation.getter(#shouldOverrideUrlLoading),
           returnValue: false) as bool);
   @override
+  bool get includesRequestHeaders =>
+      (super.noSuchMethod(Invocation.getter(#includesRequestHeaders),
+          returnValue: false) as bool);
+  @override
+  _i4.Future<void> setSubscribedCallbacks(
+          Set<_i2.WebViewClientCallback>? callbacks) =>
+      (super.noSuchMethod(Invocation.method(#setSubscribedCallbacks, [callbacks]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
   void onPageStarted(_i2.WebView? webView, String? url) =>
       super.noSuchMethod(Invocation.method(#onPageStarted, [webView, url]),
           returnValueForMissingStub: null);
@@ -491,6 +566,10 @@ class MockWebViewProxy extends _i1.Mock implements _i7.WebViewProxy {
               {#useHybridComposition: useHybridComposition}),
           returnValue: _FakeWebView_2()) as _i2.WebView);
   @override
+  _i4.Future<bool> restoreState(_i2.WebView? webView, String? key) =>
+      (super.noSuchMethod(Invocation.method(#restoreState, [webView, key]),
+          returnValue: Future<bool>.value(false)) as _i4.Future<bool>);
+  @override
   _i4.Future<void> setWebContentsDebuggingEnabled(bool? enabled) =>
       (super.noSuchMethod(
           Invocation.method(#setWebContentsDebuggingEnabled, [enabled]),